@@ -69,6 +69,12 @@ public class NeonBeeConfigConverter {
                     obj.setTrackingDataHandlingStrategy((String) member.getValue());
                 }
                 break;
+            case "trackingConfig":
+                if (member.getValue() instanceof JsonObject) {
+                    obj.setTrackingConfig(
+                            new io.neonbee.config.TrackingConfig((io.vertx.core.json.JsonObject) member.getValue()));
+                }
+                break;
             case "platformClasses":
                 if (member.getValue() instanceof JsonArray) {
                     java.util.ArrayList<java.lang.String> list = new java.util.ArrayList<>();
@@ -100,6 +106,11 @@ public class NeonBeeConfigConverter {
                     obj.setJsonMaxStringSize(((Number) member.getValue()).intValue());
                 }
                 break;
+            case "binaryEntityWrapperEncoding":
+                if (member.getValue() instanceof Boolean) {
+                    obj.setBinaryEntityWrapperEncoding((Boolean) member.getValue());
+                }
+                break;
             }
         }
     }
@@ -137,6 +148,9 @@ public class NeonBeeConfigConverter {
         if (obj.getTrackingDataHandlingStrategy() != null) {
             json.put("trackingDataHandlingStrategy", obj.getTrackingDataHandlingStrategy());
         }
+        if (obj.getTrackingConfig() != null) {
+            json.put("trackingConfig", obj.getTrackingConfig().toJson());
+        }
         if (obj.getPlatformClasses() != null) {
             JsonArray array = new JsonArray();
             obj.getPlatformClasses().forEach(item -> array.add(item));
@@ -151,5 +165,6 @@ public class NeonBeeConfigConverter {
             json.put("micrometerRegistries", array);
         }
         json.put("jsonMaxStringSize", obj.getJsonMaxStringSize());
+        json.put("binaryEntityWrapperEncoding", obj.isBinaryEntityWrapperEncoding());
     }
 }
@@ -0,0 +1,51 @@
+package io.neonbee.config;
+
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Converter and mapper for {@link io.neonbee.config.TrackingConfig}. NOTE: This class has been automatically generated
+ * from the {@link io.neonbee.config.TrackingConfig} original class using Vert.x codegen.
+ */
+public class TrackingConfigConverter {
+
+    static void fromJson(Iterable<java.util.Map.Entry<String, Object>> json, TrackingConfig obj) {
+        for (java.util.Map.Entry<String, Object> member : json) {
+            switch (member.getKey()) {
+            case "sampleRate":
+                if (member.getValue() instanceof Number) {
+                    obj.setSampleRate(((Number) member.getValue()).doubleValue());
+                }
+                break;
+            case "addressSampleRates":
+                if (member.getValue() instanceof JsonObject) {
+                    java.util.Map<String, java.lang.Double> map = new java.util.LinkedHashMap<>();
+                    ((Iterable<java.util.Map.Entry<String, Object>>) member.getValue()).forEach(entry -> {
+                        if (entry.getValue() instanceof Number)
+                            map.put(entry.getKey(), ((Number) entry.getValue()).doubleValue());
+                    });
+                    obj.setAddressSampleRates(map);
+                }
+                break;
+            case "alwaysTrackFailures":
+                if (member.getValue() instanceof Boolean) {
+                    obj.setAlwaysTrackFailures((Boolean) member.getValue());
+                }
+                break;
+            }
+        }
+    }
+
+    static void toJson(TrackingConfig obj, JsonObject json) {
+        toJson(obj, json.getMap());
+    }
+
+    static void toJson(TrackingConfig obj, java.util.Map<String, Object> json) {
+        json.put("sampleRate", obj.getSampleRate());
+        if (obj.getAddressSampleRates() != null) {
+            JsonObject map = new JsonObject();
+            obj.getAddressSampleRates().forEach((key, value) -> map.put(key, value));
+            json.put("addressSampleRates", map);
+        }
+        json.put("alwaysTrackFailures", obj.isAlwaysTrackFailures());
+    }
+}
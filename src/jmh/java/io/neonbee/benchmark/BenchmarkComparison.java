@@ -0,0 +1,144 @@
+package io.neonbee.benchmark;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Compares the JSON results of two JMH runs and reports the relative change of every benchmark score.
+ * <p>
+ * The comparison works fully offline on the local result files. Usage:
+ *
+ * <pre>
+ * BenchmarkComparison &lt;baseline.json&gt; &lt;results.json&gt; &lt;report&gt; &lt;threshold&gt; [failOnRegression]
+ * </pre>
+ *
+ * A benchmark is considered as regressed, if its score got worse by more than the given threshold. For throughput
+ * benchmarks a higher score is better, for all other modes (e.g. average time) a lower score is better. If
+ * {@code failOnRegression} is set to {@code true}, the comparison exits with a non-zero exit code in case any
+ * benchmark regressed.
+ */
+public final class BenchmarkComparison {
+    private static final String THROUGHPUT_MODE = "thrpt";
+
+    private static final double PERCENT = 100.0;
+
+    private static final int MIN_ARGUMENTS = 4;
+
+    private BenchmarkComparison() {}
+
+    /**
+     * Runs the comparison.
+     *
+     * @param args the baseline results, the current results, the report file, the threshold in percent and optionally
+     *             whether to fail on regressions
+     * @throws IOException if any of the files could not be read or written
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < MIN_ARGUMENTS) {
+            throw new IllegalArgumentException(
+                    "Usage: BenchmarkComparison <baseline.json> <results.json> <report.txt> <threshold> "
+                            + "[failOnRegression]");
+        }
+
+        Path baselinePath = Path.of(args[0]);
+        Path resultsPath = Path.of(args[1]);
+        if (!Files.exists(baselinePath)) {
+            throw new IllegalStateException("No baseline found at " + baselinePath
+                    + ", run the benchmarks and save a baseline using the jmhSaveBaseline task first");
+        }
+
+        double threshold = Double.parseDouble(args[3]);
+        Map<String, JsonObject> baseline = readResults(baselinePath);
+        Map<String, JsonObject> results = readResults(resultsPath);
+
+        StringBuilder report = new StringBuilder(512);
+        int regressions = compare(baseline, results, threshold, report);
+        report.append(String.format(Locale.ROOT, "%n%d benchmark(s) compared, %d regression(s) above %.1f%%%n",
+                results.size(), regressions, threshold));
+
+        Files.writeString(Path.of(args[2]), report, UTF_8);
+        System.out.print(report); // NOPMD the report is printed to the console of the Gradle task
+
+        if (regressions > 0 && args.length > MIN_ARGUMENTS && Boolean.parseBoolean(args[MIN_ARGUMENTS])) {
+            System.exit(1); // NOPMD signal the regression to the Gradle task
+        }
+    }
+
+    /**
+     * Compares the results with the baseline and appends a line per benchmark to the report.
+     *
+     * @param baseline  the baseline results by benchmark key
+     * @param results   the current results by benchmark key
+     * @param threshold the threshold in percent, above which a benchmark is considered as regressed
+     * @param report    the report to append to
+     * @return the number of regressed benchmarks
+     */
+    static int compare(Map<String, JsonObject> baseline, Map<String, JsonObject> results, double threshold,
+            StringBuilder report) {
+        report.append(String.format(Locale.ROOT, "%-90s %5s %15s %15s %10s%n", "Benchmark", "Mode", "Baseline",
+                "Current", "Change"));
+
+        int regressions = 0;
+        Set<String> keys = new TreeMap<>(results).keySet();
+        for (String key : keys) {
+            JsonObject result = results.get(key);
+            JsonObject metric = result.getJsonObject("primaryMetric");
+            String mode = result.getString("mode");
+            double score = metric.getDouble("score");
+            String unit = metric.getString("scoreUnit");
+
+            JsonObject baselineResult = baseline.get(key);
+            if (baselineResult == null) {
+                report.append(String.format(Locale.ROOT, "%-90s %5s %15s %15.3f %10s%n", key, mode, "-", score,
+                        "new"));
+                continue;
+            }
+
+            double baselineScore = baselineResult.getJsonObject("primaryMetric").getDouble("score");
+            double change = baselineScore == 0 ? 0 : (score - baselineScore) / baselineScore * PERCENT;
+            // for throughput a decreasing score is a regression, for any time based mode an increasing score is
+            double regression = THROUGHPUT_MODE.equals(mode) ? -change : change;
+            boolean regressed = regression > threshold;
+            if (regressed) {
+                regressions++;
+            }
+
+            report.append(String.format(Locale.ROOT, "%-90s %5s %15.3f %15.3f %+9.1f%% %s%s%n", key, mode,
+                    baselineScore, score, change, unit, regressed ? " REGRESSION" : ""));
+        }
+        return regressions;
+    }
+
+    /**
+     * Reads the results of a JMH run in JSON format.
+     *
+     * @param path the path of the result file
+     * @return the results by benchmark key, consisting of the benchmark name, mode and parameters
+     * @throws IOException if the file could not be read
+     */
+    static Map<String, JsonObject> readResults(Path path) throws IOException {
+        Map<String, JsonObject> results = new LinkedHashMap<>();
+        for (Object result : new JsonArray(Files.readString(path, UTF_8))) {
+            JsonObject benchmark = (JsonObject) result;
+            StringBuilder key = new StringBuilder(benchmark.getString("benchmark"));
+            JsonObject params = benchmark.getJsonObject("params");
+            if (params != null) {
+                new TreeMap<>(params.getMap()).forEach((name, value) -> key.append(':').append(name).append('=')
+                        .append(value));
+            }
+            results.put(key.toString(), benchmark);
+        }
+        return results;
+    }
+}
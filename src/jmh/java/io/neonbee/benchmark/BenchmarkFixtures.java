@@ -0,0 +1,108 @@
+package io.neonbee.benchmark;
+
+import static io.neonbee.internal.helper.StringHelper.EMPTY;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import javax.xml.stream.XMLStreamException;
+
+import org.apache.olingo.commons.api.data.Entity;
+import org.apache.olingo.commons.api.data.Property;
+import org.apache.olingo.commons.api.data.ValueType;
+import org.apache.olingo.server.api.OData;
+import org.apache.olingo.server.api.ServiceMetadata;
+import org.apache.olingo.server.api.uri.UriInfo;
+import org.apache.olingo.server.core.MetadataParser;
+import org.apache.olingo.server.core.uri.parser.Parser;
+
+/**
+ * Shared fixture data for the NeonBee benchmarks.
+ * <p>
+ * All fixtures are generated deterministically (using a fixed seed), so that the results of different benchmark runs
+ * can be compared with each other.
+ */
+public final class BenchmarkFixtures {
+    /**
+     * The schema namespace of the benchmark service.
+     */
+    public static final String SERVICE_NAMESPACE = "io.neonbee.benchmark.BenchmarkService";
+
+    /**
+     * The name of the entity set of the benchmark service.
+     */
+    public static final String PRODUCTS = "Products";
+
+    private static final String[] CATEGORIES = { "Food", "Drinks", "Motorcycles", "Books", "Garden" };
+
+    private static final long SEED = 42L;
+
+    private BenchmarkFixtures() {}
+
+    /**
+     * Loads the service metadata of the benchmark service EDMX model.
+     *
+     * @return the service metadata of the benchmark service
+     */
+    public static ServiceMetadata loadServiceMetadata() {
+        try (InputStream edmx = BenchmarkFixtures.class.getResourceAsStream("BenchmarkService.edmx");
+                Reader reader = new InputStreamReader(edmx, UTF_8)) {
+            return OData.newInstance().createServiceMetadata(new MetadataParser().buildEdmProvider(reader), List.of());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (XMLStreamException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Parses an OData request to the products entity set of the benchmark service.
+     *
+     * @param serviceMetadata the service metadata of the benchmark service
+     * @param rawQuery        the raw (URL encoded) query of the request, e.g. {@code $filter=price%20gt%2010}
+     * @return the parsed URI info
+     */
+    public static UriInfo parseProductsUri(ServiceMetadata serviceMetadata, String rawQuery) {
+        try {
+            return new Parser(serviceMetadata.getEdm(), OData.newInstance()).parseUri(PRODUCTS, rawQuery, EMPTY,
+                    EMPTY);
+        } catch (Exception e) { // NOPMD any parsing error is a fatal error of the fixture
+            throw new IllegalStateException("Failed to parse query " + rawQuery, e);
+        }
+    }
+
+    /**
+     * Creates a synthetic collection of product entities.
+     *
+     * @param size the number of entities to create
+     * @return a mutable list of product entities
+     */
+    public static List<Entity> createProducts(int size) {
+        Random random = new Random(SEED);
+        List<Entity> products = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            products.add(new Entity().addProperty(new Property(null, "ID", ValueType.PRIMITIVE, i))
+                    .addProperty(new Property(null, "name", ValueType.PRIMITIVE, "Product " + random.nextInt(size)))
+                    .addProperty(new Property(null, "description", ValueType.PRIMITIVE,
+                            random.nextBoolean() ? "A product description of product " + i : null))
+                    .addProperty(new Property(null, "price", ValueType.PRIMITIVE,
+                            BigDecimal.valueOf(random.nextInt(100_000), 2)))
+                    .addProperty(new Property(null, "stock", ValueType.PRIMITIVE, (long) random.nextInt(1_000)))
+                    .addProperty(new Property(null, "category", ValueType.PRIMITIVE,
+                            CATEGORIES[random.nextInt(CATEGORIES.length)]))
+                    .addProperty(new Property(null, "available", ValueType.PRIMITIVE, random.nextBoolean()))
+                    .addProperty(new Property(null, "releaseDate", ValueType.PRIMITIVE,
+                            LocalDate.of(2000, 1, 1).plusDays(random.nextInt(10_000)))));
+        }
+        return products;
+    }
+}
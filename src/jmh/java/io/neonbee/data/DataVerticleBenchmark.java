@@ -0,0 +1,137 @@
+package io.neonbee.data;
+
+import static io.neonbee.test.helper.OptionsHelper.defaultOptions;
+
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.neonbee.NeonBee;
+import io.neonbee.NeonBeeProfile;
+import io.neonbee.data.internal.DataContextImpl;
+import io.neonbee.test.helper.FileSystemHelper;
+import io.neonbee.test.helper.WorkingDirectoryBuilder;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonArray;
+
+/**
+ * Benchmarks the round trip of data requests to data verticles via the (local) event bus, including the resolution of
+ * required data.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class DataVerticleBenchmark {
+    private static final String ECHO = "BenchmarkEcho";
+
+    private static final String AGGREGATE = "BenchmarkAggregate";
+
+    private Path workingDirectory;
+
+    private Vertx vertx;
+
+    /**
+     * Starts a NeonBee instance and deploys the data verticles.
+     *
+     * @throws Exception if NeonBee could not be started
+     */
+    @Setup
+    public void setUp() throws Exception {
+        workingDirectory = FileSystemHelper.createTempDirectory();
+        WorkingDirectoryBuilder.standard().build(workingDirectory);
+
+        NeonBee neonBee = await(NeonBee.create(defaultOptions().setWorkingDirectory(workingDirectory)
+                .setActiveProfiles(List.of(NeonBeeProfile.NO_WEB)).setIgnoreClassPath(true)
+                .setDisableJobScheduling(true).setDoNotWatchFiles(true)));
+        vertx = neonBee.getVertx();
+        await(vertx.deployVerticle(new EchoDataVerticle()));
+        await(vertx.deployVerticle(new AggregateDataVerticle()));
+    }
+
+    /**
+     * Stops the NeonBee instance.
+     */
+    @TearDown
+    public void tearDown() {
+        await(vertx.close());
+        FileSystemHelper.deleteRecursiveBlocking(workingDirectory);
+    }
+
+    /**
+     * Requests data from a single data verticle.
+     *
+     * @return the data returned by the verticle
+     */
+    @Benchmark
+    public String requestData() {
+        return await(DataVerticle.<String>requestData(vertx,
+                new DataRequest(ECHO, new DataQuery("/products")), new DataContextImpl()));
+    }
+
+    /**
+     * Requests data from a data verticle, which requires data of three other data verticles.
+     *
+     * @return the data returned by the verticle
+     */
+    @Benchmark
+    public JsonArray requestDataWithRequire() {
+        return await(DataVerticle.<JsonArray>requestData(vertx,
+                new DataRequest(AGGREGATE, new DataQuery("/products")), new DataContextImpl()));
+    }
+
+    private static <T> T await(Future<T> future) {
+        return future.toCompletionStage().toCompletableFuture().join();
+    }
+
+    private static class EchoDataVerticle extends DataVerticle<String> {
+        @Override
+        public String getName() {
+            return ECHO;
+        }
+
+        @Override
+        public Future<String> retrieveData(DataQuery query, DataMap require, DataContext context) {
+            return Future.succeededFuture(query.getUriPath());
+        }
+    }
+
+    private static class AggregateDataVerticle extends DataVerticle<JsonArray> {
+        @Override
+        public String getName() {
+            return AGGREGATE;
+        }
+
+        @Override
+        public Future<Collection<DataRequest>> requireData(DataQuery query, DataContext context) {
+            return Future.succeededFuture(List.of(new DataRequest(ECHO, new DataQuery("/a")),
+                    new DataRequest(ECHO, new DataQuery("/b")),
+                    new DataRequest(ECHO, new DataQuery("/c"))));
+        }
+
+        @Override
+        public Future<JsonArray> retrieveData(DataQuery query, DataMap require, DataContext context) {
+            JsonArray result = new JsonArray();
+            require.values().forEach(asyncResult -> result.add(asyncResult.result()));
+            return Future.succeededFuture(result);
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package io.neonbee.endpoint.odatav4.internal.olingo.expression;
+
+import static org.mockito.Mockito.mock;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.olingo.commons.api.data.Entity;
+import org.apache.olingo.server.api.ODataApplicationException;
+import org.apache.olingo.server.api.ServiceMetadata;
+import org.apache.olingo.server.api.uri.UriInfo;
+import org.apache.olingo.server.api.uri.queryoption.expression.ExpressionVisitException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.neonbee.benchmark.BenchmarkFixtures;
+import io.neonbee.endpoint.odatav4.internal.olingo.expression.operands.ExpressionVisitorOperand;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Benchmarks the in-memory $filter and $orderby processing, as done by the CountEntityCollectionProcessor in case the
+ * entity verticle did not apply the query options itself.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FilterOrderBenchmark {
+    private static final String FILTER_QUERY =
+            "$filter=price%20gt%20100%20and%20(category%20eq%20'Food'%20or%20startswith(name,'Product%201'))";
+
+    private static final String ORDER_BY_QUERY = "$orderby=category%20asc,price%20desc&$top=";
+
+    /**
+     * The number of entities in the collection.
+     */
+    @Param({ "1000", "100000" })
+    public int size;
+
+    /**
+     * The value of $top used for ordering.
+     */
+    @Param({ "10" })
+    public int top;
+
+    private final RoutingContext routingContext = mock(RoutingContext.class);
+
+    private List<Entity> products;
+
+    private UriInfo filterUriInfo;
+
+    private UriInfo orderByUriInfo;
+
+    /**
+     * Creates the fixture data.
+     */
+    @Setup
+    public void setUp() {
+        ServiceMetadata serviceMetadata = BenchmarkFixtures.loadServiceMetadata();
+        products = BenchmarkFixtures.createProducts(size);
+        filterUriInfo = BenchmarkFixtures.parseProductsUri(serviceMetadata, FILTER_QUERY);
+        orderByUriInfo = BenchmarkFixtures.parseProductsUri(serviceMetadata, ORDER_BY_QUERY + top);
+    }
+
+    /**
+     * Filters the collection by visiting the expression tree once per entity.
+     *
+     * @return the filtered entities
+     * @throws ExpressionVisitException  if the filter expression could not be visited
+     * @throws ODataApplicationException if the filter expression could not be evaluated
+     */
+    @Benchmark
+    public List<Entity> filterVisitor() throws ExpressionVisitException, ODataApplicationException {
+        List<Entity> result = new ArrayList<>();
+        for (Entity entity : products) {
+            ExpressionVisitorOperand operand = filterUriInfo.getFilterOption().getExpression()
+                    .accept(new FilterExpressionVisitor(routingContext, entity));
+            if (Boolean.TRUE.equals(operand.getValue())) {
+                result.add(entity);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Filters the collection by compiling the expression tree once and evaluating it per entity.
+     *
+     * @return the filtered entities
+     * @throws ODataApplicationException if the filter expression could not be compiled or evaluated
+     */
+    @Benchmark
+    public List<Entity> filterCompiled() throws ODataApplicationException {
+        CompiledFilterExpression filter =
+                CompiledFilterExpression.compile(routingContext, filterUriInfo.getFilterOption());
+        List<Entity> result = new ArrayList<>();
+        for (Entity entity : products) {
+            if (filter.test(entity)) {
+                result.add(entity);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Orders the whole collection, before applying $top.
+     *
+     * @return the first entities in order
+     */
+    @Benchmark
+    public List<Entity> orderByFullSort() {
+        List<Entity> ordered = OrderExpressionExecutor.executeOrderOption(routingContext,
+                orderByUriInfo.getOrderByOption(), new ArrayList<>(products));
+        return ordered.subList(0, Math.min(top, ordered.size()));
+    }
+
+    /**
+     * Selects the first entities in order using a bounded heap.
+     *
+     * @return the first entities in order
+     */
+    @Benchmark
+    public List<Entity> orderByTopK() {
+        return OrderExpressionExecutor.executeOrderOption(routingContext, orderByUriInfo.getOrderByOption(), products,
+                top);
+    }
+}
@@ -0,0 +1,78 @@
+package io.neonbee.internal.codec;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.neonbee.data.DataAction;
+import io.neonbee.data.DataQuery;
+import io.vertx.core.buffer.Buffer;
+
+/**
+ * Benchmarks encoding and decoding data queries, as done for every data request sent over a clustered event bus.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DataQueryMessageCodecBenchmark {
+    /**
+     * The size of the body of the query in bytes.
+     */
+    @Param({ "0", "16384" })
+    public int bodySize;
+
+    private final DataQueryMessageCodec codec = new DataQueryMessageCodec();
+
+    private DataQuery query;
+
+    private Buffer encodedQuery;
+
+    /**
+     * Creates the query and its encoded representation.
+     */
+    @Setup
+    public void setUp() {
+        query = new DataQuery(DataAction.READ, "/io.neonbee.benchmark.BenchmarkService/Products")
+                .setRawQuery("$filter=price%20gt%20100&$orderby=name%20desc&$top=100&$skip=20&$count=true")
+                .setHeader("Accept", "application/json").setHeader("Accept-Language", "en-US,en;q=0.9")
+                .setHeader("X-Correlation-ID", "2c8d9e8f-8f6a-4bfb-9d6b-5b0a4f8a1c3e")
+                .setBody(bodySize > 0 ? Buffer.buffer(new byte[bodySize]) : null);
+        encodedQuery = Buffer.buffer();
+        codec.encodeToWire(encodedQuery, query);
+    }
+
+    /**
+     * Encodes the query.
+     *
+     * @return the encoded query
+     */
+    @Benchmark
+    public Buffer encode() {
+        Buffer buffer = Buffer.buffer();
+        codec.encodeToWire(buffer, query);
+        return buffer;
+    }
+
+    /**
+     * Decodes the query.
+     *
+     * @return the decoded query
+     */
+    @Benchmark
+    public DataQuery decode() {
+        return codec.decodeFromWire(0, encodedQuery);
+    }
+}
@@ -0,0 +1,74 @@
+package io.neonbee.internal.scanner;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.neonbee.NeonBeeDeployable;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+
+/**
+ * Benchmarks scanning the class path, as done by NeonBee during startup to find deployables and model definitions.
+ * The class path of the benchmark includes all NeonBee dependencies and thus is a realistic class path to scan.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(1)
+public class ClassPathScannerBenchmark {
+    private Vertx vertx;
+
+    /**
+     * Creates a Vert.x instance to scan with.
+     */
+    @Setup
+    public void setUp() {
+        vertx = Vertx.vertx();
+    }
+
+    /**
+     * Closes the Vert.x instance.
+     */
+    @TearDown
+    public void tearDown() {
+        await(vertx.close());
+    }
+
+    /**
+     * Scans the class path for classes annotated with {@link NeonBeeDeployable}.
+     *
+     * @return the names of the annotated classes
+     */
+    @Benchmark
+    public List<String> scanForAnnotation() {
+        return await(new ClassPathScanner().scanForAnnotation(vertx, NeonBeeDeployable.class));
+    }
+
+    /**
+     * Scans the manifest files on the class path for the NeonBee-Deployables attribute.
+     *
+     * @return the values of the attribute
+     */
+    @Benchmark
+    public List<String> scanManifestFiles() {
+        return await(new ClassPathScanner().scanManifestFiles(vertx, "NeonBee-Deployables"));
+    }
+
+    private static <T> T await(Future<T> future) {
+        return future.toCompletionStage().toCompletableFuture().join();
+    }
+}
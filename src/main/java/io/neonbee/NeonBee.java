@@ -30,6 +30,7 @@ import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import javax.annotation.Nullable;
 
@@ -44,6 +45,7 @@ import io.neonbee.cluster.ClusterManagerFactory;
 import io.neonbee.config.HealthConfig;
 import io.neonbee.config.NeonBeeConfig;
 import io.neonbee.config.ServerConfig;
+import io.neonbee.config.TrackingConfig;
 import io.neonbee.data.DataException;
 import io.neonbee.data.DataQuery;
 import io.neonbee.endpoint.odatav4.rawbatch.RawBatchResult;
@@ -185,6 +187,8 @@ public class NeonBee {
 
     private final Set<String> localConsumers = ConcurrentHashMap.newKeySet();
 
+    private final Map<String, List<String>> localEntityVerticles = new ConcurrentHashMap<>();
+
     private final EntityModelManager modelManager;
 
     @Deprecated
@@ -485,13 +489,16 @@ public class NeonBee {
                 strategy = new TrackingDataLoggingStrategy();
             }
 
+            TrackingConfig trackingConfig =
+                    Optional.ofNullable(config.getTrackingConfig()).orElseGet(TrackingConfig::new);
             vertx.eventBus()
                     .addInboundInterceptor(new ReplyInboundInterceptor())
-                    .addInboundInterceptor(new TrackingInterceptor(MessageDirection.INBOUND, strategy))
-                    .addOutboundInterceptor(new TrackingInterceptor(MessageDirection.OUTBOUND, strategy));
+                    .addInboundInterceptor(new TrackingInterceptor(MessageDirection.INBOUND, strategy, trackingConfig))
+                    .addOutboundInterceptor(
+                            new TrackingInterceptor(MessageDirection.OUTBOUND, strategy, trackingConfig));
 
             // add any default system codecs (bundled w/ NeonBee) here
-            vertx.eventBus().registerDefaultCodec(DataQuery.class, new DataQueryMessageCodec())
+            vertx.eventBus().registerDefaultCodec(DataQuery.class, new DataQueryMessageCodec(vertx))
                     .registerDefaultCodec(EntityWrapper.class, new EntityWrapperMessageCodec(vertx))
                     .registerDefaultCodec(ImmutableBuffer.class, new ImmutableBufferMessageCodec())
                     .registerDefaultCodec(ImmutableJsonArray.class, new ImmutableJsonArrayMessageCodec())
@@ -828,6 +835,42 @@ public class NeonBee {
         localConsumers.remove(verticleAddress);
     }
 
+    /**
+     * Returns the addresses of the entity verticles in the local VM, which handle a given entity type.
+     *
+     * @param entityTypeName the full qualified name of the entity type
+     * @return the addresses of all local entity verticles handling the entity type, one for every registered instance
+     */
+    public List<String> getLocalEntityVerticles(String entityTypeName) {
+        return localEntityVerticles.getOrDefault(entityTypeName, List.of());
+    }
+
+    /**
+     * Registers an instance of an entity verticle as local consumer for an entity type.
+     *
+     * @param entityTypeName  the full qualified name of the entity type
+     * @param verticleAddress the address of the entity verticle
+     */
+    public void registerLocalEntityVerticle(String entityTypeName, String verticleAddress) {
+        // the lists are copied on write, as the entity verticles are resolved for every request, but rarely change
+        localEntityVerticles.compute(entityTypeName, (name, addresses) -> addresses == null ? List.of(verticleAddress)
+                : Stream.concat(addresses.stream(), Stream.of(verticleAddress)).toList());
+    }
+
+    /**
+     * Unregisters an instance of an entity verticle as local consumer for an entity type.
+     *
+     * @param entityTypeName  the full qualified name of the entity type
+     * @param verticleAddress the address of the entity verticle
+     */
+    public void unregisterLocalEntityVerticle(String entityTypeName, String verticleAddress) {
+        localEntityVerticles.computeIfPresent(entityTypeName, (name, addresses) -> {
+            List<String> remainingAddresses = new ArrayList<>(addresses);
+            remainingAddresses.remove(verticleAddress);
+            return remainingAddresses.isEmpty() ? null : List.copyOf(remainingAddresses);
+        });
+    }
+
     /**
      * Returns the ServerConfig if NeonBee is started with WEB profile.
      *
@@ -21,18 +21,28 @@ import java.util.concurrent.TimeUnit;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
-
+import com.google.common.cache.Weigher;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
+import io.neonbee.NeonBee;
+import io.neonbee.config.MetricsConfig;
 import io.neonbee.data.DataContext;
 import io.neonbee.data.DataMap;
 import io.neonbee.data.DataQuery;
 import io.neonbee.data.DataRequest;
 import io.neonbee.data.DataVerticle;
 import io.neonbee.internal.SharedDataAccessor;
+import io.neonbee.logging.LoggingFacade;
 import io.vertx.core.Context;
 import io.vertx.core.Future;
 import io.vertx.core.Vertx;
 import io.vertx.core.json.JsonObject;
 import io.vertx.core.shareddata.Lock;
+import io.vertx.micrometer.backends.BackendRegistries;
 
 /**
  * An abstract class that you can extend to write a {@link DataVerticle} with a in-memory caching functionality.
@@ -43,6 +53,25 @@ import io.vertx.core.shareddata.Lock;
  * {@link #requireDataForCaching(DataQuery, DataContext)} and
  * {@link #retrieveDataToCache(DataQuery, DataMap, DataContext)}.
  *
+ * By default the in-memory cache is only bounded by the cache lifetime. To limit the size of the cache, specify the
+ * maximum number of entries, or the maximum estimated weight of all entries in bytes in the verticle configuration:
+ *
+ * <pre>
+ * {@code
+ * {
+ *     "cache" : {
+ *         "maximumSize" : 10000,
+ *         "maximumWeight" : 104857600
+ *     }
+ * }
+ * }
+ * </pre>
+ *
+ * The weight of the entries is estimated by the {@link Weigher} returned by {@link #getCacheWeigher()}, by default the
+ * {@link PayloadWeigher}. In case both a maximum size and weight are configured, the maximum weight takes precedence.
+ * If metrics are enabled, the cache statistics (size, hits, misses, evictions and the time it took to retrieve the data
+ * to cache) are reported with the name of the verticle class as the "cache" tag.
+ *
  * @param <T> the type of data this {@link CachingDataVerticle} caches &amp; handles
  */
 public abstract class CachingDataVerticle<T> extends DataVerticle<T> {
@@ -53,6 +82,25 @@ public abstract class CachingDataVerticle<T> extends DataVerticle<T> {
     @VisibleForTesting
     static final Map<Class<?>, Cache<Object, ?>> CACHES = new ConcurrentHashMap<>();
 
+    /**
+     * Key of the cache configuration in the verticle configuration.
+     */
+    public static final String CONFIG_CACHE_KEY = "cache";
+
+    /**
+     * Key for the maximum number of entries of the cache.
+     */
+    public static final String MAXIMUM_SIZE = "maximumSize";
+
+    /**
+     * Key for the maximum estimated weight of all entries in the cache in bytes.
+     */
+    public static final String MAXIMUM_WEIGHT = "maximumWeight";
+
+    private static final LoggingFacade LOGGER = LoggingFacade.create();
+
+    private static final String CACHE_RETRIEVAL_TIMER = "cache.retrieval";
+
     private static final long DEFAULT_COALESCING_TIMEOUT = 10L * 1000;
 
     @SuppressWarnings("InlineFormatString")
@@ -93,12 +141,18 @@ public abstract class CachingDataVerticle<T> extends DataVerticle<T> {
         USER_IDENTIFYING_ATTRIBUTES = attributes.toArray(new String[0]);
     }
 
-    private final Cache<Object, T> cache;
-
     private final Map<Object, T> cacheRegister = new HashMap<>();
 
+    private final long cacheLifetime;
+
+    private final TimeUnit timeUnit;
+
     private final long coalescingTimeout;
 
+    private Cache<Object, T> cache;
+
+    private Timer retrievalTimer;
+
     private SharedDataAccessor sharedDataAccessor;
 
     /**
@@ -131,26 +185,83 @@ public abstract class CachingDataVerticle<T> extends DataVerticle<T> {
      * @param coalescingTimeout the timeout in milliseconds to wait for parallel requests, before attempting to receive
      *                          data on our own. if set to 0 or lower, requests will not be coalesced
      */
-    @SuppressWarnings("unchecked")
     protected CachingDataVerticle(long cacheLifetime, TimeUnit timeUnit, long coalescingTimeout) {
         super();
-        // we want to have every instance of the same verticle share the same cache / coalesce the same requests
-        cache = (Cache<Object, T>) CACHES.computeIfAbsent(getClass(), verticleClass -> {
-            return CacheBuilder.newBuilder().expireAfterWrite(cacheLifetime, timeUnit).build();
-        });
+        this.cacheLifetime = cacheLifetime;
+        this.timeUnit = timeUnit;
         this.coalescingTimeout = coalescingTimeout;
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     public void init(Vertx vertx, Context context) {
         super.init(vertx, context);
 
+        MeterRegistry registry = getMeterRegistry();
+        Tags tags = Tags.of(Tag.of(CONFIG_CACHE_KEY, getClass().getName()));
+        if (registry != null) {
+            retrievalTimer = Timer.builder(CACHE_RETRIEVAL_TIMER)
+                    .description("Time to retrieve the data to cache on a cache miss").tags(tags).register(registry);
+        }
+
+        // we want to have every instance of the same verticle share the same cache / coalesce the same requests
+        cache = (Cache<Object, T>) CACHES.computeIfAbsent(getClass(), verticleClass -> {
+            Cache<Object, T> newCache = buildCache(config() != null ? config().getJsonObject(CONFIG_CACHE_KEY) : null);
+            if (registry != null) {
+                GuavaCacheMetrics.monitor(registry, newCache, getClass().getName());
+            }
+            return newCache;
+        });
+
         // we will only need to retrieve locks if we coalesce requests
         if (coalescingTimeout > 0) {
             sharedDataAccessor = new SharedDataAccessor(vertx, getClass());
         }
     }
 
+    private Cache<Object, T> buildCache(JsonObject cacheConfig) {
+        CacheBuilder<Object, Object> builder =
+                CacheBuilder.newBuilder().expireAfterWrite(cacheLifetime, timeUnit).recordStats();
+        if (cacheConfig == null) {
+            return builder.build();
+        }
+
+        Long maximumSize = cacheConfig.getLong(MAXIMUM_SIZE);
+        Long maximumWeight = cacheConfig.getLong(MAXIMUM_WEIGHT);
+        if (maximumWeight != null) {
+            if (maximumSize != null) {
+                LOGGER.warn("Maximum size and weight configured for the cache of {}, the maximum size is ignored",
+                        getQualifiedName());
+            }
+            return builder.maximumWeight(maximumWeight).weigher(getCacheWeigher()).build();
+        } else if (maximumSize != null) {
+            return builder.maximumSize(maximumSize).build();
+        }
+
+        return builder.build();
+    }
+
+    private MeterRegistry getMeterRegistry() {
+        NeonBee neonBee = NeonBee.get(vertx);
+        MetricsConfig metricsConfig = neonBee.getConfig().getMetricsConfig();
+        if (metricsConfig == null || !metricsConfig.isEnabled()) {
+            return null;
+        }
+
+        return BackendRegistries.getNow(neonBee.getOptions().getMetricsRegistryName());
+    }
+
+    /**
+     * Returns the {@link Weigher} used to estimate the weight of the cached data in bytes, in case a maximum weight is
+     * configured for the cache. Note that the weigher is only requested once, when the cache shared by all instances of
+     * this verticle is created.
+     *
+     * @return the weigher of the cached data, by default a {@link PayloadWeigher}
+     */
+    protected Weigher<Object, ? super T> getCacheWeigher() {
+        return new PayloadWeigher();
+    }
+
     /**
      * Return a unique cache key. The cache key could be any object.
      *
@@ -313,9 +424,10 @@ public abstract class CachingDataVerticle<T> extends DataVerticle<T> {
             // should not coalesce parallel requests, or we don't know who got the lock because the other process is
             // taking too long to get the data, so in any case we will fall back requesting it on our own. to avoid a
             // conflict with the original owner of the lock, we not call the retrievedDataToCache method afterwards
-            return lockFuture.otherwiseEmpty().compose(lock -> optionalCacheKey.map(cache::getIfPresent)
+            // note: looking up the cache via its map view, in order to not count the lookup as an additional miss / hit
+            return lockFuture.otherwiseEmpty().compose(lock -> optionalCacheKey.map(cache.asMap()::get)
                     .map(Future::succeededFuture).orElseGet(() -> {
-                        return retrieveDataToCache(query, require, context).compose(data -> {
+                        return timeRetrieval(retrieveDataToCache(query, require, context)).compose(data -> {
                             if (data == null) {
                                 return succeededFuture();
                             }
@@ -352,6 +464,14 @@ public abstract class CachingDataVerticle<T> extends DataVerticle<T> {
         });
     }
 
+    private Future<T> timeRetrieval(Future<T> future) {
+        if (retrievalTimer != null && future != null) {
+            long start = System.nanoTime();
+            future.onComplete(result -> retrievalTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS));
+        }
+        return future;
+    }
+
     /**
      * This method is called whenever new data was stored in the cache. Note that the result of the returned future will
      * have no impact, on the result of the call that cached the data, other than that the call that made the request
@@ -0,0 +1,85 @@
+package io.neonbee.cache;
+
+import java.util.Collection;
+import java.util.Map;
+
+import org.apache.olingo.commons.api.data.ComplexValue;
+import org.apache.olingo.commons.api.data.Entity;
+import org.apache.olingo.commons.api.data.Property;
+
+import com.google.common.cache.Weigher;
+
+import io.neonbee.entity.EntityWrapper;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * The default {@link Weigher} of the {@link CachingDataVerticle}, estimating the size of a cached payload in bytes.
+ * <p>
+ * The weight is an estimation only, it is computed from the payload without serializing it. {@link Buffer Buffers}
+ * and byte arrays are weighed by their length, strings by their number of characters, {@link JsonObject JSON objects},
+ * {@link JsonArray JSON arrays}, collections and maps by the sum of their keys and values and {@link EntityWrapper
+ * entity wrappers} by the sum of the property names and values of all entities. Any other value is weighed with a
+ * fixed estimated size of {@value #DEFAULT_WEIGHT} bytes.
+ */
+public class PayloadWeigher implements Weigher<Object, Object> {
+    /**
+     * The estimated weight of any value, which is not further inspected by this weigher.
+     */
+    public static final int DEFAULT_WEIGHT = 16;
+
+    /**
+     * The estimated weight of every cache entry, including the cache key.
+     */
+    public static final int ENTRY_WEIGHT = 64;
+
+    @Override
+    public int weigh(Object key, Object value) {
+        return (int) Math.min(Integer.MAX_VALUE, ENTRY_WEIGHT + estimateWeight(value));
+    }
+
+    /**
+     * Estimate the weight of a given payload in bytes.
+     *
+     * @param value the value to estimate the weight of
+     * @return the estimated weight in bytes
+     */
+    protected long estimateWeight(Object value) {
+        if (value == null) {
+            return 0;
+        } else if (value instanceof Buffer buffer) {
+            return buffer.length();
+        } else if (value instanceof byte[] bytes) {
+            return bytes.length;
+        } else if (value instanceof CharSequence charSequence) {
+            return charSequence.length();
+        } else if (value instanceof JsonObject jsonObject) {
+            return estimateWeight(jsonObject.getMap());
+        } else if (value instanceof JsonArray jsonArray) {
+            return estimateWeight(jsonArray.getList());
+        } else if (value instanceof EntityWrapper entityWrapper) {
+            return estimateWeight(entityWrapper.getEntities());
+        } else if (value instanceof Entity entity) {
+            return estimateWeight(entity.getProperties());
+        } else if (value instanceof ComplexValue complexValue) {
+            return estimateWeight(complexValue.getValue());
+        } else if (value instanceof Property property) {
+            return estimateWeight(property.getName()) + estimateWeight(property.getValue());
+        } else if (value instanceof Collection<?> collection) {
+            long weight = 0;
+            for (Object element : collection) {
+                weight += estimateWeight(element);
+            }
+            return weight;
+        } else if (value instanceof Map<?, ?> map) {
+            long weight = 0;
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                weight += estimateWeight(entry.getKey()) + estimateWeight(entry.getValue());
+            }
+            return weight;
+        }
+
+        return DEFAULT_WEIGHT;
+    }
+}
@@ -70,7 +70,7 @@ public class NeonBeeConfig {
     public static final String DEFAULT_TIME_ZONE = "UTC";
 
     private static final ImmutableBiMap<String, String> REPHRASE_MAP =
-            ImmutableBiMap.of("healthConfig", "health", "metricsConfig", "metrics");
+            ImmutableBiMap.of("healthConfig", "health", "metricsConfig", "metrics", "trackingConfig", "tracking");
 
     private int eventBusTimeout = DEFAULT_EVENT_BUS_TIMEOUT;
 
@@ -88,6 +88,8 @@ public class NeonBeeConfig {
 
     private String trackingDataHandlingStrategy = DEFAULT_TRACKING_DATA_HANDLING_STRATEGY;
 
+    private TrackingConfig trackingConfig = new TrackingConfig();
+
     private List<String> platformClasses = List.of("io.vertx.*", "io.neonbee.*", "org.slf4j.*", "org.apache.olingo.*");
 
     private String timeZone = DEFAULT_TIME_ZONE;
@@ -100,6 +102,8 @@ public class NeonBeeConfig {
 
     private int jsonMaxStringSize;
 
+    private boolean binaryEntityWrapperEncoding;
+
     /**
      * Are the metrics enabled?
      *
@@ -440,6 +444,27 @@ public class NeonBeeConfig {
         return this;
     }
 
+    /**
+     * Gets the tracking config.
+     *
+     * @return the {@link TrackingConfig}
+     */
+    public TrackingConfig getTrackingConfig() {
+        return trackingConfig;
+    }
+
+    /**
+     * Sets the tracking config.
+     *
+     * @param trackingConfig the tracking config to set
+     * @return the {@linkplain NeonBeeConfig} for fluent use
+     */
+    @Fluent
+    public NeonBeeConfig setTrackingConfig(TrackingConfig trackingConfig) {
+        this.trackingConfig = trackingConfig;
+        return this;
+    }
+
     /**
      * Platform classes are classes to be considered "provided" by the system class loader. NeonBee modules will attempt
      * to find platform classes in the system class loader first, before loading them (self-first) from their own (so
@@ -535,4 +560,31 @@ public class NeonBeeConfig {
     public int getJsonMaxStringSize() {
         return jsonMaxStringSize;
     }
+
+    /**
+     * Set whether entity wrappers, data queries and data contexts sent over the clustered event bus are encoded in
+     * their binary formats. Previous versions of NeonBee can only decode them if encoded as JSON, so the binary
+     * encoding should only be enabled after all nodes of a cluster have been upgraded. Non-clustered instances always
+     * use the binary encoding.
+     *
+     * @param binaryEntityWrapperEncoding true to encode entity wrappers, data queries and data contexts in the binary
+     *                                    formats in clustered mode
+     * @return a reference to this, so the API can be used fluently
+     */
+    @Fluent
+    public NeonBeeConfig setBinaryEntityWrapperEncoding(boolean binaryEntityWrapperEncoding) {
+        this.binaryEntityWrapperEncoding = binaryEntityWrapperEncoding;
+        return this;
+    }
+
+    /**
+     * Are entity wrappers, data queries and data contexts sent over the clustered event bus encoded in their binary
+     * formats?
+     *
+     * @return true if entity wrappers, data queries and data contexts are encoded in the binary formats in clustered
+     *         mode, otherwise false
+     */
+    public boolean isBinaryEntityWrapperEncoding() {
+        return binaryEntityWrapperEncoding;
+    }
 }
@@ -0,0 +1,121 @@
+package io.neonbee.config;
+
+import java.util.Map;
+
+import io.vertx.codegen.annotations.DataObject;
+import io.vertx.codegen.annotations.Fluent;
+import io.vertx.codegen.json.annotations.JsonGen;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Global tracking configuration.
+ * <p>
+ * Tracking uses head-based sampling: whether the messages of a request are tracked is decided based on the correlation
+ * ID of the request, so either all or none of the messages sent on behalf of a sampled request are tracked, on every
+ * node of the cluster.
+ */
+@DataObject
+@JsonGen(publicConverter = false)
+public class TrackingConfig {
+    /**
+     * The default sample rate, tracking all messages.
+     */
+    public static final double DEFAULT_SAMPLE_RATE = 1.0;
+
+    private double sampleRate = DEFAULT_SAMPLE_RATE;
+
+    private Map<String, Double> addressSampleRates = Map.of();
+
+    private boolean alwaysTrackFailures = true;
+
+    /**
+     * Creates a {@linkplain TrackingConfig}.
+     */
+    public TrackingConfig() {}
+
+    /**
+     * Creates a {@linkplain TrackingConfig} parsing a given JSON object.
+     *
+     * @param json the JSON object to parse
+     */
+    public TrackingConfig(JsonObject json) {
+        TrackingConfigConverter.fromJson(json, this);
+    }
+
+    /**
+     * Gets the rate of requests to track, from 0 (track no requests) to 1 (track all requests).
+     *
+     * @return the sample rate
+     */
+    public double getSampleRate() {
+        return sampleRate;
+    }
+
+    /**
+     * Sets the rate of requests to track, from 0 (track no requests) to 1 (track all requests).
+     *
+     * @param sampleRate the sample rate
+     * @return the {@linkplain TrackingConfig} for fluent use
+     */
+    @Fluent
+    public TrackingConfig setSampleRate(double sampleRate) {
+        this.sampleRate = sampleRate;
+        return this;
+    }
+
+    /**
+     * Gets the sample rates overriding the global sample rate for messages sent to a specific event bus address, e.g.
+     * {@code DataVerticle[my/Verticle]}.
+     *
+     * @return the sample rates by event bus address
+     */
+    public Map<String, Double> getAddressSampleRates() {
+        return addressSampleRates;
+    }
+
+    /**
+     * Sets the sample rates overriding the global sample rate for messages sent to a specific event bus address.
+     * <p>
+     * Note that replies are sent to an anonymous reply address and thus always use the global sample rate.
+     *
+     * @param addressSampleRates the sample rates by event bus address
+     * @return the {@linkplain TrackingConfig} for fluent use
+     */
+    @Fluent
+    public TrackingConfig setAddressSampleRates(Map<String, Double> addressSampleRates) {
+        this.addressSampleRates = addressSampleRates;
+        return this;
+    }
+
+    /**
+     * Should replies indicating a failure always be tracked, regardless of the sample rate?
+     *
+     * @return true if failures are always tracked, otherwise false
+     */
+    public boolean isAlwaysTrackFailures() {
+        return alwaysTrackFailures;
+    }
+
+    /**
+     * Sets whether replies indicating a failure should always be tracked, regardless of the sample rate.
+     *
+     * @param alwaysTrackFailures true if failures should always be tracked, false otherwise
+     * @return the {@linkplain TrackingConfig} for fluent use
+     */
+    @Fluent
+    public TrackingConfig setAlwaysTrackFailures(boolean alwaysTrackFailures) {
+        this.alwaysTrackFailures = alwaysTrackFailures;
+        return this;
+    }
+
+    /**
+     * Transforms this configuration object into JSON.
+     *
+     * @return a JSON representation of this configuration
+     */
+    public JsonObject toJson() {
+        JsonObject json = new JsonObject();
+        TrackingConfigConverter.toJson(this, json);
+        return json;
+    }
+}
@@ -23,6 +23,8 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.regex.Pattern;
@@ -41,8 +43,13 @@ import io.neonbee.NeonBeeDeployable;
 import io.neonbee.config.MetricsConfig;
 import io.neonbee.data.DataRequest.ResolutionStrategy;
 import io.neonbee.data.internal.DataContextImpl;
+import io.neonbee.data.internal.DataRequestGraph;
+import io.neonbee.data.internal.DataRequestGraph.Node;
+import io.neonbee.data.internal.DataRequestGraph.Requirements;
 import io.neonbee.data.internal.metrics.ConfiguredDataVerticleMetrics;
+import io.neonbee.data.internal.metrics.DataVerticleMetricNames;
 import io.neonbee.data.internal.metrics.DataVerticleMetrics;
+import io.neonbee.data.internal.metrics.QueryTagPolicy;
 import io.neonbee.internal.helper.FunctionalHelper;
 import io.neonbee.logging.LoggingFacade;
 import io.vertx.core.AbstractVerticle;
@@ -58,6 +65,7 @@ import io.vertx.core.eventbus.EventBus;
 import io.vertx.core.eventbus.Message;
 import io.vertx.core.eventbus.MessageCodec;
 import io.vertx.core.eventbus.ReplyException;
+import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 
 /**
@@ -83,6 +91,27 @@ public abstract class DataVerticle<T> extends AbstractVerticle implements DataAd
 
     static final String RESOLUTION_STRATEGY_HEADER = "resolutionStrategy";
 
+    /**
+     * The phase of the {@link ResolutionStrategy#OPTIMIZED optimized} resolution strategy a message is sent in.
+     */
+    static final String RESOLUTION_PHASE_HEADER = "resolutionPhase";
+
+    /**
+     * The identifier of the dataflow resolved by the {@link ResolutionStrategy#OPTIMIZED optimized} resolution
+     * strategy.
+     */
+    static final String RESOLUTION_FLOW_HEADER = "resolutionFlow";
+
+    /**
+     * In the require phase, a data verticle replies with the data requests it requires, without retrieving any data.
+     */
+    static final String REQUIRE_PHASE = "require";
+
+    /**
+     * In the retrieve phase, all required data of a data verticle was already prefetched for the flow.
+     */
+    static final String RETRIEVE_PHASE = "retrieve";
+
     private static final LoggingFacade LOGGER = LoggingFacade.create();
 
     /**
@@ -100,6 +129,17 @@ public abstract class DataVerticle<T> extends AbstractVerticle implements DataAd
 
     private DataVerticleMetrics dataVerticleMetrics;
 
+    private QueryTagPolicy queryTagPolicy;
+
+    /**
+     * The names of the metrics reported when requesting data, by the qualified name of the requested verticle.
+     */
+    private final Map<String, DataVerticleMetricNames> requestMetricNames = new ConcurrentHashMap<>();
+
+    private DataVerticleMetricNames retrieveMetricNames;
+
+    private List<Tag> retrieveMetricTags;
+
     /**
      * Create a new {@link DataVerticle}.
      */
@@ -118,6 +158,22 @@ public abstract class DataVerticle<T> extends AbstractVerticle implements DataAd
      * @return a future to the data requested
      */
     public static <U> Future<U> requestData(Vertx vertx, DataRequest request, DataContext context) {
+        return requestData(vertx, request, context, null);
+    }
+
+    /**
+     * Requesting data from other DataSources or Data/EntityVerticles, passing additional headers to data verticles.
+     *
+     * @param vertx   The Vertx instance
+     * @param request The DataRequest specifying the data to request
+     * @param context The {@link DataContext data context} which keeps track of all the request-level data during a
+     *                request
+     * @param headers Additional headers to send with the event bus message, or null
+     * @param <U>     The type of the returned future
+     * @return a future to the data requested
+     */
+    private static <U> Future<U> requestData(Vertx vertx, DataRequest request, DataContext context,
+            MultiMap headers) {
         DataSource<?> dataSource = request.getDataSource();
 
         if (dataSource != null) {
@@ -140,37 +196,37 @@ public abstract class DataVerticle<T> extends AbstractVerticle implements DataAd
              */
             LOGGER.correlateWith(context).debug("Sending message via the event bus to {}", qualifiedName);
             String address = getAddress(qualifiedName);
-            return vertx.eventBus()
-                    .<U>request(address, request.getQuery(), requestDeliveryOptions(vertx, request, context, address))
-                    .transform(asyncReply -> {
-                        LOGGER.correlateWith(context).debug("Received event bus reply");
-
-                        if (asyncReply.succeeded()) {
-                            U body = asyncReply.result().body();
-                            if (body instanceof DataException) {
-                                if (LOGGER.isWarnEnabled()) {
-                                    LOGGER.correlateWith(context).warn("Received a event bus reply failure from {}",
-                                            qualifiedName, (DataException) body);
-                                }
-                                return failedFuture((DataException) body);
-                            } else {
-                                DataContext responseDataContext =
-                                        decodeContextFromString(asyncReply.result().headers().get(CONTEXT_HEADER));
-                                context.setData(
-                                        Optional.ofNullable(responseDataContext).map(DataContext::data).orElse(null));
-                                context.mergeResponseData(Optional.ofNullable(responseDataContext)
-                                        .map(DataContext::responseData).orElse(null));
-                                return succeededFuture(asyncReply.result().body());
-                            }
-                        } else {
-                            Throwable cause = asyncReply.cause();
-                            if (LOGGER.isWarnEnabled()) {
-                                LOGGER.correlateWith(context).warn("Failed to receive event bus reply from {}",
-                                        qualifiedName, cause);
-                            }
-                            return failedFuture(mapException(cause));
+            DeliveryOptions deliveryOptions = requestDeliveryOptions(vertx, request, context, address);
+            Optional.ofNullable(headers).ifPresent(deliveryOptions.getHeaders()::addAll);
+            return vertx.eventBus().<U>request(address, request.getQuery(), deliveryOptions).transform(asyncReply -> {
+                LOGGER.correlateWith(context).debug("Received event bus reply");
+
+                if (asyncReply.succeeded()) {
+                    U body = asyncReply.result().body();
+                    if (body instanceof DataException) {
+                        if (LOGGER.isWarnEnabled()) {
+                            LOGGER.correlateWith(context).warn("Received a event bus reply failure from {}",
+                                    qualifiedName, (DataException) body);
                         }
-                    });
+                        return failedFuture((DataException) body);
+                    } else {
+                        DataContext responseDataContext =
+                                decodeContextFromString(asyncReply.result().headers().get(CONTEXT_HEADER));
+                        context.setData(
+                                Optional.ofNullable(responseDataContext).map(DataContext::data).orElse(null));
+                        context.mergeResponseData(Optional.ofNullable(responseDataContext)
+                                .map(DataContext::responseData).orElse(null));
+                        return succeededFuture(asyncReply.result().body());
+                    }
+                } else {
+                    Throwable cause = asyncReply.cause();
+                    if (LOGGER.isWarnEnabled()) {
+                        LOGGER.correlateWith(context).warn("Failed to receive event bus reply from {}",
+                                qualifiedName, cause);
+                    }
+                    return failedFuture(mapException(cause));
+                }
+            });
         }
 
         FullQualifiedName entityTypeName = request.getEntityTypeName();
@@ -279,7 +335,7 @@ public abstract class DataVerticle<T> extends AbstractVerticle implements DataAd
         DeliveryOptions deliveryOptions = new DeliveryOptions();
         deliveryOptions.setSendTimeout(SECONDS.toMillis(NeonBee.get(vertx).getConfig().getEventBusTimeout()))
                 .setCodecName(Optional.ofNullable(codec).map(MessageCodec::name).orElse(null));
-        Optional.ofNullable(context).map(DataContextImpl::encodeContextToString)
+        Optional.ofNullable(context).map(ctx -> DataContextImpl.encodeContextToString(vertx, ctx))
                 .ifPresent(value -> deliveryOptions.addHeader(CONTEXT_HEADER, value));
         return deliveryOptions;
     }
@@ -368,6 +424,7 @@ public abstract class DataVerticle<T> extends AbstractVerticle implements DataAd
         super.init(vertx, context);
         JsonObject metrics = getMetricsConfig(NeonBee.get(vertx).getConfig().getMetricsConfig());
         this.dataVerticleMetrics = ConfiguredDataVerticleMetrics.configureMetricsReporting(NeonBee.get(vertx), metrics);
+        this.queryTagPolicy = ConfiguredDataVerticleMetrics.configureQueryTagPolicy(metrics);
 
         // if present, register the custom codec. IMPORTANT: do NOT register the codec in the start method, as the
         // codec will need to be available on all instances, even if no instance of the verticle is started later on
@@ -443,7 +500,7 @@ public abstract class DataVerticle<T> extends AbstractVerticle implements DataAd
             // message, Vert.x will try to decode the message from wire. we need to catch exceptions here!
             routine = message.body().getAction() == READ
                     ? resolutionRoutineForStrategy(Optional.ofNullable(headers.get(RESOLUTION_STRATEGY_HEADER))
-                            .map(ResolutionStrategy::valueOf).orElse(RECURSIVE))
+                            .map(ResolutionStrategy::valueOf).orElse(RECURSIVE), headers)
                     : new ManipulationRoutine();
         } catch (IllegalArgumentException e) {
             message.fail(FAILURE_CODE_UNKNOWN_STRATEGY, "Unknown data resolution strategy");
@@ -464,11 +521,13 @@ public abstract class DataVerticle<T> extends AbstractVerticle implements DataAd
                     getQualifiedName(), message.replyAddress(), routine.getClass().getSimpleName());
         }
 
+        // the require routine replies with the encoded data requests, not with the data of this verticle
+        MessageCodec<?, ?> replyCodec = routine instanceof RequireRoutine ? null : getMessageCodec();
         try {
             routine.execute(message.body(), context).onComplete(asyncResult -> {
                 try {
                     if (asyncResult.succeeded()) {
-                        message.reply(asyncResult.result(), deliveryOptions(vertx, getMessageCodec(), context));
+                        message.reply(asyncResult.result(), deliveryOptions(vertx, replyCodec, context));
 
                     } else {
                         Throwable cause = asyncResult.cause();
@@ -479,7 +538,8 @@ public abstract class DataVerticle<T> extends AbstractVerticle implements DataAd
                         }
 
                         if (cause instanceof DataException) {
-                            message.reply(cause);
+                            // pass the context along w/ the failure, so that failures can always be tracked
+                            message.reply(cause, deliveryOptions(vertx, null, context));
                         } else {
                             message.fail(FAILURE_CODE_PROCESSING_FAILED,
                                     "Processing of message failed. " + cause.getMessage());
@@ -541,21 +601,51 @@ public abstract class DataVerticle<T> extends AbstractVerticle implements DataAd
     }
 
     private <U> void reportRequestDataMetrics(DataRequest request, Future<U> future) {
-        List<Tag> tags;
-        if (request.getQuery() == null || request.getQuery().getRawQuery().isEmpty()) {
-            tags = List.of();
-        } else {
-            tags = List.of(new ImmutableTag("query", request.getQuery().getRawQuery()));
+        List<Tag> tags = queryTagPolicy.tags(request.getQuery());
+        DataVerticleMetricNames names = requestMetricNames.get(request.getQualifiedName());
+        if (names == null) {
+            names = requestMetricNames.computeIfAbsent(request.getQualifiedName(), DataVerticleMetricNames::request);
         }
-        String qualifiedName = request.getQualifiedName();
 
-        dataVerticleMetrics.reportTimingMetric("request.data.timer." + qualifiedName, "time to retrieve the data", tags,
-                future);
-        dataVerticleMetrics.reportStatusCounter("request.data.counter." + qualifiedName, SUCCEEDED_RESPONSE_COUNT, tags,
-                future);
-        dataVerticleMetrics.reportActiveRequestsGauge("request.data.active.requests." + qualifiedName,
+        dataVerticleMetrics.reportTimingMetric(names.getTimer(), "time to retrieve the data", tags, future);
+        dataVerticleMetrics.reportStatusCounter(names.getStatusCounter(), SUCCEEDED_RESPONSE_COUNT, tags, future);
+        dataVerticleMetrics.reportActiveRequestsGauge(names.getActiveRequests(),
                 "Number of requests waiting for a response", List.of(), future);
-        dataVerticleMetrics.reportNumberOfRequests("request.counter." + qualifiedName, "Number of requests sent", tags);
+        dataVerticleMetrics.reportNumberOfRequests(names.getNumberOfRequests(), "Number of requests sent", tags);
+    }
+
+    /**
+     * Returns the names of the metrics reported when retrieving the data of this verticle. The names are computed
+     * lazily, as the address of the verticle is not available before the verticle is initialized.
+     *
+     * @return the names of the retrieve data metrics
+     */
+    private DataVerticleMetricNames retrieveMetricNames() {
+        if (retrieveMetricNames == null) {
+            retrieveMetricNames = DataVerticleMetricNames.retrieve(getAddress());
+        }
+        return retrieveMetricNames;
+    }
+
+    /**
+     * Returns the tags of the metrics reported when retrieving the data of this verticle.
+     *
+     * @return tags for the retrieve data metrics.
+     */
+    private List<Tag> retrieveMetricTags() {
+        if (retrieveMetricTags == null) {
+            List<Tag> tags = new ArrayList<>(2);
+            String name = getName();
+            if (name != null) {
+                tags.add(new ImmutableTag("name", name));
+            }
+            String namespace = getNamespace();
+            if (namespace != null) {
+                tags.add(new ImmutableTag("namespace", namespace));
+            }
+            retrieveMetricTags = List.copyOf(tags);
+        }
+        return retrieveMetricTags;
     }
 
     /**
@@ -575,12 +665,18 @@ public abstract class DataVerticle<T> extends AbstractVerticle implements DataAd
      * Get an instance of a resolution routine for a certain strategy.
      *
      * @param strategy the strategy to obtain the resolution routine for
+     * @param headers  the headers of the received message
      * @return the resolution routine
      */
-    private ResolutionRoutine resolutionRoutineForStrategy(ResolutionStrategy strategy) {
+    private ResolutionRoutine resolutionRoutineForStrategy(ResolutionStrategy strategy, MultiMap headers) {
         // case RECURSIVE:
         if (strategy == ResolutionStrategy.OPTIMIZED) {
-            return new OptimizedResolutionRoutine();
+            String phase = headers.get(RESOLUTION_PHASE_HEADER);
+            if (REQUIRE_PHASE.equals(phase)) {
+                return new RequireRoutine(headers.get(RESOLUTION_FLOW_HEADER));
+            }
+            return new OptimizedResolutionRoutine(
+                    RETRIEVE_PHASE.equals(phase) ? headers.get(RESOLUTION_FLOW_HEADER) : null);
         }
         return new RecursiveResolutionRoutine();
     }
@@ -603,78 +699,259 @@ public abstract class DataVerticle<T> extends AbstractVerticle implements DataAd
     private class RecursiveResolutionRoutine implements ResolutionRoutine {
         @Override
         public Future<T> execute(DataQuery query, DataContext context) {
+            return requireData(query, context).compose(requests -> resolve(query, requests, context));
+        }
+
+        /**
+         * Requests all required data and retrieves the data of this verticle, as soon as all required data is
+         * available.
+         *
+         * @param query    the query to resolve
+         * @param requests the data requests returned by {@link DataVerticle#requireData(DataQuery, DataContext)}
+         * @param context  the data context
+         * @return a future to the data of this verticle
+         */
+        protected Future<T> resolve(DataQuery query, Collection<DataRequest> requests, DataContext context) {
             // initialize the results map as a LinkedHashMap, this will safeguard that iterating it will return the same
             // order, as the collection returned via requireData. This also favours the previous implementation of
             // requireData(), where any index of the requireData array corresponded with the indexes of the data array
             Map<DataRequest, AsyncResult<?>> requestResults = new LinkedHashMap<>();
             Map<DataRequest, DataContext> receivedDataContextMap = new LinkedHashMap<>();
-            return requireData(query, context).compose(requests -> {
-                // ignore the result of the require data composite future (otherwiseEmpty), the retrieve data method
-                // should decide if it needs to handle success or failure if any of the individual asynchronous results
-                return Future.join(
-                        Optional.ofNullable(requests).map(Collection::stream).orElse(Stream.empty()).map(request -> {
-                            // use one copy of DataContext for each request to avoid data clash
-                            DataContext requestContext = context.copy();
-                            receivedDataContextMap.put(request, requestContext);
-                            return requestResults.computeIfAbsent(request, mapRequest -> {
-                                Future<?> future = requestData(vertx, request, requestContext);
-                                reportRequestDataMetrics(request, future);
-                                return future;
-                            });
-                        }).map(asyncResult -> (Future<?>) asyncResult).toList()).otherwiseEmpty();
-            }).compose(requiredCompositeOrNothing -> {
-                List<Tag> tags = retrieveDataTags();
-                try {
-                    Map<DataRequest, Map<String, Object>> receivedData = receivedDataContextMap.entrySet().stream()
-                            .map(entry -> Map.entry(entry.getKey(), entry.getValue().responseData()))
-                            .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
-                    context.setReceivedData(receivedData);
-                    Future<T> future = retrieveData(query, new DataMap(requestResults), context)
-                            .onFailure(throwable -> LOGGER.correlateWith(context)
-                                    .error("Failed to retrieve data from data source from {}", getQualifiedName()));
-                    reportRetrieveDataMetrics(tags, future);
-                    return future;
-                } catch (Exception e) {
-                    dataVerticleMetrics.reportStatusCounter("retrieve.data.counter." + getAddress(),
-                            SUCCEEDED_RESPONSE_COUNT, tags, failedFuture(e));
-                    // handle any (runtime) exception here and fail the result future
-                    return failedFuture(e);
-                }
-            });
+            // ignore the result of the require data composite future (otherwiseEmpty), the retrieve data method
+            // should decide if it needs to handle success or failure if any of the individual asynchronous results
+            return Future.join(
+                    Optional.ofNullable(requests).map(Collection::stream).orElse(Stream.empty()).map(request -> {
+                        // use one copy of DataContext for each request to avoid data clash
+                        DataContext requestContext = context.copy();
+                        receivedDataContextMap.put(request, requestContext);
+                        return requestResults.computeIfAbsent(request,
+                                mapRequest -> requestRequiredData(request, requestContext));
+                    }).map(asyncResult -> (Future<?>) asyncResult).toList()).otherwiseEmpty()
+                    .compose(requiredCompositeOrNothing -> retrieve(query, requestResults, receivedDataContextMap,
+                            context));
+        }
+
+        private Future<T> retrieve(DataQuery query, Map<DataRequest, AsyncResult<?>> requestResults,
+                Map<DataRequest, DataContext> receivedDataContextMap, DataContext context) {
+            List<Tag> tags = retrieveMetricTags();
+            try {
+                Map<DataRequest, Map<String, Object>> receivedData = receivedDataContextMap.entrySet().stream()
+                        .map(entry -> Map.entry(entry.getKey(), entry.getValue().responseData()))
+                        .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+                context.setReceivedData(receivedData);
+                Future<T> future = retrieveData(query, new DataMap(requestResults), context)
+                        .onFailure(throwable -> LOGGER.correlateWith(context)
+                                .error("Failed to retrieve data from data source from {}", getQualifiedName()));
+                reportRetrieveDataMetrics(tags, future);
+                return future;
+            } catch (Exception e) {
+                dataVerticleMetrics.reportStatusCounter(retrieveMetricNames().getStatusCounter(),
+                        SUCCEEDED_RESPONSE_COUNT, tags, failedFuture(e));
+                // handle any (runtime) exception here and fail the result future
+                return failedFuture(e);
+            }
         }
 
         /**
-         * @return tags for the retrieve data metrics.
+         * Requests one data request required by this verticle.
+         *
+         * @param request        the data request
+         * @param requestContext the copy of the data context to use for this request
+         * @return a future to the requested data
          */
-        private List<Tag> retrieveDataTags() {
-            List<Tag> tags = new ArrayList<>(2);
-            String name = getName();
-            if (name != null) {
-                tags.add(new ImmutableTag("name", name));
-            }
-            String namespace = getNamespace();
-            if (namespace != null) {
-                tags.add(new ImmutableTag("namespace", namespace));
-            }
-            return tags;
+        protected Future<?> requestRequiredData(DataRequest request, DataContext requestContext) {
+            Future<?> future = requestData(vertx, request, requestContext);
+            reportRequestDataMetrics(request, future);
+            return future;
         }
 
         private void reportRetrieveDataMetrics(List<Tag> tags, Future<T> future) {
-            String address = getAddress();
-            dataVerticleMetrics.reportTimingMetric("retrieve.data.timer." + address, "Time to retrieve data", tags,
-                    future);
-            dataVerticleMetrics.reportStatusCounter("retrieve.data.counter." + address, SUCCEEDED_RESPONSE_COUNT, tags,
-                    future);
-            dataVerticleMetrics.reportActiveRequestsGauge("retrieve.data.active.requests." + address,
+            DataVerticleMetricNames names = retrieveMetricNames();
+            dataVerticleMetrics.reportTimingMetric(names.getTimer(), "Time to retrieve data", tags, future);
+            dataVerticleMetrics.reportStatusCounter(names.getStatusCounter(), SUCCEEDED_RESPONSE_COUNT, tags, future);
+            dataVerticleMetrics.reportActiveRequestsGauge(names.getActiveRequests(),
                     "Number of requests waiting for a response", tags, future);
-            dataVerticleMetrics.reportNumberOfRequests("retrieve.counter." + address, "Number of requests sent", tags);
+            dataVerticleMetrics.reportNumberOfRequests(names.getNumberOfRequests(), "Number of requests sent", tags);
         }
     }
 
-    private class OptimizedResolutionRoutine implements ResolutionRoutine {
+    /**
+     * The prefetch resolution routine. The verticle receiving the initial request (the entry of the dataflow) first
+     * collects the full graph of required data from all verticles involved, by sending messages in the require phase.
+     * Equal data requests are deduplicated and the verticles are called in dependency order, as soon as all of the data
+     * they require is available. Verticles of the dataflow which are deployed to the same NeonBee instance, pick up the
+     * prefetched data in the retrieve phase instead of requesting it again.
+     */
+    private class OptimizedResolutionRoutine extends RecursiveResolutionRoutine {
+        private final String flowId;
+
+        private DataRequestGraph graph;
+
+        /**
+         * Creates a new optimized resolution routine.
+         *
+         * @param flowId the identifier of the flow, if this verticle is called in the retrieve phase or null, in case
+         *               this verticle is the entry of the dataflow
+         */
+        OptimizedResolutionRoutine(String flowId) {
+            super();
+            this.flowId = flowId;
+            this.graph = DataRequestGraph.getFlow(flowId);
+        }
+
         @Override
         public Future<T> execute(DataQuery query, DataContext context) {
-            return failedFuture(new UnsupportedOperationException("Optimized resolution strategy not available."));
+            if (flowId != null) {
+                // retrieve phase, either the data was prefetched on this instance, or it will be requested. in case
+                // this verticle was called in the require phase on this instance, the data it required is reused
+                Requirements requirements = graph != null ? graph.takeRequirements(getQualifiedName(), query) : null;
+                if (requirements == null) {
+                    return super.execute(query, context);
+                }
+
+                context.setData(requirements.data());
+                return resolve(query, requirements.requests(), context);
+            }
+
+            String newFlowId = UUID.randomUUID().toString();
+            graph = new DataRequestGraph();
+            return requireData(query, context).compose(requests -> {
+                // register the graph before collecting, so that verticles on this instance can keep their requirements
+                graph.register(newFlowId);
+                Collection<DataRequest> requiredRequests = requests != null ? requests : List.of();
+                return collect(requiredRequests, newFlowId, context).compose(nothing -> {
+                    Optional<Node> cycle = graph.findCycle();
+                    if (cycle.isPresent()) {
+                        return failedFuture(new IllegalStateException(
+                                "Circular data requirement detected for data request to " + cycle.get()));
+                    }
+
+                    graph.nodes().forEach(node -> prefetch(node, newFlowId, context));
+                    return resolve(query, requiredRequests, context);
+                });
+            }).onComplete(asyncResult -> DataRequestGraph.unregister(newFlowId));
+        }
+
+        /**
+         * Recursively collects the data requests required by the target verticles of the given requests, by sending a
+         * message in the require phase to every verticle not part of the graph yet.
+         *
+         * @param requests  the requests to collect the required data for
+         * @param newFlowId the identifier of the flow
+         * @param context   the data context
+         * @return a future completed as soon as the graph is complete
+         */
+        private Future<Void> collect(Collection<DataRequest> requests, String newFlowId, DataContext context) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (DataRequest request : requests) {
+                Node node = graph.add(request);
+                if (node == null || request.getQualifiedName() == null) {
+                    // either the request was already collected, or it cannot be resolved in phases
+                    continue;
+                }
+
+                // in case the requirements of a verticle cannot be collected, it is considered to require no data. when
+                // requesting the data of the verticle, the failure will be propagated to the requesting verticle
+                futures.add(DataVerticle.<JsonArray>requestData(vertx, optimizedRequest(request), context.copy(),
+                        MultiMap.caseInsensitiveMultiMap().add(RESOLUTION_PHASE_HEADER, REQUIRE_PHASE)
+                                .add(RESOLUTION_FLOW_HEADER, newFlowId))
+                        .compose(encodedRequests -> {
+                            List<DataRequest> requiredRequests = DataRequestGraph.decodeRequests(encodedRequests);
+                            return collect(requiredRequests, newFlowId, context).onSuccess(nothing -> requiredRequests
+                                    .forEach(requiredRequest -> node.addDependency(graph.get(requiredRequest))));
+                        }).otherwiseEmpty());
+            }
+            return Future.all(futures).mapEmpty();
+        }
+
+        /**
+         * Resolves a node of the graph, as soon as all of its dependencies are resolved.
+         *
+         * @param node      the node to resolve
+         * @param newFlowId the identifier of the flow
+         * @param context   the data context
+         * @return a future to the result of the node
+         */
+        private Future<?> prefetch(Node node, String newFlowId, DataContext context) {
+            if (node.getResult() != null) {
+                return node.getResult();
+            }
+
+            // the requesting verticle should decide how to handle failures of the required data, same as for recursive
+            Future<?> dependencies = Future.join(node.getDependencies().stream()
+                    .map(dependency -> prefetch(dependency, newFlowId, context)).map(future -> (Future<?>) future)
+                    .toList());
+
+            DataRequest request = node.getRequest();
+            DataContext requestContext = context.copy();
+            Future<?> result = dependencies.transform(nothing -> node.getDependencies().isEmpty()
+                    ? requestData(vertx, request, requestContext)
+                    : requestData(vertx, optimizedRequest(request), requestContext,
+                            MultiMap.caseInsensitiveMultiMap().add(RESOLUTION_PHASE_HEADER, RETRIEVE_PHASE)
+                                    .add(RESOLUTION_FLOW_HEADER, newFlowId)));
+            reportRequestDataMetrics(request, result);
+            node.setResult(result, requestContext);
+            return result;
+        }
+
+        private DataRequest optimizedRequest(DataRequest request) {
+            return new DataRequest(request.getQualifiedName(), request.getQuery())
+                    .setResolutionStrategy(ResolutionStrategy.OPTIMIZED).setSendTimeout(request.getSendTimeout())
+                    .setLocalOnly(request.isLocalOnly()).setLocalPreferred(request.isLocalPreferred());
+        }
+
+        @Override
+        protected Future<?> requestRequiredData(DataRequest request, DataContext requestContext) {
+            Node node = graph != null ? graph.get(request) : null;
+            if (node == null || node.getResult() == null) {
+                // not part of the graph (e.g. a data source) or the flow is not executed on this instance
+                return super.requestRequiredData(request, requestContext);
+            }
+
+            // the result of the node is completed on the context of the verticle resolving the graph, hand it over to
+            // the context of this verticle, so that the data is processed on the event loop of this verticle
+            Context consumerContext = vertx.getOrCreateContext();
+            Promise<Object> promise = Promise.promise();
+            node.getResult().onComplete(asyncResult -> consumerContext.runOnContext(nothing -> {
+                if (asyncResult.succeeded()) {
+                    requestContext.mergeResponseData(node.getContext().responseData());
+                    promise.complete(asyncResult.result());
+                } else {
+                    promise.fail(asyncResult.cause());
+                }
+            }));
+            return promise.future();
+        }
+    }
+
+    /**
+     * The require phase of the optimized resolution routine, replying with the encoded data requests this verticle
+     * requires, without retrieving any data. In case the flow is executed on this instance, the data requests are kept
+     * in the graph of the flow, so that they can be reused in the retrieve phase.
+     */
+    private class RequireRoutine implements ResolutionRoutine {
+        private final DataRequestGraph graph;
+
+        RequireRoutine(String flowId) {
+            this.graph = DataRequestGraph.getFlow(flowId);
+        }
+
+        @Override
+        public Future<JsonArray> execute(DataQuery query, DataContext context) {
+            try {
+                // the query might be modified when requiring the data, so keep a copy of it to look up the requirements
+                DataQuery requireQuery = graph != null ? query.copy() : null;
+                return requireData(query, context).map(requests -> {
+                    if (graph != null) {
+                        graph.putRequirements(getQualifiedName(), requireQuery,
+                                new Requirements(requests, context.data()));
+                    }
+                    return DataRequestGraph.encodeRequests(requests);
+                });
+            } catch (Exception e) {
+                // handle any (runtime) exception here and fail the result future
+                return failedFuture(e);
+            }
         }
     }
 
@@ -0,0 +1,295 @@
+package io.neonbee.data.internal;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import io.neonbee.data.DataContext;
+import io.neonbee.data.DataContext.DataVerticleCoordinate;
+import io.netty.util.CharsetUtil;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Encodes a {@link DataContext} into the compact, versioned binary layout transferred in the context delivery header:
+ *
+ * <pre>
+ * byte   VERSION
+ * string correlationId
+ * string sessionId
+ * string bearerToken
+ * bytes  userPrincipal (JSON)
+ * bytes  data (JSON)
+ * bytes  responseData (JSON)
+ * varint number of path coordinates, followed by the qualifiedName, deploymentId, ipAddress, requestTimestamp and
+ *        responseTimestamp strings of every coordinate (starting from the first invoked verticle)
+ * </pre>
+ *
+ * All numbers are written as unsigned variable-length integers, as the header is transferred as (Base64 encoded) string
+ * and most values are small. Strings are interned: the first occurrence of a string is written as literal with its
+ * length, any further occurrence (e.g. the IP address or the qualified name of a verticle, which repeat along the path)
+ * as a reference to the index of the literal. Bytes are prefixed with their length plus one, so that zero denotes both
+ * {@code null} and empty data maps.
+ * <p>
+ * The data and response data maps are not decoded eagerly, see {@link DataContextImpl#setEncodedData(Buffer, Buffer)}.
+ * Maps which were not accessed by a verticle are forwarded byte by byte, w/o ever being parsed or serialized again.
+ */
+final class DataContextHeaderCodec {
+    /**
+     * The current version of the binary layout.
+     */
+    static final byte VERSION = 1;
+
+    /**
+     * The first character of a context encoded by the previous JSON based encoding. The character is not part of the
+     * Base64 alphabet, so it is sufficient to distinguish both formats.
+     */
+    static final char LEGACY_JSON_PREFIX = '{';
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private static final int NULL_TAG = 0;
+
+    private static final int INITIAL_SIZE = 256;
+
+    private static final int VARINT_PAYLOAD_BITS = 7;
+
+    private static final int VARINT_PAYLOAD_MASK = 0x7F;
+
+    private static final int VARINT_CONTINUATION_BIT = 0x80;
+
+    private static final int MAX_VARINT_BYTES = 5;
+
+    private static final int BASE64_BYTES_PER_UNIT = 3;
+
+    private static final int BASE64_CHARS_PER_UNIT = 4;
+
+    private DataContextHeaderCodec() {}
+
+    /**
+     * Encodes the given context.
+     *
+     * @param context the context to encode
+     * @return the Base64 encoded binary representation of the context
+     */
+    static String encode(DataContext context) {
+        Writer writer = new Writer();
+        writer.buffer.appendByte(VERSION);
+        writer.writeString(context.correlationId());
+        writer.writeString(context.sessionId());
+        writer.writeString(context.bearerToken());
+        writer.writeBytes(context.userPrincipal() != null ? context.userPrincipal().toBuffer() : null);
+
+        if (context instanceof DataContextImpl contextImpl) {
+            writer.writeBytes(contextImpl.encodedData());
+            writer.writeBytes(contextImpl.encodedResponseData());
+        } else {
+            writer.writeBytes(encodeMap(context.data()));
+            writer.writeBytes(encodeMap(context.responseData()));
+        }
+
+        List<DataVerticleCoordinate> path = new ArrayList<>();
+        for (Iterator<DataVerticleCoordinate> iterator = context.path(); iterator.hasNext();) {
+            path.add(iterator.next());
+        }
+        writer.writeVarInt(path.size());
+        for (DataVerticleCoordinate coordinate : path) {
+            writer.writeString(coordinate.getQualifiedName());
+            writer.writeString(coordinate.getDeploymentId());
+            writer.writeString(coordinate.getIpAddress());
+            writer.writeString(coordinate.getRequestTimestamp());
+            writer.writeString(coordinate.getResponseTimestamp());
+        }
+
+        return ENCODER.encodeToString(writer.buffer.getBytes());
+    }
+
+    /**
+     * Decodes a context encoded by {@link #encode(DataContext)}.
+     *
+     * @param encodedContext the Base64 encoded binary representation of the context
+     * @return the decoded context, with the data and response data not decoded yet
+     */
+    static DataContextImpl decode(String encodedContext) {
+        Reader reader = new Reader(Buffer.buffer(DECODER.decode(encodedContext)));
+        byte version = reader.readByte();
+        if (version != VERSION) {
+            throw new IllegalStateException("Unsupported data context header format version " + version);
+        }
+
+        String correlationId = reader.readString();
+        String sessionId = reader.readString();
+        String bearerToken = reader.readString();
+        Buffer userPrincipal = reader.readBytes();
+        Buffer data = reader.readBytes();
+        Buffer responseData = reader.readBytes();
+
+        int pathSize = reader.readVarInt();
+        Deque<DataVerticleCoordinate> path = new ArrayDeque<>(pathSize);
+        for (int i = 0; i < pathSize; i++) {
+            path.push(new DataVerticleCoordinateImpl(reader.readString(), reader.readString(), reader.readString(),
+                    reader.readString(), reader.readString()));
+        }
+
+        DataContextImpl context = new DataContextImpl(correlationId, sessionId, bearerToken,
+                userPrincipal != null ? new JsonObject(userPrincipal) : null, null, null, path);
+        context.setEncodedData(data, responseData);
+        return context;
+    }
+
+    /**
+     * Decodes only the correlation ID of a context encoded by {@link #encode(DataContext)}. As the correlation ID is
+     * the first string of the layout, only the Base64 characters needed for it are decoded.
+     *
+     * @param encodedContext the Base64 encoded binary representation of the context
+     * @return the correlation ID of the context
+     */
+    static String decodeCorrelationId(String encodedContext) {
+        Reader reader = new Reader(decodePrefix(encodedContext, 1 + MAX_VARINT_BYTES));
+        byte version = reader.readByte();
+        if (version != VERSION) {
+            throw new IllegalStateException("Unsupported data context header format version " + version);
+        }
+
+        // the first string of the layout can only be null or a literal, never a reference
+        int tag = reader.readVarInt();
+        if (tag == NULL_TAG) {
+            return null;
+        }
+
+        int offset = reader.position;
+        int length = tag >>> 1;
+        return decodePrefix(encodedContext, offset + length).getString(offset, offset + length,
+                CharsetUtil.UTF_8.name());
+    }
+
+    private static Buffer decodePrefix(String encodedContext, int length) {
+        int characters = (length + BASE64_BYTES_PER_UNIT - 1) / BASE64_BYTES_PER_UNIT * BASE64_CHARS_PER_UNIT;
+        return Buffer.buffer(DECODER.decode(
+                characters < encodedContext.length() ? encodedContext.substring(0, characters) : encodedContext));
+    }
+
+    /**
+     * Encodes a data map to JSON.
+     *
+     * @param map the map to encode
+     * @return the JSON encoded map, or null if the map is null or empty
+     */
+    static Buffer encodeMap(Map<String, Object> map) {
+        return map == null || map.isEmpty() ? null : new JsonObject(map).toBuffer();
+    }
+
+    /**
+     * Sequentially writes the binary layout, interning the strings written.
+     */
+    private static class Writer {
+        private final Buffer buffer = Buffer.buffer(INITIAL_SIZE);
+
+        private final Map<String, Integer> strings = new HashMap<>();
+
+        void writeVarInt(int value) {
+            int remaining = value;
+            while ((remaining & ~VARINT_PAYLOAD_MASK) != 0) {
+                buffer.appendByte((byte) ((remaining & VARINT_PAYLOAD_MASK) | VARINT_CONTINUATION_BIT));
+                remaining >>>= VARINT_PAYLOAD_BITS;
+            }
+            buffer.appendByte((byte) remaining);
+        }
+
+        /**
+         * Writes a tag, which is zero for null, an odd number (the length shifted by one) for a literal string and an
+         * even number (the index of the literal plus one, shifted by one) for a reference to a previous literal.
+         */
+        void writeString(String value) {
+            if (value == null) {
+                writeVarInt(NULL_TAG);
+                return;
+            }
+
+            Integer index = strings.get(value);
+            if (index != null) {
+                writeVarInt((index + 1) << 1);
+                return;
+            }
+
+            strings.put(value, strings.size());
+            byte[] bytes = value.getBytes(CharsetUtil.UTF_8);
+            writeVarInt(bytes.length << 1 | 1);
+            buffer.appendBytes(bytes);
+        }
+
+        void writeBytes(Buffer value) {
+            if (value == null || value.length() == 0) {
+                writeVarInt(NULL_TAG);
+                return;
+            }
+
+            writeVarInt(value.length() + 1);
+            buffer.appendBuffer(value);
+        }
+    }
+
+    /**
+     * Sequentially reads the binary layout, resolving the interned strings.
+     */
+    private static class Reader {
+        private final Buffer buffer;
+
+        private final List<String> strings = new ArrayList<>();
+
+        private int position;
+
+        Reader(Buffer buffer) {
+            this.buffer = buffer;
+        }
+
+        byte readByte() {
+            return buffer.getByte(position++);
+        }
+
+        int readVarInt() {
+            int value = 0;
+            int shift = 0;
+            byte current;
+            do {
+                current = readByte();
+                value |= (current & VARINT_PAYLOAD_MASK) << shift;
+                shift += VARINT_PAYLOAD_BITS;
+            } while ((current & VARINT_CONTINUATION_BIT) != 0);
+            return value;
+        }
+
+        String readString() {
+            int tag = readVarInt();
+            if (tag == NULL_TAG) {
+                return null;
+            } else if ((tag & 1) == 0) {
+                return strings.get((tag >>> 1) - 1);
+            }
+
+            int length = tag >>> 1;
+            String value = buffer.getString(position, position + length, CharsetUtil.UTF_8.name());
+            position += length;
+            strings.add(value);
+            return value;
+        }
+
+        Buffer readBytes() {
+            int length = readVarInt() - 1;
+            if (length < 0) {
+                return null;
+            }
+
+            Buffer value = buffer.getBuffer(position, position + length);
+            position += length;
+            return value;
+        }
+    }
+}
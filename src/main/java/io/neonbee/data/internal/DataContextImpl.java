@@ -26,8 +26,11 @@ import com.google.common.collect.Streams;
 import io.neonbee.data.DataContext;
 import io.neonbee.data.DataException;
 import io.neonbee.data.DataRequest;
+import io.neonbee.internal.codec.BinaryEncoding;
 import io.neonbee.internal.handler.CorrelationIdHandler;
 import io.neonbee.logging.LoggingFacade;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpHeaders;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
@@ -68,6 +71,17 @@ public class DataContextImpl implements DataContext {
 
     private Map<String, Object> responseData;
 
+    /**
+     * The JSON encoded data, in case the context was decoded from the context header and the data was not accessed yet.
+     */
+    private Buffer encodedData;
+
+    /**
+     * The JSON encoded response data, in case the context was decoded from the context header and the response data
+     * was not accessed yet.
+     */
+    private Buffer encodedResponseData;
+
     private Deque<DataVerticleCoordinate> pathStack;
 
     /**
@@ -132,7 +146,12 @@ public class DataContextImpl implements DataContext {
         this.sessionId = original.sessionId();
         this.bearerToken = original.bearerToken();
         this.userPrincipal = original.userPrincipal();
-        this.setData(original.data());
+        if (original instanceof DataContextImpl originalImpl && originalImpl.encodedData != null) {
+            // the encoded data is never modified, so it can be shared w/o decoding it
+            this.encodedData = originalImpl.encodedData;
+        } else {
+            this.setData(original.data());
+        }
         this.setPath(original.path());
     }
 
@@ -154,7 +173,8 @@ public class DataContextImpl implements DataContext {
     @Override
     public Map<String, Object> data() {
         if (this.data == null) {
-            this.data = new HashMap<>();
+            this.data = encodedData != null ? mutableCopyOf(new JsonObject(encodedData).getMap()) : new HashMap<>();
+            this.encodedData = null;
         }
         return this.data;
     }
@@ -189,6 +209,7 @@ public class DataContextImpl implements DataContext {
     @SuppressWarnings("PMD.NullAssignment")
     public final DataContext setData(Map<String, Object> data) {
         this.data = (data != null) && !data.isEmpty() ? mutableCopyOf(data) : null;
+        this.encodedData = null;
         return this;
     }
 
@@ -196,7 +217,7 @@ public class DataContextImpl implements DataContext {
     public DataContext mergeData(Map<String, Object> data) {
         if ((data != null) && !data.isEmpty()) {
             // instead of putAll, might be worth it to write a more sophisticated logic using .merge()
-            this.data.putAll(mutableCopyOf(data));
+            this.data().putAll(mutableCopyOf(data));
         }
         return this;
     }
@@ -234,11 +255,48 @@ public class DataContextImpl implements DataContext {
     @Override
     public Map<String, Object> responseData() {
         if (this.responseData == null) {
-            this.responseData = new HashMap<>();
+            this.responseData = encodedResponseData != null
+                    ? mutableCopyOf(new JsonObject(encodedResponseData).getMap())
+                    : new HashMap<>();
+            this.encodedResponseData = null;
         }
         return this.responseData;
     }
 
+    /**
+     * Sets the JSON encoded data and response data of a context decoded from the context header. The maps are only
+     * decoded when accessed for the first time, any previously set data and response data is replaced.
+     *
+     * @param data         the JSON encoded data, or null if there is no data
+     * @param responseData the JSON encoded response data, or null if there is no response data
+     */
+    @SuppressWarnings("PMD.NullAssignment")
+    void setEncodedData(Buffer data, Buffer responseData) {
+        this.data = null;
+        this.encodedData = data;
+        this.responseData = null;
+        this.encodedResponseData = responseData;
+    }
+
+    /**
+     * Returns the JSON encoded data, w/o encoding it again if the data was never accessed after decoding the context.
+     *
+     * @return the JSON encoded data, or null if the context holds no data
+     */
+    Buffer encodedData() {
+        return encodedData != null ? encodedData : DataContextHeaderCodec.encodeMap(data);
+    }
+
+    /**
+     * Returns the JSON encoded response data, w/o encoding it again if the response data was never accessed after
+     * decoding the context.
+     *
+     * @return the JSON encoded response data, or null if the context holds no response data
+     */
+    Buffer encodedResponseData() {
+        return encodedResponseData != null ? encodedResponseData : DataContextHeaderCodec.encodeMap(responseData);
+    }
+
     @Override
     public DataContext mergeResponseData(Map<String, Object> data) {
         if (!isNullOrEmpty(data)) {
@@ -285,6 +343,9 @@ public class DataContextImpl implements DataContext {
 
     /**
      * Encodes a given {@link DataContext} to string.
+     * <p>
+     * The context is encoded into a compact binary representation (see {@link DataContextHeaderCodec}), which is
+     * transferred as Base64 encoded string.
      *
      * @param context A data context to encode
      * @return The passed data context represented as string
@@ -294,19 +355,38 @@ public class DataContextImpl implements DataContext {
             // actually it's fine for the context to be null, so also a null should be set as header
             return null;
         }
+        return DataContextHeaderCodec.encode(context);
+    }
+
+    /**
+     * Encodes a given {@link DataContext} to string, for the context delivery header of messages sent by the given
+     * Vert.x instance.
+     * <p>
+     * Nodes running previous versions can only decode contexts encoded as JSON string, so unless the binary encoding is
+     * enabled (see {@link BinaryEncoding}), clustered instances keep encoding the context as JSON.
+     *
+     * @param vertx   the Vert.x instance sending the context
+     * @param context A data context to encode
+     * @return The passed data context represented as string
+     */
+    public static String encodeContextToString(Vertx vertx, DataContext context) {
+        if (context == null || BinaryEncoding.isEnabled(vertx)) {
+            return encodeContextToString(context);
+        }
+
         return new JsonObject().put(CORRELATION_ID, context.correlationId()).put(SESSION_ID_KEY, context.sessionId())
                 .put(BEARER_TOKEN_KEY, context.bearerToken()).put(USER_PRINCIPAL_KEY, context.userPrincipal())
                 .put(DATA_KEY, new JsonObject(context.data()))
                 .put(RESPONSE_METADATA_KEY, new JsonObject(context.responseData()))
-                .put(PATH_KEY, pathToJson(context.path())).toString();
-    }
-
-    private static JsonArray pathToJson(Iterator<DataVerticleCoordinate> path) {
-        return new JsonArray(streamPath(path).map(JsonObject::mapFrom).toList());
+                .put(PATH_KEY, new JsonArray(streamPath(context.path()).map(JsonObject::mapFrom).toList())).toString();
     }
 
     /**
      * Decodes a given string to {@link DataContext}.
+     * <p>
+     * Besides the binary representation, also contexts encoded as JSON string by previous versions are decoded, so
+     * nodes running older versions can be part of the same cluster during rolling upgrades. The data and response data
+     * of the context are only decoded when they are accessed for the first time.
      *
      * @param contextString A string to decode
      * @return a new {@link DataContext} instance representing the passed string
@@ -315,8 +395,30 @@ public class DataContextImpl implements DataContext {
         if (contextString == null) {
             // in case the header value is null, also return null from this deserialization
             return null;
+        } else if (!contextString.isEmpty() && contextString.charAt(0) == DataContextHeaderCodec.LEGACY_JSON_PREFIX) {
+            return decodeContextFromJson(contextString);
         }
 
+        return DataContextHeaderCodec.decode(contextString);
+    }
+
+    /**
+     * Decodes only the correlation ID of a given string, without decoding the whole {@link DataContext}.
+     *
+     * @param contextString A string to decode
+     * @return the correlation ID of the context represented by the passed string
+     */
+    public static String decodeCorrelationIdFromString(String contextString) {
+        if (contextString == null) {
+            return null;
+        } else if (!contextString.isEmpty() && contextString.charAt(0) == DataContextHeaderCodec.LEGACY_JSON_PREFIX) {
+            return new JsonObject(contextString).getString(CORRELATION_ID);
+        }
+
+        return DataContextHeaderCodec.decodeCorrelationId(contextString);
+    }
+
+    private static DataContext decodeContextFromJson(String contextString) {
         JsonObject contextJson = new JsonObject(contextString);
         return new DataContextImpl(contextJson.getString(CORRELATION_ID), contextJson.getString(SESSION_ID_KEY),
                 contextJson.getString(BEARER_TOKEN_KEY), contextJson.getJsonObject(USER_PRINCIPAL_KEY),
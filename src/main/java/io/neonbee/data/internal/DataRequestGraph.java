@@ -0,0 +1,404 @@
+package io.neonbee.data.internal;
+
+import static io.neonbee.internal.helper.StringHelper.EMPTY;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import org.apache.olingo.commons.api.edm.FullQualifiedName;
+
+import io.neonbee.data.DataContext;
+import io.neonbee.data.DataQuery;
+import io.neonbee.data.DataRequest;
+import io.neonbee.data.DataRequest.ResolutionStrategy;
+import io.vertx.core.Future;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * The graph of all data requests of one dataflow, as collected by the {@link ResolutionStrategy#OPTIMIZED optimized}
+ * (prefetch) resolution strategy. Equal data requests, meaning requests to the same target with the same query and
+ * delivery settings, are represented by one single {@link Node} of the graph.
+ * <p>
+ * Only data requests which can be addressed via the event bus (data requests to a qualified name or an entity type)
+ * are part of the graph. Requests to a {@link io.neonbee.data.DataSource} or a {@link io.neonbee.data.DataSink} are
+ * local to the verticle requiring them and always resolved by the verticle itself.
+ * <p>
+ * While a dataflow is executed, its graph is registered under a flow identifier, so that all verticles of the dataflow
+ * deployed to the same NeonBee instance can pick up the prefetched results instead of requesting them again.
+ */
+public class DataRequestGraph {
+    private static final Map<String, DataRequestGraph> FLOWS = new ConcurrentHashMap<>();
+
+    private static final String QUALIFIED_NAME_KEY = "qualifiedName";
+
+    private static final String ENTITY_TYPE_NAME_KEY = "entityTypeName";
+
+    private static final String QUERY_KEY = "query";
+
+    private static final String RESOLUTION_STRATEGY_KEY = "resolutionStrategy";
+
+    private static final String SEND_TIMEOUT_KEY = "sendTimeout";
+
+    private static final String LOCAL_ONLY_KEY = "localOnly";
+
+    private static final String LOCAL_PREFERRED_KEY = "localPreferred";
+
+    private final Map<Key, Node> nodes = new LinkedHashMap<>();
+
+    private final Map<Map.Entry<String, DataQuery>, Queue<Requirements>> requirements =
+            new ConcurrentHashMap<>();
+
+    /**
+     * Returns the graph registered for a given flow identifier.
+     *
+     * @param flowId the identifier of the flow
+     * @return the graph of the flow or null, in case no flow with this identifier is executed on this instance
+     */
+    public static DataRequestGraph getFlow(String flowId) {
+        return flowId != null ? FLOWS.get(flowId) : null;
+    }
+
+    /**
+     * Registers this graph under a given flow identifier.
+     *
+     * @param flowId the identifier of the flow
+     */
+    public void register(String flowId) {
+        FLOWS.put(flowId, this);
+    }
+
+    /**
+     * Unregisters the graph of a given flow identifier.
+     *
+     * @param flowId the identifier of the flow
+     */
+    public static void unregister(String flowId) {
+        FLOWS.remove(flowId);
+    }
+
+    /**
+     * Checks whether a given data request can be part of a data request graph.
+     *
+     * @param request the data request to check
+     * @return true if the request is addressed to a qualified name or an entity type
+     */
+    public static boolean isAddressable(DataRequest request) {
+        return request.getQualifiedName() != null || request.getEntityTypeName() != null;
+    }
+
+    /**
+     * Adds a data request to this graph, if no equal request is part of the graph yet.
+     *
+     * @param request the data request to add
+     * @return the newly added node, or null in case the request is not addressable or an equal request was already
+     *         part of this graph
+     */
+    public Node add(DataRequest request) {
+        if (!isAddressable(request)) {
+            return null;
+        }
+
+        Key key = new Key(request);
+        if (nodes.containsKey(key)) {
+            return null;
+        }
+
+        Node node = new Node(request);
+        nodes.put(key, node);
+        return node;
+    }
+
+    /**
+     * Returns the node of an equal data request.
+     *
+     * @param request the data request to look up
+     * @return the node or null in case no equal request is part of this graph
+     */
+    public Node get(DataRequest request) {
+        return isAddressable(request) ? nodes.get(new Key(request)) : null;
+    }
+
+    /**
+     * Keeps the data requests a verticle required in the require phase, so that the verticle does not have to require
+     * them again, when it is called in the retrieve phase on this instance.
+     *
+     * @param qualifiedName the qualified name of the verticle
+     * @param query         the query the verticle was called with
+     * @param requirements  the data requests the verticle required and the data it put into the data context
+     */
+    public void putRequirements(String qualifiedName, DataQuery query, Requirements requirements) {
+        this.requirements.computeIfAbsent(Map.entry(qualifiedName, query), key -> new ConcurrentLinkedQueue<>())
+                .add(requirements);
+    }
+
+    /**
+     * Takes the data requests a verticle required in the require phase. The requirements are only returned once, in
+     * case the verticle is called multiple times with the same query.
+     *
+     * @param qualifiedName the qualified name of the verticle
+     * @param query         the query the verticle is called with
+     * @return the requirements of the verticle, or null in case the verticle was not called in the require phase on
+     *         this instance
+     */
+    public Requirements takeRequirements(String qualifiedName, DataQuery query) {
+        Queue<Requirements> queue = requirements.get(Map.entry(qualifiedName, query));
+        return queue != null ? queue.poll() : null;
+    }
+
+    /**
+     * Returns all nodes of this graph.
+     *
+     * @return an unmodifiable collection of all nodes in the order they have been added
+     */
+    public Collection<Node> nodes() {
+        return Collections.unmodifiableCollection(nodes.values());
+    }
+
+    /**
+     * Checks whether the graph contains any circular dependency. As the graph is resolved in dependency order, a
+     * circular dependency could never be resolved.
+     *
+     * @return the node which is part of a cycle, or an empty optional if the graph is acyclic
+     */
+    public Optional<Node> findCycle() {
+        Set<Node> visited = new HashSet<>();
+        Set<Node> visiting = new HashSet<>();
+        for (Node node : nodes.values()) {
+            Node cycle = findCycle(node, visited, visiting);
+            if (cycle != null) {
+                return Optional.of(cycle);
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static Node findCycle(Node node, Set<Node> visited, Set<Node> visiting) {
+        if (visited.contains(node)) {
+            return null;
+        } else if (!visiting.add(node)) {
+            return node;
+        }
+
+        for (Node dependency : node.dependencies) {
+            Node cycle = findCycle(dependency, visited, visiting);
+            if (cycle != null) {
+                return cycle;
+            }
+        }
+
+        visiting.remove(node);
+        visited.add(node);
+        return null;
+    }
+
+    /**
+     * Encodes all addressable data requests into a {@link JsonArray}, to be transferred via the event bus.
+     *
+     * @param requests the data requests to encode
+     * @return a JSON array of all addressable requests
+     */
+    public static JsonArray encodeRequests(Collection<DataRequest> requests) {
+        JsonArray array = new JsonArray();
+        if (requests != null) {
+            requests.stream().filter(DataRequestGraph::isAddressable).map(DataRequestGraph::encodeRequest)
+                    .forEach(array::add);
+        }
+        return array;
+    }
+
+    /**
+     * Decodes a {@link JsonArray} of encoded data requests.
+     *
+     * @param array the JSON array to decode
+     * @return a list of data requests
+     */
+    public static List<DataRequest> decodeRequests(JsonArray array) {
+        List<DataRequest> requests = new ArrayList<>();
+        if (array != null) {
+            for (int i = 0; i < array.size(); i++) {
+                requests.add(decodeRequest(array.getJsonObject(i)));
+            }
+        }
+        return requests;
+    }
+
+    private static JsonObject encodeRequest(DataRequest request) {
+        JsonObject json = new JsonObject().put(QUERY_KEY, JsonObject.mapFrom(request.getQuery()))
+                .put(SEND_TIMEOUT_KEY, request.getSendTimeout()).put(LOCAL_ONLY_KEY, request.isLocalOnly())
+                .put(LOCAL_PREFERRED_KEY, request.isLocalPreferred());
+        if (request.getQualifiedName() != null) {
+            json.put(QUALIFIED_NAME_KEY, request.getQualifiedName());
+        } else {
+            json.put(ENTITY_TYPE_NAME_KEY, request.getEntityTypeName().getFullQualifiedNameAsString());
+        }
+        Optional.ofNullable(request.getResolutionStrategy())
+                .ifPresent(strategy -> json.put(RESOLUTION_STRATEGY_KEY, strategy.name()));
+        return json;
+    }
+
+    private static DataRequest decodeRequest(JsonObject json) {
+        DataQuery query = json.getJsonObject(QUERY_KEY).mapTo(DataQuery.class);
+        String qualifiedName = json.getString(QUALIFIED_NAME_KEY);
+        DataRequest request = qualifiedName != null ? new DataRequest(qualifiedName, query)
+                : new DataRequest(new FullQualifiedName(json.getString(ENTITY_TYPE_NAME_KEY)), query);
+        Optional.ofNullable(json.getString(RESOLUTION_STRATEGY_KEY)).map(ResolutionStrategy::valueOf)
+                .ifPresent(request::setResolutionStrategy);
+        return request.setSendTimeout(json.getLong(SEND_TIMEOUT_KEY, -1L))
+                .setLocalOnly(json.getBoolean(LOCAL_ONLY_KEY, false))
+                .setLocalPreferred(json.getBoolean(LOCAL_PREFERRED_KEY, true));
+    }
+
+    /**
+     * A node in the data request graph, representing one or multiple equal data requests.
+     * <p>
+     * The result of a node is set by the verticle resolving the graph, but read by any verticle of the dataflow on this
+     * instance, thus the result and the context are published via volatile fields.
+     */
+    public static final class Node {
+        private final DataRequest request;
+
+        private final Set<Node> dependencies = new HashSet<>();
+
+        private volatile Future<?> result;
+
+        private volatile DataContext context;
+
+        private Node(DataRequest request) {
+            this.request = request;
+        }
+
+        /**
+         * Returns the (first) data request represented by this node.
+         *
+         * @return the data request
+         */
+        public DataRequest getRequest() {
+            return request;
+        }
+
+        /**
+         * Returns all nodes this node depends on, meaning the data the target of this node requires.
+         *
+         * @return the dependencies of this node
+         */
+        public Set<Node> getDependencies() {
+            return dependencies;
+        }
+
+        /**
+         * Adds a dependency to this node.
+         *
+         * @param dependency the node this node depends on
+         */
+        public void addDependency(Node dependency) {
+            dependencies.add(dependency);
+        }
+
+        /**
+         * Returns a future to the result of this node.
+         *
+         * @return the result of this node or null, in case the node was not resolved yet
+         */
+        public Future<?> getResult() {
+            return result;
+        }
+
+        /**
+         * Returns the data context the request of this node was resolved with.
+         *
+         * @return the data context, containing any response data of the resolved request
+         */
+        public DataContext getContext() {
+            return context;
+        }
+
+        /**
+         * Sets the result of this node.
+         *
+         * @param result  a future to the result of this node
+         * @param context the data context the request of this node is resolved with
+         */
+        public void setResult(Future<?> result, DataContext context) {
+            // set the context first, so that it is visible to anyone reading the result
+            this.context = context;
+            this.result = result;
+        }
+
+        @Override
+        public String toString() {
+            return Objects.toString(request, EMPTY);
+        }
+    }
+
+    /**
+     * The data requests a verticle required in the require phase, along with the data of the data context after
+     * requiring them, as requiring data could put data into the context, which is expected when retrieving the data.
+     *
+     * @param requests the data requests required
+     * @param data     the data of the data context
+     */
+    public record Requirements(Collection<DataRequest> requests, Map<String, Object> data) {}
+
+    /**
+     * The key to identify equal data requests. Data requests do not implement equals, as e.g. a
+     * {@link io.neonbee.data.DataMap} relies on the identity of a data request.
+     */
+    private static final class Key {
+        private final String qualifiedName;
+
+        private final FullQualifiedName entityTypeName;
+
+        private final DataQuery query;
+
+        private final ResolutionStrategy resolutionStrategy;
+
+        private final long sendTimeout;
+
+        private final boolean localOnly;
+
+        private final boolean localPreferred;
+
+        Key(DataRequest request) {
+            this.qualifiedName = request.getQualifiedName();
+            this.entityTypeName = request.getEntityTypeName();
+            this.query = request.getQuery();
+            this.resolutionStrategy = request.getResolutionStrategy();
+            this.sendTimeout = request.getSendTimeout();
+            this.localOnly = request.isLocalOnly();
+            this.localPreferred = request.isLocalPreferred();
+        }
+
+        @Override
+        public boolean equals(Object object) {
+            if (object == this) {
+                return true;
+            } else if (!(object instanceof Key)) {
+                return false;
+            }
+
+            Key key = (Key) object;
+            return Objects.equals(qualifiedName, key.qualifiedName)
+                    && Objects.equals(entityTypeName, key.entityTypeName) && Objects.equals(query, key.query)
+                    && resolutionStrategy == key.resolutionStrategy && sendTimeout == key.sendTimeout
+                    && localOnly == key.localOnly && localPreferred == key.localPreferred;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(qualifiedName, entityTypeName, query, resolutionStrategy, sendTimeout, localOnly,
+                    localPreferred);
+        }
+    }
+}
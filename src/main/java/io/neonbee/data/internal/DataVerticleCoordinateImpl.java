@@ -25,6 +25,15 @@ public class DataVerticleCoordinateImpl implements DataVerticleCoordinate {
         this.requestTimestamp = LocalTime.now(ZoneId.systemDefault()).toString();
     }
 
+    DataVerticleCoordinateImpl(String qualifiedName, String deploymentId, String ipAddress, String requestTimestamp,
+            String responseTimestamp) {
+        this.qualifiedName = qualifiedName;
+        this.deploymentId = deploymentId;
+        this.ipAddress = ipAddress;
+        this.requestTimestamp = requestTimestamp;
+        this.responseTimestamp = responseTimestamp;
+    }
+
     @Override
     public String getRequestTimestamp() {
         return requestTimestamp;
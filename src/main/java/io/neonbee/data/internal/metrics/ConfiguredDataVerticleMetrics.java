@@ -47,6 +47,21 @@ public class ConfiguredDataVerticleMetrics implements DataVerticleMetrics {
      */
     public static final String TIMING = "reportTiming";
 
+    /**
+     * Key for how to tag the query of data requests, see {@link QueryTagPolicy.Mode}.
+     */
+    public static final String QUERY_TAG = "queryTag";
+
+    /**
+     * Key for the maximum number of distinct query tag values.
+     */
+    public static final String MAX_QUERY_TAG_VALUES = "maxQueryTagValues";
+
+    /**
+     * Key for the maximum number of series registered for this verticle.
+     */
+    public static final String MAX_SERIES = "maxSeries";
+
     @VisibleForTesting
     static final NoopDataVerticleMetrics DUMMY_IMPL = new NoopDataVerticleMetrics();
 
@@ -84,6 +99,11 @@ public class ConfiguredDataVerticleMetrics implements DataVerticleMetrics {
      * "reportStatusCounter", "reportTiming", only the values configured as true will be reported. If you do not specify
      * any of these values, all metrics are reported.
      *
+     * As every distinct tag value creates a new series, the number of series is limited: "queryTag" configures if the
+     * query of a data request is tagged "raw" (default), as "template" of its parameter names, or not at all ("none").
+     * "maxQueryTagValues" limits the number of distinct query tag values (defaults to 100) and "maxSeries" the number
+     * of series registered for the verticle (defaults to 1000), any further value is reported as overflow instead.
+     *
      * Full example:
      *
      * <pre>
@@ -94,7 +114,10 @@ public class ConfiguredDataVerticleMetrics implements DataVerticleMetrics {
      *     "reportNumberOfRequests" : true,
      *     "reportActiveRequests" : true
      *     "reportStatusCounter" : true,
-     *     "reportTiming" : true
+     *     "reportTiming" : true,
+     *     "queryTag" : "template",
+     *     "maxQueryTagValues" : 100,
+     *     "maxSeries" : 1000
      * }
      * }
      * </pre>
@@ -117,7 +140,8 @@ public class ConfiguredDataVerticleMetrics implements DataVerticleMetrics {
                     "Micrometer registry hasn't been registered yet or it has been stopped. Metrics will not be sent.");
             return DUMMY_IMPL;
         } else {
-            DataVerticleMetrics metricsImpl = new DataVerticleMetricsImpl(registry);
+            DataVerticleMetrics metricsImpl = new DataVerticleMetricsImpl(registry,
+                    metricsConfig.getInteger(MAX_SERIES, DataVerticleMetricsImpl.DEFAULT_MAX_SERIES));
             return configureDataVerticleMetrics(metricsConfig, metricsImpl);
         }
     }
@@ -125,8 +149,9 @@ public class ConfiguredDataVerticleMetrics implements DataVerticleMetrics {
     private static DataVerticleMetrics configureDataVerticleMetrics(JsonObject metricsConfig,
             DataVerticleMetrics metricsImpl) {
 
-        int fieldNameSize = metricsConfig.containsKey(METRICS_REGISTRY_NAME) ? 2 : 1;
-        boolean activateAllMetrics = metricsConfig.size() == fieldNameSize;
+        boolean activateAllMetrics = !metricsConfig.containsKey(NUMBER_OF_REQUESTS)
+                && !metricsConfig.containsKey(ACTIVE_REQUESTS) && !metricsConfig.containsKey(STATUS_COUNTER)
+                && !metricsConfig.containsKey(TIMING);
         if (activateAllMetrics) {
             return metricsImpl;
         } else {
@@ -138,6 +163,23 @@ public class ConfiguredDataVerticleMetrics implements DataVerticleMetrics {
         }
     }
 
+    /**
+     * Configure how the query of data requests is tagged, see {@link #configureMetricsReporting(NeonBee, JsonObject)}.
+     *
+     * @param metricsConfig {@link JsonObject} containing the metrics configuration.
+     * @return the configured {@link QueryTagPolicy}
+     */
+    public static QueryTagPolicy configureQueryTagPolicy(JsonObject metricsConfig) {
+        if (metricsConfig == null || !Boolean.TRUE.equals(metricsConfig.getBoolean(ENABLED))) {
+            return QueryTagPolicy.NONE;
+        }
+
+        QueryTagPolicy.Mode mode = QueryTagPolicy.Mode.parse(metricsConfig.getString(QUERY_TAG, "raw"));
+        return mode == QueryTagPolicy.Mode.NONE ? QueryTagPolicy.NONE
+                : new QueryTagPolicy(mode,
+                        metricsConfig.getInteger(MAX_QUERY_TAG_VALUES, QueryTagPolicy.DEFAULT_MAX_VALUES));
+    }
+
     @Override
     public void reportNumberOfRequests(String name, String description, List<Tag> tags) {
         reportNumberOfRequests.reportNumberOfRequests(name, description, tags);
@@ -0,0 +1,86 @@
+package io.neonbee.data.internal.metrics;
+
+import io.neonbee.data.DataVerticle;
+
+/**
+ * The names of the metrics reported for either requesting data from, or retrieving data of a {@link DataVerticle}.
+ * <p>
+ * The names only depend on the qualified name / the address of a verticle, so they are meant to be created once per
+ * verticle and reused, instead of concatenating the names for every request.
+ */
+public final class DataVerticleMetricNames {
+    private static final String REQUEST_PREFIX = "request";
+
+    private static final String RETRIEVE_PREFIX = "retrieve";
+
+    private final String timer;
+
+    private final String statusCounter;
+
+    private final String activeRequests;
+
+    private final String numberOfRequests;
+
+    private DataVerticleMetricNames(String prefix, String suffix) {
+        this.timer = prefix + ".data.timer." + suffix;
+        this.statusCounter = prefix + ".data.counter." + suffix;
+        this.activeRequests = prefix + ".data.active.requests." + suffix;
+        this.numberOfRequests = prefix + ".counter." + suffix;
+    }
+
+    /**
+     * Creates the names of the metrics reported when requesting data from a verticle.
+     *
+     * @param qualifiedName the qualified name of the requested verticle
+     * @return the metric names
+     */
+    public static DataVerticleMetricNames request(String qualifiedName) {
+        return new DataVerticleMetricNames(REQUEST_PREFIX, qualifiedName);
+    }
+
+    /**
+     * Creates the names of the metrics reported when a verticle retrieves its data.
+     *
+     * @param address the event bus address of the verticle
+     * @return the metric names
+     */
+    public static DataVerticleMetricNames retrieve(String address) {
+        return new DataVerticleMetricNames(RETRIEVE_PREFIX, address);
+    }
+
+    /**
+     * Returns the name of the timing metric.
+     *
+     * @return the name of the timing metric
+     */
+    public String getTimer() {
+        return timer;
+    }
+
+    /**
+     * Returns the name of the status counter metric.
+     *
+     * @return the name of the status counter metric
+     */
+    public String getStatusCounter() {
+        return statusCounter;
+    }
+
+    /**
+     * Returns the name of the active requests gauge.
+     *
+     * @return the name of the active requests gauge
+     */
+    public String getActiveRequests() {
+        return activeRequests;
+    }
+
+    /**
+     * Returns the name of the number of requests counter.
+     *
+     * @return the name of the number of requests counter
+     */
+    public String getNumberOfRequests() {
+        return numberOfRequests;
+    }
+}
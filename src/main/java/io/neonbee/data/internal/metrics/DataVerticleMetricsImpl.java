@@ -4,75 +4,197 @@ import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiFunction;
 
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Iterables;
 
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.ImmutableTag;
-import io.micrometer.core.instrument.Meter;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Tag;
 import io.micrometer.core.instrument.Timer;
 import io.vertx.core.Future;
 
+/**
+ * Reports the metrics of a {@link io.neonbee.data.DataVerticle} to a {@link MeterRegistry}.
+ * <p>
+ * Every meter is registered once and afterwards looked up by its name and tags, w/o creating any builders or keys. The
+ * lookup first resolves the name, then the list of tags, both using the lock-free read path of a
+ * {@link ConcurrentHashMap}. Only if the meter does not exist yet, it is registered.
+ * <p>
+ * The number of series (distinct names and tags) registered is limited, meters consisting of multiple series (like the
+ * status counters) count every series. After the limit is reached, the values of all tags of any new series are
+ * replaced by {@link QueryTagPolicy#OVERFLOW_VALUE}, so that at most one additional series per meter name is
+ * registered. The overflow meter is also stored under the original tags (up to the same limit), so that further
+ * requests with these tags find it w/o going through the registration again.
+ */
 public class DataVerticleMetricsImpl implements DataVerticleMetrics {
 
     private static final ImmutableTag SUCCEEDED_TAG = new ImmutableTag("succeeded", "true");
 
     private static final ImmutableTag FAILED_TAG = new ImmutableTag("succeeded", "false");
 
-    private final Map<Meter.Id, LongAdder> activeRequestsMap = new ConcurrentHashMap<>();
+    private final Map<String, Map<List<Tag>, Counter>> counters = new ConcurrentHashMap<>();
+
+    private final Map<String, Map<List<Tag>, StatusCounters>> statusCounters = new ConcurrentHashMap<>();
+
+    private final Map<String, Map<List<Tag>, Timer>> timers = new ConcurrentHashMap<>();
+
+    private final Map<String, Map<List<Tag>, LongAdder>> activeRequests = new ConcurrentHashMap<>();
+
+    /**
+     * The default maximum number of series registered per verticle.
+     */
+    public static final int DEFAULT_MAX_SERIES = 1000;
+
+    private final AtomicInteger series = new AtomicInteger();
+
+    private final AtomicInteger overflowAliases = new AtomicInteger();
 
     private final MeterRegistry registry;
 
+    private final int maxSeries;
+
     DataVerticleMetricsImpl(MeterRegistry registry) {
+        this(registry, DEFAULT_MAX_SERIES);
+    }
+
+    DataVerticleMetricsImpl(MeterRegistry registry, int maxSeries) {
         this.registry = registry;
+        this.maxSeries = maxSeries;
     }
 
     @Override
     public void reportNumberOfRequests(String name, String description, List<Tag> tags) {
-        Counter.builder(name).description(description).tags(tags).register(registry).increment();
+        Counter counter = find(counters, name, tags);
+        if (counter == null) {
+            counter = register(counters, name, tags, 1, (meterName, meterTags) -> Counter.builder(meterName)
+                    .description(description).tags(meterTags).register(registry));
+        }
+        counter.increment();
     }
 
     @Override
     public void reportActiveRequestsGauge(String name, String description, List<Tag> tags, Future<?> future) {
-        LongAdder longAdder = getGaugeLongAdder(name, description, tags, registry);
-        longAdder.increment();
-        future.onComplete(event -> {
-            longAdder.decrement();
-        });
-    }
-
-    private LongAdder getGaugeLongAdder(String name, String description, List<Tag> tags, MeterRegistry registry) {
-        LongAdder longAdder = new LongAdder();
-        Gauge gauge = Gauge.builder(name, longAdder, LongAdder::doubleValue).description(description).tags(tags)
-                .register(registry);
-        activeRequestsMap.computeIfAbsent(gauge.getId(), id -> longAdder);
-        return longAdder;
+        LongAdder longAdder = find(activeRequests, name, tags);
+        if (longAdder == null) {
+            longAdder = register(activeRequests, name, tags, 1, (meterName, meterTags) -> {
+                LongAdder adder = new LongAdder();
+                // the gauge only holds a weak reference to the adder, the strong reference is held by the map
+                Gauge.builder(meterName, adder, LongAdder::doubleValue).description(description).tags(meterTags)
+                        .register(registry);
+                return adder;
+            });
+        }
+        LongAdder activeAdder = longAdder;
+        activeAdder.increment();
+        future.onComplete(event -> activeAdder.decrement());
     }
 
     @Override
     public void reportStatusCounter(String name, String description, Iterable<Tag> tags, Future<?> future) {
-        future.onComplete(data -> {
-            Counter.builder(name).description("succeeded response count")
-                    .tags(Iterables.concat(tags, List.of(data.succeeded() ? SUCCEEDED_TAG : FAILED_TAG)))
-                    .register(registry).increment();
-        });
+        StatusCounters counters = find(statusCounters, name, tags);
+        if (counters == null) {
+            counters = register(statusCounters, name, tags, 2,
+                    (meterName, meterTags) -> new StatusCounters(
+                            registerStatusCounter(meterName, meterTags, SUCCEEDED_TAG),
+                            registerStatusCounter(meterName, meterTags, FAILED_TAG)));
+        }
+        StatusCounters statusCounter = counters;
+        future.onComplete(data -> (data.succeeded() ? statusCounter.succeeded : statusCounter.failed).increment());
+    }
+
+    private Counter registerStatusCounter(String name, List<Tag> tags, Tag statusTag) {
+        return Counter.builder(name).description("succeeded response count")
+                .tags(Iterables.concat(tags, List.of(statusTag))).register(registry);
     }
 
     @Override
     public void reportTimingMetric(String name, String description, Iterable<Tag> tags, Future<?> future) {
         long start = System.nanoTime();
-        future.onComplete(data -> reportTimeMetric(name, description, tags, start));
+        Timer timer = find(timers, name, tags);
+        if (timer == null) {
+            timer = register(timers, name, tags, 1, (meterName, meterTags) -> Timer.builder(meterName)
+                    .description(description).tags(meterTags).register(registry));
+        }
+        Timer startedTimer = timer;
+        future.onComplete(data -> startedTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS));
     }
 
-    private void reportTimeMetric(String name, String description, Iterable<Tag> tags, long start) {
-        long time = System.nanoTime() - start;
+    /**
+     * Finds a registered meter by its name and tags, w/o allocating any key.
+     *
+     * @param meters the meters by name and tags
+     * @param name   the name of the meter
+     * @param tags   the tags of the meter
+     * @param <M>    the type of the meter
+     * @return the meter or null, if no meter with the given name and tags was registered yet
+     */
+    @VisibleForTesting
+    static <M> M find(Map<String, Map<List<Tag>, M>> meters, String name, Iterable<Tag> tags) {
+        Map<List<Tag>, M> metersByTags = meters.get(name);
+        if (metersByTags == null) {
+            return null;
+        }
+
+        // all callers pass lists of tags, only copy other iterables to compare them by their elements
+        return metersByTags.get(tags instanceof List<Tag> list ? list : ImmutableList.copyOf(tags));
+    }
 
-        Timer timer = Timer.builder(name).description(description).tags(tags).register(registry);
-        timer.record(time, TimeUnit.NANOSECONDS);
+    /**
+     * Registers a meter, if no meter with the given name and tags was registered yet. In case the maximum number of
+     * series would be exceeded, the meter is registered with all tag values replaced by the overflow value instead.
+     *
+     * @param meters      the meters by name and tags
+     * @param name        the name of the meter
+     * @param tags        the tags of the meter
+     * @param seriesCount the number of series the meter registers
+     * @param register    registers the meter with the given name and tags
+     * @param <M>         the type of the meter
+     * @return the registered meter
+     */
+    @VisibleForTesting
+    <M> M register(Map<String, Map<List<Tag>, M>> meters, String name, Iterable<Tag> tags, int seriesCount,
+            BiFunction<String, List<Tag>, M> register) {
+        // copy the tags to the key, the list of the caller could be mutable
+        List<Tag> key = ImmutableList.copyOf(tags);
+        Map<List<Tag>, M> metersByTags = meters.computeIfAbsent(name, k -> new ConcurrentHashMap<>());
+        M meter = metersByTags.get(key);
+        if (meter != null) {
+            return meter;
+        }
+
+        if (maxSeries > 0 && series.get() + seriesCount > maxSeries) {
+            // keep the tag keys, as some registries (e.g. Prometheus) require the same tag keys for all series
+            List<Tag> overflowKey = key.stream()
+                    .map(tag -> (Tag) new ImmutableTag(tag.getKey(), QueryTagPolicy.OVERFLOW_VALUE))
+                    .collect(ImmutableList.toImmutableList());
+            M overflowMeter = metersByTags.computeIfAbsent(overflowKey, k -> register.apply(name, k));
+            if (overflowAliases.get() < maxSeries && metersByTags.putIfAbsent(key, overflowMeter) == null) {
+                overflowAliases.incrementAndGet();
+            }
+            return overflowMeter;
+        }
+
+        return metersByTags.computeIfAbsent(key, k -> {
+            series.addAndGet(seriesCount);
+            return register.apply(name, k);
+        });
     }
 
+    private static final class StatusCounters {
+        final Counter succeeded;
+
+        final Counter failed;
+
+        StatusCounters(Counter succeeded, Counter failed) {
+            this.succeeded = succeeded;
+            this.failed = failed;
+        }
+    }
 }
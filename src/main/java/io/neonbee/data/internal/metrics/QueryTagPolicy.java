@@ -0,0 +1,149 @@
+package io.neonbee.data.internal.metrics;
+
+import static java.util.stream.Collectors.joining;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.google.common.annotations.VisibleForTesting;
+
+import io.micrometer.core.instrument.ImmutableTag;
+import io.micrometer.core.instrument.Tag;
+import io.neonbee.data.DataQuery;
+
+/**
+ * Decides how the query of a data request is tagged in the request metrics of a {@link io.neonbee.data.DataVerticle}.
+ * <p>
+ * Every distinct tag value creates a new time series in the meter registry. To bound the number of series, only the
+ * first {@code maxValues} distinct values are tagged as is, any further value is tagged as {@link #OVERFLOW_VALUE}.
+ */
+public final class QueryTagPolicy {
+    /**
+     * The name of the query tag.
+     */
+    public static final String QUERY_TAG = "query";
+
+    /**
+     * The value the query is tagged with, if the maximum number of distinct values has been reached.
+     */
+    public static final String OVERFLOW_VALUE = "_other";
+
+    /**
+     * The default maximum number of distinct query tag values.
+     */
+    public static final int DEFAULT_MAX_VALUES = 100;
+
+    /**
+     * A policy which never tags the query.
+     */
+    public static final QueryTagPolicy NONE = new QueryTagPolicy(Mode.NONE, 0);
+
+    private static final List<Tag> OVERFLOW_TAGS = List.of(new ImmutableTag(QUERY_TAG, OVERFLOW_VALUE));
+
+    private final Mode mode;
+
+    private final int maxValues;
+
+    private final Map<String, List<Tag>> tagsByValue = new ConcurrentHashMap<>();
+
+    /**
+     * The modes how to tag a query.
+     */
+    public enum Mode {
+        /**
+         * Do not tag the query at all.
+         */
+        NONE,
+
+        /**
+         * Tag the raw query string, including all parameter values.
+         */
+        RAW,
+
+        /**
+         * Tag the sorted parameter names of the query with all values replaced by {@code ?}, so that e.g.
+         * {@code $top=10&$filter=ID eq 1} and {@code $filter=ID eq 2&$top=20} share the {@code $filter=?&$top=?} tag.
+         */
+        TEMPLATE;
+
+        /**
+         * Parses a mode, ignoring the case.
+         *
+         * @param value the value to parse
+         * @return the mode
+         * @throws IllegalArgumentException if the value is no known mode
+         */
+        public static Mode parse(String value) {
+            return valueOf(value.toUpperCase(Locale.ROOT));
+        }
+    }
+
+    /**
+     * Creates a new query tag policy.
+     *
+     * @param mode      how to tag the query
+     * @param maxValues the maximum number of distinct tag values, or zero or less for no limit
+     */
+    public QueryTagPolicy(Mode mode, int maxValues) {
+        this.mode = mode;
+        this.maxValues = maxValues;
+    }
+
+    /**
+     * Returns the tags of a query.
+     *
+     * @param query the query to tag, may be null
+     * @return the tags of the query, empty if the query is not tagged
+     */
+    public List<Tag> tags(DataQuery query) {
+        if (mode == Mode.NONE || query == null || query.getParameters().isEmpty()) {
+            return List.of();
+        }
+
+        String value = mode == Mode.TEMPLATE ? template(query) : query.getRawQuery();
+        if (value.isEmpty()) {
+            return List.of();
+        }
+
+        List<Tag> tags = tagsByValue.get(value);
+        if (tags != null) {
+            return tags;
+        } else if (maxValues > 0 && tagsByValue.size() >= maxValues) {
+            return OVERFLOW_TAGS;
+        }
+
+        // the limit can be exceeded by concurrent requests slightly, which is fine to avoid locking
+        return tagsByValue.computeIfAbsent(value, key -> List.of(new ImmutableTag(QUERY_TAG, key)));
+    }
+
+    /**
+     * Returns the template of a query, which are the sorted parameter names with all values replaced by {@code ?}.
+     *
+     * @param query the query
+     * @return the template of the query
+     */
+    @VisibleForTesting
+    static String template(DataQuery query) {
+        return query.getParameters().keySet().stream().sorted().map(name -> name + "=?").collect(joining("&"));
+    }
+
+    /**
+     * Returns the mode of this policy.
+     *
+     * @return the mode
+     */
+    public Mode getMode() {
+        return mode;
+    }
+
+    /**
+     * Returns the maximum number of distinct tag values.
+     *
+     * @return the maximum number of distinct tag values, zero or less for no limit
+     */
+    public int getMaxValues() {
+        return maxValues;
+    }
+}
@@ -47,6 +47,7 @@ public class MetricsEndpoint implements Endpoint {
     public Future<Router> createEndpointRouter(Vertx vertx, String basePath, JsonObject config) {
         addRegistry(vertx);
         return succeededFuture(createRouter(vertx, new PrometheusScrapingHandler(
-                config.getString("registryName", NeonBee.get(vertx).getOptions().getMetricsRegistryName()))));
+                config.getString("registryName", NeonBee.get(vertx).getOptions().getMetricsRegistryName()),
+                config.getBoolean("compression", true))));
     }
 }
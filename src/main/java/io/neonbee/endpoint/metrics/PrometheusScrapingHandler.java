@@ -1,11 +1,26 @@
 package io.neonbee.endpoint.metrics;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.GZIPOutputStream;
+
+import com.google.common.annotations.VisibleForTesting;
+
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
 import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
 import io.neonbee.logging.LoggingFacade;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufOutputStream;
+import io.netty.buffer.Unpooled;
 import io.netty.handler.codec.http.HttpResponseStatus;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.internal.buffer.BufferInternal;
 import io.vertx.ext.web.RoutingContext;
 import io.vertx.micrometer.backends.BackendRegistries;
 import io.vertx.micrometer.impl.PrometheusScrapingHandlerImpl;
@@ -14,6 +29,10 @@ import io.vertx.micrometer.impl.PrometheusScrapingHandlerImpl;
  * A Vert.x Web {@link io.vertx.ext.web.Route} handler for Prometheus metrics scraping.
  * <p>
  * The original Implementation doesn't work with {@link CompositeMeterRegistry}. This implementation fixes this.
+ * <p>
+ * The scrape is written directly into a buffer on a worker thread, so that large registries do not block the event
+ * loop. Concurrent scrapes are coalesced: requests arriving while a scrape is in progress are answered with the result
+ * of that scrape. If the client accepts it, the scrape is gzip compressed (on the worker thread as well).
  */
 public class PrometheusScrapingHandler extends PrometheusScrapingHandlerImpl {
     /**
@@ -23,17 +42,28 @@ public class PrometheusScrapingHandler extends PrometheusScrapingHandlerImpl {
 
     private static final LoggingFacade LOGGER = LoggingFacade.create();
 
+    private static final String GZIP = "gzip";
+
+    private static final int INITIAL_SCRAPE_SIZE = 64 * 1024;
+
     /**
      * The name of the micrometer registry to use for scraping. If null, the default registry will be used.
      */
     private final String registryName;
 
+    private final boolean compression;
+
+    private final AtomicReference<Future<Buffer>> plainScrape = new AtomicReference<>();
+
+    private final AtomicReference<Future<Buffer>> compressedScrape = new AtomicReference<>();
+
     /**
      * Constructs a new instance of NeonBeePrometheusHandler.
      */
     public PrometheusScrapingHandler() {
         super();
         registryName = null;
+        compression = true;
     }
 
     /**
@@ -42,8 +72,19 @@ public class PrometheusScrapingHandler extends PrometheusScrapingHandlerImpl {
      * @param registryName The name of the micrometer registry
      */
     public PrometheusScrapingHandler(String registryName) {
+        this(registryName, true);
+    }
+
+    /**
+     * Constructs a new instance of NeonBeePrometheusHandler.
+     *
+     * @param registryName The name of the micrometer registry
+     * @param compression  whether to gzip compress the scrape, if accepted by the client
+     */
+    public PrometheusScrapingHandler(String registryName, boolean compression) {
         super(registryName);
         this.registryName = registryName;
+        this.compression = compression;
     }
 
     private static void noPrometheusMeterRegistryPresent(RoutingContext rc) {
@@ -52,8 +93,69 @@ public class PrometheusScrapingHandler extends PrometheusScrapingHandlerImpl {
                 .setStatusMessage("Could not find a PrometheusMeterRegistry").end();
     }
 
-    private static void handleWithPrometheusMeterRegistry(RoutingContext rc, PrometheusMeterRegistry pmr) {
-        rc.response().putHeader(HttpHeaders.CONTENT_TYPE, PROMETHEUS_TEXT_FORMAT_CONTENT_TYPE).end(pmr.scrape());
+    private void handleWithPrometheusMeterRegistry(RoutingContext rc, PrometheusMeterRegistry pmr) {
+        boolean compress = compression && acceptsGzip(rc.request().getHeader(HttpHeaders.ACCEPT_ENCODING));
+        scrape(rc.vertx(), pmr, compress).onSuccess(scrape -> {
+            rc.response().putHeader(HttpHeaders.CONTENT_TYPE, PROMETHEUS_TEXT_FORMAT_CONTENT_TYPE);
+            if (compression) {
+                // the encoding depends on the request, so shared caches must not serve it to other clients
+                rc.response().putHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+            }
+            if (compress) {
+                rc.response().putHeader(HttpHeaders.CONTENT_ENCODING, GZIP);
+            }
+            rc.response().end(scrape);
+        }).onFailure(rc::fail);
+    }
+
+    /**
+     * Scrapes the registry on a worker thread, or joins the scrape currently in progress.
+     *
+     * @param vertx    the Vert.x instance to execute the scrape on
+     * @param pmr      the registry to scrape
+     * @param compress whether to gzip compress the scrape
+     * @return a future to the scrape
+     */
+    @VisibleForTesting
+    Future<Buffer> scrape(Vertx vertx, PrometheusMeterRegistry pmr, boolean compress) {
+        AtomicReference<Future<Buffer>> inProgress = compress ? compressedScrape : plainScrape;
+        Promise<Buffer> promise = Promise.promise();
+        Future<Buffer> scrape = inProgress.compareAndExchange(null, promise.future());
+        if (scrape != null) {
+            return scrape;
+        }
+
+        vertx.executeBlocking(() -> scrapeToBuffer(pmr, compress), false).onComplete(result -> {
+            // reset before completing, so that requests arriving from now on trigger a new scrape
+            inProgress.set(null);
+            promise.handle(result);
+        });
+        return promise.future();
+    }
+
+    private static Buffer scrapeToBuffer(PrometheusMeterRegistry pmr, boolean compress) throws IOException {
+        ByteBuf byteBuf = Unpooled.buffer(INITIAL_SCRAPE_SIZE);
+        try (OutputStream output = compress ? new GZIPOutputStream(new ByteBufOutputStream(byteBuf))
+                : new ByteBufOutputStream(byteBuf)) {
+            pmr.scrape(output);
+        }
+        return BufferInternal.buffer(byteBuf);
+    }
+
+    @VisibleForTesting
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+
+        for (String encoding : acceptEncoding.split(",")) {
+            String[] parameters = encoding.split(";");
+            if (GZIP.equalsIgnoreCase(parameters[0].trim())) {
+                // a quality value of zero explicitly states that the encoding is not acceptable
+                return parameters.length == 1 || !parameters[1].trim().matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
     }
 
     @Override
@@ -31,6 +31,7 @@ import io.neonbee.NeonBee;
 import io.neonbee.config.EndpointConfig;
 import io.neonbee.endpoint.Endpoint;
 import io.neonbee.endpoint.odatav4.internal.olingo.OlingoEndpointHandler;
+import io.neonbee.endpoint.odatav4.internal.olingo.processor.BatchRequestScheduler;
 import io.neonbee.entity.EntityModel;
 import io.neonbee.internal.RegexBlockList;
 import io.neonbee.internal.SharedDataAccessor;
@@ -66,6 +67,10 @@ public class ODataV4Endpoint implements Endpoint {
 
     private static final String NORMALIZED_URI_CONTEXT_KEY = ODataV4Endpoint.class.getName() + "_normalizedUri";
 
+    // limits the requests of all $batch requests to this endpoint, independent of the service requested, the scheduler
+    // is shared by the endpoint instances of all server verticle instances
+    private BatchRequestScheduler batchScheduler;
+
     /**
      * Either STRICT (&lt;namespace&gt;.&lt;service&gt;), LOOSE (&lt;path mapping of namespace&gt;-&lt;path mapping of
      * service&gt;) or CDS (&lt;path mapping of service&gt;) URI mapping:
@@ -194,6 +199,9 @@ public class ODataV4Endpoint implements Endpoint {
         // matched against the full qualified name of the entity in question (URI conversion is applied by NeonBee).
         RegexBlockList exposedEntities = RegexBlockList.fromJson(config.getValue("exposedEntities"));
 
+        // the number of requests sent concurrently for the parts of $batch requests, per batch and for all batches
+        batchScheduler = BatchRequestScheduler.getShared(vertx, getClass().getName() + basePath, config);
+
         // Register the event bus consumer first, otherwise it could happen that during initialization we are missing an
         // update to the data model, a refresh of the router will only be triggered in case it is already initialized.
         // This is a NON-local consumer, this means the reload could be triggered from anywhere, however currently the
@@ -283,6 +291,11 @@ public class ODataV4Endpoint implements Endpoint {
                     .sorted(Map.Entry.comparingByKey(Comparator.comparingInt(String::length).reversed()))
                     .forEach(entryConsumer((uriPath, edmxModel) -> {
                         String schemaNamespace = edmxModel.getEdm().getEntityContainer().getNamespace();
+                        Handler<RoutingContext> requestHandler = getRequestHandler(edmxModel, uriConversion, config);
+                        if (requestHandler instanceof OlingoEndpointHandler olingoEndpointHandler) {
+                            // the model was (re-)loaded, render the metadata documents ahead of the first request
+                            olingoEndpointHandler.renderMetadataDocuments(vertx);
+                        }
                         router.route((uriPath.isEmpty() ? EMPTY : ("/" + uriPath)) + "/*")
                                 // some entities should not get exposed, register a handler, checking the block list
                                 .handler(routingContext -> {
@@ -304,7 +317,7 @@ public class ODataV4Endpoint implements Endpoint {
                                     routingContext.next();
                                 })
                                 // TODO depending on the config either create Olingo or CDS based OData V4 handlers here
-                                .handler(getRequestHandler(edmxModel, uriConversion, config));
+                                .handler(requestHandler);
                         if (LOGGER.isInfoEnabled()) {
                             LOGGER.info("Serving OData service endpoint for {} at {}{} ({} URI mapping)",
                                     schemaNamespace, basePath, uriPath,
@@ -333,7 +346,8 @@ public class ODataV4Endpoint implements Endpoint {
      */
     protected Handler<RoutingContext> getRequestHandler(ServiceMetadata edmxModel, UriConversion uriConversion,
             JsonObject config) {
-        return new OlingoEndpointHandler(edmxModel);
+        return new OlingoEndpointHandler(edmxModel,
+                batchScheduler != null ? batchScheduler : BatchRequestScheduler.fromConfig(config));
     }
 
     /**
@@ -0,0 +1,334 @@
+package io.neonbee.endpoint.odatav4.internal.olingo;
+
+import static io.neonbee.endpoint.odatav4.ODataV4Endpoint.normalizeUri;
+import static io.neonbee.internal.helper.BufferHelper.inputStreamToBuffer;
+import static io.netty.handler.codec.http.HttpResponseStatus.NOT_MODIFIED;
+import static io.netty.handler.codec.http.HttpResponseStatus.OK;
+import static io.vertx.core.http.HttpHeaders.ACCEPT;
+import static io.vertx.core.http.HttpHeaders.ACCEPT_CHARSET;
+import static io.vertx.core.http.HttpHeaders.ETAG;
+import static io.vertx.core.http.HttpHeaders.IF_NONE_MATCH;
+
+import java.io.InputStream;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+
+import org.apache.olingo.commons.api.http.HttpHeader;
+import org.apache.olingo.commons.api.http.HttpMethod;
+import org.apache.olingo.server.api.OData;
+import org.apache.olingo.server.api.ODataRequest;
+import org.apache.olingo.server.api.ODataResponse;
+import org.apache.olingo.server.api.ServiceMetadata;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.Hashing;
+
+import io.neonbee.endpoint.odatav4.ODataV4Endpoint.NormalizedUri;
+import io.neonbee.logging.LoggingFacade;
+import io.vertx.core.Future;
+import io.vertx.core.MultiMap;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * A cache of the rendered metadata and service documents of one OData service.
+ * <p>
+ * Both documents only change if the models are reloaded, which always results in a new {@link OlingoEndpointHandler}
+ * and thus in a new cache. Every document is rendered once per format by Olingo itself (so that the content and
+ * headers are exactly the same as if the request would have been processed by Olingo) and is afterwards served from
+ * an immutable buffer, with a strong ETag. Requests which cannot be answered unambiguously from the cache (e.g. due to
+ * a complex content negotiation or additional query options), are not handled by the cache.
+ */
+final class MetadataDocumentCache {
+    @VisibleForTesting
+    static final String METADATA_PATH = "/$metadata";
+
+    /**
+     * The service document depends on the base URI of the request, limit the number of documents cached for different
+     * base URIs (e.g. different hosts the service is called with).
+     */
+    @VisibleForTesting
+    static final int MAX_CACHED_DOCUMENTS = 32;
+
+    private static final LoggingFacade LOGGER = LoggingFacade.create();
+
+    private final ServiceMetadata serviceMetadata;
+
+    private final Cache<DocumentKey, Future<Document>> documents =
+            CacheBuilder.newBuilder().maximumSize(MAX_CACHED_DOCUMENTS).build();
+
+    MetadataDocumentCache(ServiceMetadata serviceMetadata) {
+        this.serviceMetadata = serviceMetadata;
+    }
+
+    /**
+     * Renders the metadata document of the service in all supported formats, so that the first request to the
+     * metadata document can already be served from the cache.
+     *
+     * @param vertx the Vert.x instance to render the documents with
+     * @return a future which completes when the documents have been rendered
+     */
+    Future<Void> renderMetadataDocuments(Vertx vertx) {
+        return Future.join(List.of(getDocument(vertx, new DocumentKey(DocumentType.METADATA, Format.XML, null)),
+                getDocument(vertx, new DocumentKey(DocumentType.METADATA, Format.JSON, null)))).mapEmpty();
+    }
+
+    /**
+     * Returns the key of the cached document that answers the given request, if the request is a plain GET request to
+     * the metadata or service document.
+     *
+     * @param routingContext the routing context of the request
+     * @return the key of the document to serve, or null if the request cannot be served from the cache
+     */
+    DocumentKey getDocumentKey(RoutingContext routingContext) {
+        HttpServerRequest request = routingContext.request();
+        if (serviceMetadata == null || request.method() != io.vertx.core.http.HttpMethod.GET) {
+            return null;
+        }
+
+        NormalizedUri normalizedUri = normalizeUri(routingContext, getSchemaNamespace());
+        DocumentType type;
+        if (METADATA_PATH.equals(normalizedUri.resourcePath)) {
+            type = DocumentType.METADATA;
+        } else if ("/".equals(normalizedUri.resourcePath) || normalizedUri.resourcePath.isEmpty()) {
+            type = DocumentType.SERVICE;
+        } else {
+            return null;
+        }
+
+        Format format = negotiateFormat(normalizedUri.requestQuery, request.headers(), type.defaultFormat);
+        if (format == null) {
+            return null;
+        }
+
+        // the metadata document does not depend on the base URI, the service document might
+        return new DocumentKey(type, format, type == DocumentType.SERVICE ? normalizedUri.baseUri : null);
+    }
+
+    /**
+     * Returns the document for the given key, rendering it on a worker thread, if it was not rendered before.
+     *
+     * @param vertx the Vert.x instance to render the document with
+     * @param key   the key of the document
+     * @return a future to the rendered document, or a future to null in case Olingo did not render the document
+     *         successfully (in this case the request must be processed by Olingo to get the error response)
+     */
+    Future<Document> getDocument(Vertx vertx, DocumentKey key) {
+        Future<Document> document;
+        try {
+            document = documents.get(key, () -> {
+                Future<Document> rendered = vertx.executeBlocking(() -> renderDocument(key), false);
+                // do not cache failed renderings, so that a transient error does not fail all subsequent requests
+                rendered.onFailure(throwable -> documents.asMap().remove(key, rendered));
+                return rendered;
+            });
+        } catch (ExecutionException e) {
+            return Future.failedFuture(e.getCause());
+        }
+
+        if (document.failed()) {
+            // the rendering might have failed before the future was put into the cache
+            documents.asMap().remove(key, document);
+        }
+        return document;
+    }
+
+    @VisibleForTesting
+    Document renderDocument(DocumentKey key) throws Exception { // NOPMD Olingo may throw any exception
+        String schemaNamespace = getSchemaNamespace();
+        String baseUri = key.baseUri != null ? key.baseUri : "/";
+        String path = key.type == DocumentType.METADATA ? METADATA_PATH : "/";
+
+        ODataRequest odataRequest = new ODataRequest();
+        odataRequest.setMethod(HttpMethod.GET);
+        odataRequest.addHeader(HttpHeader.ACCEPT, key.format.contentType);
+        odataRequest.setRawBaseUri(baseUri);
+        odataRequest.setRawServiceResolutionUri(schemaNamespace);
+        odataRequest.setRawODataPath(path);
+        odataRequest.setRawQueryPath("");
+        odataRequest.setRawRequestUri(baseUri + schemaNamespace + path);
+
+        // no processors need to be registered, the metadata and service documents are served by Olingo's default one
+        ODataResponse odataResponse = OData.newInstance().createRawHandler(serviceMetadata).process(odataRequest);
+        if (odataResponse.getStatusCode() != OK.code() || odataResponse.getContent() == null) {
+            if (LOGGER.isWarnEnabled()) {
+                LOGGER.warn("Failed to render {} document of {} as {}, got status code {}", key.type, schemaNamespace,
+                        key.format, odataResponse.getStatusCode());
+            }
+            return null;
+        }
+
+        Buffer content;
+        try (InputStream contentStream = odataResponse.getContent()) {
+            content = inputStreamToBuffer(contentStream);
+        }
+        return new Document(odataResponse.getAllHeaders(), content);
+    }
+
+    private String getSchemaNamespace() {
+        return serviceMetadata.getEdm().getEntityContainer().getNamespace();
+    }
+
+    /**
+     * Determines the format of the requested document. Only plain requests are considered, meaning requests w/o query
+     * options other than $format and w/o an Accept header or an Accept header with a single media type w/o parameters.
+     *
+     * @param requestQuery  the query of the request
+     * @param headers       the headers of the request
+     * @param defaultFormat the default format of the document
+     * @return the format or null if the format cannot be determined unambiguously
+     */
+    @VisibleForTesting
+    static Format negotiateFormat(String requestQuery, MultiMap headers, Format defaultFormat) {
+        if (headers.contains(ACCEPT_CHARSET)) {
+            return null;
+        }
+
+        if (!requestQuery.isEmpty()) {
+            String[] option = requestQuery.split("=", 2);
+            return option.length == 2 && "$format".equals(option[0]) ? Format.byName(option[1]) : null;
+        }
+
+        List<String> accept = headers.getAll(ACCEPT);
+        if (accept.isEmpty()) {
+            return defaultFormat;
+        } else if (accept.size() > 1) {
+            return null;
+        }
+
+        String mediaType = accept.get(0).trim().toLowerCase(Locale.ROOT);
+        return mediaType.isEmpty() || "*/*".equals(mediaType) ? defaultFormat : Format.byName(mediaType);
+    }
+
+    /**
+     * Checks whether any of the entity tags of the If-None-Match header matches the given entity tag.
+     *
+     * @param ifNoneMatch the value of the If-None-Match header
+     * @param etag        the strong entity tag of the document
+     * @return true if the entity tag matches
+     */
+    @VisibleForTesting
+    static boolean matchesETag(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+
+        for (String tag : ifNoneMatch.split(",")) {
+            String trimmedTag = tag.trim();
+            // If-None-Match uses the weak comparison function, so also consider weak tags
+            if (trimmedTag.startsWith("W/")) {
+                trimmedTag = trimmedTag.substring(2);
+            }
+            if ("*".equals(trimmedTag) || etag.equals(trimmedTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    enum DocumentType {
+        METADATA(Format.XML), SERVICE(Format.JSON);
+
+        private final Format defaultFormat;
+
+        DocumentType(Format defaultFormat) {
+            this.defaultFormat = defaultFormat;
+        }
+    }
+
+    enum Format {
+        XML("application/xml"), JSON("application/json");
+
+        private final String contentType;
+
+        Format(String contentType) {
+            this.contentType = contentType;
+        }
+
+        static Format byName(String name) {
+            switch (name) {
+            case "xml", "application/xml":
+                return XML;
+            case "json", "application/json":
+                return JSON;
+            default:
+                return null;
+            }
+        }
+    }
+
+    static final class DocumentKey {
+        final DocumentType type;
+
+        final Format format;
+
+        final String baseUri;
+
+        DocumentKey(DocumentType type, Format format, String baseUri) {
+            this.type = type;
+            this.format = format;
+            this.baseUri = baseUri;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof DocumentKey other && type == other.type && format == other.format
+                    && Objects.equals(baseUri, other.baseUri);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(type, format, baseUri);
+        }
+    }
+
+    static final class Document {
+        final Map<String, List<String>> headers;
+
+        final Buffer content;
+
+        final String etag;
+
+        private final List<String> odataVersion;
+
+        Document(Map<String, List<String>> headers, Buffer content) {
+            this.headers = Map.copyOf(headers);
+            this.content = content;
+            this.etag = '"' + Hashing.murmur3_128().hashBytes(content.getBytes()).toString() + '"';
+            this.odataVersion = headers.entrySet().stream()
+                    .filter(header -> HttpHeader.ODATA_VERSION.equalsIgnoreCase(header.getKey())).findAny()
+                    .map(Map.Entry::getValue).orElse(null);
+        }
+
+        /**
+         * Sends the document, or a 304 Not Modified response in case the client provided a matching ETag. The content
+         * buffer is shared between all responses, it is never modified and the underlying byte buffer is duplicated
+         * when written.
+         *
+         * @param routingContext the routing context to send the document to
+         * @return a future which completes when the response was sent
+         */
+        Future<Void> send(RoutingContext routingContext) {
+            HttpServerResponse response = routingContext.response();
+            if (matchesETag(routingContext.request().getHeader(IF_NONE_MATCH), etag)) {
+                if (odataVersion != null) {
+                    response.putHeader(HttpHeader.ODATA_VERSION, odataVersion);
+                }
+                return response.setStatusCode(NOT_MODIFIED.code()).putHeader(ETAG, etag).end();
+            }
+
+            for (Map.Entry<String, List<String>> header : headers.entrySet()) {
+                response.putHeader(header.getKey(), header.getValue());
+            }
+            return response.setStatusCode(OK.code()).putHeader(ETAG, etag).end(content);
+        }
+    }
+}
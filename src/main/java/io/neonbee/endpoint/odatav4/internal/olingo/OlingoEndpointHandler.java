@@ -3,6 +3,8 @@ package io.neonbee.endpoint.odatav4.internal.olingo;
 import static io.neonbee.endpoint.odatav4.ODataV4Endpoint.normalizeUri;
 import static io.neonbee.internal.helper.BufferHelper.inputStreamToBuffer;
 import static io.netty.handler.codec.http.HttpResponseStatus.INTERNAL_SERVER_ERROR;
+import static io.vertx.core.Future.failedFuture;
+import static io.vertx.core.Future.succeededFuture;
 import static org.apache.olingo.server.core.ODataHandlerException.MessageKeys.AMBIGUOUS_XHTTP_METHOD;
 import static org.apache.olingo.server.core.ODataHandlerException.MessageKeys.HTTP_METHOD_NOT_ALLOWED;
 import static org.apache.olingo.server.core.ODataHandlerException.MessageKeys.INVALID_HTTP_METHOD;
@@ -12,12 +14,14 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.olingo.commons.api.ex.ODataRuntimeException;
 import org.apache.olingo.commons.api.http.HttpHeader;
 import org.apache.olingo.commons.api.http.HttpMethod;
 import org.apache.olingo.server.api.OData;
 import org.apache.olingo.server.api.ODataApplicationException;
+import org.apache.olingo.server.api.ODataContent;
 import org.apache.olingo.server.api.ODataHandler;
 import org.apache.olingo.server.api.ODataLibraryException;
 import org.apache.olingo.server.api.ODataRequest;
@@ -29,10 +33,14 @@ import com.google.common.annotations.VisibleForTesting;
 
 import io.neonbee.endpoint.odatav4.ODataV4Endpoint.NormalizedUri;
 import io.neonbee.endpoint.odatav4.internal.olingo.processor.BatchProcessor;
+import io.neonbee.endpoint.odatav4.internal.olingo.processor.BatchRequestScheduler;
+import io.neonbee.endpoint.odatav4.internal.olingo.processor.BatchResponseContent;
 import io.neonbee.endpoint.odatav4.internal.olingo.processor.CountEntityCollectionProcessor;
 import io.neonbee.endpoint.odatav4.internal.olingo.processor.EntityProcessor;
 import io.neonbee.endpoint.odatav4.internal.olingo.processor.PrimitiveProcessor;
 import io.neonbee.internal.helper.BufferHelper.BufferInputStream;
+import io.neonbee.internal.helper.BufferHelper.WriteStreamOutputStream;
+import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
@@ -42,19 +50,77 @@ import io.vertx.core.http.HttpServerResponse;
 import io.vertx.ext.web.RoutingContext;
 
 public final class OlingoEndpointHandler implements Handler<RoutingContext> {
+    /**
+     * The size of the chunks, streamed OData content is written to the response with.
+     */
+    @VisibleForTesting
+    static final int STREAMING_CHUNK_SIZE = 64 * 1024;
+
+    /**
+     * The time in milliseconds to wait for a slow client to read streamed OData content, before the response is reset.
+     * Streaming blocks a worker thread while waiting, so the wait is bounded, to not exhaust the worker pool.
+     */
+    @VisibleForTesting
+    static final long STREAMING_DRAIN_TIMEOUT_MILLIS = TimeUnit.SECONDS.toMillis(30);
+
     private final ServiceMetadata serviceMetadata;
 
+    private final MetadataDocumentCache metadataDocuments;
+
+    private final BatchRequestScheduler batchScheduler;
+
     /**
      * Returns the OlingoEndpointHandler.
      *
      * @param serviceMetadata The metadata of the service
      */
     public OlingoEndpointHandler(ServiceMetadata serviceMetadata) {
+        this(serviceMetadata, new BatchRequestScheduler());
+    }
+
+    /**
+     * Returns the OlingoEndpointHandler.
+     *
+     * @param serviceMetadata The metadata of the service
+     * @param batchScheduler  The scheduler for the requests of $batch requests, shared by all handlers of an endpoint
+     */
+    public OlingoEndpointHandler(ServiceMetadata serviceMetadata, BatchRequestScheduler batchScheduler) {
         this.serviceMetadata = serviceMetadata;
+        this.metadataDocuments = new MetadataDocumentCache(serviceMetadata);
+        this.batchScheduler = batchScheduler;
+    }
+
+    /**
+     * Renders the metadata documents of the service ahead of the first request, so that even the first request to the
+     * $metadata document can be served w/o processing the request by Olingo.
+     *
+     * @param vertx The Vert.x instance to render the documents with
+     * @return A future which completes when the documents have been rendered
+     */
+    public Future<Void> renderMetadataDocuments(Vertx vertx) {
+        return serviceMetadata != null ? metadataDocuments.renderMetadataDocuments(vertx) : succeededFuture();
     }
 
     @Override
     public void handle(RoutingContext routingContext) {
+        // the metadata and service documents only change with the model, serve them from the cache if possible
+        MetadataDocumentCache.DocumentKey documentKey = metadataDocuments.getDocumentKey(routingContext);
+        if (documentKey == null) {
+            process(routingContext);
+            return;
+        }
+
+        metadataDocuments.getDocument(routingContext.vertx(), documentKey).onComplete(asyncDocument -> {
+            if (asyncDocument.succeeded() && asyncDocument.result() != null) {
+                asyncDocument.result().send(routingContext);
+            } else {
+                // let Olingo process the request, in order to respond with the appropriate error
+                process(routingContext);
+            }
+        });
+    }
+
+    private void process(RoutingContext routingContext) {
         // In case the OData request is asynchronously processed, the processor will complete the processPromise when
         // done, in case Olingo handles the request synchronously, the processPromise will be completed here
         Vertx vertx = routingContext.vertx();
@@ -66,7 +132,7 @@ public final class OlingoEndpointHandler implements Handler<RoutingContext> {
             // add further built-in processors for NeonBee here (every processor must handle the processPromise)
             odataHandler.register(new CountEntityCollectionProcessor(vertx, routingContext, processPromise));
             odataHandler.register(new EntityProcessor(vertx, routingContext, processPromise));
-            odataHandler.register(new BatchProcessor(vertx, routingContext, processPromise));
+            odataHandler.register(new BatchProcessor(vertx, routingContext, processPromise, batchScheduler));
             odataHandler.register(new PrimitiveProcessor(vertx, routingContext, processPromise));
 
             ODataResponse odataResponse = odataHandler.process(mapToODataRequest(routingContext,
@@ -96,12 +162,16 @@ public final class OlingoEndpointHandler implements Handler<RoutingContext> {
                     return;
                 }
 
-                try {
-                    // map the odataResponse to the routingContext.response
-                    mapODataResponse(odataResponse, routingContext.response());
-                } catch (IOException | ODataRuntimeException e) {
-                    routingContext.fail(-1, e);
-                }
+                // map the odataResponse to the routingContext.response, streamed content is written incrementally
+                HttpServerResponse response = routingContext.response();
+                mapODataResponse(vertx, odataResponse, routingContext).onFailure(throwable -> {
+                    if (!response.headWritten()) {
+                        routingContext.fail(-1, throwable);
+                    } else {
+                        // parts of the response have been written already, the only option left is to reset it
+                        response.reset();
+                    }
+                });
             });
         });
     }
@@ -221,20 +291,64 @@ public final class OlingoEndpointHandler implements Handler<RoutingContext> {
     }
 
     /**
-     * Maps a ODataResponse to a existing Vert.x HttpServerResponse.
+     * Maps a ODataResponse to a existing Vert.x HttpServerResponse. In case the ODataResponse contains streamed OData
+     * content (e.g. a serialized entity collection), the content gets written to the HttpServerResponse incrementally
+     * on a worker thread, using chunked transfer encoding and respecting the back pressure of the response. The
+     * content of batch responses is written part by part, as soon as the parts are done. Any other content is mapped
+     * using {@link #mapODataResponse(ODataResponse, HttpServerResponse)}.
+     *
+     * @param vertx          The Vert.x instance to write the streamed content with
+     * @param odataResponse  The ODataResponse to map
+     * @param routingContext The context of the request, whose HttpServerResponse to map to
+     * @return A future which completes when the response was fully written
+     */
+    public static Future<Void> mapODataResponse(Vertx vertx, ODataResponse odataResponse,
+            RoutingContext routingContext) {
+        HttpServerResponse response = routingContext.response();
+        ODataContent odataContent = odataResponse.getODataContent();
+        if (odataContent == null) {
+            try {
+                mapODataResponse(odataResponse, response);
+                return succeededFuture();
+            } catch (IOException | ODataRuntimeException e) {
+                return failedFuture(e);
+            }
+        }
+
+        mapODataResponseHeaders(odataResponse, response);
+        response.setChunked(true);
+
+        if (odataContent instanceof BatchResponseContent batchContent) {
+            // batch responses are written part by part, as soon as the parts are done, w/o blocking any thread
+            return batchContent.write(response).compose(nothing -> response.end());
+        }
+
+        WriteStreamOutputStream output =
+                new WriteStreamOutputStream(response, STREAMING_CHUNK_SIZE, STREAMING_DRAIN_TIMEOUT_MILLIS);
+        // the end handlers of the routing context fail, in case the connection was closed before the response ended.
+        // don't set a close handler on the response, as it would replace the one set by the routing context
+        routingContext.addEndHandler(result -> {
+            if (result.failed()) {
+                output.cancel(result.cause());
+            }
+        });
+        return vertx.<Void>executeBlocking(() -> {
+            odataContent.write(output);
+            output.flush();
+            return null;
+        }, false).compose(nothing -> response.end());
+    }
+
+    /**
+     * Maps a ODataResponse to a existing Vert.x HttpServerResponse. The content of the ODataResponse is read into a
+     * buffer completely, before writing it to the HttpServerResponse.
      *
      * @param odataResponse The ODataResponse to map
      * @param response      The HttpServerResponse to map to
      * @throws IOException IOException
      */
     public static void mapODataResponse(ODataResponse odataResponse, HttpServerResponse response) throws IOException {
-        // status code and headers
-        response.setStatusCode(odataResponse.getStatusCode());
-        for (Map.Entry<String, List<String>> entry : odataResponse.getAllHeaders().entrySet()) {
-            for (String headerValue : entry.getValue()) {
-                response.putHeader(entry.getKey(), headerValue);
-            }
-        }
+        mapODataResponseHeaders(odataResponse, response);
         // OData response content
         if (odataResponse.getContent() != null) {
             try (InputStream content = odataResponse.getContent()) {
@@ -248,4 +362,14 @@ public final class OlingoEndpointHandler implements Handler<RoutingContext> {
             response.end(); // no content (e.g. for update / delete requests)
         }
     }
+
+    private static void mapODataResponseHeaders(ODataResponse odataResponse, HttpServerResponse response) {
+        // status code and headers
+        response.setStatusCode(odataResponse.getStatusCode());
+        for (Map.Entry<String, List<String>> entry : odataResponse.getAllHeaders().entrySet()) {
+            for (String headerValue : entry.getValue()) {
+                response.putHeader(entry.getKey(), headerValue);
+            }
+        }
+    }
 }
@@ -0,0 +1,490 @@
+package io.neonbee.endpoint.odatav4.internal.olingo.expression;
+
+import static io.neonbee.endpoint.odatav4.internal.olingo.edm.EdmHelper.throwNotImplementedODataException;
+import static java.lang.Boolean.TRUE;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import org.apache.olingo.commons.api.data.Entity;
+import org.apache.olingo.commons.api.data.Property;
+import org.apache.olingo.commons.api.edm.EdmEnumType;
+import org.apache.olingo.commons.api.edm.EdmProperty;
+import org.apache.olingo.commons.api.edm.EdmType;
+import org.apache.olingo.server.api.ODataApplicationException;
+import org.apache.olingo.server.api.uri.UriResource;
+import org.apache.olingo.server.api.uri.UriResourceProperty;
+import org.apache.olingo.server.api.uri.queryoption.FilterOption;
+import org.apache.olingo.server.api.uri.queryoption.expression.BinaryOperatorKind;
+import org.apache.olingo.server.api.uri.queryoption.expression.Expression;
+import org.apache.olingo.server.api.uri.queryoption.expression.ExpressionVisitException;
+import org.apache.olingo.server.api.uri.queryoption.expression.ExpressionVisitor;
+import org.apache.olingo.server.api.uri.queryoption.expression.Literal;
+import org.apache.olingo.server.api.uri.queryoption.expression.Member;
+import org.apache.olingo.server.api.uri.queryoption.expression.MethodKind;
+import org.apache.olingo.server.api.uri.queryoption.expression.UnaryOperatorKind;
+
+import io.neonbee.endpoint.odatav4.internal.olingo.edm.EdmHelper;
+import io.neonbee.endpoint.odatav4.internal.olingo.expression.operands.ExpressionVisitorOperand;
+import io.neonbee.endpoint.odatav4.internal.olingo.expression.operators.BinaryOperator;
+import io.neonbee.endpoint.odatav4.internal.olingo.expression.operators.DateFunctionMethodCallOperator;
+import io.neonbee.endpoint.odatav4.internal.olingo.expression.operators.StringFunctionMethodCallOperator;
+import io.neonbee.endpoint.odatav4.internal.olingo.expression.operators.UnaryOperator;
+import io.neonbee.logging.LoggingFacade;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * A $filter expression, which was compiled once into a tree of pre-resolved nodes and can be applied to any number of
+ * entities afterwards.
+ * <p>
+ * In contrast to the {@link FilterExpressionVisitor}, which walks the Olingo expression tree once per entity, the
+ * compiled expression resolves the operators and method calls, parses and types all literals, binds the property
+ * paths and evaluates all constant sub-expressions only once. Evaluating the expression for an entity only reads the
+ * bound properties and applies the pre-resolved operators. The results are equal to the ones of the
+ * {@link FilterExpressionVisitor}, except that the boolean {@code and} / {@code or} operators short-circuit, in case
+ * the result is already determined by their left operand.
+ */
+public final class CompiledFilterExpression {
+    private static final LoggingFacade LOGGER = LoggingFacade.create();
+
+    private final Node root;
+
+    private CompiledFilterExpression(Node root) {
+        this.root = root;
+    }
+
+    /**
+     * Compiles the expression of a given filter option.
+     *
+     * @param routingContext the current routingContext
+     * @param filterOption   the filter option to compile
+     * @return the compiled filter expression
+     * @throws ODataApplicationException if the expression contains any operator or method which is not supported
+     * @throws ExpressionVisitException  if the expression cannot be visited
+     */
+    public static CompiledFilterExpression compile(RoutingContext routingContext, FilterOption filterOption)
+            throws ODataApplicationException, ExpressionVisitException {
+        return compile(routingContext, filterOption.getExpression());
+    }
+
+    /**
+     * Compiles a given filter expression.
+     *
+     * @param routingContext the current routingContext
+     * @param expression     the expression to compile
+     * @return the compiled filter expression
+     * @throws ODataApplicationException if the expression contains any operator or method which is not supported
+     * @throws ExpressionVisitException  if the expression cannot be visited
+     */
+    public static CompiledFilterExpression compile(RoutingContext routingContext, Expression expression)
+            throws ODataApplicationException, ExpressionVisitException {
+        return new CompiledFilterExpression(expression.accept(new Compiler(routingContext)));
+    }
+
+    /**
+     * Evaluates the compiled expression for a given entity.
+     *
+     * @param entity the entity to evaluate the expression for
+     * @return the resulting operand
+     * @throws ODataApplicationException if the evaluation of the expression fails
+     */
+    public ExpressionVisitorOperand evaluate(Entity entity) throws ODataApplicationException {
+        return root.evaluate(entity);
+    }
+
+    /**
+     * Checks whether a given entity matches the compiled expression.
+     *
+     * @param entity the entity to test
+     * @return true if the expression evaluates to true for the given entity
+     * @throws ODataApplicationException if the evaluation of the expression fails
+     */
+    public boolean test(Entity entity) throws ODataApplicationException {
+        return TRUE.equals(root.evaluate(entity).getValue());
+    }
+
+    /**
+     * Checks whether the compiled expression does not depend on any property of the entities.
+     *
+     * @return true if the expression was completely evaluated during compilation
+     */
+    public boolean isConstant() {
+        return root instanceof Constant;
+    }
+
+    @FunctionalInterface
+    private interface Node {
+        ExpressionVisitorOperand evaluate(Entity entity) throws ODataApplicationException;
+    }
+
+    /**
+     * An operation applying a pre-resolved operator to the operands of its {@link Apply} node.
+     */
+    @FunctionalInterface
+    private interface Operation {
+        ExpressionVisitorOperand apply() throws ODataApplicationException;
+    }
+
+    /**
+     * Resolves the operator of an operation once at compile time, binding it to the argument holders of the node.
+     */
+    @FunctionalInterface
+    private interface OperationFactory {
+        Operation resolve(List<ExpressionVisitorOperand> arguments);
+    }
+
+    @FunctionalInterface
+    private interface OperatorFunction<T> {
+        ExpressionVisitorOperand apply(T operator) throws ODataApplicationException;
+    }
+
+    /**
+     * A node which evaluates to the same operand for any entity.
+     */
+    private static final class Constant implements Node {
+        private final ExpressionVisitorOperand operand;
+
+        Constant(ExpressionVisitorOperand operand) {
+            this.operand = operand;
+        }
+
+        @Override
+        public ExpressionVisitorOperand evaluate(Entity entity) {
+            return operand;
+        }
+    }
+
+    /**
+     * A node applying a pre-resolved operation to the results of its child nodes. The argument holders and the operator
+     * are allocated once, so evaluating the node for an entity does not allocate any list or operator. Thus, as the
+     * compiled expression, a node must not be evaluated concurrently.
+     */
+    private static final class Apply implements Node {
+        private final Operation operation;
+
+        private final Node[] children;
+
+        private final ExpressionVisitorOperand[] operands;
+
+        Apply(OperationFactory operationFactory, List<Node> children) {
+            this.children = children.toArray(Node[]::new);
+            this.operands = new ExpressionVisitorOperand[this.children.length];
+            this.operation = operationFactory.resolve(Arrays.asList(operands));
+        }
+
+        @Override
+        public ExpressionVisitorOperand evaluate(Entity entity) throws ODataApplicationException {
+            for (int i = 0; i < children.length; i++) {
+                operands[i] = children[i].evaluate(entity);
+            }
+            return operation.apply();
+        }
+    }
+
+    /**
+     * A boolean {@code and} / {@code or} node, which does not evaluate its right operand, in case the result is
+     * already determined by its left operand.
+     */
+    private static final class ShortCircuit implements Node {
+        private final Apply apply;
+
+        private final Boolean shortCircuitValue;
+
+        ShortCircuit(Apply apply, Boolean shortCircuitValue) {
+            this.apply = apply;
+            this.shortCircuitValue = shortCircuitValue;
+        }
+
+        @Override
+        public ExpressionVisitorOperand evaluate(Entity entity) throws ODataApplicationException {
+            ExpressionVisitorOperand leftOperand = apply.children[0].evaluate(entity);
+            if (shortCircuitValue.equals(leftOperand.getValue()) && leftOperand.isBooleanType()) {
+                return leftOperand;
+            }
+            apply.operands[0] = leftOperand;
+            apply.operands[1] = apply.children[1].evaluate(entity);
+            return apply.operation.apply();
+        }
+    }
+
+    private static final class Compiler implements ExpressionVisitor<Node> {
+        private final RoutingContext routingContext;
+
+        Compiler(RoutingContext routingContext) {
+            this.routingContext = routingContext;
+        }
+
+        /**
+         * Creates a node applying the given operation. In case all children are constant, the operation is evaluated
+         * immediately and a constant node is returned instead. Errors during the evaluation of constant nodes are
+         * deferred to the evaluation of the expression, so that they only surface if any entity is filtered.
+         */
+        private Node apply(OperationFactory operationFactory, List<Node> children) {
+            Apply node = new Apply(operationFactory, children);
+            if (children.stream().allMatch(Constant.class::isInstance)) {
+                try {
+                    return new Constant(node.evaluate(null));
+                } catch (ODataApplicationException e) {
+                    LOGGER.correlateWith(routingContext).debug("Constant sub-expression could not be evaluated", e);
+                }
+            }
+            return node;
+        }
+
+        private Node binary(BinaryOperatorKind operator, OperationFactory operationFactory, Node left, Node right) {
+            Node node = apply(operationFactory, List.of(left, right));
+            if ((operator == BinaryOperatorKind.AND || operator == BinaryOperatorKind.OR)
+                    && node instanceof Apply applyNode) {
+                return new ShortCircuit(applyNode, operator == BinaryOperatorKind.OR);
+            }
+            return node;
+        }
+
+        @Override
+        public Node visitBinaryOperator(BinaryOperatorKind operator, Node left, List<Node> right)
+                throws ExpressionVisitException, ODataApplicationException {
+            if (BinaryOperatorKind.IN.equals(operator)) {
+                List<Node> children = new ArrayList<>(right.size() + 1);
+                children.add(left);
+                children.addAll(right);
+                return apply(arguments -> {
+                    BinaryOperator binaryOperator = new BinaryOperator(routingContext);
+                    List<ExpressionVisitorOperand> rightArguments = arguments.subList(1, arguments.size());
+                    return () -> binaryOperator.bind(arguments.get(0), rightArguments).inOperator();
+                }, children);
+            }
+            return throwNotImplemented();
+        }
+
+        @Override
+        public Node visitBinaryOperator(BinaryOperatorKind operator, Node left, Node right)
+                throws ExpressionVisitException, ODataApplicationException {
+            if (LOGGER.isTraceEnabled()) {
+                LOGGER.correlateWith(routingContext).trace("Operator: {}", operator);
+            }
+
+            OperationFactory operationFactory;
+            switch (operator) {
+            case AND:
+                operationFactory = binaryOperation(BinaryOperator::andOperator);
+                break;
+            case OR:
+                operationFactory = binaryOperation(BinaryOperator::orOperator);
+                break;
+            case EQ:
+                operationFactory = binaryOperation(BinaryOperator::equalsOperator);
+                break;
+            case NE:
+                operationFactory = binaryOperation(BinaryOperator::notEqualsOperator);
+                break;
+            case GE:
+                operationFactory = binaryOperation(BinaryOperator::greaterEqualsOperator);
+                break;
+            case GT:
+                operationFactory = binaryOperation(BinaryOperator::greaterThanOperator);
+                break;
+            case LE:
+                operationFactory = binaryOperation(BinaryOperator::lessEqualsOperator);
+                break;
+            case LT:
+                operationFactory = binaryOperation(BinaryOperator::lessThanOperator);
+                break;
+            case IN:
+                operationFactory = binaryOperation(BinaryOperator::inOperator);
+                break;
+            default:
+                if (LOGGER.isDebugEnabled()) {
+                    LOGGER.correlateWith(routingContext).debug("Operator '{}' is not yet implemented.", operator);
+                }
+                return throwNotImplemented();
+            }
+            return binary(operator, operationFactory, left, right);
+        }
+
+        private OperationFactory binaryOperation(OperatorFunction<BinaryOperator> function) {
+            return arguments -> {
+                BinaryOperator binaryOperator = new BinaryOperator(routingContext);
+                return () -> function.apply(binaryOperator.bind(arguments.get(0), arguments.get(1)));
+            };
+        }
+
+        @Override
+        public Node visitLiteral(Literal literal) throws ExpressionVisitException, ODataApplicationException {
+            String literalText = EdmHelper.extractValueFromLiteral(literal.getText());
+            EdmType literalType = literal.getType();
+            if (LOGGER.isTraceEnabled()) {
+                LOGGER.correlateWith(routingContext).trace("literal type: {}, literal text: {}", literalType,
+                        literalText);
+            }
+
+            ExpressionVisitorOperand operand = new ExpressionVisitorOperand(routingContext, literalText, literalType);
+            try {
+                // parse the literal once, in case the typed operand is stable, meaning that typing it again (as done
+                // by all operators) results in the same operand, otherwise keep the literal as is
+                ExpressionVisitorOperand typedOperand = operand.setType();
+                if (typedOperand.setType() == typedOperand) {
+                    operand = typedOperand;
+                }
+            } catch (ODataApplicationException | RuntimeException e) {
+                LOGGER.correlateWith(routingContext).debug("Literal {} could not be typed", literalText, e);
+            }
+            return new Constant(operand);
+        }
+
+        @Override
+        public Node visitUnaryOperator(UnaryOperatorKind operator, Node operand)
+                throws ExpressionVisitException, ODataApplicationException {
+            if (UnaryOperatorKind.NOT.equals(operator)) {
+                return apply(arguments -> {
+                    UnaryOperator unaryOperator = new UnaryOperator(routingContext);
+                    return () -> unaryOperator.bind(arguments.get(0)).notOperation();
+                }, List.of(operand));
+            }
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.correlateWith(routingContext).debug("Unary Operator '{}' is not yet implemented.", operator);
+            }
+            return throwNotImplemented();
+        }
+
+        @Override
+        public Node visitMember(Member member) throws ExpressionVisitException, ODataApplicationException {
+            List<UriResource> uriResourceParts = member.getResourcePath().getUriResourceParts();
+            UriResource initialPart = uriResourceParts.get(0);
+            if (initialPart instanceof UriResourceProperty uriResourceProperty) {
+                // bind the property path once, only the value of the property is read from each entity
+                EdmProperty edmProperty = Optional.ofNullable(uriResourceProperty.getProperty()).orElseThrow();
+                String propertyName = edmProperty.getName();
+                EdmType propertyType = edmProperty.getType();
+                return entity -> {
+                    Property property = Optional.ofNullable(entity.getProperty(propertyName)).orElseThrow();
+                    if (property.isPrimitive()) {
+                        return new ExpressionVisitorOperand(routingContext, property.getValue(), propertyType,
+                                edmProperty);
+                    }
+                    return throwNotImplementedODataException();
+                };
+            }
+            return throwNotImplemented();
+        }
+
+        @Override
+        public Node visitMethodCall(MethodKind methodCall, List<Node> parameters)
+                throws ExpressionVisitException, ODataApplicationException {
+            if (LOGGER.isTraceEnabled()) {
+                LOGGER.correlateWith(routingContext).trace("Method Call: {}", methodCall);
+            }
+
+            OperationFactory operationFactory;
+            switch (methodCall) {
+            case ENDSWITH:
+                operationFactory = stringFunction(StringFunctionMethodCallOperator::endsWith);
+                break;
+            case INDEXOF:
+                operationFactory = stringFunction(StringFunctionMethodCallOperator::indexOf);
+                break;
+            case STARTSWITH:
+                operationFactory = stringFunction(StringFunctionMethodCallOperator::startsWith);
+                break;
+            case TOLOWER:
+                operationFactory = stringFunction(StringFunctionMethodCallOperator::toLower);
+                break;
+            case TOUPPER:
+                operationFactory = stringFunction(StringFunctionMethodCallOperator::toUpper);
+                break;
+            case TRIM:
+                operationFactory = stringFunction(StringFunctionMethodCallOperator::trim);
+                break;
+            case SUBSTRING:
+                operationFactory = stringFunction(StringFunctionMethodCallOperator::substring);
+                break;
+            case CONTAINS:
+                operationFactory = stringFunction(StringFunctionMethodCallOperator::contains);
+                break;
+            case CONCAT:
+                operationFactory = stringFunction(StringFunctionMethodCallOperator::concat);
+                break;
+            case LENGTH:
+                operationFactory = stringFunction(StringFunctionMethodCallOperator::length);
+                break;
+            case YEAR:
+                operationFactory = dateFunction(DateFunctionMethodCallOperator::year);
+                break;
+            case MONTH:
+                operationFactory = dateFunction(DateFunctionMethodCallOperator::month);
+                break;
+            case DAY:
+                operationFactory = dateFunction(DateFunctionMethodCallOperator::day);
+                break;
+            case HOUR:
+                operationFactory = dateFunction(DateFunctionMethodCallOperator::hour);
+                break;
+            case MINUTE:
+                operationFactory = dateFunction(DateFunctionMethodCallOperator::minute);
+                break;
+            case SECOND:
+                operationFactory = dateFunction(DateFunctionMethodCallOperator::second);
+                break;
+            case FRACTIONALSECONDS:
+                operationFactory = dateFunction(DateFunctionMethodCallOperator::fractionalseconds);
+                break;
+            default:
+                if (LOGGER.isDebugEnabled()) {
+                    LOGGER.correlateWith(routingContext).debug("Method Call '{}' is not yet implemented.", methodCall);
+                }
+                return throwNotImplemented();
+            }
+            return apply(operationFactory, parameters);
+        }
+
+        private OperationFactory stringFunction(OperatorFunction<StringFunctionMethodCallOperator> function) {
+            return arguments -> {
+                // method call operators read their parameters when applied, so they are bound to the holders once
+                StringFunctionMethodCallOperator operator =
+                        new StringFunctionMethodCallOperator(routingContext, arguments);
+                return () -> function.apply(operator);
+            };
+        }
+
+        private OperationFactory dateFunction(OperatorFunction<DateFunctionMethodCallOperator> function) {
+            return arguments -> {
+                DateFunctionMethodCallOperator operator = new DateFunctionMethodCallOperator(routingContext, arguments);
+                return () -> function.apply(operator);
+            };
+        }
+
+        @Override
+        public Node visitTypeLiteral(EdmType type) throws ExpressionVisitException, ODataApplicationException {
+            return throwNotImplemented();
+        }
+
+        @Override
+        public Node visitAlias(String aliasName) throws ExpressionVisitException, ODataApplicationException {
+            return throwNotImplemented();
+        }
+
+        @Override
+        public Node visitEnum(EdmEnumType type, List<String> enumValues)
+                throws ExpressionVisitException, ODataApplicationException {
+            return throwNotImplemented();
+        }
+
+        @Override
+        public Node visitLambdaExpression(String lambdaFunction, String lambdaVariable, Expression expression)
+                throws ExpressionVisitException, ODataApplicationException {
+            return throwNotImplemented();
+        }
+
+        @Override
+        public Node visitLambdaReference(String variableName)
+                throws ExpressionVisitException, ODataApplicationException {
+            return throwNotImplemented();
+        }
+
+        private static Node throwNotImplemented() throws ODataApplicationException {
+            throwNotImplementedODataException();
+            return null;
+        }
+    }
+}
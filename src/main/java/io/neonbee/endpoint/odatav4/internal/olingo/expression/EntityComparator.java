@@ -1,9 +1,25 @@
 package io.neonbee.endpoint.odatav4.internal.olingo.expression;
 
+import static io.neonbee.endpoint.odatav4.internal.olingo.edm.EdmConstants.EDM_BINARY_JAVA_TYPES;
+import static io.neonbee.endpoint.odatav4.internal.olingo.edm.EdmConstants.EDM_BOOLEAN_JAVA_TYPES;
+import static io.neonbee.endpoint.odatav4.internal.olingo.edm.EdmConstants.EDM_DATE_TIMEOFDAY_DATETIMEOFFSET_JAVA_TYPES;
+import static io.neonbee.endpoint.odatav4.internal.olingo.edm.EdmConstants.EDM_DECIMAL_DURATION_JAVA_TYPES;
+import static io.neonbee.endpoint.odatav4.internal.olingo.edm.EdmConstants.EDM_GUID_JAVA_TYPES;
+import static io.neonbee.endpoint.odatav4.internal.olingo.edm.EdmConstants.EDM_INT16_INT32_INT64_BYTE_SBYTE_JAVA_TYPES;
+import static io.neonbee.endpoint.odatav4.internal.olingo.edm.EdmConstants.EDM_SINGLE_DOUBLE_JAVA_TYPES;
+import static io.neonbee.endpoint.odatav4.internal.olingo.edm.EdmConstants.EDM_STRING_JAVA_TYPES;
+
+import java.lang.reflect.Array;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Time;
 import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
 
 import org.apache.olingo.commons.api.data.Entity;
 import org.apache.olingo.commons.api.edm.EdmPrimitiveTypeKind;
+import org.apache.olingo.commons.api.http.HttpStatusCode;
 import org.apache.olingo.server.api.ODataApplicationException;
 
 import io.neonbee.endpoint.odatav4.internal.olingo.edm.EdmHelper;
@@ -59,4 +75,96 @@ public class EntityComparator implements Comparator<Entity>, EntityComparison {
         // If the requested sort order is 'desc' reverse the order
         return isDescending ? -compareResult : compareResult;
     }
+
+    /**
+     * Extracts the sort key of an entity. The sort key is the value of the sort property, converted into a comparable
+     * representation according to the type of the property. Extracting the keys once per entity and comparing them
+     * with {@link #compareSortKeys(Object, Object)} avoids converting the property values on every comparison.
+     *
+     * @param entity the entity to extract the sort key from
+     * @return the sort key of the entity, or null if the value of the sort property is null
+     */
+    Object extractSortKey(Entity entity) {
+        Object value = entity.getProperty(sortPropertyName).getValue();
+        if (value == null) {
+            return null;
+        }
+
+        switch (propertyTypeKind) {
+        case Binary:
+            // order by binary size, same as in comparePropertyValues
+            return toSortKey(EDM_BINARY_JAVA_TYPES, value, () -> Array.getLength(value));
+        case Int16, Int32, Int64, Byte, SByte:
+            return toSortKey(EDM_INT16_INT32_INT64_BYTE_SBYTE_JAVA_TYPES, value,
+                    () -> value instanceof BigInteger ? value : new BigInteger(String.valueOf(value)));
+        case Decimal, Duration:
+            return toSortKey(EDM_DECIMAL_DURATION_JAVA_TYPES, value, () -> toBigDecimal(value));
+        case Single, Double:
+            return toSortKey(EDM_SINGLE_DOUBLE_JAVA_TYPES, value, () -> toBigDecimal(value));
+        case Date, TimeOfDay, DateTimeOffset:
+            return toSortKey(EDM_DATE_TIMEOFDAY_DATETIMEOFFSET_JAVA_TYPES, value,
+                    () -> value instanceof Time time ? time.getTime()
+                            : dateTimeObjectToInstant(routingContext, value).toEpochMilli());
+        case Boolean:
+            return toSortKey(EDM_BOOLEAN_JAVA_TYPES, value, () -> value);
+        case String:
+            return toSortKey(EDM_STRING_JAVA_TYPES, value, () -> value);
+        case Guid:
+            return toSortKey(EDM_GUID_JAVA_TYPES, value, () -> value);
+        default:
+            throw new IllegalArgumentException(
+                    new ODataApplicationException("Error during comparison of entity properties.",
+                            HttpStatusCode.INTERNAL_SERVER_ERROR.getStatusCode(), Locale.ENGLISH));
+        }
+    }
+
+    /**
+     * Compares two sort keys, previously extracted with {@link #extractSortKey(Entity)} by this comparator.
+     *
+     * @param key1 the first sort key
+     * @param key2 the second sort key
+     * @return a negative integer, zero, or a positive integer as the first key is less than, equal to, or greater than
+     *         the second key, with respect to the requested sort order
+     */
+    @SuppressWarnings("unchecked")
+    int compareSortKeys(Object key1, Object key2) {
+        // Sort null values last in case of 'asc' order
+        if (key1 == null) {
+            return (key2 == null) ? 0 : (isDescending ? -1 : 1);
+        } else if (key2 == null) {
+            return isDescending ? 1 : -1;
+        }
+
+        int compareResult = key1 instanceof String string ? string.compareToIgnoreCase((String) key2)
+                : ((Comparable<Object>) key1).compareTo(key2);
+
+        // If the requested sort order is 'desc' reverse the order
+        return isDescending ? -compareResult : compareResult;
+    }
+
+    private Object toSortKey(List<Class<?>> expectedTypes, Object value, SortKeyConverter converter) {
+        if (instanceOfExpectedType(expectedTypes, value)) {
+            try {
+                return converter.convert();
+            } catch (Exception e) {
+                LOGGER.correlateWith(routingContext).error(e.getMessage(), e);
+            }
+        }
+        throw createAndLogException(routingContext, expectedTypes, value, value, sortPropertyName);
+    }
+
+    private static BigDecimal toBigDecimal(Object value) {
+        if (value instanceof BigDecimal bigDec) {
+            return bigDec;
+        } else if (value instanceof BigInteger bigInt) {
+            return new BigDecimal(bigInt);
+        } else {
+            return new BigDecimal(String.valueOf(value));
+        }
+    }
+
+    @FunctionalInterface
+    private interface SortKeyConverter {
+        Object convert() throws Exception; // NOPMD the converters may throw any exception
+    }
 }
@@ -1,8 +1,11 @@
 package io.neonbee.endpoint.odatav4.internal.olingo.expression;
 
-import java.util.Collections;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
+import java.util.PriorityQueue;
 
 import org.apache.olingo.commons.api.data.Entity;
 import org.apache.olingo.commons.api.edm.EdmProperty;
@@ -33,9 +36,68 @@ public final class OrderExpressionExecutor implements EntityComparison {
      */
     public static List<Entity> executeOrderOption(RoutingContext routingContext, OrderByOption orderByOption,
             List<Entity> entityList) {
+        List<EntityComparator> comparators = createComparators(routingContext, orderByOption);
+        if (comparators.isEmpty() || entityList.size() < 2) {
+            return entityList;
+        }
 
+        SortEntry[] entries = extractSortEntries(comparators, entityList);
         // Sorts the list in 'asc' order by default e.g. in the case that nothing is specified
-        Collections.sort(entityList, new EntityChainedComparator(orderByOption.getOrders().stream()
+        Arrays.sort(entries, sortEntryComparator(comparators));
+        for (int i = 0; i < entries.length; i++) {
+            entityList.set(i, entries[i].entity);
+        }
+        return entityList;
+    }
+
+    /**
+     * Creates new EntityComparators based on the passed order options and returns the first entities of the passed list
+     * in the requested order. In case the limit is smaller than the size of the passed list, only the first entities
+     * are selected using a bounded heap, instead of sorting the whole list. The passed list remains unchanged.
+     *
+     * @param routingContext the current routingContent
+     * @param orderByOption  the orderByOption
+     * @param entityList     the list of entities to order
+     * @param limit          the maximum number of entities to return, e.g. the sum of $skip and $top
+     * @return a new list with at most limit entities in the requested order
+     */
+    public static List<Entity> executeOrderOption(RoutingContext routingContext, OrderByOption orderByOption,
+            List<Entity> entityList, int limit) {
+        if (limit >= entityList.size()) {
+            return executeOrderOption(routingContext, orderByOption, new ArrayList<>(entityList));
+        }
+
+        List<EntityComparator> comparators = createComparators(routingContext, orderByOption);
+        if (comparators.isEmpty() || limit <= 0) {
+            return new ArrayList<>(entityList.subList(0, Math.max(0, limit)));
+        }
+
+        // Keep the smallest entries in a max heap, the head of the heap is the largest entry selected so far
+        Comparator<SortEntry> comparator = sortEntryComparator(comparators);
+        PriorityQueue<SortEntry> heap = new PriorityQueue<>(limit, comparator.reversed());
+        int index = 0;
+        for (Entity entity : entityList) {
+            SortEntry entry = new SortEntry(entity, extractSortKeys(comparators, entity), index++);
+            if (heap.size() < limit) {
+                heap.add(entry);
+            } else if (comparator.compare(entry, heap.peek()) < 0) {
+                heap.poll();
+                heap.add(entry);
+            }
+        }
+
+        SortEntry[] entries = heap.toArray(SortEntry[]::new);
+        Arrays.sort(entries, comparator);
+        List<Entity> result = new ArrayList<>(entries.length);
+        for (SortEntry entry : entries) {
+            result.add(entry.entity);
+        }
+        return result;
+    }
+
+    private static List<EntityComparator> createComparators(RoutingContext routingContext,
+            OrderByOption orderByOption) {
+        return orderByOption.getOrders().stream()
                 .filter(orderByItem -> orderByItem.getExpression() instanceof Member).map(orderByItem -> {
                     /*
                      * See https://docs.oasis-open.org/odata/odata/v4.01/odata-v4.01-part2-url-conventions.html#
@@ -57,8 +119,55 @@ public final class OrderExpressionExecutor implements EntityComparison {
                         }
                     }
                     return null;
-                }).filter(Objects::nonNull).toList()));
+                }).filter(Objects::nonNull).toList();
+    }
 
-        return entityList;
+    private static SortEntry[] extractSortEntries(List<EntityComparator> comparators, List<Entity> entityList) {
+        SortEntry[] entries = new SortEntry[entityList.size()];
+        int index = 0;
+        for (Entity entity : entityList) {
+            entries[index] = new SortEntry(entity, extractSortKeys(comparators, entity), index);
+            index++;
+        }
+        return entries;
+    }
+
+    private static Object[] extractSortKeys(List<EntityComparator> comparators, Entity entity) {
+        Object[] keys = new Object[comparators.size()];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = comparators.get(i).extractSortKey(entity);
+        }
+        return keys;
+    }
+
+    /**
+     * Compares the sort keys of two entries, like the {@link EntityChainedComparator}. Entries with equal sort keys are
+     * ordered by their position in the original list, so that ordering stays stable.
+     */
+    private static Comparator<SortEntry> sortEntryComparator(List<EntityComparator> comparators) {
+        EntityComparator[] comparatorArray = comparators.toArray(EntityComparator[]::new);
+        return (entry1, entry2) -> {
+            for (int i = 0; i < comparatorArray.length; i++) {
+                int result = comparatorArray[i].compareSortKeys(entry1.keys[i], entry2.keys[i]);
+                if (result != 0) {
+                    return result;
+                }
+            }
+            return Integer.compare(entry1.index, entry2.index);
+        };
+    }
+
+    private static final class SortEntry {
+        private final Entity entity;
+
+        private final Object[] keys;
+
+        private final int index;
+
+        SortEntry(Entity entity, Object[] keys, int index) {
+            this.entity = entity;
+            this.keys = keys;
+            this.index = index;
+        }
     }
 }
@@ -25,15 +25,44 @@ public class BinaryOperator {
 
     private final RoutingContext routingContext;
 
-    private final ExpressionVisitorOperand leftOperand;
+    private ExpressionVisitorOperand leftOperand;
 
     private ExpressionVisitorOperand rightOperand;
 
     private List<ExpressionVisitorOperand> rightOperands;
 
+    /**
+     * Creates a new BinaryOperator w/o any operands. The operands must be bound before applying an operation, which
+     * allows to reuse the same operator for multiple evaluations, e.g. of a compiled filter expression.
+     *
+     * @param routingContext the current routingContext
+     */
+    public BinaryOperator(RoutingContext routingContext) {
+        this.routingContext = routingContext;
+    }
+
     public BinaryOperator(RoutingContext routingContext, ExpressionVisitorOperand leftOperand,
             List<ExpressionVisitorOperand> rightOperands) throws ODataApplicationException {
-        this.routingContext = routingContext;
+        this(routingContext);
+        bind(leftOperand, rightOperands);
+    }
+
+    public BinaryOperator(RoutingContext routingContext, ExpressionVisitorOperand leftOperand,
+            ExpressionVisitorOperand rightOperand) throws ODataApplicationException {
+        this(routingContext);
+        bind(leftOperand, rightOperand);
+    }
+
+    /**
+     * Binds the operands of the in operator.
+     *
+     * @param leftOperand   the left operand
+     * @param rightOperands the list of right operands
+     * @return this operator, to apply the operation on the bound operands
+     * @throws ODataApplicationException In case that the type of the left operand can't be set
+     */
+    public final BinaryOperator bind(ExpressionVisitorOperand leftOperand,
+            List<ExpressionVisitorOperand> rightOperands) throws ODataApplicationException {
         this.rightOperands = rightOperands.stream().map(operand -> {
             try {
                 return operand.setType();
@@ -43,17 +72,26 @@ public class BinaryOperator {
             return null;
         }).filter(Objects::nonNull).toList();
         this.leftOperand = leftOperand.setType();
+        return this;
     }
 
-    public BinaryOperator(RoutingContext routingContext, ExpressionVisitorOperand leftOperand,
-            ExpressionVisitorOperand rightOperand) throws ODataApplicationException {
-        this.routingContext = routingContext;
+    /**
+     * Binds the operands of any binary operation.
+     *
+     * @param leftOperand  the left operand
+     * @param rightOperand the right operand
+     * @return this operator, to apply the operation on the bound operands
+     * @throws ODataApplicationException In case that the type of any operand can't be set
+     */
+    public final BinaryOperator bind(ExpressionVisitorOperand leftOperand, ExpressionVisitorOperand rightOperand)
+            throws ODataApplicationException {
         this.leftOperand = leftOperand.setType().normalizeTypes(rightOperand.setType());
         this.rightOperand = rightOperand.setType().normalizeTypes(leftOperand);
         if (LOGGER.isTraceEnabled()) {
             LOGGER.correlateWith(routingContext).trace("leftOperand: {}", leftOperand);
             LOGGER.correlateWith(routingContext).trace("rightOperand: {}", rightOperand);
         }
+        return this;
     }
 
     @Override
@@ -16,7 +16,17 @@ public class UnaryOperator {
 
     private final RoutingContext routingContext;
 
-    private final ExpressionVisitorOperand operand;
+    private ExpressionVisitorOperand operand;
+
+    /**
+     * Creates a new UnaryOperator w/o an operand. The operand must be bound before applying an operation, which allows
+     * to reuse the same operator for multiple evaluations, e.g. of a compiled filter expression.
+     *
+     * @param routingContext the current routingContext
+     */
+    public UnaryOperator(RoutingContext routingContext) {
+        this.routingContext = routingContext;
+    }
 
     /**
      * Creates a new UnaryOperator.
@@ -28,8 +38,21 @@ public class UnaryOperator {
      */
     public UnaryOperator(RoutingContext routingContext, ExpressionVisitorOperand operand)
             throws ODataApplicationException {
-        this.routingContext = routingContext;
+        this(routingContext);
+        bind(operand);
+    }
+
+    /**
+     * Binds the operand of the unary operation.
+     *
+     * @param operand the operand for the unary operation
+     * @return this operator, to apply the operation on the bound operand
+     * @throws ODataApplicationException In case that the type of the operand can't be set @see
+     *                                   {@link ExpressionVisitorOperand#setType()}.
+     */
+    public final UnaryOperator bind(ExpressionVisitorOperand operand) throws ODataApplicationException {
         this.operand = operand.setType();
+        return this;
     }
 
     @Override
@@ -63,6 +63,16 @@ public abstract class AsynchronousProcessor implements Processor {
         }
     }
 
+    /**
+     * Returns whether this processor processes a part of a batch request. Must be called after
+     * {@link #getProcessPromise()}.
+     *
+     * @return true if the processor was called in batch processing
+     */
+    protected boolean isBatchProcessing() {
+        return subProcessPromise != null;
+    }
+
     /**
      * The enterBatchProcessing method will return a processPromise (either the global one, or a sub-processPromise) and
      * push a new processing stack to the processingStack. After processing the returned future should be resolved, as
@@ -86,6 +96,16 @@ public abstract class AsynchronousProcessor implements Processor {
         return processingStack().pop();
     }
 
+    /**
+     * Returns the processFutures registered on the top of the processingStack so far, i.e. the processFutures of the
+     * batch processing entered last. The list is updated, whenever a new processFuture is registered.
+     *
+     * @return the list of processFutures registered so far
+     */
+    protected List<Future<Void>> getBatchProcessFutures() {
+        return requireNonNull(processingStack().peek(), "head of deque is empty");
+    }
+
     private static Deque<List<Future<Void>>> processingStack() {
         Context context = Vertx.currentContext();
         Deque<List<Future<Void>>> processingStack = context.get(PROCESSING_STACK);
@@ -1,8 +1,8 @@
 package io.neonbee.endpoint.odatav4.internal.olingo.processor;
 
 import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
+import static io.vertx.core.Future.succeededFuture;
 
-import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
@@ -15,13 +15,16 @@ import org.apache.olingo.server.api.ODataApplicationException;
 import org.apache.olingo.server.api.ODataLibraryException;
 import org.apache.olingo.server.api.ODataRequest;
 import org.apache.olingo.server.api.ODataResponse;
+import org.apache.olingo.server.api.ODataServerError;
 import org.apache.olingo.server.api.ServiceMetadata;
 import org.apache.olingo.server.api.batch.BatchFacade;
 import org.apache.olingo.server.api.deserializer.batch.BatchOptions;
 import org.apache.olingo.server.api.deserializer.batch.BatchRequestPart;
 import org.apache.olingo.server.api.deserializer.batch.ODataResponsePart;
-import org.apache.olingo.server.api.serializer.BatchSerializerException;
+import org.apache.olingo.server.api.serializer.SerializerException;
 
+import io.neonbee.endpoint.odatav4.internal.olingo.OlingoEndpointHandler;
+import io.neonbee.logging.LoggingFacade;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
@@ -31,17 +34,35 @@ import io.vertx.ext.web.RoutingContext;
         justification = "Common practice in Olingo to name the implementation of the processor same as the interface")
 public class BatchProcessor extends AsynchronousProcessor
         implements org.apache.olingo.server.api.processor.BatchProcessor {
+    private static final LoggingFacade LOGGER = LoggingFacade.create();
+
+    private final BatchRequestScheduler batchScheduler;
+
     private OData odata;
 
     /**
-     * Creates a new BatchProcessor.
+     * Creates a new BatchProcessor, which does not limit the number of requests sent concurrently.
      *
      * @param vertx          the related Vert.x instance
      * @param routingContext the routingContext of the related request
      * @param processPromise the promise to complete when data has been fetched
      */
     public BatchProcessor(Vertx vertx, RoutingContext routingContext, Promise<Void> processPromise) {
+        this(vertx, routingContext, processPromise, new BatchRequestScheduler(0, 0));
+    }
+
+    /**
+     * Creates a new BatchProcessor.
+     *
+     * @param vertx          the related Vert.x instance
+     * @param routingContext the routingContext of the related request
+     * @param processPromise the promise to complete when data has been fetched
+     * @param batchScheduler the scheduler for the requests of the batch parts
+     */
+    public BatchProcessor(Vertx vertx, RoutingContext routingContext, Promise<Void> processPromise,
+            BatchRequestScheduler batchScheduler) {
         super(vertx, routingContext, processPromise);
+        this.batchScheduler = batchScheduler;
     }
 
     @Override
@@ -62,33 +83,61 @@ public class BatchProcessor extends AsynchronousProcessor
         // by entering batch processing here, we'll enter a new processing phase
         Promise<Void> processPromise = enterBatchProcessing();
 
-        List<ODataResponsePart> responseParts = new ArrayList<>();
-        for (BatchRequestPart part : requestParts) {
-            responseParts.add(facade.handleBatchRequest(part));
+        // the processors send the requests of the parts through the batch, which limits the number of requests sent
+        // concurrently. identical read requests can only be sent once, if no change set could modify the data read
+        boolean deduplicate = requestParts.stream().noneMatch(BatchRequestPart::isChangeSet);
+        routingContext.put(BatchRequestScheduler.BATCH_CONTEXT_KEY, batchScheduler.newBatch(deduplicate));
+
+        // collect the processFutures registered while handling each part, to know when the response of a part is done
+        List<Future<Void>> processFutures = getBatchProcessFutures();
+        List<Future<ODataResponsePart>> responseParts = new ArrayList<>(requestParts.size());
+        try {
+            for (BatchRequestPart part : requestParts) {
+                int firstProcessFuture = processFutures.size();
+                ODataResponsePart responsePart = facade.handleBatchRequest(part);
+                List<Future<Void>> partProcessFutures =
+                        List.copyOf(processFutures.subList(firstProcessFuture, processFutures.size()));
+                responseParts.add(Future.all(partProcessFutures).map(responsePart)
+                        .recover(throwable -> succeededFuture(errorResponsePart(throwable))));
+            }
+        } finally {
+            routingContext.remove(BatchRequestScheduler.BATCH_CONTEXT_KEY);
         }
 
-        // wrap up the batch processing here, which will complete the current processing phase
-        Future.all(wrapUpBatchProcessing()).onComplete(resultHandler -> {
-            if (resultHandler.failed()) {
-                processPromise.fail(resultHandler.cause());
-                return;
-            }
+        // wrap up the batch processing here, the response parts are written as soon as they are done, so the current
+        // processing phase is completed right away, with a response streaming the multipart content
+        wrapUpBatchProcessing();
 
-            try {
-                String responseBoundary = "batch_" + UUID.randomUUID().toString();
-                InputStream responseContent =
-                        odata.createFixedFormatSerializer().batchResponse(responseParts, responseBoundary);
+        String responseBoundary = "batch_" + UUID.randomUUID().toString();
+        response.setHeader(HttpHeader.CONTENT_TYPE, ContentType.MULTIPART_MIXED + ";boundary=" + responseBoundary);
+        response.setODataContent(
+                new BatchResponseContent(odata.createFixedFormatSerializer(), responseBoundary, responseParts));
+        response.setStatusCode(HttpStatusCode.ACCEPTED.getStatusCode());
+        processPromise.complete();
+    }
 
-                response.setHeader(HttpHeader.CONTENT_TYPE,
-                        ContentType.MULTIPART_MIXED + ";boundary=" + responseBoundary);
-                response.setContent(responseContent);
-                response.setStatusCode(HttpStatusCode.ACCEPTED.getStatusCode());
+    private ODataResponsePart errorResponsePart(Throwable throwable) {
+        // the status line of the batch response is sent before all parts are done, so report failures in the parts.
+        // same as for any failed request of a change set, the failure is reported by a single response
+        int statusCode = OlingoEndpointHandler.getStatusCode(throwable);
+        ODataServerError serverError = new ODataServerError().setException(throwable)
+                .setStatusCode(statusCode > 0 ? statusCode : HttpStatusCode.INTERNAL_SERVER_ERROR.getStatusCode())
+                .setMessage(throwable.getMessage());
+        if (throwable instanceof ODataApplicationException odae) {
+            serverError.setCode(odae.getODataErrorCode()).setLocale(odae.getLocale());
+        }
 
-                processPromise.complete();
-            } catch (BatchSerializerException e) {
-                processPromise.fail(e);
-            }
-        });
+        ODataResponse errorResponse = new ODataResponse();
+        errorResponse.setStatusCode(serverError.getStatusCode());
+        try {
+            ContentType contentType = ContentType.JSON_NO_METADATA;
+            errorResponse.setContent(odata.createSerializer(contentType).error(serverError).getContent());
+            errorResponse.setHeader(HttpHeader.CONTENT_TYPE, contentType.toContentTypeString());
+        } catch (SerializerException e) {
+            // the status code of the part still reports the failure, even without an error document
+            LOGGER.correlateWith(routingContext).error("Failed to serialize the error of a batch part", e);
+        }
+        return new ODataResponsePart(errorResponse, false);
     }
 
     /**
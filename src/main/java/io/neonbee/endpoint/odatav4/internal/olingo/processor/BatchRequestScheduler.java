@@ -0,0 +1,326 @@
+package io.neonbee.endpoint.odatav4.internal.olingo.processor;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.function.Supplier;
+
+import org.apache.olingo.commons.api.data.ComplexValue;
+import org.apache.olingo.commons.api.data.Entity;
+import org.apache.olingo.commons.api.data.Property;
+
+import com.google.common.annotations.VisibleForTesting;
+
+import io.neonbee.data.DataAction;
+import io.neonbee.data.DataQuery;
+import io.neonbee.entity.EntityWrapper;
+import io.neonbee.internal.SharedDataAccessor;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.shareddata.LocalMap;
+import io.vertx.core.shareddata.Shareable;
+
+/**
+ * Schedules the requests sent for the parts of OData $batch requests.
+ * <p>
+ * The number of requests sent concurrently is limited per batch, as well as for all batches scheduled by the same
+ * scheduler (i.e. all batches of one endpoint, see {@link #getShared(Vertx, String, JsonObject)}). If a limit is
+ * reached, the requests are queued and sent in a round-robin order across all batches with queued requests, so that a
+ * batch with many parts cannot starve the other batches. Identical read requests of a batch without any change sets
+ * are only sent once.
+ * <p>
+ * As a scheduler is shared by all instances of an endpoint, a queued request may be dispatched by any thread that
+ * completes a request. Requests are therefore always sent on the context the batch was created on.
+ */
+public final class BatchRequestScheduler implements Shareable {
+    /**
+     * The key to configure the maximum number of requests sent concurrently for all batches of an endpoint.
+     */
+    public static final String CONFIG_MAX_CONCURRENT_REQUESTS = "batchMaxConcurrentRequests";
+
+    /**
+     * The key to configure the maximum number of requests sent concurrently for the parts of one batch.
+     */
+    public static final String CONFIG_MAX_CONCURRENT_REQUESTS_PER_BATCH = "batchMaxConcurrentRequestsPerBatch";
+
+    /**
+     * The default maximum number of requests sent concurrently for all batches of an endpoint.
+     */
+    public static final int DEFAULT_MAX_CONCURRENT_REQUESTS = 128;
+
+    /**
+     * The default maximum number of requests sent concurrently for the parts of one batch.
+     */
+    public static final int DEFAULT_MAX_CONCURRENT_REQUESTS_PER_BATCH = 16;
+
+    /**
+     * The key of the batch currently processed in the routing context.
+     */
+    static final String BATCH_CONTEXT_KEY = BatchRequestScheduler.class.getName() + "_batch";
+
+    private final int maxConcurrentRequests;
+
+    private final int maxConcurrentRequestsPerBatch;
+
+    // all batches with queued requests, in the order they are served next
+    private final Deque<Batch> pendingBatches = new ArrayDeque<>();
+
+    private int activeRequests;
+
+    /**
+     * Creates a new scheduler with the default limits.
+     */
+    public BatchRequestScheduler() {
+        this(DEFAULT_MAX_CONCURRENT_REQUESTS, DEFAULT_MAX_CONCURRENT_REQUESTS_PER_BATCH);
+    }
+
+    /**
+     * Creates a new scheduler.
+     *
+     * @param maxConcurrentRequests         the maximum number of requests sent concurrently for all batches, or zero /
+     *                                      a negative value for no limit
+     * @param maxConcurrentRequestsPerBatch the maximum number of requests sent concurrently for one batch, or zero / a
+     *                                      negative value for no limit
+     */
+    public BatchRequestScheduler(int maxConcurrentRequests, int maxConcurrentRequestsPerBatch) {
+        this.maxConcurrentRequests = maxConcurrentRequests;
+        this.maxConcurrentRequestsPerBatch = maxConcurrentRequestsPerBatch;
+    }
+
+    /**
+     * Creates a new scheduler with the limits of an endpoint configuration.
+     *
+     * @param config the endpoint configuration (may be null)
+     * @return a new scheduler
+     */
+    public static BatchRequestScheduler fromConfig(JsonObject config) {
+        if (config == null) {
+            return new BatchRequestScheduler();
+        }
+        return new BatchRequestScheduler(
+                config.getInteger(CONFIG_MAX_CONCURRENT_REQUESTS, DEFAULT_MAX_CONCURRENT_REQUESTS),
+                config.getInteger(CONFIG_MAX_CONCURRENT_REQUESTS_PER_BATCH, DEFAULT_MAX_CONCURRENT_REQUESTS_PER_BATCH));
+    }
+
+    /**
+     * Returns the scheduler shared by all instances of an endpoint (i.e. by all server verticle instances), creating it
+     * with the limits of the endpoint configuration, if no scheduler was created for the endpoint yet.
+     *
+     * @param vertx  the Vert.x instance
+     * @param name   the name of the endpoint, e.g. its base path
+     * @param config the endpoint configuration (may be null)
+     * @return the shared scheduler of the endpoint
+     */
+    public static BatchRequestScheduler getShared(Vertx vertx, String name, JsonObject config) {
+        LocalMap<String, BatchRequestScheduler> schedulers =
+                new SharedDataAccessor(vertx, BatchRequestScheduler.class).getLocalMap();
+        BatchRequestScheduler scheduler = schedulers.get(name);
+        if (scheduler == null) {
+            BatchRequestScheduler newScheduler = fromConfig(config);
+            scheduler = Optional.ofNullable(schedulers.putIfAbsent(name, newScheduler)).orElse(newScheduler);
+        }
+        return scheduler;
+    }
+
+    /**
+     * Starts scheduling the requests of a new batch.
+     *
+     * @param deduplicate true to send identical read requests of the batch only once
+     * @return the new batch
+     */
+    Batch newBatch(boolean deduplicate) {
+        return new Batch(deduplicate);
+    }
+
+    @VisibleForTesting
+    synchronized int getActiveRequests() {
+        return activeRequests;
+    }
+
+    private void dispatch() {
+        while (true) {
+            Runnable request;
+            synchronized (this) {
+                request = nextRequest();
+            }
+            if (request == null) {
+                return;
+            }
+            request.run();
+        }
+    }
+
+    // must be called holding the lock of the scheduler
+    private Runnable nextRequest() {
+        if (isLimited(maxConcurrentRequests) && activeRequests >= maxConcurrentRequests) {
+            return null;
+        }
+
+        for (int i = pendingBatches.size(); i > 0; i--) {
+            Batch batch = pendingBatches.poll();
+            if (isLimited(maxConcurrentRequestsPerBatch) && batch.activeRequests >= maxConcurrentRequestsPerBatch) {
+                pendingBatches.add(batch);
+                continue;
+            }
+
+            Runnable request = batch.queue.poll();
+            if (!batch.queue.isEmpty()) {
+                // serve the other batches first, before sending the next request of this batch
+                pendingBatches.add(batch);
+            }
+            batch.activeRequests++;
+            activeRequests++;
+            return request;
+        }
+        return null;
+    }
+
+    private void release(Batch batch) {
+        synchronized (this) {
+            batch.activeRequests--;
+            activeRequests--;
+        }
+        dispatch();
+    }
+
+    private static boolean isLimited(int limit) {
+        return limit > 0;
+    }
+
+    /**
+     * Copies the entities of a result for another part of the batch. Processors modify the entities of the result (e.g.
+     * when expanding them or when applying a $select), so every part needs its own copy of the entities and of their
+     * (complex and collection) properties. Primitive values are immutable or never modified and thus shared.
+     *
+     * @param entityWrapper the result to copy
+     * @return the copy of the result
+     */
+    @VisibleForTesting
+    static EntityWrapper copy(EntityWrapper entityWrapper) {
+        List<Entity> entities = new ArrayList<>(entityWrapper.getEntities().size());
+        for (Entity entity : entityWrapper.getEntities()) {
+            Entity copy = new Entity();
+            copy.setType(entity.getType());
+            copy.setId(entity.getId());
+            copy.setETag(entity.getETag());
+            copy.setBaseURI(entity.getBaseURI());
+            copy.setSelfLink(entity.getSelfLink());
+            copy.setEditLink(entity.getEditLink());
+            entity.getProperties().stream().map(BatchRequestScheduler::copy).forEach(copy.getProperties()::add);
+            copy.getNavigationLinks().addAll(entity.getNavigationLinks());
+            copy.getAssociationLinks().addAll(entity.getAssociationLinks());
+            copy.getOperations().addAll(entity.getOperations());
+            copy.getAnnotations().addAll(entity.getAnnotations());
+            entities.add(copy);
+        }
+        return new EntityWrapper(entityWrapper.getTypeName(), entities);
+    }
+
+    private static Property copy(Property property) {
+        Property copy = new Property(property.getType(), property.getName(), property.getValueType(),
+                copyValue(property.getValue()));
+        copy.getAnnotations().addAll(property.getAnnotations());
+        return copy;
+    }
+
+    private static Object copyValue(Object value) {
+        if (value instanceof ComplexValue complexValue) {
+            ComplexValue copy = new ComplexValue();
+            copy.setTypeName(complexValue.getTypeName());
+            complexValue.getValue().stream().map(BatchRequestScheduler::copy).forEach(copy.getValue()::add);
+            copy.getNavigationLinks().addAll(complexValue.getNavigationLinks());
+            copy.getAssociationLinks().addAll(complexValue.getAssociationLinks());
+            copy.getAnnotations().addAll(complexValue.getAnnotations());
+            return copy;
+        } else if (value instanceof List<?> values) {
+            List<Object> copy = new ArrayList<>(values.size());
+            values.forEach(element -> copy.add(copyValue(element)));
+            return copy;
+        }
+
+        return value;
+    }
+
+    /**
+     * The requests of one batch. The requests of a batch are scheduled by the thread processing the batch and are sent
+     * on the context the batch was created on.
+     */
+    final class Batch {
+        private final Queue<Runnable> queue = new ArrayDeque<>();
+
+        private final Map<DataQuery, Future<EntityWrapper>> readRequests;
+
+        private final Context context;
+
+        private int activeRequests;
+
+        private Batch(boolean deduplicate) {
+            this.readRequests = deduplicate ? new HashMap<>() : null;
+            this.context = Vertx.currentContext();
+        }
+
+        /**
+         * Schedules a request of the batch.
+         *
+         * @param query   the query of the request
+         * @param request sends the request
+         * @return a future completed with the result of the request
+         */
+        Future<EntityWrapper> schedule(DataQuery query, Supplier<Future<EntityWrapper>> request) {
+            if (readRequests == null || query.getAction() != DataAction.READ) {
+                return enqueue(request);
+            }
+
+            Future<EntityWrapper> identicalRequest = readRequests.get(query);
+            if (identicalRequest != null) {
+                return identicalRequest.map(BatchRequestScheduler::copy);
+            }
+
+            Future<EntityWrapper> result = enqueue(request);
+            readRequests.put(query, result);
+            return result;
+        }
+
+        private Future<EntityWrapper> enqueue(Supplier<Future<EntityWrapper>> request) {
+            Promise<EntityWrapper> promise = Promise.promise();
+            synchronized (BatchRequestScheduler.this) {
+                if (queue.isEmpty()) {
+                    pendingBatches.add(this);
+                }
+                queue.add(() -> runOnContext(() -> send(request, promise)));
+            }
+            dispatch();
+            return promise.future();
+        }
+
+        private void runOnContext(Runnable task) {
+            if (context == null || context == Vertx.currentContext()) {
+                task.run();
+            } else {
+                // dispatched by a request of another batch, which completed on another context
+                context.runOnContext(nothing -> task.run());
+            }
+        }
+
+        private void send(Supplier<Future<EntityWrapper>> request, Promise<EntityWrapper> promise) {
+            Future<EntityWrapper> result;
+            try {
+                result = request.get();
+            } catch (RuntimeException e) {
+                result = Future.failedFuture(e);
+            }
+            result.onComplete(asyncResult -> {
+                release(this);
+                promise.handle(asyncResult);
+            });
+        }
+    }
+}
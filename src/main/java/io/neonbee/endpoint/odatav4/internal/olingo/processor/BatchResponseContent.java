@@ -0,0 +1,124 @@
+package io.neonbee.endpoint.odatav4.internal.olingo.processor;
+
+import static io.vertx.core.Future.failedFuture;
+import static io.vertx.core.Future.succeededFuture;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+
+import org.apache.olingo.commons.api.ex.ODataRuntimeException;
+import org.apache.olingo.server.api.ODataContent;
+import org.apache.olingo.server.api.deserializer.batch.ODataResponsePart;
+import org.apache.olingo.server.api.serializer.BatchSerializerException;
+import org.apache.olingo.server.api.serializer.FixedFormatSerializer;
+
+import io.netty.buffer.Unpooled;
+import io.vertx.core.Future;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.internal.buffer.BufferInternal;
+import io.vertx.core.streams.WriteStream;
+
+/**
+ * The multipart content of a response to a $batch request, which is written part by part, as soon as the response of
+ * the part is available.
+ * <p>
+ * The parts are written in the order of the request, as required for multipart batch responses. Thus a part is written
+ * as soon as its response and the responses of all previous parts are available. Every part is serialized by Olingo on
+ * its own, so the multipart response is never materialized as a whole.
+ */
+public final class BatchResponseContent implements ODataContent {
+    private final FixedFormatSerializer serializer;
+
+    private final String boundary;
+
+    private final List<Future<ODataResponsePart>> responseParts;
+
+    private final byte[] closeDelimiter;
+
+    /**
+     * Creates a new batch response content.
+     *
+     * @param serializer    the serializer to serialize the response parts with
+     * @param boundary      the boundary of the multipart response
+     * @param responseParts the futures of the response parts, in the order of the request
+     * @throws BatchSerializerException if the close delimiter of the multipart response could not be serialized
+     */
+    public BatchResponseContent(FixedFormatSerializer serializer, String boundary,
+            List<Future<ODataResponsePart>> responseParts) throws BatchSerializerException {
+        this.serializer = serializer;
+        this.boundary = boundary;
+        this.responseParts = responseParts;
+        // an empty multipart response only consists of the close delimiter, which terminates every serialized part
+        this.closeDelimiter = readAllBytes(serializer.batchResponse(List.of(), boundary));
+    }
+
+    /**
+     * Writes the batch response to a write stream, w/o blocking the calling thread. Every part is written, as soon as
+     * the part and all previous parts completed.
+     *
+     * @param writeStream the write stream to write to
+     * @return a future completed, when the batch response was written completely
+     */
+    public Future<Void> write(WriteStream<Buffer> writeStream) {
+        Future<Void> written = succeededFuture();
+        for (Future<ODataResponsePart> responsePart : responseParts) {
+            written = written.compose(nothing -> responsePart).compose(part -> {
+                try {
+                    return writeStream.write(serializePart(part));
+                } catch (BatchSerializerException | ODataRuntimeException e) {
+                    return failedFuture(e);
+                }
+            });
+        }
+        return written.compose(nothing -> writeStream.write(Buffer.buffer(closeDelimiter)));
+    }
+
+    /**
+     * Writes the batch response to an output stream. This method blocks until all parts completed, thus it must not be
+     * called on an event loop thread, use {@link #write(WriteStream)} instead.
+     *
+     * @param stream the output stream to write to
+     */
+    @Override
+    public void write(OutputStream stream) {
+        try {
+            for (Future<ODataResponsePart> responsePart : responseParts) {
+                ODataResponsePart part = responsePart.toCompletionStage().toCompletableFuture().join();
+                stream.write(serializePart(part).getBytes());
+                stream.flush();
+            }
+            stream.write(closeDelimiter);
+        } catch (IOException | BatchSerializerException | CompletionException e) {
+            throw new ODataRuntimeException(e);
+        }
+    }
+
+    @Override
+    public void write(WritableByteChannel channel) {
+        write(Channels.newOutputStream(channel));
+    }
+
+    private Buffer serializePart(ODataResponsePart part) throws BatchSerializerException {
+        byte[] serialized = readAllBytes(serializer.batchResponse(List.of(part), boundary));
+        int length = serialized.length - closeDelimiter.length;
+        if (length < 0 || !Arrays.equals(serialized, length, serialized.length, closeDelimiter, 0,
+                closeDelimiter.length)) {
+            throw new ODataRuntimeException("Serialized batch response part is not terminated by a close delimiter");
+        }
+        return BufferInternal.buffer(Unpooled.wrappedBuffer(serialized, 0, length));
+    }
+
+    private static byte[] readAllBytes(InputStream content) {
+        try (content) {
+            return content.readAllBytes();
+        } catch (IOException e) {
+            throw new ODataRuntimeException(e);
+        }
+    }
+}
@@ -19,8 +19,10 @@ import static java.lang.Boolean.TRUE;
 import static java.util.Optional.ofNullable;
 
 import java.io.ByteArrayInputStream;
+import java.net.URI;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
 
@@ -28,6 +30,7 @@ import org.apache.olingo.commons.api.data.ContextURL;
 import org.apache.olingo.commons.api.data.ContextURL.Suffix;
 import org.apache.olingo.commons.api.data.Entity;
 import org.apache.olingo.commons.api.data.EntityCollection;
+import org.apache.olingo.commons.api.data.EntityIterator;
 import org.apache.olingo.commons.api.edm.EdmEntitySet;
 import org.apache.olingo.commons.api.edm.EdmEntityType;
 import org.apache.olingo.commons.api.ex.ODataException;
@@ -40,6 +43,7 @@ import org.apache.olingo.server.api.ODataRequest;
 import org.apache.olingo.server.api.ODataResponse;
 import org.apache.olingo.server.api.ServiceMetadata;
 import org.apache.olingo.server.api.serializer.EntityCollectionSerializerOptions;
+import org.apache.olingo.server.api.serializer.ODataSerializer;
 import org.apache.olingo.server.api.serializer.SerializerException;
 import org.apache.olingo.server.api.uri.UriInfo;
 import org.apache.olingo.server.api.uri.UriResource;
@@ -51,7 +55,7 @@ import org.apache.olingo.server.api.uri.queryoption.SkipOption;
 import org.apache.olingo.server.api.uri.queryoption.TopOption;
 import org.apache.olingo.server.api.uri.queryoption.expression.ExpressionVisitException;
 
-import io.neonbee.endpoint.odatav4.internal.olingo.expression.FilterExpressionVisitor;
+import io.neonbee.endpoint.odatav4.internal.olingo.expression.CompiledFilterExpression;
 import io.neonbee.endpoint.odatav4.internal.olingo.expression.OrderExpressionExecutor;
 import io.neonbee.entity.EntityWrapper;
 import io.neonbee.logging.LoggingFacade;
@@ -119,8 +123,18 @@ public class CountEntityCollectionProcessor extends AsynchronousProcessor
                         EdmEntitySet edmEntitySet =
                                 chooseEntitySet(resourceParts, uriResourceEntitySet.getEntitySet(), routingContext);
                         opts = createSerializerOptions(request, uriInfo, edmEntitySet);
-                        response.setContent(odata.createSerializer(responseFormat)
-                                .entityCollection(serviceMetadata, edmEntityType, entityCollection, opts).getContent());
+                        ODataSerializer serializer = odata.createSerializer(responseFormat);
+                        if (isBatchProcessing()) {
+                            // batch responses are assembled in memory anyways, there is no benefit of streaming
+                            response.setContent(serializer
+                                    .entityCollection(serviceMetadata, edmEntityType, entityCollection, opts)
+                                    .getContent());
+                        } else {
+                            // serialize the collection while writing it to the response, instead of materializing it
+                            response.setODataContent(serializer.entityCollectionStreamed(serviceMetadata,
+                                    edmEntityType, new EntityCollectionIterator(entityCollection), opts)
+                                    .getODataContent());
+                        }
                         response.setStatusCode(HttpStatusCode.OK.getStatusCode());
                         response.setHeader(HttpHeader.CONTENT_TYPE, responseFormat.toContentTypeString());
                         processPromise.complete();
@@ -148,17 +162,19 @@ public class CountEntityCollectionProcessor extends AsynchronousProcessor
                     return succeededFuture(resultEntityList);
                 }
 
+                boolean skipExecuted = TRUE.equals(routingContext.get(RESPONSE_HEADER_PREFIX + ODATA_SKIP_KEY));
+                boolean topExecuted = TRUE.equals(routingContext.get(RESPONSE_HEADER_PREFIX + ODATA_TOP_KEY));
+
                 boolean orderByExecuted = TRUE.equals(routingContext.get(RESPONSE_HEADER_PREFIX + ODATA_ORDER_BY_KEY));
                 if (!orderByExecuted) {
-                    applyOrderByQueryOption(uriInfo.getOrderByOption(), resultEntityList);
+                    resultEntityList = applyOrderByQueryOption(uriInfo.getOrderByOption(), resultEntityList,
+                            getOrderByLimit(uriInfo, skipExecuted, topExecuted));
                 }
 
-                boolean skipExecuted = TRUE.equals(routingContext.get(RESPONSE_HEADER_PREFIX + ODATA_SKIP_KEY));
                 if (!skipExecuted) {
                     resultEntityList = applySkipQueryOption(uriInfo.getSkipOption(), resultEntityList);
                 }
 
-                boolean topExecuted = TRUE.equals(routingContext.get(RESPONSE_HEADER_PREFIX + ODATA_TOP_KEY));
                 if (!topExecuted) {
                     resultEntityList = applyTopQueryOption(uriInfo.getTopOption(), resultEntityList);
                 }
@@ -212,21 +228,25 @@ public class CountEntityCollectionProcessor extends AsynchronousProcessor
         if (filterOption != null) {
             LOGGER.correlateWith(routingContext).debug("Applying filter expression on list of entities with size: {}",
                     unfilteredEntities.size());
+            LOGGER.correlateWith(routingContext).debug("filterOption name: {}, filterOption text: {}",
+                    filterOption.getName(), filterOption.getText());
             filteredEntities = new ArrayList<>();
-            for (Entity entity : unfilteredEntities) {
-                FilterExpressionVisitor filterExpressionVisitor = new FilterExpressionVisitor(routingContext, entity);
-                LOGGER.correlateWith(routingContext).debug("filterOption name: {}, filterOption text: {}",
-                        filterOption.getName(), filterOption.getText());
-                LOGGER.correlateWith(routingContext).debug("FilterExpressionVisitor for entity '{}' was created",
-                        entity);
-                try {
-                    if (TRUE.equals(filterOption.getExpression().accept(filterExpressionVisitor).getValue())) {
+            if (unfilteredEntities.isEmpty()) {
+                return filteredEntities;
+            }
+
+            try {
+                // compile the filter expression once and apply it to all entities afterwards
+                CompiledFilterExpression filterExpression =
+                        CompiledFilterExpression.compile(routingContext, filterOption);
+                for (Entity entity : unfilteredEntities) {
+                    if (filterExpression.test(entity)) {
                         filteredEntities.add(entity);
                     }
-                } catch (ODataApplicationException | ExpressionVisitException e) {
-                    LOGGER.correlateWith(routingContext).error("Exception in filter evaluation", e);
-                    throw e;
                 }
+            } catch (ODataApplicationException | ExpressionVisitException e) {
+                LOGGER.correlateWith(routingContext).error("Exception in filter evaluation", e);
+                throw e;
             }
             LOGGER.correlateWith(routingContext).debug(
                     "Filter expression was applied on list of entities and led to a result list of entities with size: {}",
@@ -236,12 +256,16 @@ public class CountEntityCollectionProcessor extends AsynchronousProcessor
         return filteredEntities;
     }
 
-    private void applyOrderByQueryOption(OrderByOption orderByOption, List<Entity> resultEntityList)
-            throws ODataApplicationException {
+    private List<Entity> applyOrderByQueryOption(OrderByOption orderByOption, List<Entity> resultEntityList,
+            int limit) throws ODataApplicationException {
         if (orderByOption != null) {
             LOGGER.correlateWith(routingContext).debug("orderByOption name: {}, orderByOption text: {}",
                     orderByOption.getName(), orderByOption.getText());
             try {
+                if (limit >= 0) {
+                    return OrderExpressionExecutor.executeOrderOption(routingContext, orderByOption,
+                            resultEntityList, limit);
+                }
                 OrderExpressionExecutor.executeOrderOption(routingContext, orderByOption, resultEntityList);
             } catch (Exception e) {
                 String message = "Error during processing of orderBy option";
@@ -250,6 +274,31 @@ public class CountEntityCollectionProcessor extends AsynchronousProcessor
                         e);
             }
         }
+        return resultEntityList;
+    }
+
+    /**
+     * Returns the number of entities, which have to be ordered to apply the $skip and $top query options afterwards.
+     * In case $top is present, only the first $skip + $top entities are needed, so there is no need to sort the whole
+     * list of entities.
+     *
+     * @param uriInfo      the uriInfo of the request
+     * @param skipExecuted true if $skip was already applied by the data verticle
+     * @param topExecuted  true if $top was already applied by the data verticle
+     * @return the number of entities to order, or -1 if all entities need to be ordered
+     */
+    private static int getOrderByLimit(UriInfo uriInfo, boolean skipExecuted, boolean topExecuted) {
+        TopOption topOption = uriInfo.getTopOption();
+        if (topExecuted || topOption == null || topOption.getValue() < 0) {
+            return -1;
+        }
+
+        SkipOption skipOption = uriInfo.getSkipOption();
+        long skip = skipExecuted || skipOption == null ? 0 : skipOption.getValue();
+        if (skip < 0) {
+            return -1;
+        }
+        return (int) Math.min(Integer.MAX_VALUE, skip + topOption.getValue());
     }
 
     private List<Entity> applySkipQueryOption(SkipOption skipOption, List<Entity> resultEntityList)
@@ -297,12 +346,13 @@ public class CountEntityCollectionProcessor extends AsynchronousProcessor
     }
 
     private Future<List<Entity>> applyExpandQueryOptions(UriInfo uriInfo, List<Entity> resultEntityList) {
-        return EntityExpander.create(vertx, uriInfo.getExpandOption(), routingContext).map(expander -> {
-            for (Entity requestedEntity : resultEntityList) {
-                expander.expand(requestedEntity);
-            }
-            return resultEntityList;
-        });
+        return EntityExpander.create(vertx, uriInfo.getExpandOption(), resultEntityList, routingContext)
+                .map(expander -> {
+                    for (Entity requestedEntity : resultEntityList) {
+                        expander.expand(requestedEntity);
+                    }
+                    return resultEntityList;
+                });
     }
 
     private EntityCollectionSerializerOptions createSerializerOptions(ODataRequest request, UriInfo uriInfo,
@@ -349,4 +399,44 @@ public class CountEntityCollectionProcessor extends AsynchronousProcessor
             }
         });
     }
+
+    /**
+     * An iterator over the entities of an entity collection, in order to serialize the collection streamed.
+     */
+    private static class EntityCollectionIterator extends EntityIterator {
+        private final EntityCollection entityCollection;
+
+        private final Iterator<Entity> entities;
+
+        EntityCollectionIterator(EntityCollection entityCollection) {
+            super();
+            this.entityCollection = entityCollection;
+            this.entities = entityCollection.getEntities().iterator();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return entities.hasNext();
+        }
+
+        @Override
+        public Entity next() {
+            return entities.next();
+        }
+
+        @Override
+        public Integer getCount() {
+            return entityCollection.getCount();
+        }
+
+        @Override
+        public URI getNext() {
+            return entityCollection.getNext();
+        }
+
+        @Override
+        public URI getDeltaLink() {
+            return entityCollection.getDeltaLink();
+        }
+    }
 }
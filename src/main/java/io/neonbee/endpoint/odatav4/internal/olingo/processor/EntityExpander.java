@@ -2,6 +2,7 @@ package io.neonbee.endpoint.odatav4.internal.olingo.processor;
 
 import static io.neonbee.endpoint.odatav4.internal.olingo.processor.NavigationPropertyHelper.fetchReferencedEntities;
 import static io.neonbee.endpoint.odatav4.internal.olingo.processor.NavigationPropertyHelper.getRelatedEntities;
+import static io.neonbee.endpoint.odatav4.internal.olingo.processor.NavigationPropertyHelper.indexReferencedEntities;
 import static io.vertx.core.Future.succeededFuture;
 import static java.util.stream.Collectors.toList;
 
@@ -12,7 +13,6 @@ import java.util.Map;
 import org.apache.olingo.commons.api.data.Entity;
 import org.apache.olingo.commons.api.data.EntityCollection;
 import org.apache.olingo.commons.api.data.Link;
-import org.apache.olingo.commons.api.edm.EdmEntityType;
 import org.apache.olingo.commons.api.edm.EdmNavigationProperty;
 import org.apache.olingo.commons.api.edm.constants.EdmTypeKind;
 import org.apache.olingo.server.api.uri.UriResourceNavigation;
@@ -25,10 +25,10 @@ import io.vertx.ext.web.RoutingContext;
 public final class EntityExpander {
     private final List<EdmNavigationProperty> navigationProperties;
 
-    private final Map<EdmEntityType, List<Entity>> fetchedEntities;
+    private final Map<EdmNavigationProperty, Map<List<Object>, List<Entity>>> fetchedEntities;
 
     private EntityExpander(List<EdmNavigationProperty> navigationProperties,
-            Map<EdmEntityType, List<Entity>> fetchedEntities) {
+            Map<EdmNavigationProperty, Map<List<Object>, List<Entity>>> fetchedEntities) {
         this.navigationProperties = navigationProperties;
         this.fetchedEntities = fetchedEntities;
     }
@@ -44,13 +44,33 @@ public final class EntityExpander {
      * @return A {@link Future} holding a {@link EntityExpander} when it is completed.
      */
     public static Future<EntityExpander> create(Vertx vertx, ExpandOption expandOption, RoutingContext routingContext) {
+        return create(vertx, expandOption, null, routingContext);
+    }
+
+    /**
+     * Creates an EntityExpander, which is able to expand the passed entities. Instead of fetching all entities of the
+     * navigation targets, only the entities related to the passed entities are requested, by pushing down the values
+     * of the referential constraints as a $filter. The fetched entities are indexed by their referenced properties, so
+     * that expanding an entity is a hash lookup.
+     *
+     * @param vertx          The Vert.x instance
+     * @param expandOption   The expand options of the OData request
+     * @param entities       The entities to expand, or null to fetch all entities of the navigation targets
+     * @param routingContext The routingContext of the request
+     * @return A {@link Future} holding a {@link EntityExpander} when it is completed.
+     */
+    public static Future<EntityExpander> create(Vertx vertx, ExpandOption expandOption, List<Entity> entities,
+            RoutingContext routingContext) {
         if (expandOption != null) {
             List<EdmNavigationProperty> navigationProperties = getNavigationProperties(expandOption);
-            Map<EdmEntityType, List<Entity>> fetchedEntities = new HashMap<>();
+            Map<EdmNavigationProperty, Map<List<Object>, List<Entity>>> fetchedEntities = new HashMap<>();
 
             List<Future<?>> fetchFutures = navigationProperties.stream().distinct().map(navProb -> {
-                return fetchReferencedEntities(navProb, vertx, routingContext)
-                        .map(entities -> fetchedEntities.put(navProb.getType(), entities));
+                Future<List<Entity>> referencedEntities = entities != null
+                        ? fetchReferencedEntities(navProb, entities, vertx, routingContext)
+                        : fetchReferencedEntities(navProb, vertx, routingContext);
+                return referencedEntities.map(
+                        referenced -> fetchedEntities.put(navProb, indexReferencedEntities(navProb, referenced)));
             }).collect(toList());
             return Future.all(fetchFutures).map(v -> new EntityExpander(navigationProperties, fetchedEntities));
         } else {
@@ -75,8 +95,8 @@ public final class EntityExpander {
                 throw new UnsupportedOperationException("At the moment only type Entity can be expanded");
             }
 
-            List<Entity> entitiesToLink = getRelatedEntities(navigationProperty, entityToExpand,
-                    fetchedEntities.get(navigationProperty.getType()));
+            List<Entity> entitiesToLink =
+                    getRelatedEntities(navigationProperty, entityToExpand, fetchedEntities.get(navigationProperty));
             linkEntities(entityToExpand, navigationProperty, entitiesToLink);
         }
     }
@@ -287,7 +287,7 @@ public class EntityProcessor extends AsynchronousProcessor
         }
 
         if (foundEntity.getNavigationLinks().isEmpty()) {
-            return EntityExpander.create(vertx, uriInfo.getExpandOption(), routingContext)
+            return EntityExpander.create(vertx, uriInfo.getExpandOption(), List.of(foundEntity), routingContext)
                     .map(expander -> {
                         expander.expand(foundEntity);
                         return foundEntity;
@@ -5,11 +5,19 @@ import static io.vertx.core.Future.failedFuture;
 import static io.vertx.core.Future.succeededFuture;
 import static org.apache.olingo.commons.api.http.HttpStatusCode.INTERNAL_SERVER_ERROR;
 
+import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
 
 import org.apache.olingo.commons.api.data.Entity;
+import org.apache.olingo.commons.api.data.Property;
 import org.apache.olingo.commons.api.edm.EdmEntitySet;
 import org.apache.olingo.commons.api.edm.EdmNavigationProperty;
 import org.apache.olingo.commons.api.edm.EdmReferentialConstraint;
@@ -30,6 +38,13 @@ import io.vertx.ext.web.RoutingContext;
 public final class NavigationPropertyHelper {
     private static final LoggingFacade LOGGER = LoggingFacade.create();
 
+    private static final String FILTER_PARAMETER = "$filter";
+
+    /**
+     * The maximum number of distinct values pushed down as a $filter, for more values all entities are fetched.
+     */
+    private static final int MAX_FILTER_VALUES = 500;
+
     /**
      * Fetches the related entity collection to the passed navigation property.
      *
@@ -45,6 +60,148 @@ public final class NavigationPropertyHelper {
         return requestEntity(vertx, req, new DataContextImpl(routingContext)).map(EntityWrapper::getEntities);
     }
 
+    /**
+     * Fetches the entities related to the passed source entities via the passed navigation property. Instead of
+     * fetching the whole entity set of the navigation target, the distinct values of the referential constraints of
+     * the source entities are pushed down as a $filter to the navigation request. Data verticles which do not support
+     * the $filter query option may still return all entities, thus the returned entities must still be matched with
+     * the source entities, e.g. by {@link #indexReferencedEntities(EdmNavigationProperty, List)}.
+     *
+     * @param navigationProperty the navigation property
+     * @param sourceEntities     the entities with the navigation property
+     * @param vertx              the current Vert.x instance
+     * @param routingContext     the current routing context
+     * @return a {@link Future} holding the potentially related {@link Entity} collection
+     */
+    public static Future<List<Entity>> fetchReferencedEntities(EdmNavigationProperty navigationProperty,
+            List<Entity> sourceEntities, Vertx vertx, RoutingContext routingContext) {
+        if (sourceEntities.isEmpty()) {
+            return succeededFuture(List.of());
+        }
+
+        FullQualifiedName fqn = navigationProperty.getType().getFullQualifiedName();
+        DataQuery query = new DataQuery(fqn.getNamespace() + "/" + fqn.getName());
+        String filter = buildReferencedEntitiesFilter(navigationProperty, sourceEntities);
+        if (filter != null) {
+            query.setParameter(FILTER_PARAMETER, filter);
+        } else if (LOGGER.isDebugEnabled()) {
+            LOGGER.correlateWith(routingContext).debug(
+                    "Referential constraints of navigation property {} cannot be pushed down, fetch all entities",
+                    navigationProperty.getName());
+        }
+        DataRequest req = new DataRequest(fqn, query);
+        return requestEntity(vertx, req, new DataContextImpl(routingContext)).map(EntityWrapper::getEntities);
+    }
+
+    /**
+     * Builds a $filter expression, matching all entities related to the passed source entities. For a single
+     * referential constraint an {@code in} expression is built, for multiple constraints a disjunction of the distinct
+     * value combinations.
+     *
+     * @param navigationProperty the navigation property
+     * @param sourceEntities     the entities with the navigation property
+     * @return the $filter expression, or null in case the values cannot be expressed as literals or exceed the
+     *         maximum number of values to push down
+     */
+    static String buildReferencedEntitiesFilter(EdmNavigationProperty navigationProperty,
+            List<Entity> sourceEntities) {
+        ReferentialJoin join = ReferentialJoin.of(navigationProperty);
+        if (join.isEmpty()) {
+            return null;
+        }
+
+        Set<List<Object>> distinctKeys = new LinkedHashSet<>();
+        for (Entity sourceEntity : sourceEntities) {
+            List<Object> key = join.sourceKey(sourceEntity);
+            if (key != null) {
+                distinctKeys.add(key);
+            }
+        }
+        if (distinctKeys.isEmpty() || distinctKeys.size() > MAX_FILTER_VALUES) {
+            return null;
+        }
+
+        List<String> targetPropertyNames = join.targetPropertyNames;
+        StringBuilder filter = new StringBuilder();
+        if (targetPropertyNames.size() == 1) {
+            filter.append(targetPropertyNames.get(0)).append(" in (");
+            for (List<Object> key : distinctKeys) {
+                String literal = toLiteral(key.get(0));
+                if (literal == null) {
+                    return null;
+                }
+                filter.append(literal).append(',');
+            }
+            filter.setCharAt(filter.length() - 1, ')');
+        } else {
+            for (List<Object> key : distinctKeys) {
+                filter.append(filter.length() > 0 ? " or (" : "(");
+                for (int i = 0; i < key.size(); i++) {
+                    String literal = toLiteral(key.get(i));
+                    if (literal == null) {
+                        return null;
+                    }
+                    filter.append(i > 0 ? " and " : "").append(targetPropertyNames.get(i)).append(" eq ")
+                            .append(literal);
+                }
+                filter.append(')');
+            }
+        }
+        return filter.toString();
+    }
+
+    private static String toLiteral(Object value) {
+        if (value instanceof String string) {
+            return "'" + string.replace("'", "''") + "'";
+        } else if (value instanceof Integer || value instanceof Long || value instanceof Short
+                || value instanceof Byte || value instanceof BigInteger || value instanceof Boolean
+                || value instanceof UUID) {
+            return value.toString();
+        } else if (value instanceof BigDecimal decimal) {
+            return decimal.toPlainString();
+        }
+        // other types (e.g. floating point or date / time values) have no unambiguous literal representation
+        return null;
+    }
+
+    /**
+     * Builds a hash index of the referenced entities, keyed by the values of the referenced properties of the passed
+     * navigation property. Looking up the related entities of a source entity in the index is a constant time
+     * operation, compared to scanning all referenced entities for every source entity.
+     *
+     * @param navigationProperty the navigation property
+     * @param referencedEntities the entities of the referenced type
+     * @return the index of the referenced entities, to be passed to
+     *         {@link #getRelatedEntities(EdmNavigationProperty, Entity, Map)}
+     */
+    public static Map<List<Object>, List<Entity>> indexReferencedEntities(EdmNavigationProperty navigationProperty,
+            List<Entity> referencedEntities) {
+        ReferentialJoin join = ReferentialJoin.of(navigationProperty);
+        Map<List<Object>, List<Entity>> index = new HashMap<>();
+        for (Entity referencedEntity : referencedEntities) {
+            List<Object> key = join.targetKey(referencedEntity);
+            if (key != null) {
+                index.computeIfAbsent(key, k -> new ArrayList<>()).add(referencedEntity);
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Looks up the related entities of a source entity in an index of the referenced entities.
+     *
+     * @param navigationProperty the navigation property
+     * @param sourceEntity       the entity with navigation property
+     * @param referencedIndex    the index of the referenced entities, as built by
+     *                           {@link #indexReferencedEntities(EdmNavigationProperty, List)}
+     * @return a {@link List} with all related {@link Entity entities}
+     */
+    public static List<Entity> getRelatedEntities(EdmNavigationProperty navigationProperty, Entity sourceEntity,
+            Map<List<Object>, List<Entity>> referencedIndex) {
+        List<Object> key = ReferentialJoin.of(navigationProperty).sourceKey(sourceEntity);
+        return key != null ? referencedIndex.getOrDefault(key, List.of()) : List.of();
+    }
+
     /**
      * Filters the referenced entities based on the navigation property.
      *
@@ -135,7 +292,7 @@ public final class NavigationPropertyHelper {
             Vertx vertx, RoutingContext routingContext) {
         if (navigationPart instanceof UriResourceNavigation) {
             EdmNavigationProperty edmNavigationProperty = ((UriResourceNavigation) navigationPart).getProperty();
-            return fetchReferencedEntities(edmNavigationProperty, vertx, routingContext)
+            return fetchReferencedEntities(edmNavigationProperty, List.of(sourceEntity), vertx, routingContext)
                     .map(entities -> getRelatedEntities(edmNavigationProperty, sourceEntity, entities));
         } else {
             return failedFuture("Expected second path segment to be a navigation property");
@@ -165,4 +322,65 @@ public final class NavigationPropertyHelper {
     private NavigationPropertyHelper() {
 
     }
+
+    /**
+     * The property names of the referential constraints of a navigation property, on the side of the source entity
+     * (the entity with the navigation property) and on the side of the target entity.
+     */
+    private static final class ReferentialJoin {
+        private final List<String> sourcePropertyNames;
+
+        private final List<String> targetPropertyNames;
+
+        private ReferentialJoin(List<String> sourcePropertyNames, List<String> targetPropertyNames) {
+            this.sourcePropertyNames = sourcePropertyNames;
+            this.targetPropertyNames = targetPropertyNames;
+        }
+
+        static ReferentialJoin of(EdmNavigationProperty navigationProperty) {
+            boolean isCollection = navigationProperty.isCollection();
+            List<EdmReferentialConstraint> constraints =
+                    isCollection ? navigationProperty.getPartner().getReferentialConstraints()
+                            : navigationProperty.getReferentialConstraints();
+
+            List<String> sourcePropertyNames = new ArrayList<>(constraints.size());
+            List<String> targetPropertyNames = new ArrayList<>(constraints.size());
+            for (EdmReferentialConstraint constraint : constraints) {
+                sourcePropertyNames
+                        .add(isCollection ? constraint.getReferencedPropertyName() : constraint.getPropertyName());
+                targetPropertyNames
+                        .add(isCollection ? constraint.getPropertyName() : constraint.getReferencedPropertyName());
+            }
+            return new ReferentialJoin(sourcePropertyNames, targetPropertyNames);
+        }
+
+        boolean isEmpty() {
+            return sourcePropertyNames.isEmpty();
+        }
+
+        List<Object> sourceKey(Entity sourceEntity) {
+            return key(sourceEntity, sourcePropertyNames);
+        }
+
+        List<Object> targetKey(Entity targetEntity) {
+            return key(targetEntity, targetPropertyNames);
+        }
+
+        /**
+         * Returns the values of the given properties of an entity as a key, or null in case any of the values is null,
+         * as null values never match any referential constraint.
+         */
+        private static List<Object> key(Entity entity, List<String> propertyNames) {
+            List<Object> key = new ArrayList<>(propertyNames.size());
+            for (String propertyName : propertyNames) {
+                Property property = entity.getProperty(propertyName);
+                Object value = property != null ? property.getValue() : null;
+                if (value == null) {
+                    return null;
+                }
+                key.add(value);
+            }
+            return key;
+        }
+    }
 }
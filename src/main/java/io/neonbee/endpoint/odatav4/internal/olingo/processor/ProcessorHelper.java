@@ -5,6 +5,7 @@ import static io.neonbee.entity.EntityVerticle.requestEntity;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import org.apache.olingo.commons.api.data.Entity;
 import org.apache.olingo.commons.api.edm.EdmEntityType;
@@ -116,7 +117,12 @@ public final class ProcessorHelper {
                 .map(e -> new EntityWrapper(entityType.getFullQualifiedName(), e).toBuffer(vertx)).orElse(null);
         DataQuery query = odataRequestToQuery(request, action, body);
         DataContext dataContext = new DataContextImpl(routingContext);
-        return requestEntity(vertx, new DataRequest(entityType.getFullQualifiedName(), query), dataContext)
+        Supplier<Future<EntityWrapper>> sendRequest =
+                () -> requestEntity(vertx, new DataRequest(entityType.getFullQualifiedName(), query), dataContext);
+
+        // the parts of a batch request are scheduled by the batch processor, in order to limit the concurrency
+        BatchRequestScheduler.Batch batch = routingContext.get(BatchRequestScheduler.BATCH_CONTEXT_KEY);
+        return (batch != null ? batch.schedule(query, sendRequest) : sendRequest.get())
                 .map(result -> transferResponseHint(dataContext, routingContext, result))
                 .onFailure(processPromise::fail);
     }
@@ -1,5 +1,7 @@
 package io.neonbee.entity;
 
+import static io.neonbee.data.DataException.FAILURE_CODE_NO_HANDLERS;
+import static io.neonbee.entity.EntityModelManager.EVENT_BUS_MODELS_LOADED_ADDRESS;
 import static io.neonbee.entity.EntityModelManager.getBufferedOData;
 import static io.neonbee.internal.helper.StringHelper.EMPTY;
 import static io.neonbee.internal.verticle.ConsolidationVerticle.ENTITY_TYPE_NAME_HEADER;
@@ -7,7 +9,9 @@ import static io.vertx.core.Future.failedFuture;
 import static io.vertx.core.Future.succeededFuture;
 
 import java.util.List;
+import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -16,9 +20,12 @@ import org.apache.olingo.server.api.uri.UriInfo;
 import org.apache.olingo.server.core.uri.parser.Parser;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 
 import io.neonbee.NeonBee;
 import io.neonbee.data.DataContext;
+import io.neonbee.data.DataException;
 import io.neonbee.data.DataQuery;
 import io.neonbee.data.DataRequest;
 import io.neonbee.data.DataVerticle;
@@ -28,6 +35,7 @@ import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 import io.vertx.core.eventbus.DeliveryOptions;
+import io.vertx.core.internal.ContextInternal;
 
 /**
  * This verticle is an intermediary layer between {@link DataVerticle} and {@link EntityVerticle}, which supports
@@ -98,8 +106,22 @@ public abstract class AbstractEntityVerticle<T> extends DataVerticle<T> {
     static final Pattern URI_PATH_PATTERN =
             Pattern.compile("^/*((?:(.+/?)\\.)?([^/]+))/(([A-Za-z_]\\w+)[^/]*)(?:/(.*))?$");
 
+    /**
+     * The maximum number of parsed {@link UriInfo} objects cached per entity verticle.
+     */
+    @VisibleForTesting
+    static final int URI_INFO_CACHE_SIZE = 1000;
+
     private static final LoggingFacade LOGGER = LoggingFacade.create();
 
+    /**
+     * A cache of parsed {@link UriInfo} objects. The cache is keyed by the entity model the query was parsed with, so
+     * that an outdated entry is never returned for a query to a reloaded model, and in addition it is invalidated as
+     * soon as the {@link EntityModelManager} loaded new models.
+     */
+    @VisibleForTesting
+    final Cache<UriInfoKey, UriInfo> uriInfoCache = CacheBuilder.newBuilder().maximumSize(URI_INFO_CACHE_SIZE).build();
+
     /**
      * Create a new {@link DataVerticle}.
      */
@@ -146,10 +168,22 @@ public abstract class AbstractEntityVerticle<T> extends DataVerticle<T> {
         }
 
         String serviceName = uriMatcher.group(SERVICE_NAMESPACE_GROUP);
+        String path = buildPath(uriMatcher);
+        String rawQuery = query.getRawQuery();
         return neonBee.getModelManager().getSharedModel(EntityModelDefinition.retrieveNamespace(serviceName))
-                .compose(entityModel -> neonBee.getVertx().executeBlocking(
-                        () -> new Parser(entityModel.getEdmxMetadata(serviceName).getEdm(), getBufferedOData())
-                                .parseUri(buildPath(uriMatcher), query.getRawQuery(), EMPTY, EMPTY)));
+                .compose(entityModel -> {
+                    // most queries repeat exactly, so serve them from the cache without a round trip to the worker pool
+                    UriInfoKey key = new UriInfoKey(entityModel, serviceName, path, rawQuery);
+                    UriInfo uriInfo = uriInfoCache.getIfPresent(key);
+                    if (uriInfo != null) {
+                        return succeededFuture(uriInfo);
+                    }
+
+                    return neonBee.getVertx()
+                            .executeBlocking(() -> new Parser(entityModel.getEdmxMetadata(serviceName).getEdm(),
+                                    getBufferedOData()).parseUri(path, rawQuery, EMPTY, EMPTY))
+                            .onSuccess(parsedUriInfo -> uriInfoCache.put(key, parsedUriInfo));
+                });
     }
 
     /**
@@ -220,6 +254,9 @@ public abstract class AbstractEntityVerticle<T> extends DataVerticle<T> {
     @Override
     public void start(Promise<Void> promise) {
         Future.<Void>future(super::start)
+                .compose(nothing -> vertx.eventBus()
+                        .localConsumer(EVENT_BUS_MODELS_LOADED_ADDRESS, message -> uriInfoCache.invalidateAll())
+                        .completion())
                 .compose(nothing -> registerEntityTypeConsumers())
                 .onSuccess(nothing -> {
                     if (LOGGER.isInfoEnabled()) {
@@ -229,6 +266,12 @@ public abstract class AbstractEntityVerticle<T> extends DataVerticle<T> {
                 }).onComplete(promise);
     }
 
+    /**
+     * Registers a consumer at {@code EntityVerticle[<FQN>]} for every entity type, forwarding to this verticle. The
+     * forwarding consumers are only used as a fallback, in case no entity verticle for the entity type is deployed in
+     * the local VM. Otherwise requesters resolve the address of this verticle from the local entity verticle registry
+     * of NeonBee directly, which saves one event bus hop per request.
+     */
     private Future<Void> registerEntityTypeConsumers() {
         return entityTypeNames()
                 .map(names -> names != null ? names : Set.<FullQualifiedName>of())
@@ -245,10 +288,48 @@ public abstract class AbstractEntityVerticle<T> extends DataVerticle<T> {
                                 .completion()
                                 .<Void>mapEmpty();
                     }).toList();
-                    return Future.all(registrations).mapEmpty();
+                    return Future.all(registrations).onSuccess(nothing -> {
+                        NeonBee neonBee = NeonBee.get(vertx);
+                        names.forEach(fqn -> neonBee.registerLocalEntityVerticle(
+                                fqn.getFullQualifiedNameAsString(), ownAddress));
+                        // unregister in a close hook of the deployment context, which is called when the verticle is
+                        // undeployed, even if a subclass does not call stop of its super class or stopping it failed
+                        ((ContextInternal) context).addCloseHook(completion -> {
+                            unregisterEntityTypes(neonBee, names, ownAddress);
+                            completion.complete();
+                        });
+                    }).mapEmpty();
                 });
     }
 
+    private static void unregisterEntityTypes(NeonBee neonBee, Set<FullQualifiedName> names, String address) {
+        names.forEach(fqn -> neonBee.unregisterLocalEntityVerticle(fqn.getFullQualifiedNameAsString(), address));
+    }
+
+    /**
+     * Resolves the address to request an entity type from. In case an entity verticle for the entity type is deployed
+     * in the local VM, its address is returned, so that the request is sent to the verticle directly. Otherwise, the
+     * address of the forwarding consumers at {@code EntityVerticle[<FQN>]} is returned.
+     *
+     * @param vertx          The Vert.x instance
+     * @param entityTypeName The entity type name to resolve
+     * @return the address to request the entity type from
+     */
+    @VisibleForTesting
+    static String resolveEntityVerticleAddress(Vertx vertx, FullQualifiedName entityTypeName) {
+        NeonBee neonBee = NeonBee.get(vertx);
+        List<String> addresses = neonBee != null
+                ? neonBee.getLocalEntityVerticles(entityTypeName.getFullQualifiedNameAsString())
+                : List.of();
+        if (addresses.isEmpty()) {
+            return sharedEntityMapName(entityTypeName);
+        }
+
+        // same as the event bus picks one of the forwarding consumers, pick one of the local entity verticles
+        return addresses.size() == 1 ? addresses.get(0)
+                : addresses.get(ThreadLocalRandom.current().nextInt(addresses.size()));
+    }
+
     /**
      * Requests an entity from the entity verticle(s) registered for the given entity type name in the request.
      *
@@ -276,7 +357,22 @@ public abstract class AbstractEntityVerticle<T> extends DataVerticle<T> {
                 return failedFuture("No verticle registered listening to entity type name "
                         + entityTypeName.getFullQualifiedNameAsString());
             } else if (qualifiedNames.size() == 1) {
-                return requestData(vertx, new DataRequest(qualifiedNames.get(0), request.getQuery()), context);
+                String address = resolveEntityVerticleAddress(vertx, entityTypeName);
+                return requestData(vertx, new DataRequest(address, request.getQuery()), context)
+                        .recover(throwable -> {
+                            String fallbackAddress = sharedEntityMapName(entityTypeName);
+                            if (address.equals(fallbackAddress) || !(throwable instanceof DataException dataException)
+                                    || dataException.failureCode() != FAILURE_CODE_NO_HANDLERS) {
+                                return failedFuture(throwable);
+                            }
+
+                            // the local entity verticle is gone, but its address is still registered, so drop the
+                            // stale address and fall back to the forwarding consumers
+                            LOGGER.correlateWith(context).warn("Entity verticle at {} is not available, falling back "
+                                    + "to {}", address, fallbackAddress);
+                            unregisterEntityTypes(NeonBee.get(vertx), Set.of(entityTypeName), address);
+                            return requestData(vertx, new DataRequest(fallbackAddress, request.getQuery()), context);
+                        });
             } else {
                 DataQuery query = request.getQuery().copy().setHeader(ENTITY_TYPE_NAME_HEADER,
                         entityTypeName.getFullQualifiedNameAsString());
@@ -290,4 +386,44 @@ public abstract class AbstractEntityVerticle<T> extends DataVerticle<T> {
             return failedFuture("The result of entity verticle must be an " + type.getSimpleName());
         });
     }
+
+    /**
+     * The key of the {@link UriInfo} cache. The entity model is compared by identity, as a reloaded model is always a
+     * new instance.
+     */
+    @VisibleForTesting
+    static final class UriInfoKey {
+        private final EntityModel entityModel;
+
+        private final String serviceName;
+
+        private final String path;
+
+        private final String rawQuery;
+
+        UriInfoKey(EntityModel entityModel, String serviceName, String path, String rawQuery) {
+            this.entityModel = entityModel;
+            this.serviceName = serviceName;
+            this.path = path;
+            this.rawQuery = rawQuery;
+        }
+
+        @Override
+        public boolean equals(Object object) {
+            if (object == this) {
+                return true;
+            } else if (!(object instanceof UriInfoKey)) {
+                return false;
+            }
+
+            UriInfoKey key = (UriInfoKey) object;
+            return entityModel == key.entityModel && serviceName.equals(key.serviceName) && path.equals(key.path)
+                    && Objects.equals(rawQuery, key.rawQuery);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(System.identityHashCode(entityModel), serviceName, path, rawQuery);
+        }
+    }
 }
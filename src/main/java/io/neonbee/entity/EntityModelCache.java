@@ -0,0 +1,54 @@
+package io.neonbee.entity;
+
+import java.util.Map;
+
+import com.google.common.hash.HashCode;
+import com.sap.cds.reflect.CdsModel;
+
+/**
+ * A cache of the models parsed by the last (successful) model load, keyed by the content hash of the model files.
+ * <p>
+ * Parsing CSN and EDMX files is expensive, so when reloading the models, only the model files whose content changed
+ * since the last load have to be parsed again. The {@link EntityModel} of a CSN file is reused as a whole, if neither
+ * the CSN file, nor any of its associated EDMX files changed. The parsed CSN model is reused, if only the associated
+ * EDMX files changed.
+ * <p>
+ * The cache only holds the models of the last load, so models which are no longer part of the model set are released.
+ * The cache is not persisted, as the parsed Olingo and CDS models are not serializable.
+ */
+final class EntityModelCache {
+    private volatile Map<HashCode, CdsModel> csnModels = Map.of();
+
+    private volatile Map<HashCode, EntityModel> entityModels = Map.of();
+
+    /**
+     * Returns a cached CSN model.
+     *
+     * @param csnHash the content hash of the CSN file
+     * @return the cached CSN model or null
+     */
+    CdsModel getCsnModel(HashCode csnHash) {
+        return csnModels.get(csnHash);
+    }
+
+    /**
+     * Returns a cached entity model.
+     *
+     * @param modelHash the combined content hash of the CSN file and all of its associated EDMX files
+     * @return the cached entity model or null
+     */
+    EntityModel getEntityModel(HashCode modelHash) {
+        return entityModels.get(modelHash);
+    }
+
+    /**
+     * Replaces the content of the cache with the models of a model load.
+     *
+     * @param csnModels    the CSN models by the content hash of the CSN file
+     * @param entityModels the entity models by their combined content hash
+     */
+    void update(Map<HashCode, CdsModel> csnModels, Map<HashCode, EntityModel> entityModels) {
+        this.csnModels = Map.copyOf(csnModels);
+        this.entityModels = Map.copyOf(entityModels);
+    }
+}
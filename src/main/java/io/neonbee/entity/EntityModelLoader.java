@@ -14,11 +14,15 @@ import java.io.Reader;
 import java.nio.file.FileSystems;
 import java.nio.file.Path;
 import java.nio.file.PathMatcher;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -32,7 +36,9 @@ import org.apache.olingo.server.core.MetadataParser;
 import org.apache.olingo.server.core.SchemaBasedEdmProvider;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.Maps;
 import com.google.common.collect.Streams;
+import com.google.common.hash.HashCode;
 import com.google.common.hash.HashFunction;
 import com.google.common.hash.Hashing;
 import com.sap.cds.reflect.CdsEntity;
@@ -63,16 +69,41 @@ class EntityModelLoader {
     Map<String, EntityModel> models = new HashMap<>();
 
     @VisibleForTesting
-    Map<String, SchemaBasedEdmProvider> edmProviders = new HashMap<>();
+    Map<String, SchemaBasedEdmProvider> edmProviders = new ConcurrentHashMap<>();
 
     @VisibleForTesting
-    Map<String, MetadataParser> metadataParsers = new HashMap<>();
+    Map<String, MetadataParser> metadataParsers = new ConcurrentHashMap<>();
+
+    /**
+     * The schema namespaces of EDMX files, which have been merged with other EDMX files of the same schema namespace.
+     * Models containing EDMX files of these schema namespaces are not cached, as they depend on other model files.
+     */
+    private final Set<String> mergedSchemaNamespaces = ConcurrentHashMap.newKeySet();
+
+    private final Map<HashCode, CdsModel> loadedCsnModels = new HashMap<>();
+
+    private final Map<HashCode, EntityModel> loadedEntityModels = new HashMap<>();
+
+    /**
+     * The models reused from the cache, along with the model files they were built of. Cached models never register
+     * their EDMX files with the {@link #edmProviders}, so they have to be parsed again, if another model file added
+     * an EDMX file to one of their schema namespaces.
+     */
+    private final List<ReusedModel> reusedModels = new ArrayList<>();
+
+    private final EntityModelCache cache;
 
     private final Vertx vertx;
 
     @VisibleForTesting
     EntityModelLoader(Vertx vertx) {
+        this(vertx, new EntityModelCache());
+    }
+
+    @VisibleForTesting
+    EntityModelLoader(Vertx vertx, EntityModelCache cache) {
         this.vertx = vertx;
+        this.cache = cache;
     }
 
     /**
@@ -92,15 +123,30 @@ class EntityModelLoader {
      * @return a map of all loaded models
      */
     public static Future<Map<String, EntityModel>> load(Vertx vertx, Collection<EntityModelDefinition> definitions) {
+        return load(vertx, definitions, new EntityModelCache());
+    }
+
+    /**
+     * Load models from model directory and class path, as well as from the maps provided and return a future to a map
+     * of all loaded models. Only model files that changed since the last load with the same cache are parsed, the
+     * models of unchanged model files are taken from the cache. After loading succeeded, the cache is updated with the
+     * loaded models.
+     *
+     * @return a map of all loaded models
+     */
+    static Future<Map<String, EntityModel>> load(Vertx vertx, Collection<EntityModelDefinition> definitions,
+            EntityModelCache cache) {
         LOGGER.trace("Start loading entity model definitions");
-        return new EntityModelLoader(vertx).loadModelsFromModelDirectoryAndClassPath().compose(loader -> {
+        return new EntityModelLoader(vertx, cache).loadModelsFromModelDirectoryAndClassPath().compose(loader -> {
             return Future.all(definitions.stream().map(loader::loadModelsFromDefinition).toList())
                     .map(loader);
-        }).map(EntityModelLoader::getModels).onComplete(result -> {
-            if (LOGGER.isTraceEnabled()) {
-                LOGGER.trace("Loading entity model definitions {}", result.succeeded() ? "succeeded" : "failed");
-            }
-        });
+        }).compose(EntityModelLoader::reloadMergedModels).onSuccess(EntityModelLoader::updateCache)
+                .map(EntityModelLoader::getModels).onComplete(result -> {
+                    if (LOGGER.isTraceEnabled()) {
+                        LOGGER.trace("Loading entity model definitions {}",
+                                result.succeeded() ? "succeeded" : "failed");
+                    }
+                });
     }
 
     /**
@@ -112,6 +158,36 @@ class EntityModelLoader {
         return models;
     }
 
+    /**
+     * Updates the cache with the models loaded by this loader, replacing any models of previous loads.
+     */
+    @VisibleForTesting
+    void updateCache() {
+        cache.update(loadedCsnModels, Maps.filterValues(loadedEntityModels, model -> model.getAllEdmxMetadata()
+                .keySet().stream().noneMatch(mergedSchemaNamespaces::contains)));
+    }
+
+    /**
+     * Parses the models reused from the cache again, in case any of their schema namespaces gained an EDMX file in
+     * this load. Only then, their EDMX files are merged with the ones of the same schema namespace, same as if all
+     * models had been parsed.
+     *
+     * @return a future to the {@link EntityModelLoader} instance
+     */
+    @VisibleForTesting
+    Future<EntityModelLoader> reloadMergedModels() {
+        List<Future<Void>> reloadedModels = new ArrayList<>();
+        for (ReusedModel reusedModel : reusedModels) {
+            if (reusedModel.model().getAllEdmxMetadata().keySet().stream().anyMatch(edmProviders::containsKey)) {
+                LOGGER.trace("Reloading model {}, as its schema namespace gained a model file", reusedModel.csnFile());
+                models.remove(EntityModelDefinition.getNamespace(reusedModel.cdsModel()), reusedModel.model());
+                reloadedModels.add(
+                        parseEdmxModels(reusedModel.cdsModel(), reusedModel.edmxPayloads(), reusedModel.hashes()));
+            }
+        }
+        return Future.all(reloadedModels).map(this);
+    }
+
     /**
      * Load models from model directory and class path.
      *
@@ -197,43 +273,82 @@ class EntityModelLoader {
         if (LOGGER.isTraceEnabled()) {
             LOGGER.trace("Loading model {}", csnFile);
         }
-        return readCsnModel(csnFile).compose(cdsModel -> {
-            return Future.all(EntityModelDefinition.resolveEdmxPaths(csnFile, cdsModel).stream()
-                    .map(this::loadEdmxModel).toList()).onSuccess(compositeFuture -> {
-                        buildModelMap(cdsModel, compositeFuture.list());
-                    });
-        }).mapEmpty();
+        return FileSystemHelper.readFile(vertx, csnFile).compose(
+                csnPayload -> loadModel(csnFile, csnPayload, edmxFile -> FileSystemHelper.readFile(vertx, edmxFile)));
     }
 
     Future<Void> parseModel(String csnFile, byte[] csnPayload, Map<String, byte[]> associatedModels) {
         LOGGER.trace("Parse CSN model file {}", csnFile);
-        return parseCsnModel(csnPayload).onComplete(result -> {
+        return loadModel(Path.of(csnFile), Buffer.buffer(csnPayload), edmxFile -> {
+            String path = edmxFile.toString();
+            // we do not know if the path uses windows / unix path separators, try both!
+            byte[] payload = FileSystemHelper.getPathFromMap(associatedModels, path);
+            if (payload == null) {
+                if (LOGGER.isWarnEnabled()) {
+                    LOGGER.warn("Associated model {} not found in associatedModels map (keys={})", path,
+                            associatedModels.keySet());
+                }
+                return failedFuture(new NoSuchElementException("Associated model " + path + " not found"));
+            }
+            return succeededFuture(Buffer.buffer(payload));
+        }).onComplete(result -> {
             if (LOGGER.isTraceEnabled()) {
                 LOGGER.trace("Parsing CSN model file {} {}", csnFile, result.succeeded() ? "succeeded" : "failed");
             }
-        }).compose(cdsModel -> {
-            LOGGER.trace("Parse associated models of {}", csnFile);
-            return Future.all(EntityModelDefinition.resolveEdmxPaths(Path.of(csnFile), cdsModel).stream()
-                    .map(Path::toString).map(path -> {
-                        // we do not know if the path uses windows / unix path separators, try both!
-                        byte[] payload = FileSystemHelper.getPathFromMap(associatedModels, path);
-                        if (payload == null && LOGGER.isWarnEnabled()) {
-                            LOGGER.warn("Associated model {} not found in associatedModels map (keys={})", path,
-                                    associatedModels.keySet());
-                        }
-                        return payload;
-                    }).map(this::parseEdmxModel).toList()).onComplete(result -> {
-                        if (LOGGER.isTraceEnabled()) {
-                            LOGGER.trace("Parsing associated models of {} {}", csnFile,
-                                    result.succeeded() ? "succeeded" : "failed");
-                        }
-                    }).onSuccess(compositeFuture -> {
-                        buildModelMap(cdsModel, compositeFuture.list());
-                    }).mapEmpty();
         });
     }
 
-    private void buildModelMap(CdsModel cdsModel, List<ServiceMetadata> edmxModels) {
+    /**
+     * Loads a CSN model and its associated EDMX models. Model files are identified by the hash of their content, in
+     * case neither the CSN file, nor any of its EDMX files changed since the last load, the cached entity model is
+     * reused. Otherwise only the EDMX files are parsed, in case the CSN file is unchanged.
+     *
+     * @param csnFile    the path of the CSN file, used to resolve the paths of the EDMX files
+     * @param csnPayload the content of the CSN file
+     * @param readEdmx   reads the content of an EDMX file
+     * @return a succeeded future, in case loading the model was a success
+     */
+    private Future<Void> loadModel(Path csnFile, Buffer csnPayload, Function<Path, Future<Buffer>> readEdmx) {
+        byte[] csnBytes = csnPayload.getBytes();
+        HashCode csnHash = HASH_FUNCTION.hashBytes(csnBytes);
+        CdsModel cachedCsnModel = cache.getCsnModel(csnHash);
+        Future<CdsModel> cdsModelFuture = cachedCsnModel != null ? succeededFuture(cachedCsnModel)
+                : parseCsnModel(csnBytes);
+        return cdsModelFuture.compose(cdsModel -> {
+            loadedCsnModels.put(csnHash, cdsModel);
+            return Future.all(EntityModelDefinition.resolveEdmxPaths(csnFile, cdsModel).stream().map(readEdmx)
+                    .toList()).compose(edmxFiles -> loadEdmxModels(csnFile, cdsModel, csnHash, edmxFiles.list()));
+        });
+    }
+
+    private Future<Void> loadEdmxModels(Path csnFile, CdsModel cdsModel, HashCode csnHash, List<Buffer> edmxPayloads) {
+        List<HashCode> hashes = new ArrayList<>(edmxPayloads.size() + 1);
+        hashes.add(csnHash);
+        edmxPayloads.forEach(edmxPayload -> hashes.add(HASH_FUNCTION.hashBytes(edmxPayload.getBytes())));
+        HashCode modelHash = Hashing.combineOrdered(hashes);
+
+        EntityModel cachedModel = cache.getEntityModel(modelHash);
+        if (cachedModel != null) {
+            LOGGER.trace("Reusing unchanged model {}", csnFile);
+            reusedModels.add(new ReusedModel(csnFile, cdsModel, edmxPayloads, hashes, cachedModel));
+            putModel(EntityModelDefinition.getNamespace(cdsModel), cachedModel, modelHash);
+            return succeededFuture();
+        }
+
+        return parseEdmxModels(cdsModel, edmxPayloads, hashes);
+    }
+
+    private Future<Void> parseEdmxModels(CdsModel cdsModel, List<Buffer> edmxPayloads, List<HashCode> hashes) {
+        List<Future<ServiceMetadata>> edmxModels = new ArrayList<>(edmxPayloads.size());
+        for (int i = 0; i < edmxPayloads.size(); i++) {
+            edmxModels.add(createServiceMetadataWithSchema(edmxPayloads.get(i), hashes.get(i + 1)));
+        }
+        return Future.all(edmxModels).onSuccess(compositeFuture -> {
+            buildModelMap(cdsModel, compositeFuture.list(), Hashing.combineOrdered(hashes));
+        }).mapEmpty();
+    }
+
+    private void buildModelMap(CdsModel cdsModel, List<ServiceMetadata> edmxModels, HashCode modelHash) {
         String namespace = EntityModelDefinition.getNamespace(cdsModel);
 
         if (namespace == null) {
@@ -251,24 +366,18 @@ class EntityModelLoader {
         Map<String, ServiceMetadata> edmxMap = edmxModels.stream()
                 .filter(java.util.Objects::nonNull)
                 .collect(Collectors.toMap(EntityModelLoader::getSchemaNamespace, Function.identity()));
-        if (models.put(namespace, EntityModel.of(cdsModel, edmxMap)) != null) {
+        putModel(namespace, EntityModel.of(cdsModel, edmxMap), modelHash);
+    }
+
+    private void putModel(String namespace, EntityModel model, HashCode modelHash) {
+        loadedEntityModels.put(modelHash, model);
+        if (models.put(namespace, model) != null) {
             LOGGER.warn("Model with schema namespace {} replaced an existing model in the model map", namespace);
         } else {
             LOGGER.info("Model with schema namespace {} was added the model map", namespace);
         }
     }
 
-    /**
-     * Loads the CSN model located at a path.
-     *
-     * @param file path of the CSN model
-     * @return a {@link Future} with loaded model inside
-     */
-    @VisibleForTesting
-    Future<CdsModel> readCsnModel(Path file) {
-        return FileSystemHelper.readFile(vertx, file).map(Buffer::getBytes).compose(this::parseCsnModel);
-    }
-
     /**
      * Loads the CSN model from byte array.
      *
@@ -284,30 +393,10 @@ class EntityModelLoader {
         });
     }
 
-    /**
-     * Loads the EDMX model located at a path.
-     *
-     * @param file path of the EDMX model
-     * @return a future with loaded model inside
-     */
-    Future<ServiceMetadata> loadEdmxModel(Path file) {
-        return FileSystemHelper.readFile(vertx, file).compose(this::createServiceMetadataWithSchema);
-    }
-
-    /**
-     * Loads the EDMX model from byte array.
-     *
-     * @param payload path of the EDMX model
-     * @return a future with loaded model inside
-     */
-    Future<ServiceMetadata> parseEdmxModel(byte[] payload) {
-        return succeededFuture(Buffer.buffer(payload)).compose(this::createServiceMetadataWithSchema);
-    }
-
-    private Future<ServiceMetadata> createServiceMetadataWithSchema(Buffer csdl) {
+    private Future<ServiceMetadata> createServiceMetadataWithSchema(Buffer csdl, HashCode csdlHash) {
         return vertx.executeBlocking(() -> {
             // Get the service metadata first w/o the schema namespace, because we have to read it
-            return createServiceMetadataWithSchema(csdl, getSchemaNamespace(createServiceMetadata(csdl)));
+            return createServiceMetadataWithSchema(csdl, csdlHash, getSchemaNamespace(createServiceMetadata(csdl)));
         });
     }
 
@@ -318,29 +407,32 @@ class EntityModelLoader {
      * ATTENTION: This method contains BLOCKING code and thus should only be called in a Vert.x worker thread!
      *
      * @param csdl            the String representation of the EDMX file's content
+     * @param csdlHash        the hash of the EDMX file's content
      * @param schemaNamespace the schema namespace of the service in the xsdl
      * @return a {@link ServiceMetadata} instance of the EDMX file which contains the XML representation of the CSDL to
      *         a ServiceMetadata instance
      */
-    private ServiceMetadata createServiceMetadataWithSchema(Buffer csdl, String schemaNamespace)
+    private ServiceMetadata createServiceMetadataWithSchema(Buffer csdl, HashCode csdlHash, String schemaNamespace)
             throws IOException, XMLStreamException {
-        synchronized (this) {
-            // Create a metadata parser instance for the schema namespace if it is not existing
-            MetadataParser parser = metadataParsers.computeIfAbsent(schemaNamespace,
-                    newSchemaNamespace -> new MetadataParser().referenceResolver(null).parseAnnotations(true));
+        // Create a metadata parser instance for the schema namespace if it is not existing
+        MetadataParser parser = metadataParsers.computeIfAbsent(schemaNamespace,
+                newSchemaNamespace -> new MetadataParser().referenceResolver(null).parseAnnotations(true));
 
-            // does NOT to be a ConcurrentHashMap, as only get / put access! so no iteration is done!
+        // only EDMX files of the same schema namespace are merged into one provider, so EDMX files of different schema
+        // namespaces can be parsed in parallel and only the ones of the same schema namespace have to be synchronized
+        synchronized (parser) {
             SchemaBasedEdmProvider provider = edmProviders.get(schemaNamespace);
             try (Reader csdlReader = new InputStreamReader(new BufferInputStream(csdl), UTF_8)) {
                 if (provider == null) {
                     edmProviders.put(schemaNamespace, provider = parser.buildEdmProvider(csdlReader));
                 } else {
+                    mergedSchemaNamespaces.add(schemaNamespace);
                     parser.addToEdmProvider(provider, csdlReader);
                 }
             }
 
             return getBufferedOData().createServiceMetadata(provider, Collections.emptyList(),
-                    new MetadataETagSupport(csdl));
+                    new MetadataETagSupport(csdlHash));
         }
     }
 
@@ -370,6 +462,9 @@ class EntityModelLoader {
         return entityCollection != null ? entityCollection.getNamespace() : edm.getSchemas().get(0).getNamespace();
     }
 
+    private record ReusedModel(Path csnFile, CdsModel cdsModel, List<Buffer> edmxPayloads, List<HashCode> hashes,
+            EntityModel model) {}
+
     @VisibleForTesting
     static class MetadataETagSupport implements ServiceMetadataETagSupport {
         private final String metadataETag;
@@ -377,12 +472,12 @@ class EntityModelLoader {
         private final String serviceDocumentETag;
 
         @SuppressWarnings("checkstyle:MissingJavadocMethod") // don't know exactly what this is for
-        MetadataETagSupport(Buffer csdl) {
+        MetadataETagSupport(HashCode csdlHash) {
             /*
              * Please note: ETag for the service document and the metadata document. The same field for service-document
              * and metadata-document ETag is used. It must change whenever the corresponding document changes.
              */
-            this.metadataETag = this.serviceDocumentETag = generateMetadataETag(csdl);
+            this.metadataETag = this.serviceDocumentETag = generateMetadataETag(csdlHash);
         }
 
         @Override
@@ -396,13 +491,13 @@ class EntityModelLoader {
         }
 
         /**
-         * This method generates an ETag string as defined in RFC2616/RFC7232 based on the provided EDMX file content
-         * contains the XML representation of the OData Common Schema Definition Language (CSDL).
+         * This method generates an ETag string as defined in RFC2616/RFC7232 based on the hash of the provided EDMX
+         * file content, which contains the XML representation of the OData Common Schema Definition Language (CSDL).
          *
          * @return ETag string
          */
-        private static String generateMetadataETag(Buffer csdl) {
-            return "\"" + HASH_FUNCTION.newHasher().putUnencodedChars(csdl.toString()).hash().toString() + "\"";
+        private static String generateMetadataETag(HashCode csdlHash) {
+            return "\"" + csdlHash + "\"";
         }
     }
 }
@@ -47,10 +47,17 @@ public class EntityModelManager implements Closeable {
      * Do not use a {@link ConcurrentHashMap} here, as the references to Vert.x need to stay weak for Vert.x to properly
      * garbage collected, at the end of its lifetime. This means the {@link #bufferedModels} map must never be iterated
      * over, in order to not cause any {@link ConcurrentModificationException}. The inner maps are unmodifiable in any
-     * case.
+     * case. The map is replaced as a whole after the models have been (re-)loaded, so readers either see the previous
+     * or the new set of models, but never a partially loaded one.
      */
     @VisibleForTesting
-    Map<String, EntityModel> bufferedModels;
+    volatile Map<String, EntityModel> bufferedModels;
+
+    /**
+     * The models of the last model load, so that reloading the models only has to parse the changed model files.
+     */
+    @VisibleForTesting
+    final EntityModelCache modelCache = new EntityModelCache();
 
     /**
      * A set of externally managed model definition files. External models definitions are added to the model loading
@@ -186,14 +193,15 @@ public class EntityModelManager implements Closeable {
 
     /**
      * Returns a future to a freshly loaded EntityModel instance and updates the globally shared instance. Please note
-     * that all models files will be reloaded (from file system and / or class path). This method will also update the
-     * buffered models.
+     * that all models files will be reloaded (from file system and / or class path), however only model files that
+     * changed since the last load are parsed again, for unchanged model files the previous {@link EntityModel} instance
+     * is reused. This method will also update the buffered models, until then the previous models stay available.
      *
      * @return a {@link Future} to a map from schema namespace to EntityModel
      */
     public Future<Map<String, EntityModel>> reloadModels() {
         LOGGER.info("Reload models");
-        return EntityModelLoader.load(neonBee.getVertx(), externalModelDefinitions).onSuccess(models -> {
+        return EntityModelLoader.load(neonBee.getVertx(), externalModelDefinitions, modelCache).onSuccess(models -> {
             bufferedModels = Collections.unmodifiableMap(models);
 
             // publish the event local only! models must be present locally on very instance in a cluster!
@@ -108,15 +108,15 @@ public class EntityWrapper {
      * Converts an {@link EntityWrapper} to a {@link Buffer}.
      *
      * A Vertx instance with loaded schema description for the entity must be provided to this method, since the schema
-     * metadata is required during the serialization (conversion to buffer) process.
+     * metadata is required during the serialization (conversion to buffer) process. The buffer always contains the
+     * JSON representation of the entity wrapper, the binary encoding is only used on the event bus.
      *
      * @param vertx vertx, in which the schemas are loaded
      * @return a buffer representation of entity wrapper
      */
     public Buffer toBuffer(Vertx vertx) {
-        EntityWrapperMessageCodec codec = new EntityWrapperMessageCodec(vertx);
         Buffer buffer = Buffer.buffer();
-        codec.encodeToWire(buffer, this);
+        EntityWrapperMessageCodec.encodeJson(vertx, buffer, this);
         return buffer;
     }
 
@@ -131,7 +131,6 @@ public class EntityWrapper {
      * @return an entity wrapper
      */
     public static EntityWrapper fromBuffer(Vertx vertx, Buffer buffer) {
-        EntityWrapperMessageCodec codec = new EntityWrapperMessageCodec(vertx);
-        return codec.decodeFromWire(0, buffer);
+        return EntityWrapperMessageCodec.decode(vertx, 0, buffer);
     }
 }
@@ -0,0 +1,31 @@
+package io.neonbee.internal.codec;
+
+import io.neonbee.NeonBee;
+import io.vertx.core.Vertx;
+
+/**
+ * Decides whether messages sent over the event bus are encoded in their binary formats, or in the JSON formats of
+ * previous versions.
+ * <p>
+ * Previous versions of NeonBee can only decode the JSON formats, so in a cluster the binary encoding must be enabled
+ * explicitly (see {@link io.neonbee.config.NeonBeeConfig#setBinaryEntityWrapperEncoding(boolean)}), after all nodes
+ * have been upgraded. Non-clustered instances always use the binary encoding. All decoders accept both formats.
+ */
+public final class BinaryEncoding {
+    /**
+     * This helper class cannot be instantiated.
+     */
+    private BinaryEncoding() {}
+
+    /**
+     * Checks whether the binary encoding is enabled for a given Vert.x instance.
+     *
+     * @param vertx the Vert.x instance to check, or null if the codec is used without any Vert.x instance
+     * @return true if messages are to be encoded in the binary format, false if the legacy JSON format is to be used
+     */
+    public static boolean isEnabled(Vertx vertx) {
+        NeonBee neonBee = vertx != null ? NeonBee.get(vertx) : null;
+        return neonBee == null || !neonBee.getOptions().isClustered()
+                || neonBee.getConfig().isBinaryEntityWrapperEncoding();
+    }
+}
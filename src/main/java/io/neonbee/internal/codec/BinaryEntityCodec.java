@@ -0,0 +1,618 @@
+package io.neonbee.internal.codec;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.apache.olingo.commons.api.data.ComplexValue;
+import org.apache.olingo.commons.api.data.Entity;
+import org.apache.olingo.commons.api.data.Property;
+import org.apache.olingo.commons.api.data.ValueType;
+import org.apache.olingo.commons.api.edm.Edm;
+import org.apache.olingo.commons.api.edm.EdmComplexType;
+import org.apache.olingo.commons.api.edm.EdmEntityType;
+import org.apache.olingo.commons.api.edm.EdmPrimitiveType;
+import org.apache.olingo.commons.api.edm.EdmPrimitiveTypeException;
+import org.apache.olingo.commons.api.edm.EdmProperty;
+import org.apache.olingo.commons.api.edm.EdmStructuredType;
+import org.apache.olingo.commons.api.edm.EdmType;
+import org.apache.olingo.commons.api.edm.FullQualifiedName;
+import org.apache.olingo.commons.api.edm.constants.EdmTypeKind;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+
+import io.vertx.core.buffer.Buffer;
+
+/**
+ * A binary codec for entities of a structured (entity or complex) type.
+ * <p>
+ * The codec writes the name of the entity type and the names of its properties once per message, followed by the
+ * property values of every entity in the order of the property names. Every value is prefixed by a tag, which
+ * determines its encoding. Values of the default Java type of their EDM primitive kind (e.g. {@link Integer} for
+ * {@code Edm.Int32}) are encoded natively, any other value (e.g. of temporal or enumeration types) is encoded by its
+ * literal, the same way the OData JSON serializer does. Decoding results in the same values as deserializing the
+ * entities from their OData JSON representation.
+ * <p>
+ * As the property names are part of the message, the encoder and decoder do not need to have the exact same model.
+ * Unknown properties are skipped, so e.g. adding a property to the model of one node in a cluster does not break the
+ * communication with nodes which did not reload the model yet.
+ * <p>
+ * The state of a codec (the properties and their encoding) is computed once per structured type and cached, as long as
+ * the type, i.e. the model it belongs to, is in use.
+ */
+final class BinaryEntityCodec {
+    /**
+     * The first byte of a message encoded by this codec, denoting the version of the format.
+     */
+    static final byte FORMAT = 1;
+
+    private static final byte NULL = 0;
+
+    private static final byte STRING = 1;
+
+    private static final byte BOOLEAN = 2;
+
+    private static final byte BYTE = 3;
+
+    private static final byte SHORT = 4;
+
+    private static final byte INTEGER = 5;
+
+    private static final byte LONG = 6;
+
+    private static final byte FLOAT = 7;
+
+    private static final byte DOUBLE = 8;
+
+    private static final byte DECIMAL = 9;
+
+    private static final byte BINARY = 10;
+
+    private static final byte GUID = 11;
+
+    private static final byte LITERAL = 12;
+
+    private static final byte COMPLEX = 13;
+
+    private static final byte COLLECTION = 14;
+
+    private static final Map<Class<?>, Byte> NATIVE_TAGS = Map.ofEntries(Map.entry(String.class, STRING),
+            Map.entry(Boolean.class, BOOLEAN), Map.entry(Byte.class, BYTE), Map.entry(Short.class, SHORT),
+            Map.entry(Integer.class, INTEGER), Map.entry(Long.class, LONG), Map.entry(Float.class, FLOAT),
+            Map.entry(Double.class, DOUBLE), Map.entry(BigDecimal.class, DECIMAL), Map.entry(byte[].class, BINARY),
+            Map.entry(UUID.class, GUID));
+
+    private static final String EDM_NAMESPACE = "Edm";
+
+    private static final String STREAM_TYPE_NAME = "Stream";
+
+    private static final String GEO_TYPE_PREFIX = "Geo";
+
+    // the types are held weakly, so the codecs of the types of a previous model are released after a model reload
+    private static final LoadingCache<EdmStructuredType, BinaryEntityCodec> CODECS =
+            CacheBuilder.newBuilder().weakKeys().build(CacheLoader.from(BinaryEntityCodec::new));
+
+    private final String typeName;
+
+    private final Map<String, PropertyCodec> properties = new LinkedHashMap<>();
+
+    private final Buffer header = Buffer.buffer();
+
+    private BinaryEntityCodec(EdmStructuredType type) {
+        this.typeName = type.getFullQualifiedName().getFullQualifiedNameAsString();
+        for (String propertyName : type.getPropertyNames()) {
+            EdmProperty property = type.getStructuralProperty(propertyName);
+            EdmType propertyType = property.getType();
+            // same as the OData JSON serializer, do not encode any stream properties
+            if (!EDM_NAMESPACE.equals(propertyType.getNamespace())
+                    || !STREAM_TYPE_NAME.equals(propertyType.getName())) {
+                properties.put(propertyName, new PropertyCodec(property));
+            }
+        }
+
+        header.appendInt(properties.size());
+        properties.keySet().forEach(propertyName -> writeString(header, propertyName));
+    }
+
+    /**
+     * Returns the (cached) codec for a structured type.
+     *
+     * @param type the structured type
+     * @return the codec of the type
+     */
+    static BinaryEntityCodec of(EdmStructuredType type) {
+        return CODECS.getUnchecked(type);
+    }
+
+    /**
+     * Encodes entities of an entity type.
+     *
+     * @param buffer     the buffer to write to
+     * @param edm        the EDM containing the entity type
+     * @param entityType the entity type of the entities
+     * @param entities   the entities to encode
+     * @throws EdmPrimitiveTypeException if any property value does not match the type of its property
+     */
+    static void encode(Buffer buffer, Edm edm, EdmEntityType entityType, List<Entity> entities)
+            throws EdmPrimitiveTypeException {
+        BinaryEntityCodec baseCodec = of(entityType);
+        buffer.appendByte(FORMAT);
+        writeString(buffer, baseCodec.typeName);
+        buffer.appendBuffer(baseCodec.header);
+        buffer.appendInt(entities.size());
+
+        for (Entity entity : entities) {
+            BinaryEntityCodec codec = baseCodec;
+            String entityTypeName = entity.getType();
+            if (entityTypeName != null && !entityTypeName.equals(baseCodec.typeName)) {
+                // same as the OData JSON serializer, encode the properties of derived types
+                EdmEntityType derivedType = edm.getEntityType(new FullQualifiedName(entityTypeName));
+                if (derivedType != null && derivedType.compatibleTo(entityType)) {
+                    codec = of(derivedType);
+                }
+            }
+
+            if (codec == baseCodec) {
+                writeString(buffer, null);
+            } else {
+                writeString(buffer, codec.typeName);
+                buffer.appendBuffer(codec.header);
+            }
+            writeString(buffer, entity.getETag());
+            codec.encodeProperties(buffer, entity.getProperties());
+        }
+    }
+
+    /**
+     * Reads the name of the entity type of a message.
+     *
+     * @param reader the reader to read from
+     * @return the name of the entity type
+     */
+    static FullQualifiedName readEntityTypeName(Reader reader) {
+        byte format = reader.readByte();
+        if (format != FORMAT) {
+            throw new IllegalArgumentException("Unknown entity format " + format);
+        }
+        return new FullQualifiedName(reader.readString());
+    }
+
+    /**
+     * Decodes the entities of a message, after the name of the entity type was read.
+     *
+     * @param reader     the reader to read from
+     * @param edm        the EDM containing the entity type
+     * @param entityType the entity type of the entities
+     * @return the decoded entities
+     * @throws EdmPrimitiveTypeException if any property value does not match the type of its property
+     */
+    static List<Entity> decode(Reader reader, Edm edm, EdmEntityType entityType) throws EdmPrimitiveTypeException {
+        BinaryEntityCodec baseCodec = of(entityType);
+        List<PropertyCodec> baseHeader = baseCodec.readHeader(reader);
+        int size = reader.readInt();
+
+        List<Entity> entities = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            BinaryEntityCodec codec = baseCodec;
+            List<PropertyCodec> header = baseHeader;
+            String derivedTypeName = reader.readString();
+            if (derivedTypeName != null) {
+                EdmEntityType derivedType = edm.getEntityType(new FullQualifiedName(derivedTypeName));
+                codec = derivedType != null ? of(derivedType) : baseCodec;
+                header = codec.readHeader(reader);
+            }
+
+            Entity entity = new Entity();
+            entity.setType(codec.typeName);
+            entity.setETag(reader.readString());
+            for (PropertyCodec propertyCodec : header) {
+                if (propertyCodec == null) {
+                    skipValue(reader);
+                } else {
+                    entity.addProperty(propertyCodec.decodeProperty(reader));
+                }
+            }
+            entities.add(entity);
+        }
+        return entities;
+    }
+
+    private List<PropertyCodec> readHeader(Reader reader) {
+        int size = reader.readInt();
+        List<PropertyCodec> header = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            // null for properties unknown to this model, their values will be skipped
+            header.add(properties.get(reader.readString()));
+        }
+        return header;
+    }
+
+    private void encodeProperties(Buffer buffer, List<Property> values) throws EdmPrimitiveTypeException {
+        for (PropertyCodec codec : properties.values()) {
+            codec.encodeProperty(buffer, findProperty(values, codec.name));
+        }
+    }
+
+    private void encodeComplexValue(Buffer buffer, ComplexValue complexValue) throws EdmPrimitiveTypeException {
+        buffer.appendByte(COMPLEX).appendInt(properties.size());
+        for (PropertyCodec codec : properties.values()) {
+            writeString(buffer, codec.name);
+            codec.encodeProperty(buffer, findProperty(complexValue.getValue(), codec.name));
+        }
+    }
+
+    private ComplexValue decodeComplexValue(Reader reader) throws EdmPrimitiveTypeException {
+        int size = reader.readInt();
+        ComplexValue complexValue = new ComplexValue();
+        for (int i = 0; i < size; i++) {
+            PropertyCodec codec = properties.get(reader.readString());
+            if (codec == null) {
+                skipValue(reader);
+            } else {
+                complexValue.getValue().add(codec.decodeProperty(reader));
+            }
+        }
+        return complexValue;
+    }
+
+    private static Property findProperty(List<Property> properties, String name) {
+        for (Property property : properties) {
+            if (name.equals(property.getName())) {
+                return property;
+            }
+        }
+        return null;
+    }
+
+    private static void skipValue(Reader reader) {
+        byte tag = reader.readByte();
+        switch (tag) {
+        case NULL:
+            break;
+        case STRING:
+        case LITERAL:
+        case BINARY:
+            reader.readBytes();
+            break;
+        case BOOLEAN:
+        case BYTE:
+            reader.skip(Byte.BYTES);
+            break;
+        case SHORT:
+            reader.skip(Short.BYTES);
+            break;
+        case INTEGER:
+        case FLOAT:
+            reader.skip(Integer.BYTES);
+            break;
+        case LONG:
+        case DOUBLE:
+            reader.skip(Long.BYTES);
+            break;
+        case DECIMAL:
+            reader.skip(Integer.BYTES);
+            reader.readBytes();
+            break;
+        case GUID:
+            reader.skip(2 * Long.BYTES);
+            break;
+        case COMPLEX:
+            for (int i = reader.readInt(); i > 0; i--) {
+                reader.readString();
+                skipValue(reader);
+            }
+            break;
+        case COLLECTION:
+            for (int i = reader.readInt(); i > 0; i--) {
+                skipValue(reader);
+            }
+            break;
+        default:
+            throw new IllegalArgumentException("Unknown value tag " + tag);
+        }
+    }
+
+    private static void writeString(Buffer buffer, String value) {
+        writeBytes(buffer, value != null ? value.getBytes(UTF_8) : null);
+    }
+
+    private static void writeBytes(Buffer buffer, byte[] value) {
+        if (value == null) {
+            buffer.appendInt(-1);
+        } else {
+            buffer.appendInt(value.length).appendBytes(value);
+        }
+    }
+
+    /**
+     * The state to encode / decode the values of one property.
+     */
+    private static final class PropertyCodec {
+        final String name;
+
+        final String typeName;
+
+        final EdmProperty property;
+
+        final EdmPrimitiveType primitiveType;
+
+        final EdmComplexType complexType;
+
+        final Class<?> defaultType;
+
+        final byte nativeTag;
+
+        final ValueType valueType;
+
+        PropertyCodec(EdmProperty property) {
+            EdmType type = property.getType();
+            this.name = property.getName();
+            this.typeName = type.getFullQualifiedName().getFullQualifiedNameAsString();
+            this.property = property;
+
+            ValueType singleValueType;
+            if (type.getKind() == EdmTypeKind.COMPLEX) {
+                this.primitiveType = null;
+                this.complexType = (EdmComplexType) type;
+                this.defaultType = null;
+                this.nativeTag = COMPLEX;
+                singleValueType = ValueType.COMPLEX;
+            } else {
+                this.primitiveType = (EdmPrimitiveType) type;
+                this.complexType = null;
+                this.defaultType = primitiveType.getDefaultType();
+                this.nativeTag = NATIVE_TAGS.getOrDefault(defaultType, LITERAL);
+                if (type.getKind() == EdmTypeKind.ENUM) {
+                    singleValueType = ValueType.ENUM;
+                } else if (EDM_NAMESPACE.equals(type.getNamespace()) && type.getName().startsWith(GEO_TYPE_PREFIX)) {
+                    singleValueType = ValueType.GEOSPATIAL;
+                } else {
+                    singleValueType = ValueType.PRIMITIVE;
+                }
+            }
+            this.valueType = property.isCollection() ? singleValueType.getCollectionType() : singleValueType;
+        }
+
+        void encodeProperty(Buffer buffer, Property value) throws EdmPrimitiveTypeException {
+            Object propertyValue = value != null ? value.getValue() : null;
+            if (propertyValue == null && !property.isNullable()) {
+                // same as the OData JSON serializer, fail for missing values of non-nullable properties
+                throw new IllegalArgumentException("Missing value of non-nullable property " + name);
+            }
+
+            if (property.isCollection()) {
+                // same as the OData JSON serializer, encode an empty collection for missing collection values
+                Collection<?> values = propertyValue != null ? (Collection<?>) propertyValue : List.of();
+                buffer.appendByte(COLLECTION).appendInt(values.size());
+                for (Object element : values) {
+                    encodeValue(buffer, element);
+                }
+            } else {
+                encodeValue(buffer, propertyValue);
+            }
+        }
+
+        private void encodeValue(Buffer buffer, Object value) throws EdmPrimitiveTypeException {
+            if (value == null) {
+                buffer.appendByte(NULL);
+            } else if (complexType != null) {
+                of(complexType).encodeComplexValue(buffer, (ComplexValue) value);
+            } else if (nativeTag != LITERAL && value.getClass() == defaultType) {
+                encodeNativeValue(buffer, value);
+            } else {
+                buffer.appendByte(LITERAL);
+                writeString(buffer, primitiveType.valueToString(value, property.isNullable(), property.getMaxLength(),
+                        property.getPrecision(), property.getScale(), property.isUnicode()));
+            }
+        }
+
+        private void encodeNativeValue(Buffer buffer, Object value) {
+            buffer.appendByte(nativeTag);
+            switch (nativeTag) {
+            case STRING:
+                writeString(buffer, (String) value);
+                break;
+            case BOOLEAN:
+                buffer.appendByte((byte) (((Boolean) value) ? 1 : 0));
+                break;
+            case BYTE:
+                buffer.appendByte((Byte) value);
+                break;
+            case SHORT:
+                buffer.appendShort((Short) value);
+                break;
+            case INTEGER:
+                buffer.appendInt((Integer) value);
+                break;
+            case LONG:
+                buffer.appendLong((Long) value);
+                break;
+            case FLOAT:
+                buffer.appendFloat((Float) value);
+                break;
+            case DOUBLE:
+                buffer.appendDouble((Double) value);
+                break;
+            case DECIMAL:
+                BigDecimal decimal = (BigDecimal) value;
+                buffer.appendInt(decimal.scale());
+                writeBytes(buffer, decimal.unscaledValue().toByteArray());
+                break;
+            case BINARY:
+                writeBytes(buffer, (byte[]) value);
+                break;
+            case GUID:
+                UUID uuid = (UUID) value;
+                buffer.appendLong(uuid.getMostSignificantBits()).appendLong(uuid.getLeastSignificantBits());
+                break;
+            default:
+                throw new IllegalStateException("No native encoding for tag " + nativeTag);
+            }
+        }
+
+        Property decodeProperty(Reader reader) throws EdmPrimitiveTypeException {
+            return new Property(typeName, name, valueType, decodeValue(reader));
+        }
+
+        private Object decodeValue(Reader reader) throws EdmPrimitiveTypeException {
+            byte tag = reader.readByte();
+            switch (tag) {
+            case NULL:
+                return null;
+            case COLLECTION:
+                int size = reader.readInt();
+                List<Object> values = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    values.add(decodeValue(reader));
+                }
+                return values;
+            case COMPLEX:
+                if (complexType == null) {
+                    throw new IllegalArgumentException("Property " + name + " is not of a complex type");
+                }
+                return of(complexType).decodeComplexValue(reader);
+            case LITERAL:
+                return valueOfString(reader.readString());
+            default:
+                Object value = decodeNativeValue(reader, tag);
+                // the value was encoded by a model with another type for the property, convert it by its literal
+                return value.getClass() == defaultType ? value : valueOfString(toLiteral(value));
+            }
+        }
+
+        private Object valueOfString(String literal) throws EdmPrimitiveTypeException {
+            if (primitiveType == null) {
+                throw new IllegalArgumentException("Property " + name + " is not of a primitive type");
+            }
+            return primitiveType.valueOfString(literal, property.isNullable(), property.getMaxLength(),
+                    property.getPrecision(), property.getScale(), property.isUnicode(), defaultType);
+        }
+
+        private static Object decodeNativeValue(Reader reader, byte tag) {
+            switch (tag) {
+            case STRING:
+                return reader.readString();
+            case BOOLEAN:
+                return reader.readByte() != 0;
+            case BYTE:
+                return reader.readByte();
+            case SHORT:
+                return reader.readShort();
+            case INTEGER:
+                return reader.readInt();
+            case LONG:
+                return reader.readLong();
+            case FLOAT:
+                return reader.readFloat();
+            case DOUBLE:
+                return reader.readDouble();
+            case DECIMAL:
+                int scale = reader.readInt();
+                return new BigDecimal(new BigInteger(reader.readBytes()), scale);
+            case BINARY:
+                return reader.readBytes();
+            case GUID:
+                return new UUID(reader.readLong(), reader.readLong());
+            default:
+                throw new IllegalArgumentException("Unknown value tag " + tag);
+            }
+        }
+
+        private static String toLiteral(Object value) {
+            if (value instanceof BigDecimal decimal) {
+                return decimal.toPlainString();
+            } else if (value instanceof byte[] bytes) {
+                return Base64.getUrlEncoder().encodeToString(bytes);
+            }
+            return value.toString();
+        }
+    }
+
+    /**
+     * Reads the values of a buffer sequentially, starting at a given position.
+     */
+    static final class Reader {
+        private final Buffer buffer;
+
+        private int position;
+
+        /**
+         * Creates a new reader.
+         *
+         * @param buffer   the buffer to read from
+         * @param position the position to start reading at
+         */
+        Reader(Buffer buffer, int position) {
+            this.buffer = buffer;
+            this.position = position;
+        }
+
+        void skip(int length) {
+            position += length;
+        }
+
+        byte readByte() {
+            return buffer.getByte(position++);
+        }
+
+        short readShort() {
+            short value = buffer.getShort(position);
+            position += Short.BYTES;
+            return value;
+        }
+
+        int readInt() {
+            int value = buffer.getInt(position);
+            position += Integer.BYTES;
+            return value;
+        }
+
+        long readLong() {
+            long value = buffer.getLong(position);
+            position += Long.BYTES;
+            return value;
+        }
+
+        float readFloat() {
+            float value = buffer.getFloat(position);
+            position += Float.BYTES;
+            return value;
+        }
+
+        double readDouble() {
+            double value = buffer.getDouble(position);
+            position += Double.BYTES;
+            return value;
+        }
+
+        byte[] readBytes() {
+            int length = readInt();
+            if (length < 0) {
+                return null; // NOPMD null denotes a null value, not an empty array
+            }
+            byte[] value = buffer.getBytes(position, position + length);
+            position += length;
+            return value;
+        }
+
+        String readString() {
+            int length = readInt();
+            if (length < 0) {
+                return null;
+            }
+            String value = buffer.getString(position, position + length);
+            position += length;
+            return value;
+        }
+    }
+}
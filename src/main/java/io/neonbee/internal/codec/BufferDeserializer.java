@@ -1,33 +1,74 @@
 package io.neonbee.internal.codec;
 
 import java.io.IOException;
-import java.util.Iterator;
 
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
 
+import io.netty.buffer.Unpooled;
 import io.vertx.core.buffer.Buffer;
+import io.vertx.core.internal.buffer.BufferInternal;
 
+/**
+ * Deserializes a {@link Buffer}.
+ * <p>
+ * Binary values (e.g. of binary formats like Smile or CBOR) are wrapped into a buffer w/o copying them. Strings are
+ * read as UTF-8 text, compatible to the payloads written by the {@link BufferSerializer}. Use the {@link Binary}
+ * deserializer to read Base64 encoded strings, as written by the {@link BufferSerializer.Binary} serializer.
+ */
 @SuppressWarnings("checkstyle:MissingJavadocMethod")
 public class BufferDeserializer extends StdDeserializer<Buffer> {
     private static final long serialVersionUID = 2689151954236213091L;
 
+    private final boolean binary;
+
     public BufferDeserializer() {
         this(null);
     }
 
     public BufferDeserializer(Class<Buffer> clazz) {
+        this(clazz, false);
+    }
+
+    BufferDeserializer(Class<Buffer> clazz, boolean binary) {
         super(clazz);
+        this.binary = binary;
     }
 
     @Override
     public Buffer deserialize(JsonParser p, DeserializationContext ctxt) throws IOException, JsonProcessingException {
-        Iterator<String> iterator = p.readValuesAs(String.class);
-        if (iterator.hasNext()) {
-            return Buffer.buffer(iterator.next());
+        JsonToken token = p.currentToken();
+        if (token == JsonToken.VALUE_EMBEDDED_OBJECT) {
+            Object embedded = p.getEmbeddedObject();
+            if (embedded instanceof Buffer buffer) {
+                return buffer;
+            } else if (embedded instanceof byte[] bytes) {
+                return wrap(bytes);
+            }
+        } else if (token == JsonToken.VALUE_STRING) {
+            return binary ? wrap(p.getBinaryValue()) : Buffer.buffer(p.getText());
+        } else if (token.isScalarValue()) {
+            return Buffer.buffer(p.getValueAsString());
+        }
+        return (Buffer) ctxt.handleUnexpectedToken(Buffer.class, p);
+    }
+
+    private static Buffer wrap(byte[] bytes) {
+        return BufferInternal.buffer(Unpooled.wrappedBuffer(bytes));
+    }
+
+    /**
+     * Deserializes a {@link Buffer} from a binary value, i.e. from a Base64 encoded string in textual formats like
+     * JSON, as written by the {@link BufferSerializer.Binary} serializer.
+     */
+    public static class Binary extends BufferDeserializer {
+        private static final long serialVersionUID = 5106418946414906712L;
+
+        public Binary() {
+            super(null, true);
         }
-        return null;
     }
 }
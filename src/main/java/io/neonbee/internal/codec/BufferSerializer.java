@@ -5,23 +5,85 @@ import java.io.IOException;
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.SerializerProvider;
 import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
 
+import io.neonbee.internal.buffer.ImmutableBuffer;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufInputStream;
 import io.vertx.core.buffer.Buffer;
+import io.vertx.core.internal.buffer.BufferInternal;
 
+/**
+ * Serializes a {@link Buffer}.
+ * <p>
+ * In case the generator is able to write binary values natively (e.g. binary formats like Smile or CBOR), the buffer
+ * is written as binary value, read directly from the underlying Netty buffer. Otherwise the buffer is written as UTF-8
+ * string, to stay compatible with existing textual payloads.
+ * Use the {@link Binary} serializer to write any buffer as binary value, i.e. Base64 encoded in textual formats like
+ * JSON, which is safe for binary content, like images or protobuf messages.
+ */
 @SuppressWarnings("checkstyle:MissingJavadocMethod")
 public class BufferSerializer extends StdSerializer<Buffer> {
     private static final long serialVersionUID = 2689151954236213091L;
 
+    private final boolean binary;
+
     public BufferSerializer() {
         this(null);
     }
 
     public BufferSerializer(Class<Buffer> clazz) {
+        this(clazz, false);
+    }
+
+    BufferSerializer(Class<Buffer> clazz, boolean binary) {
         super(clazz);
+        this.binary = binary;
     }
 
     @Override
     public void serialize(Buffer value, JsonGenerator gen, SerializerProvider provider) throws IOException {
-        gen.writeString(value.toString());
+        // token buffers are used to convert values, e.g. to a JsonObject, which could later be encoded as text
+        if (binary || (gen.canWriteBinaryNatively() && !(gen instanceof TokenBuffer))) {
+            writeBinary(value, gen);
+        } else {
+            gen.writeString(value.toString());
+        }
+    }
+
+    private static void writeBinary(Buffer value, JsonGenerator gen) throws IOException {
+        ByteBuf byteBuf = getByteBuf(value);
+        if (byteBuf == null) {
+            gen.writeBinary(value.getBytes());
+        } else if (byteBuf.hasArray()) {
+            gen.writeBinary(byteBuf.array(), byteBuf.arrayOffset() + byteBuf.readerIndex(), byteBuf.readableBytes());
+        } else {
+            // direct or composite buffers are streamed, w/o copying them to an intermediate array first
+            try (ByteBufInputStream inputStream = new ByteBufInputStream(byteBuf)) {
+                gen.writeBinary(inputStream, byteBuf.readableBytes());
+            }
+        }
+    }
+
+    private static ByteBuf getByteBuf(Buffer value) {
+        if (value instanceof BufferInternal bufferInternal) {
+            return bufferInternal.getByteBuf();
+        } else if (value instanceof ImmutableBuffer immutableBuffer) {
+            return immutableBuffer.getByteBuf();
+        }
+        return null;
+    }
+
+    /**
+     * Serializes a {@link Buffer} as binary value in any format, i.e. Base64 encoded in textual formats like JSON.
+     * Values serialized by this serializer must be deserialized using the {@link BufferDeserializer.Binary}
+     * deserializer.
+     */
+    public static class Binary extends BufferSerializer {
+        private static final long serialVersionUID = -2093541431805539318L;
+
+        public Binary() {
+            super(null, true);
+        }
     }
 }
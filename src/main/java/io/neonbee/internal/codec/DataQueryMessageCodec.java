@@ -1,32 +1,155 @@
 package io.neonbee.internal.codec;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import io.neonbee.data.DataAction;
 import io.neonbee.data.DataQuery;
+import io.netty.util.CharsetUtil;
+import io.vertx.core.Vertx;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.eventbus.MessageCodec;
 import io.vertx.core.json.JsonObject;
 
+/**
+ * Encodes a {@link DataQuery} into a compact, versioned binary layout:
+ *
+ * <pre>
+ * int    MAGIC (negative, to distinguish it from the length prefix of the legacy JSON layout)
+ * byte   VERSION
+ * byte   action (ordinal of {@link DataAction})
+ * string uriPath
+ * map    parameters
+ * map    headers
+ * bytes  body
+ * </pre>
+ *
+ * Strings and bytes are length-prefixed with an int ({@code -1} for {@code null}), maps are prefixed with their number
+ * of entries, followed by the key string, the number of values and the value strings.
+ * <p>
+ * Messages encoded by the previous JSON based codec (a positive int length followed by a JSON object) are still
+ * decoded. Nodes running previous versions can only decode the JSON layout though, so clustered instances keep encoding
+ * queries as JSON, until the binary encoding is enabled after all nodes have been upgraded (see
+ * {@link BinaryEncoding}).
+ */
 public class DataQueryMessageCodec implements MessageCodec<DataQuery, DataQuery> {
     /**
-     * Create a new {@link DataQueryMessageCodec}.
+     * Marker written in front of every binary encoded query. The legacy JSON layout always starts with a positive
+     * length, so any negative value is sufficient to distinguish both formats.
+     */
+    static final int MAGIC = 0xDA7A009E;
+
+    /**
+     * The current version of the binary layout.
+     */
+    static final byte VERSION = 1;
+
+    private static final int NULL_LENGTH = -1;
+
+    private static final DataAction[] ACTIONS = DataAction.values();
+
+    private final Vertx vertx;
+
+    /**
+     * Create a new {@link DataQueryMessageCodec}, which always encodes queries in the binary layout.
      */
     public DataQueryMessageCodec() {
-        // no initialization needed, however:
-        // checkstyle suggests to create an empty constructor to explain the use of the class and
-        // sonarcube is complaining if the constructor is empty and suggests to add (this) comment ;)
+        this(null);
+    }
+
+    /**
+     * Create a new {@link DataQueryMessageCodec}, which encodes queries in the binary layout, if the binary encoding is
+     * enabled for the given Vert.x instance.
+     *
+     * @param vertx the Vert.x instance the codec is registered for
+     */
+    public DataQueryMessageCodec(Vertx vertx) {
+        this.vertx = vertx;
     }
 
     @Override
     public void encodeToWire(Buffer buffer, DataQuery query) {
-        JsonObject.mapFrom(query).writeToBuffer(buffer);
+        if (!BinaryEncoding.isEnabled(vertx)) {
+            JsonObject.mapFrom(query).writeToBuffer(buffer);
+            return;
+        }
+
+        buffer.appendInt(MAGIC);
+        buffer.appendByte(VERSION);
+        buffer.appendByte((byte) query.getAction().ordinal());
+        appendString(buffer, query.getUriPath());
+        appendMultiMap(buffer, query.getParameters());
+        appendMultiMap(buffer, query.getHeaders());
+
+        Buffer body = query.getBody();
+        if (body != null) {
+            buffer.appendInt(body.length());
+            buffer.appendBuffer(body);
+        } else {
+            buffer.appendInt(NULL_LENGTH);
+        }
     }
 
     @Override
     public DataQuery decodeFromWire(int position, Buffer buffer) {
+        if (buffer.getInt(position) != MAGIC) {
+            return decodeLegacyFromWire(position, buffer);
+        }
+
+        Reader reader = new Reader(buffer, position + Integer.BYTES);
+        byte version = reader.readByte();
+        if (version != VERSION) {
+            throw new IllegalStateException("Unsupported data query wire format version " + version);
+        }
+
+        DataAction action = ACTIONS[reader.readByte()];
+        String uriPath = reader.readString();
+        Map<String, List<String>> parameters = reader.readMultiMap();
+        Map<String, List<String>> headers = reader.readMultiMap();
+        Buffer body = reader.readBuffer();
+
+        return new DataQuery(action, uriPath, parameters, headers, body);
+    }
+
+    private static DataQuery decodeLegacyFromWire(int position, Buffer buffer) {
         JsonObject jsonObject = new JsonObject();
         jsonObject.readFromBuffer(position, buffer);
         return jsonObject.mapTo(DataQuery.class);
     }
 
+    private static void appendString(Buffer buffer, String value) {
+        if (value != null) {
+            byte[] bytes = value.getBytes(CharsetUtil.UTF_8);
+            buffer.appendInt(bytes.length);
+            buffer.appendBytes(bytes);
+        } else {
+            buffer.appendInt(NULL_LENGTH);
+        }
+    }
+
+    private static void appendMultiMap(Buffer buffer, Map<String, List<String>> map) {
+        if (map == null) {
+            buffer.appendInt(NULL_LENGTH);
+            return;
+        }
+
+        buffer.appendInt(map.size());
+        for (Map.Entry<String, List<String>> entry : map.entrySet()) {
+            appendString(buffer, entry.getKey());
+            List<String> values = entry.getValue();
+            if (values != null) {
+                buffer.appendInt(values.size());
+                for (String value : values) {
+                    appendString(buffer, value);
+                }
+            } else {
+                buffer.appendInt(NULL_LENGTH);
+            }
+        }
+    }
+
     @Override
     public DataQuery transform(DataQuery query) {
         return query.copy();
@@ -41,4 +164,72 @@ public class DataQueryMessageCodec implements MessageCodec<DataQuery, DataQuery>
     public byte systemCodecID() {
         return -1;
     }
+
+    /**
+     * Sequentially reads the binary layout starting from a given position of a buffer.
+     */
+    private static class Reader {
+        private final Buffer buffer;
+
+        private int position;
+
+        Reader(Buffer buffer, int position) {
+            this.buffer = buffer;
+            this.position = position;
+        }
+
+        byte readByte() {
+            return buffer.getByte(position++);
+        }
+
+        int readInt() {
+            int value = buffer.getInt(position);
+            position += Integer.BYTES;
+            return value;
+        }
+
+        String readString() {
+            int length = readInt();
+            if (length == NULL_LENGTH) {
+                return null;
+            }
+
+            String value = buffer.getString(position, position + length, CharsetUtil.UTF_8.name());
+            position += length;
+            return value;
+        }
+
+        Buffer readBuffer() {
+            int length = readInt();
+            if (length == NULL_LENGTH) {
+                return null;
+            }
+
+            Buffer value = buffer.getBuffer(position, position + length);
+            position += length;
+            return value;
+        }
+
+        Map<String, List<String>> readMultiMap() {
+            int size = readInt();
+            if (size == NULL_LENGTH) {
+                return null;
+            }
+
+            Map<String, List<String>> map = new HashMap<>();
+            for (int i = 0; i < size; i++) {
+                String key = readString();
+                int valueCount = readInt();
+                List<String> values = null;
+                if (valueCount != NULL_LENGTH) {
+                    values = new ArrayList<>(valueCount);
+                    for (int j = 0; j < valueCount; j++) {
+                        values.add(readString());
+                    }
+                }
+                map.put(key, values);
+            }
+            return map;
+        }
+    }
 }
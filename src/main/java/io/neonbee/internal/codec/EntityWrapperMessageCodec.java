@@ -10,8 +10,10 @@ import java.nio.charset.StandardCharsets;
 
 import org.apache.olingo.commons.api.data.ContextURL;
 import org.apache.olingo.commons.api.data.EntityCollection;
+import org.apache.olingo.commons.api.edm.Edm;
 import org.apache.olingo.commons.api.edm.EdmEntitySet;
 import org.apache.olingo.commons.api.edm.EdmEntityType;
+import org.apache.olingo.commons.api.edm.EdmPrimitiveTypeException;
 import org.apache.olingo.commons.api.edm.FullQualifiedName;
 import org.apache.olingo.server.api.ServiceMetadata;
 import org.apache.olingo.server.api.deserializer.DeserializerException;
@@ -24,6 +26,8 @@ import org.apache.olingo.server.api.serializer.SerializerResult;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.google.common.annotations.VisibleForTesting;
+
 import io.neonbee.NeonBee;
 import io.neonbee.entity.EntityModelDefinition;
 import io.neonbee.entity.EntityWrapper;
@@ -32,6 +36,14 @@ import io.vertx.core.buffer.Buffer;
 import io.vertx.core.eventbus.MessageCodec;
 import io.vertx.core.json.JsonObject;
 
+/**
+ * Encodes {@link EntityWrapper} in a binary format when sending them over the wire. The entity type and the names of
+ * its properties are written once, followed by the property values of all entities, encoded by their EDM type.
+ * <p>
+ * The entity wrappers encoded as JSON by previous versions of this codec are still decoded. As previous versions cannot
+ * decode the binary format, clustered instances keep encoding entity wrappers as JSON, unless the binary encoding is
+ * enabled in the {@link io.neonbee.config.NeonBeeConfig}, after all nodes of the cluster have been upgraded.
+ */
 public class EntityWrapperMessageCodec implements MessageCodec<EntityWrapper, EntityWrapper> {
     private static final Logger LOGGER = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
 
@@ -56,17 +68,65 @@ public class EntityWrapperMessageCodec implements MessageCodec<EntityWrapper, En
 
     @Override
     public void encodeToWire(Buffer buffer, EntityWrapper entityWrapper) {
+        encode(vertx, buffer, entityWrapper);
+    }
+
+    @Override
+    public EntityWrapper decodeFromWire(int position, Buffer buffer) {
+        return decode(vertx, position, buffer);
+    }
+
+    /**
+     * Encodes an {@link EntityWrapper} to a buffer, in the binary entity format, or as JSON for clustered instances
+     * without the binary encoding enabled.
+     *
+     * @param vertx         a Vert.x instance required to get the buffered model
+     * @param buffer        the buffer to write to
+     * @param entityWrapper the entity wrapper to encode
+     */
+    public static void encode(Vertx vertx, Buffer buffer, EntityWrapper entityWrapper) {
+        if (!BinaryEncoding.isEnabled(vertx)) {
+            encodeJson(vertx, buffer, entityWrapper);
+            return;
+        }
+
         FullQualifiedName entityTypeName = entityWrapper.getTypeName();
-        ServiceMetadata serviceMetadata = getServiceMetadata(entityTypeName);
+        Edm edm = getLoadedServiceMetadata(vertx, entityWrapper).getEdm();
+        try {
+            BinaryEntityCodec.encode(buffer, edm, edm.getEntityType(entityTypeName), entityWrapper.getEntities());
+        } catch (EdmPrimitiveTypeException | IllegalArgumentException e) {
+            LOGGER.warn("Error while serializing entity wrapper.", e);
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Encodes an {@link EntityWrapper} to a buffer as JSON, independent of whether the binary encoding is enabled. The
+     * JSON representation is the stable, public format of an entity wrapper, e.g. used for request bodies.
+     *
+     * @param vertx         a Vert.x instance required to get the buffered model
+     * @param buffer        the buffer to write to
+     * @param entityWrapper the entity wrapper to encode
+     */
+    public static void encodeJson(Vertx vertx, Buffer buffer, EntityWrapper entityWrapper) {
+        encodeJson(buffer, getLoadedServiceMetadata(vertx, entityWrapper), entityWrapper);
+    }
+
+    private static ServiceMetadata getLoadedServiceMetadata(Vertx vertx, EntityWrapper entityWrapper) {
+        ServiceMetadata serviceMetadata = getServiceMetadata(vertx, entityWrapper.getTypeName());
         if (serviceMetadata == null) {
             throw new IllegalStateException("Service metadata was not loaded yet for " + entityWrapper.getTypeName());
         }
+        return serviceMetadata;
+    }
+
+    @VisibleForTesting
+    static void encodeJson(Buffer buffer, ServiceMetadata serviceMetadata, EntityWrapper entityWrapper) {
+        FullQualifiedName entityTypeName = entityWrapper.getTypeName();
         EdmEntityType entityType = serviceMetadata.getEdm().getEntityType(entityTypeName);
         EdmEntitySet entitySet = serviceMetadata.getEdm().getEntityContainer().getEntitySet(entityTypeName.getName());
-        ContextURL contextUrl = ContextURL.with().entitySet(entitySet).build();
-        EntityCollectionSerializerOptions.Builder optionsBuilder =
-                EntityCollectionSerializerOptions.with().contextURL(contextUrl);
-        EntityCollectionSerializerOptions options = optionsBuilder.build();
+        EntityCollectionSerializerOptions options = EntityCollectionSerializerOptions.with()
+                .contextURL(ContextURL.with().entitySet(entitySet).build()).build();
 
         try {
             EntityCollection entityCollection = new EntityCollection();
@@ -84,19 +144,38 @@ public class EntityWrapperMessageCodec implements MessageCodec<EntityWrapper, En
         }
     }
 
-    private ServiceMetadata getServiceMetadata(FullQualifiedName entityTypeName) {
-        return NeonBee.get(vertx).getModelManager()
-                .getBufferedModel(EntityModelDefinition.retrieveNamespace(entityTypeName.getNamespace()))
-                .getEdmxMetadata(entityTypeName.getNamespace());
+    /**
+     * Decodes an {@link EntityWrapper} from a buffer.
+     *
+     * @param vertx    a Vert.x instance required to get the buffered model
+     * @param position the position in the buffer to start decoding at
+     * @param buffer   the buffer to read from
+     * @return the decoded entity wrapper
+     */
+    public static EntityWrapper decode(Vertx vertx, int position, Buffer buffer) {
+        if (buffer.getByte(position) == '{') {
+            // entity wrappers encoded by previous versions (e.g. by other nodes in a cluster during an update)
+            return decodeJson(vertx, position, buffer);
+        }
+
+        BinaryEntityCodec.Reader reader = new BinaryEntityCodec.Reader(buffer, position);
+        FullQualifiedName entityTypeName = BinaryEntityCodec.readEntityTypeName(reader);
+        Edm edm = getServiceMetadata(vertx, entityTypeName).getEdm();
+        try {
+            return new EntityWrapper(entityTypeName,
+                    BinaryEntityCodec.decode(reader, edm, edm.getEntityType(entityTypeName)));
+        } catch (EdmPrimitiveTypeException | IllegalArgumentException e) {
+            LOGGER.warn("Error while deserializing entity wrapper.", e);
+            throw new RuntimeException(e);
+        }
     }
 
-    @Override
-    public EntityWrapper decodeFromWire(int position, Buffer buffer) {
+    private static EntityWrapper decodeJson(Vertx vertx, int position, Buffer buffer) {
         JsonObject jsonObject = buffer.getBuffer(position, buffer.length()).toJsonObject();
         JsonObject entityTypeJsonObject = jsonObject.getJsonObject(ENTITY_TYPE);
         FullQualifiedName entityTypeName =
                 new FullQualifiedName(entityTypeJsonObject.getString(NAMESPACE), entityTypeJsonObject.getString(NAME));
-        ServiceMetadata serviceMetadata = getServiceMetadata(entityTypeName);
+        ServiceMetadata serviceMetadata = getServiceMetadata(vertx, entityTypeName);
         EdmEntityType entityType = serviceMetadata.getEdm().getEntityType(entityTypeName);
         try {
             String payload = jsonObject.getString(ENTITY);
@@ -111,6 +190,13 @@ public class EntityWrapperMessageCodec implements MessageCodec<EntityWrapper, En
         }
     }
 
+    @VisibleForTesting
+    static ServiceMetadata getServiceMetadata(Vertx vertx, FullQualifiedName entityTypeName) {
+        return NeonBee.get(vertx).getModelManager()
+                .getBufferedModel(EntityModelDefinition.retrieveNamespace(entityTypeName.getNamespace()))
+                .getEdmxMetadata(entityTypeName.getNamespace());
+    }
+
     @Override
     public EntityWrapper transform(EntityWrapper entity) {
         return entity;
@@ -52,14 +52,13 @@ public class LoggerHandler implements PlatformHandler {
                 request.uri(), version, statusCode, request.response().bytesWritten(),
                 System.currentTimeMillis() - timestamp);
 
-        LOGGER.correlateWith(routingContext);
-
+        LoggingFacade logger = LOGGER.correlateWith(routingContext);
         if (statusCode >= INTERNAL_SERVER_ERROR.code()) {
-            LOGGER.error(message);
+            logger.error(message);
         } else if (statusCode >= BAD_REQUEST.code()) {
-            LOGGER.warn(message);
+            logger.warn(message);
         } else {
-            LOGGER.info(message);
+            logger.info(message);
         }
     }
 }
@@ -2,8 +2,13 @@ package io.neonbee.internal.helper;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import io.vertx.core.buffer.Buffer;
+import io.vertx.core.streams.WriteStream;
 
 public final class BufferHelper {
     private static final int DEFAULT_BUFFER_SIZE = 4096;
@@ -104,4 +109,132 @@ public final class BufferHelper {
             buffer = null;
         }
     }
+
+    /**
+     * A specific implementation for writing to a Vert.x {@link WriteStream} through a Java {@link OutputStream}.
+     * <p>
+     * Written bytes are collected into chunks of a given size, before they get written to the write stream. In case the
+     * write queue of the write stream is full, writing the next chunk blocks the calling thread until the write stream
+     * is drained, thus this output stream must NOT be used on an event loop thread. To not block the thread for as long
+     * as a slow reader takes, waiting for the write stream to drain can be bounded by a timeout. Closing this output
+     * stream flushes the remaining bytes, but does not end the write stream.
+     * <p>
+     * No handlers are set on the write stream, except for the drain handler, so the owner of the write stream has to
+     * {@link #cancel(Throwable) cancel} writing, e.g. in case the underlying connection was closed.
+     */
+    public static class WriteStreamOutputStream extends OutputStream {
+        private final WriteStream<Buffer> writeStream;
+
+        private final int chunkSize;
+
+        private final long drainTimeoutMillis;
+
+        private Buffer chunk;
+
+        private volatile CountDownLatch drainLatch;
+
+        private volatile Throwable failure;
+
+        /**
+         * Create a new {@link WriteStreamOutputStream} writing to a Vert.x {@link WriteStream}.
+         *
+         * @param writeStream the write stream to write to
+         * @param chunkSize   the size of the chunks written to the write stream
+         */
+        public WriteStreamOutputStream(WriteStream<Buffer> writeStream, int chunkSize) {
+            this(writeStream, chunkSize, 0);
+        }
+
+        /**
+         * Create a new {@link WriteStreamOutputStream} writing to a Vert.x {@link WriteStream}, which fails writing in
+         * case the write stream does not drain within a given timeout.
+         *
+         * @param writeStream        the write stream to write to
+         * @param chunkSize          the size of the chunks written to the write stream
+         * @param drainTimeoutMillis the time in milliseconds to wait for the write stream to drain, or 0 to wait
+         *                           indefinitely
+         */
+        public WriteStreamOutputStream(WriteStream<Buffer> writeStream, int chunkSize, long drainTimeoutMillis) {
+            super();
+            this.writeStream = writeStream;
+            this.chunkSize = chunkSize;
+            this.drainTimeoutMillis = drainTimeoutMillis;
+            this.chunk = Buffer.buffer(chunkSize);
+        }
+
+        @Override
+        public void write(int data) throws IOException {
+            chunk.appendByte((byte) data);
+            if (chunk.length() >= chunkSize) {
+                flush();
+            }
+        }
+
+        @Override
+        public void write(byte[] data, int offset, int length) throws IOException {
+            chunk.appendBytes(data, offset, length);
+            if (chunk.length() >= chunkSize) {
+                flush();
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            if (chunk.length() == 0) {
+                return;
+            }
+
+            awaitWritable();
+            writeStream.write(chunk);
+            chunk = Buffer.buffer(chunkSize);
+        }
+
+        @Override
+        public void close() throws IOException {
+            flush();
+        }
+
+        /**
+         * Cancels writing to the write stream, e.g. in case the underlying connection was closed. Any thread blocked
+         * waiting for the write stream to drain is released, any subsequent write fails with an {@link IOException}.
+         *
+         * @param cause the cause of the cancellation
+         */
+        public void cancel(Throwable cause) {
+            failure = cause;
+            CountDownLatch latch = drainLatch;
+            if (latch != null) {
+                latch.countDown();
+            }
+        }
+
+        private void awaitWritable() throws IOException {
+            checkFailure();
+            while (writeStream.writeQueueFull()) {
+                CountDownLatch latch = drainLatch = new CountDownLatch(1);
+                writeStream.drainHandler(nothing -> latch.countDown());
+                // the write queue could have been drained / cancelled before the drain handler / latch was set
+                if (failure == null && writeStream.writeQueueFull()) {
+                    try {
+                        if (drainTimeoutMillis <= 0) {
+                            latch.await();
+                        } else if (!latch.await(drainTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                            cancel(new IOException("Timed out waiting for write stream to drain"));
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw (IOException) new InterruptedIOException("Interrupted waiting for write stream to drain")
+                                .initCause(e);
+                    }
+                }
+                checkFailure();
+            }
+        }
+
+        private void checkFailure() throws IOException {
+            if (failure != null) {
+                throw new IOException("Writing to write stream was cancelled", failure);
+            }
+        }
+    }
 }
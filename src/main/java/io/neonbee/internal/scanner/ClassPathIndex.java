@@ -0,0 +1,447 @@
+package io.neonbee.internal.scanner;
+
+import static io.neonbee.internal.helper.StringHelper.EMPTY;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.stream.Stream;
+
+import org.objectweb.asm.AnnotationVisitor;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassVisitor;
+import org.objectweb.asm.FieldVisitor;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+
+import com.google.common.annotations.VisibleForTesting;
+
+import io.neonbee.NeonBee;
+import io.neonbee.logging.LoggingFacade;
+import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * An index of all annotations of the classes on the class path.
+ * <p>
+ * The index is built in one pass over the class path, reading every class file only once with a single ASM visitor, so
+ * that it can answer any scan for annotated classes (e.g. for hooks, deployables, ...). The class path elements (JAR
+ * files and class files in directories) are indexed in parallel. The index of an element is kept, keyed by its path,
+ * size and last modification time, so that unchanged elements are never read again. The index of the JAR files can be
+ * persisted, so that also subsequent starts skip all unchanged JAR files.
+ */
+final class ClassPathIndex {
+    /**
+     * The index shared by all class path scanners.
+     */
+    static final ClassPathIndex SHARED = new ClassPathIndex();
+
+    /**
+     * The name of the file the index is persisted to, in the working directory of NeonBee.
+     */
+    static final String INDEX_FILE_NAME = ".classpath-index.json";
+
+    private static final LoggingFacade LOGGER = LoggingFacade.create();
+
+    private static final int INDEX_FILE_VERSION = 1;
+
+    private static final int PARSING_OPTIONS =
+            ClassReader.SKIP_CODE | ClassReader.SKIP_DEBUG | ClassReader.SKIP_FRAMES;
+
+    private static final String CLASS_FILE_SUFFIX = ".class";
+
+    private static final String JAR_SEPARATOR = "!/";
+
+    private final Map<Path, Element> elements = new ConcurrentHashMap<>();
+
+    private final Set<Path> loadedIndexFiles = ConcurrentHashMap.newKeySet();
+
+    private final AtomicBoolean modified = new AtomicBoolean();
+
+    @VisibleForTesting
+    ClassPathIndex() {}
+
+    /**
+     * Returns the file to persist the index to for a given Vert.x instance.
+     *
+     * @param vertx the Vert.x instance
+     * @return the path to the index file in the working directory of NeonBee, or null if no NeonBee instance is
+     *         associated to the Vert.x instance
+     */
+    static Path indexFile(Vertx vertx) {
+        NeonBee neonBee = NeonBee.get(vertx);
+        if (neonBee == null || neonBee.getOptions() == null || neonBee.getOptions().getWorkingDirectory() == null) {
+            return null;
+        }
+        return neonBee.getOptions().getWorkingDirectory().resolve(INDEX_FILE_NAME);
+    }
+
+    /**
+     * Indexes all classes on the class path of the given class loader.
+     *
+     * Attention: Blocking! Must only be called inside a executeBlocking block!
+     *
+     * @param classLoader the class loader to index the class path of
+     * @param indexFile   the file to load / persist the index of the JAR files from / to, or null
+     * @return all annotated classes on the class path
+     * @throws IOException in case the class path could not be determined
+     */
+    List<AnnotatedClass> scan(ClassLoader classLoader, Path indexFile) throws IOException {
+        if (indexFile != null && loadedIndexFiles.add(indexFile)) {
+            load(indexFile);
+        }
+
+        Set<Path> jarFiles = new LinkedHashSet<>();
+        for (Enumeration<URL> manifests = classLoader.getResources("META-INF/MANIFEST.MF"); manifests
+                .hasMoreElements();) {
+            Path jarFile = jarFile(manifests.nextElement());
+            if (jarFile != null) {
+                jarFiles.add(jarFile);
+            }
+        }
+
+        Set<Path> classFiles = new LinkedHashSet<>();
+        for (Enumeration<URL> roots = classLoader.getResources(EMPTY); roots.hasMoreElements();) {
+            URL root = roots.nextElement();
+            // ignore non-files on root (we don't care for bundled JARs or ZIPs)
+            if ("file".equals(root.getProtocol())) {
+                classFiles.addAll(classFiles(root));
+            }
+        }
+
+        List<AnnotatedClass> classes = Stream.concat(jarFiles.stream(), classFiles.stream()).parallel()
+                .map(this::element).flatMap(element -> element.classes.stream()).toList();
+
+        if (indexFile != null && modified.compareAndSet(true, false)) {
+            save(indexFile);
+        }
+        return classes;
+    }
+
+    private static Path jarFile(URL manifest) {
+        try {
+            URI uri = manifest.toURI();
+            if (!"jar".equals(uri.getScheme())) {
+                return null;
+            }
+
+            String path = uri.getRawSchemeSpecificPart();
+            int separator = path.indexOf(JAR_SEPARATOR);
+            URI jarUri = new URI(separator < 0 ? path : path.substring(0, separator));
+            return "file".equals(jarUri.getScheme()) ? Paths.get(jarUri) : null;
+        } catch (URISyntaxException | IllegalArgumentException e) {
+            LOGGER.debug("Ignoring manifest {}, which is not part of a JAR file", manifest, e);
+            return null;
+        }
+    }
+
+    private static List<Path> classFiles(URL root) throws IOException {
+        Path rootPath;
+        try {
+            rootPath = Paths.get(root.toURI());
+        } catch (URISyntaxException e) {
+            return List.of(); // nothing to do here, just continue searching
+        }
+
+        // the file must be a directory, because the class path does only contains JARs, ZIPs and directories.
+        if (!Files.isDirectory(rootPath)) {
+            return List.of();
+        }
+        try (Stream<Path> walk = Files.walk(rootPath)) {
+            return walk.filter(path -> path.toString().endsWith(CLASS_FILE_SUFFIX)).toList();
+        }
+    }
+
+    /**
+     * Returns the index of a class path element, indexing the element only if it was not indexed yet or changed.
+     */
+    private Element element(Path path) {
+        BasicFileAttributes attributes;
+        try {
+            attributes = Files.readAttributes(path, BasicFileAttributes.class);
+        } catch (IOException e) {
+            LOGGER.debug("Failed to read attributes of {}, skipping it", path, e);
+            return Element.EMPTY;
+        }
+
+        long size = attributes.size();
+        long lastModified = attributes.lastModifiedTime().toMillis();
+        Element element = elements.get(path);
+        if (element != null && element.size == size && element.lastModified == lastModified) {
+            return element;
+        }
+
+        element = new Element(size, lastModified, isClassFile(path) ? indexClassFile(path) : indexJarFile(path));
+        elements.put(path, element);
+        if (!isClassFile(path)) {
+            modified.set(true);
+        }
+        return element;
+    }
+
+    private static boolean isClassFile(Path path) {
+        return path.toString().endsWith(CLASS_FILE_SUFFIX);
+    }
+
+    private static List<AnnotatedClass> indexClassFile(Path path) {
+        try (InputStream input = Files.newInputStream(path)) {
+            AnnotatedClass annotatedClass = index(input);
+            return annotatedClass != null ? List.of(annotatedClass) : List.of();
+        } catch (IOException e) {
+            LOGGER.debug("Failed to read class file {}, skipping it", path, e);
+            return List.of();
+        }
+    }
+
+    private static List<AnnotatedClass> indexJarFile(Path path) {
+        List<AnnotatedClass> classes = new ArrayList<>();
+        try (JarFile jarFile = new JarFile(path.toFile(), false)) {
+            for (Enumeration<JarEntry> entries = jarFile.entries(); entries.hasMoreElements();) {
+                JarEntry entry = entries.nextElement();
+                if (entry.isDirectory() || !entry.getName().endsWith(CLASS_FILE_SUFFIX)) {
+                    continue;
+                }
+
+                try (InputStream input = jarFile.getInputStream(entry)) {
+                    AnnotatedClass annotatedClass = index(input);
+                    if (annotatedClass != null) {
+                        classes.add(annotatedClass);
+                    }
+                } catch (IOException e) {
+                    LOGGER.debug("Failed to read class file {} in {}, skipping it", entry.getName(), path, e);
+                }
+            }
+        } catch (IOException e) {
+            LOGGER.debug("Failed to read JAR file {}, skipping it", path, e);
+        }
+        return classes;
+    }
+
+    /**
+     * Reads the annotations of a class.
+     *
+     * @param input the class file
+     * @return the annotated class, or null if neither the class, nor any of its fields or methods is annotated, or the
+     *         class file is invalid
+     * @throws IOException in case the class file could not be read
+     */
+    @VisibleForTesting
+    static AnnotatedClass index(InputStream input) throws IOException {
+        IndexClassVisitor visitor = new IndexClassVisitor();
+        try {
+            new ClassReader(input).accept(visitor, PARSING_OPTIONS);
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+            // ASM signals invalid or unsupported class files with runtime exceptions, just skip such classes
+            LOGGER.debug("Failed to parse class file, skipping it", e);
+            return null;
+        }
+        return visitor.annotatedClass();
+    }
+
+    private void load(Path indexFile) {
+        if (!Files.isReadable(indexFile)) {
+            return;
+        }
+
+        try {
+            JsonObject index = new JsonObject(Files.readString(indexFile, UTF_8));
+            if (index.getInteger("version", 0) != INDEX_FILE_VERSION) {
+                return;
+            }
+
+            index.getJsonObject("elements", new JsonObject()).forEach(entry -> elements
+                    .putIfAbsent(Paths.get(entry.getKey()), Element.fromJson((JsonObject) entry.getValue())));
+        } catch (IOException | RuntimeException e) { // NOPMD the index is only a cache, never fail to start
+            LOGGER.warn("Failed to load the class path index {}, rebuilding it", indexFile, e);
+        }
+    }
+
+    private synchronized void save(Path indexFile) {
+        JsonObject persistedElements = new JsonObject();
+        elements.forEach((path, element) -> {
+            // only JAR files are persisted, as class files in directories are indexed individually
+            if (!isClassFile(path)) {
+                persistedElements.put(path.toString(), element.toJson());
+            }
+        });
+
+        try {
+            Path tempFile = indexFile.resolveSibling(indexFile.getFileName() + ".tmp");
+            Files.writeString(tempFile,
+                    new JsonObject().put("version", INDEX_FILE_VERSION).put("elements", persistedElements).encode(),
+                    UTF_8);
+            Files.move(tempFile, indexFile, REPLACE_EXISTING, ATOMIC_MOVE);
+        } catch (IOException e) {
+            LOGGER.warn("Failed to persist the class path index to {}", indexFile, e);
+        }
+    }
+
+    /**
+     * The index of one class path element, either a JAR file, or a class file in a directory.
+     */
+    private static final class Element {
+        static final Element EMPTY = new Element(-1, -1, List.of());
+
+        final long size;
+
+        final long lastModified;
+
+        final List<AnnotatedClass> classes;
+
+        Element(long size, long lastModified, List<AnnotatedClass> classes) {
+            this.size = size;
+            this.lastModified = lastModified;
+            this.classes = classes;
+        }
+
+        JsonObject toJson() {
+            JsonArray classesJson = new JsonArray();
+            classes.forEach(annotatedClass -> classesJson.add(annotatedClass.toJson()));
+            return new JsonObject().put("size", size).put("lastModified", lastModified).put("classes", classesJson);
+        }
+
+        static Element fromJson(JsonObject json) {
+            List<AnnotatedClass> classes = new ArrayList<>();
+            json.getJsonArray("classes")
+                    .forEach(classJson -> classes.add(AnnotatedClass.fromJson((JsonObject) classJson)));
+            return new Element(json.getLong("size"), json.getLong("lastModified"), List.copyOf(classes));
+        }
+    }
+
+    /**
+     * The annotations of a class, its fields and methods, identified by their type descriptors.
+     */
+    static final class AnnotatedClass {
+        final String className;
+
+        final boolean publicClass;
+
+        final Set<String> typeAnnotations;
+
+        final Set<String> fieldAnnotations;
+
+        final Set<String> methodAnnotations;
+
+        AnnotatedClass(String className, boolean publicClass, Set<String> typeAnnotations,
+                Set<String> fieldAnnotations, Set<String> methodAnnotations) {
+            this.className = className;
+            this.publicClass = publicClass;
+            this.typeAnnotations = typeAnnotations;
+            this.fieldAnnotations = fieldAnnotations;
+            this.methodAnnotations = methodAnnotations;
+        }
+
+        JsonObject toJson() {
+            return new JsonObject().put("name", className).put("public", publicClass)
+                    .put("type", new JsonArray(List.copyOf(typeAnnotations)))
+                    .put("field", new JsonArray(List.copyOf(fieldAnnotations)))
+                    .put("method", new JsonArray(List.copyOf(methodAnnotations)));
+        }
+
+        static AnnotatedClass fromJson(JsonObject json) {
+            return new AnnotatedClass(json.getString("name"), json.getBoolean("public"),
+                    descriptors(json.getJsonArray("type")), descriptors(json.getJsonArray("field")),
+                    descriptors(json.getJsonArray("method")));
+        }
+
+        private static Set<String> descriptors(JsonArray json) {
+            Set<String> descriptors = new HashSet<>(json.size());
+            json.forEach(descriptor -> descriptors.add((String) descriptor));
+            return Set.copyOf(descriptors);
+        }
+    }
+
+    /**
+     * Collects the annotations of a class, its fields and methods in a single pass. Annotations of the class are
+     * collected regardless of their retention, annotations of fields and methods only if visible at runtime.
+     */
+    @VisibleForTesting
+    static class IndexClassVisitor extends ClassVisitor {
+        private final Set<String> typeAnnotations = new HashSet<>();
+
+        private final Set<String> fieldAnnotations = new HashSet<>();
+
+        private final Set<String> methodAnnotations = new HashSet<>();
+
+        private final FieldVisitor fieldVisitor = new FieldVisitor(Opcodes.ASM9) {
+            @Override
+            public AnnotationVisitor visitAnnotation(String descriptor, boolean visible) {
+                if (visible) {
+                    fieldAnnotations.add(descriptor);
+                }
+                return null;
+            }
+        };
+
+        private final MethodVisitor methodVisitor = new MethodVisitor(Opcodes.ASM9) {
+            @Override
+            public AnnotationVisitor visitAnnotation(String descriptor, boolean visible) {
+                if (visible) {
+                    methodAnnotations.add(descriptor);
+                }
+                return null;
+            }
+        };
+
+        private String className;
+
+        private int access;
+
+        IndexClassVisitor() {
+            super(Opcodes.ASM9);
+        }
+
+        @Override
+        public void visit(int version, int access, String name, String signature, String superName,
+                String[] interfaces) {
+            className = name.replace('/', '.');
+            this.access = access;
+        }
+
+        @Override
+        public AnnotationVisitor visitAnnotation(String descriptor, boolean visible) {
+            typeAnnotations.add(descriptor);
+            return null;
+        }
+
+        @Override
+        public FieldVisitor visitField(int access, String name, String descriptor, String signature, Object value) {
+            return fieldVisitor;
+        }
+
+        @Override
+        public MethodVisitor visitMethod(int access, String name, String descriptor, String signature,
+                String[] exceptions) {
+            return methodVisitor;
+        }
+
+        AnnotatedClass annotatedClass() {
+            if (typeAnnotations.isEmpty() && fieldAnnotations.isEmpty() && methodAnnotations.isEmpty()) {
+                return null;
+            }
+            return new AnnotatedClass(className, (access & Opcodes.ACC_PUBLIC) != 0, Set.copyOf(typeAnnotations),
+                    Set.copyOf(fieldAnnotations), Set.copyOf(methodAnnotations));
+        }
+    }
+}
@@ -23,6 +23,7 @@ import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Enumeration;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -31,15 +32,15 @@ import java.util.jar.Manifest;
 import java.util.regex.Pattern;
 import java.util.stream.Stream;
 
-import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.Type;
 
 import com.google.common.base.Strings;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Iterators;
 
 import io.neonbee.internal.helper.FileSystemHelper;
-import io.neonbee.internal.helper.JarHelper;
 import io.neonbee.internal.helper.ThreadHelper;
+import io.neonbee.internal.scanner.ClassPathIndex.AnnotatedClass;
 import io.neonbee.logging.LoggingFacade;
 import io.vertx.core.Future;
 import io.vertx.core.Vertx;
@@ -183,59 +184,50 @@ public class ClassPathScanner {
     /**
      * Scans the whole class path (does also recursively dig into JAR files!) for class files which are annotated with a
      * given annotation (either the whole class, methods or fields might be annotated and specified in elementTypes).
+     * <p>
+     * All scans are answered by a shared index of the class path, so that every class file is only read once, instead
+     * of once per scan. If a NeonBee instance is associated to the Vert.x instance, the index of the JAR files is
+     * persisted to its working directory, so that unchanged JAR files are skipped on the next start as well.
      *
      * @param vertx             the Vert.x instance
      * @param annotationClasses A List of annotations to check for
      * @param elementTypes      the types of annotation to check for (supports TYPE, FIELD and METHOD)
      * @return a future to a list of resources on the class path
      */
-    @SuppressWarnings("PMD.EmptyCatchBlock")
     public Future<List<String>> scanForAnnotation(Vertx vertx,
             List<Class<? extends Annotation>> annotationClasses,
             ElementType... elementTypes) {
+        Set<String> descriptors = new HashSet<>();
+        for (Class<? extends Annotation> annotationClass : annotationClasses) {
+            descriptors.add(Type.getDescriptor(annotationClass));
+        }
+        Set<ElementType> elementTypeSet = Set.of(elementTypes);
+        boolean includeTypes = elementTypeSet.contains(ElementType.TYPE);
+        boolean includeFields = elementTypeSet.contains(ElementType.FIELD);
+        boolean includeMethods = elementTypeSet.contains(ElementType.METHOD);
 
-        Future<List<String>> classesFromDirectories = scanWithPredicate(vertx, ClassPathScanner::isClassFile);
-        Future<List<String>> classesFromJars = scanJarFilesWithPredicate(vertx, ClassPathScanner::isClassFile)
-                .map(uris -> {
-                    List<String> result = new ArrayList<>(uris.size());
-                    for (URI uri : uris) {
-                        result.add(JarHelper.extractFilePath(uri));
-                    }
-                    return result;
-                });
-
-        return Future.all(classesFromDirectories, classesFromJars).compose(v -> vertx.executeBlocking(() -> {
-            List<AnnotationClassVisitor> classVisitors = new ArrayList<>(annotationClasses.size());
-            for (Class<? extends Annotation> annotationClass : annotationClasses) {
-                classVisitors.add(new AnnotationClassVisitor(annotationClass, elementTypes));
-            }
-
-            processClasses(classesFromDirectories.result(), classVisitors);
-            processClasses(classesFromJars.result(), classVisitors);
-
-            Set<String> matchedClassNames = new HashSet<>();
-            for (AnnotationClassVisitor visitor : classVisitors) {
-                matchedClassNames.addAll(visitor.getClassNames());
+        Path indexFile = ClassPathIndex.indexFile(vertx);
+        return vertx.executeBlocking(() -> {
+            Set<String> matchedClassNames = new LinkedHashSet<>();
+            for (AnnotatedClass annotatedClass : ClassPathIndex.SHARED.scan(classLoader, indexFile)) {
+                if ((includeTypes && annotatedClass.publicClass
+                        && containsAny(annotatedClass.typeAnnotations, descriptors))
+                        || (includeFields && containsAny(annotatedClass.fieldAnnotations, descriptors))
+                        || (includeMethods && containsAny(annotatedClass.methodAnnotations, descriptors))) {
+                    matchedClassNames.add(annotatedClass.className);
+                }
             }
-
             return new ArrayList<>(matchedClassNames);
-        }));
+        });
     }
 
-    @SuppressWarnings("PMD.EmptyCatchBlock")
-    private void processClasses(List<String> classNames, List<AnnotationClassVisitor> classVisitors) {
-        for (String name : classNames) {
-            String resourcePath = name.replace('.', '/').replaceFirst("/class$", ".class");
-            try (InputStream input = classLoader.getResourceAsStream(resourcePath)) {
-                if (input != null) {
-                    ClassReader reader = new ClassReader(input);
-                    for (AnnotationClassVisitor visitor : classVisitors) {
-                        reader.accept(visitor, 0);
-                    }
-                }
-            } catch (IOException e) { // NOPMD - EmptyCatchBlock
+    private static boolean containsAny(Set<String> annotations, Set<String> descriptors) {
+        for (String descriptor : descriptors) {
+            if (annotations.contains(descriptor)) {
+                return true;
             }
         }
+        return false;
     }
 
     /**
@@ -331,10 +323,6 @@ public class ClassPathScanner {
         }
     }
 
-    private static boolean isClassFile(String name) {
-        return name.endsWith(".class");
-    }
-
     public static class CloseableClassPathScanner extends ClassPathScanner implements Closeable {
         private static final LoggingFacade LOGGER = LoggingFacade.create();
 
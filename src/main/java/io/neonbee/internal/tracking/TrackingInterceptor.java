@@ -2,9 +2,17 @@ package io.neonbee.internal.tracking;
 
 import static io.neonbee.data.DataVerticle.CONTEXT_HEADER;
 import static io.neonbee.data.internal.DataContextImpl.decodeContextFromString;
+import static io.neonbee.data.internal.DataContextImpl.decodeCorrelationIdFromString;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
 
+import io.neonbee.config.TrackingConfig;
 import io.neonbee.data.DataContext;
 import io.vertx.core.Handler;
 import io.vertx.core.eventbus.DeliveryContext;
@@ -12,24 +20,59 @@ import io.vertx.core.eventbus.Message;
 
 /**
  * A tracking interceptor, which delegates the tracking data handling to a configurable handler.
+ * <p>
+ * Only sampled messages are passed to the handler (see {@link TrackingConfig}), the data context of any other message
+ * is never decoded. To decide whether a message is sampled, only the correlation ID is read from the context header.
  */
 public class TrackingInterceptor implements Handler<DeliveryContext<Object>> {
+    private static final HashFunction SAMPLING_HASH = Hashing.murmur3_32_fixed();
+
+    private static final double HASH_RANGE = 1L << Integer.SIZE;
 
     private final MessageDirection direction;
 
     private final TrackingDataHandlingStrategy handler;
 
+    private final double sampleRate;
+
+    private final Map<String, Double> addressSampleRates;
+
+    private final boolean alwaysTrackFailures;
+
+    /**
+     * Creates a tracking interceptor, which tracks all messages.
+     *
+     * @param direction the message direction of this interceptor
+     * @param handler   the handler to delegate the tracking data handling to
+     */
     @VisibleForTesting
     public TrackingInterceptor(MessageDirection direction, TrackingDataHandlingStrategy handler) {
+        this(direction, handler, new TrackingConfig());
+    }
+
+    /**
+     * Creates a tracking interceptor, which tracks the messages sampled according to the given configuration.
+     *
+     * @param direction      the message direction of this interceptor
+     * @param handler        the handler to delegate the tracking data handling to
+     * @param trackingConfig the tracking configuration
+     */
+    public TrackingInterceptor(MessageDirection direction, TrackingDataHandlingStrategy handler,
+            TrackingConfig trackingConfig) {
         this.direction = direction;
         this.handler = handler;
+        this.sampleRate = trackingConfig.getSampleRate();
+        this.addressSampleRates =
+                trackingConfig.getAddressSampleRates() != null ? Map.copyOf(trackingConfig.getAddressSampleRates())
+                        : Map.of();
+        this.alwaysTrackFailures = trackingConfig.isAlwaysTrackFailures();
     }
 
     @Override
     public void handle(DeliveryContext<Object> event) {
         Message<Object> message = event.message();
         String contextHeader = message.headers().get(CONTEXT_HEADER);
-        if (contextHeader != null) {
+        if (contextHeader != null && isSampled(message, contextHeader)) {
             DataContext context = decodeContextFromString(contextHeader);
             if (message.replyAddress() != null) {
                 switch (direction) {
@@ -58,6 +101,43 @@ public class TrackingInterceptor implements Handler<DeliveryContext<Object>> {
         event.next();
     }
 
+    /**
+     * Decides whether a message should be tracked.
+     *
+     * @param message       the message to check
+     * @param contextHeader the encoded data context of the message
+     * @return true if the message should be tracked
+     */
+    @VisibleForTesting
+    boolean isSampled(Message<Object> message, String contextHeader) {
+        double rate = addressSampleRates.getOrDefault(message.address(), sampleRate);
+        if (rate >= 1) {
+            return true;
+        } else if (rate > 0 && sample(decodeCorrelationIdFromString(contextHeader), rate)) {
+            return true;
+        }
+
+        // replies are never decoded lazily: inbound replies are decoded by the ReplyInboundInterceptor already and the
+        // body of outbound messages is not encoded yet. thus checking the body of a reply for a failure is cheap
+        return alwaysTrackFailures && message.replyAddress() == null && message.body() instanceof Throwable;
+    }
+
+    /**
+     * Samples based on the correlation ID, so that the same decision is made for all messages of one request.
+     *
+     * @param correlationId the correlation ID, or null to sample randomly
+     * @param rate          the sample rate
+     * @return true if sampled
+     */
+    @VisibleForTesting
+    static boolean sample(String correlationId, double rate) {
+        if (correlationId == null) {
+            return ThreadLocalRandom.current().nextDouble() < rate;
+        }
+
+        return Integer.toUnsignedLong(SAMPLING_HASH.hashString(correlationId, UTF_8).asInt()) / HASH_RANGE < rate;
+    }
+
     /**
      * Returns the message direction of this interceptor.
      *
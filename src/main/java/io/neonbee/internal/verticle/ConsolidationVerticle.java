@@ -1,16 +1,33 @@
 package io.neonbee.internal.verticle;
 
 import static io.neonbee.NeonBeeDeployable.NEONBEE_NAMESPACE;
+import static io.neonbee.data.DataAction.READ;
+import static io.neonbee.endpoint.odatav4.internal.olingo.processor.ProcessorHelper.ODATA_COUNT_SIZE_KEY;
+import static io.neonbee.endpoint.odatav4.internal.olingo.processor.ProcessorHelper.ODATA_FILTER_KEY;
+import static io.neonbee.endpoint.odatav4.internal.olingo.processor.ProcessorHelper.ODATA_ORDER_BY_KEY;
+import static io.neonbee.endpoint.odatav4.internal.olingo.processor.ProcessorHelper.ODATA_SKIP_KEY;
+import static io.neonbee.endpoint.odatav4.internal.olingo.processor.ProcessorHelper.ODATA_TOP_KEY;
 import static io.vertx.core.Future.failedFuture;
 import static io.vertx.core.Future.succeededFuture;
+import static java.lang.Boolean.TRUE;
 
+import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.regex.Pattern;
 
 import org.apache.olingo.commons.api.data.Entity;
+import org.apache.olingo.commons.api.data.Property;
 import org.apache.olingo.commons.api.edm.FullQualifiedName;
 
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.Iterators;
+import com.google.common.collect.PeekingIterator;
+
 import io.neonbee.NeonBeeDeployable;
 import io.neonbee.data.DataContext;
 import io.neonbee.data.DataMap;
@@ -19,9 +36,18 @@ import io.neonbee.data.DataRequest;
 import io.neonbee.data.DataVerticle;
 import io.neonbee.entity.EntityVerticle;
 import io.neonbee.entity.EntityWrapper;
+import io.neonbee.logging.LoggingFacade;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Future;
 
+/**
+ * Consolidates the entities of all entity verticles serving the same entity type into one entity collection.
+ * <p>
+ * For requests to an entity set, the $filter and $orderby query options are passed to every entity verticle, together
+ * with a $top query option widened by $skip. If all entity verticles applied the query options, their sorted results
+ * are merged, stopping as soon as the requested page is complete. Otherwise the entities are concatenated and the
+ * query options are left to the processor.
+ */
 @NeonBeeDeployable(namespace = NEONBEE_NAMESPACE, autoDeploy = false)
 public class ConsolidationVerticle extends DataVerticle<EntityWrapper> {
     /**
@@ -31,6 +57,20 @@ public class ConsolidationVerticle extends DataVerticle<EntityWrapper> {
 
     private static final String NAME = "_consolidationVerticle";
 
+    private static final String FILTER = "$filter";
+
+    private static final String ORDER_BY = "$orderby";
+
+    private static final String SKIP = "$skip";
+
+    private static final String TOP = "$top";
+
+    private static final String COUNT = "$count";
+
+    private static final Pattern PROPERTY_NAME_PATTERN = Pattern.compile("[\\p{L}_][\\p{L}\\p{N}_]*");
+
+    private static final LoggingFacade LOGGER = LoggingFacade.create();
+
     public static final String QUALIFIED_NAME = DataVerticle.createQualifiedName(NEONBEE_NAMESPACE, NAME);
 
     /**
@@ -47,18 +87,21 @@ public class ConsolidationVerticle extends DataVerticle<EntityWrapper> {
 
     @Override
     public Future<Collection<DataRequest>> requireData(DataQuery query, DataContext context) {
+        DataQuery sourceQuery = isCollectionRequest(query) ? pushDown(query) : query;
         return EntityVerticle
                 .getVerticlesForEntityType(vertx, new FullQualifiedName(query.getHeader(ENTITY_TYPE_NAME_HEADER)))
                 .map(qualifiedNames -> qualifiedNames.stream()
-                        .map(qualifiedName -> new DataRequest(qualifiedName, query)).toList());
+                        .map(qualifiedName -> new DataRequest(qualifiedName, sourceQuery)).toList());
     }
 
     @Override
     public Future<EntityWrapper> retrieveData(DataQuery query, DataMap require, DataContext context) {
         FullQualifiedName entityTypeName = new FullQualifiedName(query.getHeader(ENTITY_TYPE_NAME_HEADER));
-        List<Entity> entities = new ArrayList<>();
+        List<List<Entity>> sourceEntities = new ArrayList<>();
+        List<Map<String, Object>> sourceHints = new ArrayList<>();
 
-        for (AsyncResult<?> asyncResult : require.values()) {
+        for (Map.Entry<DataRequest, AsyncResult<?>> entry : require.entrySet()) {
+            AsyncResult<?> asyncResult = entry.getValue();
             if (asyncResult.failed()) {
                 // do a lazy consolidation here, so do not fail in case one "backend" fails
                 // TODO make consolidation strategy configurable (lazy vs. strict)
@@ -78,10 +121,221 @@ public class ConsolidationVerticle extends DataVerticle<EntityWrapper> {
                         "Cannot consolidate entities of different types into one entity collection"));
             }
 
-            entities.addAll(entityWrapper.getEntities());
+            sourceEntities.add(entityWrapper.getEntities());
+            sourceHints.add(context.findReceivedData(entry.getKey()));
         }
 
-        // TODO: Add sorting / maybe filtering / skip & top handling
+        List<Entity> entities = isCollectionRequest(query)
+                ? consolidate(query, sourceEntities, sourceHints, context)
+                : concat(sourceEntities);
         return succeededFuture(new EntityWrapper(entityTypeName, entities));
     }
+
+    /**
+     * Only read requests to an entity set are consolidated page-wise. Requests with key predicates (e.g. navigating to
+     * other entities) must not be narrowed down, as their query options do not apply to the requested entity set.
+     */
+    private static boolean isCollectionRequest(DataQuery query) {
+        return query.getAction() == READ && query.getUriPath() != null && query.getUriPath().indexOf('(') < 0;
+    }
+
+    /**
+     * Every source has to return the first $skip + $top entities, as any of them could be part of the requested page.
+     * If the total count is requested, $top is not passed to the sources at all, as the count can only be computed
+     * reliably, if every source returns all matching entities. The $filter and $orderby query options are passed to
+     * the sources unchanged.
+     */
+    @VisibleForTesting
+    static DataQuery pushDown(DataQuery query) {
+        if (query.getParameter(SKIP) == null && query.getParameter(TOP) == null) {
+            return query;
+        }
+
+        int skip = intParameter(query, SKIP, 0);
+        int top = intParameter(query, TOP, -1);
+        DataQuery sourceQuery = query.copy().removeParameter(SKIP);
+        if (isCountRequest(query)) {
+            sourceQuery.removeParameter(TOP);
+        } else if (top >= 0) {
+            sourceQuery.setParameter(TOP, String.valueOf(saturatedAdd(skip, top)));
+        }
+        return sourceQuery;
+    }
+
+    private static boolean isCountRequest(DataQuery query) {
+        return "true".equals(query.getParameter(COUNT)) || query.getUriPath().endsWith("/" + COUNT);
+    }
+
+    private static List<Entity> consolidate(DataQuery query, List<List<Entity>> sourceEntities,
+            List<Map<String, Object>> sourceHints, DataContext context) {
+        boolean filterExecuted = query.getParameter(FILTER) == null || allExecuted(sourceHints, ODATA_FILTER_KEY);
+        Integer count = countSize(query, sourceEntities, sourceHints, filterExecuted);
+        if (count != null) {
+            context.responseData().put(ODATA_COUNT_SIZE_KEY, count);
+        }
+
+        String orderBy = query.getParameter(ORDER_BY);
+        Comparator<Entity> comparator = orderBy != null ? parseOrderBy(orderBy) : null;
+        boolean orderByExecuted =
+                orderBy == null || (comparator != null && allExecuted(sourceHints, ODATA_ORDER_BY_KEY));
+        if (filterExecuted && orderByExecuted) {
+            int skip = intParameter(query, SKIP, 0);
+            int top = intParameter(query, TOP, -1);
+            try {
+                List<Entity> merged = mergeSorted(sourceEntities, comparator,
+                        top >= 0 ? saturatedAdd(skip, top) : Integer.MAX_VALUE);
+                context.responseData().putAll(Map.of(ODATA_FILTER_KEY, TRUE, ODATA_ORDER_BY_KEY, TRUE, ODATA_SKIP_KEY,
+                        TRUE, ODATA_TOP_KEY, TRUE));
+                merged.subList(0, Math.min(skip, merged.size())).clear();
+                return merged;
+            } catch (RuntimeException e) {
+                // the processor sorts the entities on its own and reports an error, in case they cannot be sorted
+                LOGGER.correlateWith(context).warn("Failed to merge the sorted entities to consolidate", e);
+            }
+        }
+
+        // at least one source did not apply all query options, so they have to be applied by the processor, which is
+        // still possible as every source returned all entities, which could be part of the requested page
+        if (filterExecuted) {
+            context.responseData().put(ODATA_FILTER_KEY, TRUE);
+        }
+        return concat(sourceEntities);
+    }
+
+    /**
+     * The total count is the sum of the counts of all sources. Sources not reporting their count returned all matching
+     * entities, as $top is not passed to the sources when the count is requested, unless they did not apply $filter,
+     * in which case the count is left to the processor.
+     */
+    private static Integer countSize(DataQuery query, List<List<Entity>> sourceEntities,
+            List<Map<String, Object>> sourceHints, boolean filterExecuted) {
+        boolean topPushedDown = !isCountRequest(query) && query.getParameter(TOP) != null;
+        long count = 0;
+        for (int i = 0; i < sourceEntities.size(); i++) {
+            Map<String, Object> hints = sourceHints.get(i);
+            if (hints.get(ODATA_COUNT_SIZE_KEY) instanceof Number countSize) {
+                count += countSize.longValue();
+            } else if (filterExecuted && !(topPushedDown && TRUE.equals(hints.get(ODATA_TOP_KEY)))) {
+                count += sourceEntities.get(i).size();
+            } else {
+                return null;
+            }
+        }
+        return (int) Math.min(count, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Merges the entities of multiple sources, each sorted by the given comparator, with a k-way merge. Entities
+     * comparing equal are ordered by their source, so without a comparator, the entities are concatenated.
+     *
+     * @param sourceEntities the sorted entities of every source
+     * @param comparator     the comparator the entities are sorted by, or null if the entities are not sorted
+     * @param limit          the maximum number of entities to merge
+     * @return the first entities (up to the limit) of all sources, in sorted order
+     */
+    @VisibleForTesting
+    static List<Entity> mergeSorted(List<List<Entity>> sourceEntities, Comparator<Entity> comparator, int limit) {
+        Comparator<Source> sourceComparator = Comparator.comparingInt(Source::index);
+        if (comparator != null) {
+            sourceComparator = Comparator.<Source, Entity>comparing(source -> source.entities().peek(), comparator)
+                    .thenComparing(sourceComparator);
+        }
+
+        PriorityQueue<Source> sources = new PriorityQueue<>(Math.max(1, sourceEntities.size()), sourceComparator);
+        for (int i = 0; i < sourceEntities.size(); i++) {
+            if (!sourceEntities.get(i).isEmpty()) {
+                sources.add(new Source(i, Iterators.peekingIterator(sourceEntities.get(i).iterator())));
+            }
+        }
+
+        List<Entity> merged = new ArrayList<>();
+        while (merged.size() < limit && !sources.isEmpty()) {
+            Source source = sources.poll();
+            merged.add(source.entities().next());
+            if (source.entities().hasNext()) {
+                sources.add(source);
+            }
+        }
+        return merged;
+    }
+
+    /**
+     * Parses an $orderby query option into a comparator of entities.
+     *
+     * @param orderBy the value of the $orderby query option
+     * @return a comparator of entities, or null if the option does not only sort by primitive properties of the entity
+     */
+    @VisibleForTesting
+    static Comparator<Entity> parseOrderBy(String orderBy) {
+        Comparator<Entity> comparator = null;
+        for (String orderByItem : orderBy.split(",")) {
+            String[] tokens = orderByItem.trim().split("\\s+");
+            if (tokens.length > 2 || !PROPERTY_NAME_PATTERN.matcher(tokens[0]).matches()
+                    || (tokens.length == 2 && !"asc".equals(tokens[1]) && !"desc".equals(tokens[1]))) {
+                return null;
+            }
+
+            String propertyName = tokens[0];
+            Comparator<Entity> itemComparator =
+                    (entity1, entity2) -> compareValues(valueOf(entity1, propertyName), valueOf(entity2, propertyName));
+            if (tokens.length == 2 && "desc".equals(tokens[1])) {
+                itemComparator = itemComparator.reversed();
+            }
+            comparator = comparator == null ? itemComparator : comparator.thenComparing(itemComparator);
+        }
+        return comparator;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static int compareValues(Object value1, Object value2) {
+        // sort null values last in case of 'asc' order, the same as the processor does
+        if (value1 == null) {
+            return value2 == null ? 0 : 1;
+        } else if (value2 == null) {
+            return -1;
+        }
+
+        if (value1 instanceof String string1 && value2 instanceof String string2) {
+            return string1.compareToIgnoreCase(string2);
+        } else if (value1 instanceof byte[] bytes1 && value2 instanceof byte[] bytes2) {
+            return Integer.compare(bytes1.length, bytes2.length);
+        } else if (value1 instanceof Number number1 && value2 instanceof Number number2
+                && value1.getClass() != value2.getClass()) {
+            return new BigDecimal(number1.toString()).compareTo(new BigDecimal(number2.toString()));
+        } else if (value1 instanceof Comparable && value1.getClass().isInstance(value2)) {
+            return ((Comparable<Object>) value1).compareTo(value2);
+        }
+        throw new IllegalArgumentException("Cannot compare values of type " + value1.getClass().getName() + " and "
+                + value2.getClass().getName());
+    }
+
+    private static Object valueOf(Entity entity, String propertyName) {
+        Property property = entity.getProperty(propertyName);
+        return property != null ? property.getValue() : null;
+    }
+
+    private static boolean allExecuted(List<Map<String, Object>> sourceHints, String key) {
+        return sourceHints.stream().allMatch(hints -> TRUE.equals(hints.get(key)));
+    }
+
+    private static List<Entity> concat(List<List<Entity>> sourceEntities) {
+        List<Entity> entities = new ArrayList<>();
+        sourceEntities.forEach(entities::addAll);
+        return entities;
+    }
+
+    private static int intParameter(DataQuery query, String name, int defaultValue) {
+        String value = query.getParameter(name);
+        try {
+            return value != null ? Math.max(Integer.parseInt(value.trim()), 0) : defaultValue;
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+
+    private static int saturatedAdd(int value1, int value2) {
+        return (int) Math.min((long) value1 + value2, Integer.MAX_VALUE);
+    }
+
+    private record Source(int index, PeekingIterator<Entity> entities) {}
 }
@@ -19,7 +19,8 @@ public class DeployerVerticle extends WatchVerticle {
     private final Map<Path, Deployment> deployedModules = new ConcurrentHashMap<>();
 
     /**
-     * Creates a DeployerVerticle that watches for new NeonBeeModules on the given path.
+     * Creates a DeployerVerticle that watches for new NeonBeeModules on the given path. Changes to the modules are
+     * debounced, so that a module which is written in multiple chunks is only deployed once.
      *
      * @param watchDir the directory to watch
      */
@@ -28,7 +29,7 @@ public class DeployerVerticle extends WatchVerticle {
     }
 
     DeployerVerticle(Path watchDir, long interval, TimeUnit unit) {
-        super(watchDir, interval, unit, false, true);
+        super(watchDir, interval, unit.convert(DEFAULT_QUIET_PERIOD, TimeUnit.MILLISECONDS), unit, false, true);
     }
 
     @Override
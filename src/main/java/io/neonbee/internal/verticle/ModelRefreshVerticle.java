@@ -1,6 +1,7 @@
 package io.neonbee.internal.verticle;
 
 import java.nio.file.Path;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
 import io.neonbee.NeonBee;
@@ -10,45 +11,26 @@ import io.vertx.core.Promise;
 public class ModelRefreshVerticle extends WatchVerticle {
     private static final LoggingFacade LOGGER = LoggingFacade.create();
 
-    private static final int DEFAULT_CHECK_INTERVAL = 5;
-
     /**
-     * Creates a ModelRefreshVerticle that watches for new models on the given path.
+     * Creates a ModelRefreshVerticle that watches for new models on the given path. All changes to the models are
+     * debounced, so that copying multiple model files only results in a single reload of the models.
      *
      * @param modelsDirPath the directory to watch
      */
     public ModelRefreshVerticle(Path modelsDirPath) {
-        super(modelsDirPath, DEFAULT_CHECK_INTERVAL, TimeUnit.SECONDS, false, false);
+        this(modelsDirPath, DEFAULT_CHECK_INTERVAL, TimeUnit.MILLISECONDS);
     }
 
     ModelRefreshVerticle(Path modelsDirPath, long interval, TimeUnit unit) {
-        super(modelsDirPath, interval, unit, false, false);
-    }
-
-    @Override
-    public void observedCreate(Path affectedPath, Promise<Void> finishPromise) {
-        if (!isCopyLogic(config())) {
-            triggerRefresh(finishPromise);
-        } else {
-            finishPromise.complete();
-        }
+        super(modelsDirPath, interval, unit.convert(DEFAULT_QUIET_PERIOD, TimeUnit.MILLISECONDS), unit, false, false);
     }
 
     @Override
-    public void observedModify(Path affectedPath, Promise<Void> finishPromise) {
-        if (isCopyLogic(config())) {
-            triggerRefresh(finishPromise);
-        } else {
-            finishPromise.complete();
+    public void observedChanges(Set<Path> changedPaths, Promise<Void> finishPromise) {
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("Refreshing models, due to {} changed path(s)", changedPaths.size());
         }
-    }
-
-    @Override
-    public void observedDelete(Path affectedPath, Promise<Void> finishPromise) {
-        triggerRefresh(finishPromise);
-    }
 
-    private void triggerRefresh(Promise<Void> finishPromise) {
         NeonBee.get(vertx).getModelManager().reloadModels().map((Void) null).onComplete(asyncResult -> {
             LOGGER.debug("Models have been refreshed.");
             finishPromise.handle(asyncResult);
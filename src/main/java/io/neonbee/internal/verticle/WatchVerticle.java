@@ -13,13 +13,17 @@ import java.nio.file.WatchKey;
 import java.nio.file.WatchService;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableSet;
 
 import io.neonbee.NeonBee;
 import io.neonbee.internal.helper.FileSystemHelper;
@@ -36,9 +40,20 @@ public class WatchVerticle extends AbstractVerticle {
      */
     public static final int DEFAULT_CHECK_INTERVAL = 500;
 
+    /**
+     * The default quiet period of WatchVerticles debouncing changes. The default time unit is milliseconds.
+     */
+    public static final int DEFAULT_QUIET_PERIOD = 1000;
+
     @VisibleForTesting
     static final String WATCH_LOGIC_KEY = "watchLogic";
 
+    /**
+     * The configuration key to override the quiet period of a WatchVerticle in milliseconds.
+     */
+    @VisibleForTesting
+    static final String QUIET_PERIOD_KEY = "quietPeriod";
+
     @VisibleForTesting
     static final String WATCH_LOGIC_OPTION_COPY = "copy";
 
@@ -49,8 +64,21 @@ public class WatchVerticle extends AbstractVerticle {
     @VisibleForTesting
     final long watchPeriodMillis;
 
+    @VisibleForTesting
+    long quietPeriodMillis;
+
     final Map<Path, WatchKey> watchKeys = new HashMap<>();
 
+    /**
+     * The changes observed, but not yet notified, coalesced per path in the order they have been observed first.
+     */
+    @VisibleForTesting
+    final Map<Path, Set<Kind<?>>> pendingChanges = new LinkedHashMap<>();
+
+    private long flushTimerId = -1;
+
+    private boolean flushing;
+
     private final Path watchPath;
 
     private WatchService watcher;
@@ -138,8 +166,39 @@ public class WatchVerticle extends AbstractVerticle {
      */
     public WatchVerticle(Path watchPath, long interval, TimeUnit unit, boolean parallelProcessing,
             boolean handleExisting) {
+        this(watchPath, interval, 0, unit, parallelProcessing, handleExisting);
+    }
+
+    /**
+     * The WatchVerticle is a wrapper for {@link WatchService} and allows to react on the following events:
+     * <ul>
+     * <li>ENTRY_CREATE</li>
+     * <li>ENTRY_DELETE</li>
+     * <li>ENTRY_MODIFY</li>
+     * </ul>
+     * The WatchVerticle is capable to monitor changes in subdirectories of the passed <b>watchDir</b>.
+     * <p>
+     * With a quiet period, changes are not notified immediately, but only after no further change was observed for the
+     * quiet period. Until then, all changes are coalesced per path, so that e.g. copying many files, or writing one
+     * file in many chunks, results in one notification per path and in one call to
+     * {@link #observedChanges(Set, Promise)} with all changed paths. The quiet period can be overridden with the
+     * {@code quietPeriod} key of the verticle configuration (in milliseconds).
+     *
+     * @param watchPath          The {@link Path} to monitor
+     * @param interval           The interval to check for changes
+     * @param quietPeriod        The period without any further changes to wait, before notifying the changes, or zero
+     *                           to notify the changes of every check immediately
+     * @param unit               The unit of the check interval and the quiet period
+     * @param parallelProcessing If false, ignores upcoming intervals if processing of a predecessor interval is still
+     *                           in progress. Default is true.
+     * @param handleExisting     If true, trigger an ENTRY_CREATE and ENTRY_MODIFY event, for every element in the
+     *                           watchPath. Default is true.
+     */
+    public WatchVerticle(Path watchPath, long interval, long quietPeriod, TimeUnit unit, boolean parallelProcessing,
+            boolean handleExisting) {
         super();
         this.watchPeriodMillis = unit.toMillis(interval);
+        this.quietPeriodMillis = unit.toMillis(quietPeriod);
         this.watchPath = watchPath.toAbsolutePath();
         this.parallelProcessing = parallelProcessing;
         this.handleExisting = handleExisting;
@@ -159,6 +218,7 @@ public class WatchVerticle extends AbstractVerticle {
             return;
         }
 
+        quietPeriodMillis = config().getLong(QUIET_PERIOD_KEY, quietPeriodMillis);
         try {
             watcher = watchPath.getFileSystem().newWatchService();
         } catch (IOException e) {
@@ -234,31 +294,99 @@ public class WatchVerticle extends AbstractVerticle {
                 })).toList());
     }
 
-    private Future<Void> handleWatchKeyEvents(Path watchKeyPath, WatchKey watchKey) {
+    private Future<Void> handleWatchKeyEvents(WatchKey watchKey) {
+        Path watchKeyPath = (Path) watchKey.watchable();
         List<WatchEvent<?>> events = watchKey.pollEvents();
         List<Future<Void>> watchEventFutures = new ArrayList<>(events.size());
 
         for (WatchEvent<?> event : events) {
-            Path affectedPath = watchKeyPath.resolve(event.context().toString());
-            watchEventFutures.add(processEvent(affectedPath, event.kind()));
+            // overflow events have no context, events might have been lost for the whole directory
+            Path affectedPath = OVERFLOW.equals(event.kind()) ? watchKeyPath
+                    : watchKeyPath.resolve(event.context().toString());
+            watchEventFutures.add(recordEvent(affectedPath, event.kind()));
         }
 
         return Future.join(watchEventFutures).onComplete(asyncCompFuture -> {
-            watchKeys.get(watchPath).reset();
+            if (!watchKey.reset()) {
+                // the watch key is no longer valid, e.g. because the directory was deleted
+                watchKeys.remove(watchKeyPath, watchKey);
+            }
         }).mapEmpty();
     }
 
+    /**
+     * Checks for changes of the watched directories. Only the directories with changes are signaled by the watch
+     * service, so the effort of a check does not depend on the number of watched directories. Without a quiet period
+     * the changes are notified immediately, otherwise the notification is deferred until the quiet period elapsed.
+     *
+     * @return a future which is resolved when the changes have been handled
+     */
     @VisibleForTesting
     Future<Void> checkForChanges() {
-        // To prevent a ConcurrentModificationException while iterating over values of map watchKeys a temporary list is
-        // created.
-        Map<Path, WatchKey> tempWatchKeys = Map.copyOf(watchKeys);
-        List<Future<Void>> watchKeyFutures = new ArrayList<>(tempWatchKeys.size());
-        for (Map.Entry<Path, WatchKey> entry : tempWatchKeys.entrySet()) {
-            watchKeyFutures.add(handleWatchKeyEvents(entry.getKey(), entry.getValue()));
+        List<Future<Void>> watchKeyFutures = new ArrayList<>();
+        for (WatchKey watchKey = watcher.poll(); watchKey != null; watchKey = watcher.poll()) {
+            watchKeyFutures.add(handleWatchKeyEvents(watchKey));
         }
 
-        return Future.join(watchKeyFutures).mapEmpty();
+        if (watchKeyFutures.isEmpty()) {
+            return Future.succeededFuture();
+        }
+
+        return Future.join(watchKeyFutures).transform(asyncCompFuture -> {
+            if (quietPeriodMillis <= 0) {
+                return flushChanges();
+            }
+
+            scheduleFlush();
+            return Future.succeededFuture();
+        });
+    }
+
+    private void scheduleFlush() {
+        if (pendingChanges.isEmpty()) {
+            return;
+        }
+
+        // restart the quiet period, as long as changes are observed
+        vertx.cancelTimer(flushTimerId);
+        flushTimerId = vertx.setTimer(quietPeriodMillis, timerId -> {
+            if (flushing) {
+                // the changes of a predecessor quiet period are still being processed, wait for another quiet period
+                scheduleFlush();
+            } else {
+                flushing = true;
+                flushChanges().onComplete(nothing -> flushing = false);
+            }
+        });
+    }
+
+    /**
+     * Notifies all pending changes. First the hooks for each change of every path are called and after they finished,
+     * {@link #observedChanges(Set, Promise)} is called once with all changed paths.
+     *
+     * @return a future which is resolved when all changes have been processed
+     */
+    @VisibleForTesting
+    Future<Void> flushChanges() {
+        if (pendingChanges.isEmpty()) {
+            return Future.succeededFuture();
+        }
+
+        Map<Path, Set<Kind<?>>> changes = new LinkedHashMap<>(pendingChanges);
+        pendingChanges.clear();
+
+        List<Future<Void>> changeFutures = new ArrayList<>();
+        changes.forEach((affectedPath, kinds) -> {
+            for (Kind<?> kind : kinds) {
+                changeFutures.add(notifyEvent(affectedPath, kind));
+            }
+        });
+
+        return Future.join(changeFutures).transform(asyncCompFuture -> {
+            Promise<Void> promise = Promise.promise();
+            observedChanges(ImmutableSet.copyOf(changes.keySet()), promise);
+            return promise.future();
+        });
     }
 
     private Future<Void> registerWatchKey(Path affectedPath) {
@@ -270,28 +398,48 @@ public class WatchVerticle extends AbstractVerticle {
         }
     }
 
+    /**
+     * Records an event to be notified later on. The watch keys are updated immediately, in order to not miss any events
+     * in newly created directories. Multiple events of the same kind for the same path are coalesced, a deletion
+     * discards all previous events of the path.
+     */
+    private Future<Void> recordEvent(Path affectedPath, Kind<?> kind) {
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace("Observed WatchEvent of kind '{}' for Path '{}'", kind.name(), affectedPath);
+        }
+
+        return updateWatchKeys(affectedPath, kind).onSuccess(nothing -> {
+            Set<Kind<?>> kinds = pendingChanges.computeIfAbsent(affectedPath, path -> new LinkedHashSet<>());
+            if (ENTRY_DELETE.equals(kind)) {
+                kinds.clear();
+            }
+            kinds.add(kind);
+        });
+    }
+
     private Future<Void> processEvent(Path affectedPath, Kind<?> kind) {
         if (LOGGER.isTraceEnabled()) {
             LOGGER.trace("Observed WatchEvent of kind '{}' for Path '{}'", kind.name(), affectedPath);
         }
 
-        Promise<Void> promise = Promise.promise();
+        return updateWatchKeys(affectedPath, kind).compose(nothing -> notifyEvent(affectedPath, kind));
+    }
+
+    private Future<Void> updateWatchKeys(Path affectedPath, Kind<?> kind) {
         if (ENTRY_CREATE.equals(kind)) {
-            FileSystemHelper.isDirectory(vertx, affectedPath).compose(isDirectory -> {
-                if (isDirectory) {
-                    return registerWatchKey(affectedPath);
-                } else {
-                    return Future.succeededFuture();
-                }
-            }).onComplete(asyncRegisterResult -> {
-                if (asyncRegisterResult.failed()) {
-                    promise.fail(asyncRegisterResult.cause());
-                } else {
-                    observedCreate(affectedPath, promise);
-                }
-            });
+            return FileSystemHelper.isDirectory(vertx, affectedPath)
+                    .compose(isDirectory -> isDirectory ? registerWatchKey(affectedPath) : Future.succeededFuture());
         } else if (ENTRY_DELETE.equals(kind)) {
             Optional.ofNullable(watchKeys.remove(affectedPath)).ifPresent(WatchKey::cancel);
+        }
+        return Future.succeededFuture();
+    }
+
+    private Future<Void> notifyEvent(Path affectedPath, Kind<?> kind) {
+        Promise<Void> promise = Promise.promise();
+        if (ENTRY_CREATE.equals(kind)) {
+            observedCreate(affectedPath, promise);
+        } else if (ENTRY_DELETE.equals(kind)) {
             observedDelete(affectedPath, promise);
         } else if (ENTRY_MODIFY.equals(kind)) {
             observedModify(affectedPath, promise);
@@ -372,4 +520,20 @@ public class WatchVerticle extends AbstractVerticle {
         observedModify(affectedPath);
         finishPromise.complete();
     }
+
+    /**
+     * This method is called once for a batch of changes, after the methods for the individual changes of the batch
+     * (e.g. {@link #observedCreate(Path, Promise)}) finished. With a quiet period a batch contains all changes until no
+     * further change was observed for the quiet period, otherwise all changes of one check. Changes of existing files
+     * handled when starting the verticle are not part of any batch. Don't execute long running code directly in this
+     * method, otherwise it will block the execution of other events.
+     *
+     * @param changedPaths  The {@link Path Paths} of all created, modified or deleted files or directories, including
+     *                      directories for which events might have been lost
+     * @param finishPromise The future to complete, if the operation related to the changedPaths is done
+     */
+    @SuppressWarnings("PMD.UnusedFormalParameter")
+    public void observedChanges(Set<Path> changedPaths, Promise<Void> finishPromise) {
+        finishPromise.complete();
+    }
 }
@@ -30,10 +30,10 @@ import io.vertx.ext.web.RoutingContext;
  * created via this interface configurable when a NeonBee instance starts, which will allow you to change the behavior
  * of how the correlation id is propagated.
  *
- * To keep this LoggingFacade thread-safe, after the log message was written, the correlation id will be removed from
- * the facade by the log delegate. This guarantees that subsequent log messages will not mix up correlation ids, even if
- * they are executed on a different thread. This means the {@link #correlateWith(String)} method has to be called each
- * time a log message should be printed with a correlation id associated.
+ * To keep this LoggingFacade thread-safe, the facade is immutable: the {@link #correlateWith(String)} method returns a
+ * facade associated with the given correlation id, but never changes the facade it was called on. This guarantees that
+ * log messages will not mix up correlation ids, even if they are executed on a different thread. This means the
+ * correlation id is only associated with log messages written on the facade returned by {@link #correlateWith(String)}.
  */
 public interface LoggingFacade extends Logger {
     /**
@@ -90,15 +90,14 @@ public interface LoggingFacade extends Logger {
     }
 
     /**
-     * This method correlates the next call to this logger with a given correlation id
+     * Returns a logging facade, which correlates all log messages with a given correlation id.
      *
-     * Note: After the logger logged anything the correlation id will be removed, to not mix up correlation ids. This
-     * means in case you want to log multiple messages consecutively you will have to call the correlateWith method
-     * providing the correlation id again. Similarly you should never call the correlateWith method and then not
-     * actually trigger a log message, as this will cause a "pollution" of the logging facade.
+     * Note: This logging facade stays unchanged, so always log on the returned facade, e.g.
+     * {@code LOGGER.correlateWith(correlationId).info("Hello World")}. In case you want to log multiple messages
+     * consecutively, the returned facade may be kept and used to log all of them.
      *
-     * @param correlationId the correlationId to associate the next log message with
-     * @return the logging facade for method chaining
+     * @param correlationId the correlationId to associate the log messages with, or null for no correlation id
+     * @return the logging facade associated with the given correlation id
      */
     LoggingFacade correlateWith(String correlationId);
 
@@ -107,7 +106,7 @@ public interface LoggingFacade extends Logger {
      *
      * @see #correlateWith(String)
      * @param routingContext any routing context
-     * @return the logging facade for method chaining
+     * @return the logging facade associated with the correlation id of the routing context
      */
     @SuppressWarnings("PMD.AvoidThrowingNullPointerException")
     default LoggingFacade correlateWith(RoutingContext routingContext) {
@@ -115,8 +114,8 @@ public interface LoggingFacade extends Logger {
             String msg = "routingContext must not be null, otherwise no correlationId can be extracted";
             throw new NullPointerException(msg);
         }
-        Optional.ofNullable(routingContext.get(CORRELATION_ID)).map(Object::toString).ifPresent(this::correlateWith);
-        return this;
+        return Optional.ofNullable(routingContext.get(CORRELATION_ID)).map(Object::toString).map(this::correlateWith)
+                .orElse(this);
     }
 
     /**
@@ -124,7 +123,7 @@ public interface LoggingFacade extends Logger {
      *
      * @see #correlateWith(String)
      * @param context any data context
-     * @return the logging facade for method chaining
+     * @return the logging facade associated with the correlation id of the data context
      */
 
     default LoggingFacade correlateWith(DataContext context) {
@@ -9,6 +9,15 @@ import com.google.common.base.Strings;
 
 import io.neonbee.logging.LoggingFacade;
 
+/**
+ * The default {@link LoggingFacade}, which propagates the correlation ID as {@link Marker} to the underlying logger.
+ * <p>
+ * The facade is immutable: {@link #correlateWith(String)} returns a new facade bound to the given correlation ID, so
+ * that a facade can be shared between threads w/o ever mixing up correlation IDs. The level of a message is checked
+ * before its marker is created, and a correlated facade creates its marker only once. The last correlated facade is
+ * reused, as long as the correlation ID stays the same, so that logging multiple messages of the same request does not
+ * allocate a new facade and marker for every message.
+ */
 @SuppressWarnings({ "PMD.GodClass", "PMD.ExcessivePublicCount", "PMD.CyclomaticComplexity", "PMD.TooManyMethods" })
 public class LoggingFacadeImpl implements LoggingFacade {
     @VisibleForTesting
@@ -16,21 +25,58 @@ public class LoggingFacadeImpl implements LoggingFacade {
 
     private final Logger logger;
 
-    @VisibleForTesting
-    Marker currentMarker = DEFAULT_MARKER;
+    private final LoggingFacadeImpl uncorrelated;
+
+    private final String correlationId;
+
+    private Marker correlationMarker;
+
+    // the facade last correlated with, only used by the uncorrelated facade
+    private volatile LoggingFacadeImpl lastCorrelated;
 
     public LoggingFacadeImpl(Logger logger) {
         this.logger = logger;
+        this.uncorrelated = this;
+        this.correlationId = null;
+        this.correlationMarker = DEFAULT_MARKER;
+    }
+
+    private LoggingFacadeImpl(LoggingFacadeImpl uncorrelated, String correlationId) {
+        this.logger = uncorrelated.logger;
+        this.uncorrelated = uncorrelated;
+        this.correlationId = correlationId;
     }
 
     @Override
     public LoggingFacade correlateWith(String correlationId) {
         if (Strings.isNullOrEmpty(correlationId)) {
-            currentMarker = DEFAULT_MARKER;
-        } else if (currentMarker == null || !correlationId.equals(currentMarker.getName())) {
+            return uncorrelated;
+        } else if (correlationId.equals(this.correlationId)) {
+            return this;
+        }
+
+        LoggingFacadeImpl correlated = uncorrelated.lastCorrelated;
+        if (correlated == null || !correlationId.equals(correlated.correlationId)) {
+            correlated = new LoggingFacadeImpl(uncorrelated, correlationId);
+            uncorrelated.lastCorrelated = correlated;
+        }
+        return correlated;
+    }
+
+    /**
+     * Returns the marker of this facade, which is only created once the first message is logged. Creating the marker
+     * concurrently is benign, as both markers are equal.
+     *
+     * @return the marker to log messages with
+     */
+    @VisibleForTesting
+    Marker marker() {
+        Marker currentMarker = correlationMarker;
+        if (currentMarker == null) {
             currentMarker = MarkerFactory.getDetachedMarker(correlationId);
+            correlationMarker = currentMarker;
         }
-        return this;
+        return currentMarker;
     }
 
     @Override
@@ -40,7 +86,7 @@ public class LoggingFacadeImpl implements LoggingFacade {
 
     @Override
     public boolean isTraceEnabled() {
-        return logger.isTraceEnabled(currentMarker);
+        return logger.isTraceEnabled();
     }
 
     @Override
@@ -50,27 +96,37 @@ public class LoggingFacadeImpl implements LoggingFacade {
 
     @Override
     public void trace(String msg) {
-        logger.trace(currentMarker, msg);
+        if (logger.isTraceEnabled()) {
+            logger.trace(marker(), msg);
+        }
     }
 
     @Override
     public void trace(String format, Object arg) {
-        logger.trace(currentMarker, format, arg);
+        if (logger.isTraceEnabled()) {
+            logger.trace(marker(), format, arg);
+        }
     }
 
     @Override
     public void trace(String format, Object arg1, Object arg2) {
-        logger.trace(currentMarker, format, arg1, arg2);
+        if (logger.isTraceEnabled()) {
+            logger.trace(marker(), format, arg1, arg2);
+        }
     }
 
     @Override
     public void trace(String format, Object... arguments) {
-        logger.trace(currentMarker, format, arguments);
+        if (logger.isTraceEnabled()) {
+            logger.trace(marker(), format, arguments);
+        }
     }
 
     @Override
     public void trace(String msg, Throwable t) {
-        logger.trace(currentMarker, msg, t);
+        if (logger.isTraceEnabled()) {
+            logger.trace(marker(), msg, t);
+        }
     }
 
     @Override
@@ -101,7 +157,7 @@ public class LoggingFacadeImpl implements LoggingFacade {
 
     @Override
     public boolean isDebugEnabled() {
-        return logger.isDebugEnabled(currentMarker);
+        return logger.isDebugEnabled();
     }
 
     @Override
@@ -111,27 +167,37 @@ public class LoggingFacadeImpl implements LoggingFacade {
 
     @Override
     public void debug(String msg) {
-        logger.debug(currentMarker, msg);
+        if (logger.isDebugEnabled()) {
+            logger.debug(marker(), msg);
+        }
     }
 
     @Override
     public void debug(String format, Object arg) {
-        logger.debug(currentMarker, format, arg);
+        if (logger.isDebugEnabled()) {
+            logger.debug(marker(), format, arg);
+        }
     }
 
     @Override
     public void debug(String format, Object arg1, Object arg2) {
-        logger.debug(currentMarker, format, arg1, arg2);
+        if (logger.isDebugEnabled()) {
+            logger.debug(marker(), format, arg1, arg2);
+        }
     }
 
     @Override
     public void debug(String format, Object... arguments) {
-        logger.debug(currentMarker, format, arguments);
+        if (logger.isDebugEnabled()) {
+            logger.debug(marker(), format, arguments);
+        }
     }
 
     @Override
     public void debug(String msg, Throwable t) {
-        logger.debug(currentMarker, msg, t);
+        if (logger.isDebugEnabled()) {
+            logger.debug(marker(), msg, t);
+        }
     }
 
     @Override
@@ -162,7 +228,7 @@ public class LoggingFacadeImpl implements LoggingFacade {
 
     @Override
     public boolean isInfoEnabled() {
-        return logger.isInfoEnabled(currentMarker);
+        return logger.isInfoEnabled();
     }
 
     @Override
@@ -172,27 +238,37 @@ public class LoggingFacadeImpl implements LoggingFacade {
 
     @Override
     public void info(String msg) {
-        logger.info(currentMarker, msg);
+        if (logger.isInfoEnabled()) {
+            logger.info(marker(), msg);
+        }
     }
 
     @Override
     public void info(String format, Object arg) {
-        logger.info(currentMarker, format, arg);
+        if (logger.isInfoEnabled()) {
+            logger.info(marker(), format, arg);
+        }
     }
 
     @Override
     public void info(String format, Object arg1, Object arg2) {
-        logger.info(currentMarker, format, arg1, arg2);
+        if (logger.isInfoEnabled()) {
+            logger.info(marker(), format, arg1, arg2);
+        }
     }
 
     @Override
     public void info(String format, Object... arguments) {
-        logger.info(currentMarker, format, arguments);
+        if (logger.isInfoEnabled()) {
+            logger.info(marker(), format, arguments);
+        }
     }
 
     @Override
     public void info(String msg, Throwable t) {
-        logger.info(currentMarker, msg, t);
+        if (logger.isInfoEnabled()) {
+            logger.info(marker(), msg, t);
+        }
     }
 
     @Override
@@ -223,7 +299,7 @@ public class LoggingFacadeImpl implements LoggingFacade {
 
     @Override
     public boolean isWarnEnabled() {
-        return logger.isWarnEnabled(currentMarker);
+        return logger.isWarnEnabled();
     }
 
     @Override
@@ -233,27 +309,37 @@ public class LoggingFacadeImpl implements LoggingFacade {
 
     @Override
     public void warn(String msg) {
-        logger.warn(currentMarker, msg);
+        if (logger.isWarnEnabled()) {
+            logger.warn(marker(), msg);
+        }
     }
 
     @Override
     public void warn(String format, Object arg) {
-        logger.warn(currentMarker, format, arg);
+        if (logger.isWarnEnabled()) {
+            logger.warn(marker(), format, arg);
+        }
     }
 
     @Override
     public void warn(String format, Object arg1, Object arg2) {
-        logger.warn(currentMarker, format, arg1, arg2);
+        if (logger.isWarnEnabled()) {
+            logger.warn(marker(), format, arg1, arg2);
+        }
     }
 
     @Override
     public void warn(String format, Object... arguments) {
-        logger.warn(currentMarker, format, arguments);
+        if (logger.isWarnEnabled()) {
+            logger.warn(marker(), format, arguments);
+        }
     }
 
     @Override
     public void warn(String msg, Throwable t) {
-        logger.warn(currentMarker, msg, t);
+        if (logger.isWarnEnabled()) {
+            logger.warn(marker(), msg, t);
+        }
 
     }
 
@@ -285,7 +371,7 @@ public class LoggingFacadeImpl implements LoggingFacade {
 
     @Override
     public boolean isErrorEnabled() {
-        return logger.isErrorEnabled(currentMarker);
+        return logger.isErrorEnabled();
     }
 
     @Override
@@ -295,27 +381,37 @@ public class LoggingFacadeImpl implements LoggingFacade {
 
     @Override
     public void error(String msg) {
-        logger.error(currentMarker, msg);
+        if (logger.isErrorEnabled()) {
+            logger.error(marker(), msg);
+        }
     }
 
     @Override
     public void error(String format, Object arg) {
-        logger.error(currentMarker, format, arg);
+        if (logger.isErrorEnabled()) {
+            logger.error(marker(), format, arg);
+        }
     }
 
     @Override
     public void error(String format, Object arg1, Object arg2) {
-        logger.error(currentMarker, format, arg1, arg2);
+        if (logger.isErrorEnabled()) {
+            logger.error(marker(), format, arg1, arg2);
+        }
     }
 
     @Override
     public void error(String format, Object... arguments) {
-        logger.error(currentMarker, format, arguments);
+        if (logger.isErrorEnabled()) {
+            logger.error(marker(), format, arguments);
+        }
     }
 
     @Override
     public void error(String msg, Throwable t) {
-        logger.error(currentMarker, msg, t);
+        if (logger.isErrorEnabled()) {
+            logger.error(marker(), msg, t);
+        }
     }
 
     @Override
@@ -240,6 +240,24 @@ class NeonBeeTest extends NeonBeeTestBase {
         assertThat(getNeonBee().isLocalConsumerAvailable(address)).isFalse();
     }
 
+    @Test
+    @DisplayName("NeonBee should register and unregister local entity verticles correct.")
+    void testRegisterAndUnregisterLocalEntityVerticle() {
+        String entityTypeName = "ERP.Customers";
+        assertThat(getNeonBee().getLocalEntityVerticles(entityTypeName)).isEmpty();
+        getNeonBee().registerLocalEntityVerticle(entityTypeName, "EntityVerticle1");
+        getNeonBee().registerLocalEntityVerticle(entityTypeName, "EntityVerticle1");
+        getNeonBee().registerLocalEntityVerticle(entityTypeName, "EntityVerticle2");
+        assertThat(getNeonBee().getLocalEntityVerticles(entityTypeName))
+                .containsExactly("EntityVerticle1", "EntityVerticle1", "EntityVerticle2");
+        getNeonBee().unregisterLocalEntityVerticle(entityTypeName, "EntityVerticle1");
+        assertThat(getNeonBee().getLocalEntityVerticles(entityTypeName))
+                .containsExactly("EntityVerticle1", "EntityVerticle2");
+        getNeonBee().unregisterLocalEntityVerticle(entityTypeName, "EntityVerticle1");
+        getNeonBee().unregisterLocalEntityVerticle(entityTypeName, "EntityVerticle2");
+        assertThat(getNeonBee().getLocalEntityVerticles(entityTypeName)).isEmpty();
+    }
+
     @Test
     @DisplayName("NeonBee should register all default health checks")
     void testRegisterDefaultHealthChecks() {
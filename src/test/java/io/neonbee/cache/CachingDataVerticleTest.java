@@ -14,6 +14,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 
+import com.google.common.cache.Cache;
 import com.google.common.testing.EqualsTester;
 
 import io.neonbee.cache.CachingDataVerticle.CacheTuple;
@@ -22,6 +23,7 @@ import io.neonbee.data.DataMap;
 import io.neonbee.data.DataQuery;
 import io.neonbee.data.DataRequest;
 import io.neonbee.test.base.DataVerticleTestBase;
+import io.vertx.core.DeploymentOptions;
 import io.vertx.core.Future;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
@@ -229,6 +231,36 @@ class CachingDataVerticleTest extends DataVerticleTestBase {
                 .onComplete(testContext.succeedingThenComplete());
     }
 
+    @Test
+    @DisplayName("The cache should be bounded by the configured maximum size")
+    void boundedCacheSize(VertxTestContext testContext) {
+        CachingDataVerticle<String> testClass = new CachingDataVerticle<>() {
+            @Override
+            public String getName() {
+                return "TestCachingVerticle";
+            }
+
+            @Override
+            public Future<String> retrieveDataToCache(DataQuery query, DataMap require, DataContext context) {
+                return Future.succeededFuture(query.getParameter("key"));
+            }
+        };
+
+        DataRequest dr1 = new DataRequest(testClass.getName(), new DataQuery().setParameter("key", "1"));
+        DataRequest dr2 = new DataRequest(testClass.getName(), new DataQuery().setParameter("key", "2"));
+        DeploymentOptions options = new DeploymentOptions().setConfig(new JsonObject()
+                .put(CachingDataVerticle.CONFIG_CACHE_KEY, new JsonObject().put(CachingDataVerticle.MAXIMUM_SIZE, 1)));
+        deployVerticle(testClass, options).compose(id -> assertDataEquals(requestData(dr1), "1", testContext))
+                .compose(v -> assertDataEquals(requestData(dr2), "2", testContext))
+                .onComplete(testContext.succeeding(v -> testContext.verify(() -> {
+                    Cache<Object, ?> cache = CachingDataVerticle.CACHES.get(testClass.getClass());
+                    assertThat(cache.size()).isEqualTo(1);
+                    assertThat(cache.stats().evictionCount()).isEqualTo(1);
+                    assertThat(cache.stats().missCount()).isEqualTo(2);
+                    testContext.completeNow();
+                })));
+    }
+
     @Test
     @DisplayName("Multiple parallel request should be coalesced into one request, if no data is in the cache")
     void coalescedMultipleParallelRequests(VertxTestContext testContext) {
@@ -0,0 +1,46 @@
+package io.neonbee.cache;
+
+import static com.google.common.truth.Truth.assertThat;
+import static io.neonbee.cache.PayloadWeigher.DEFAULT_WEIGHT;
+import static io.neonbee.cache.PayloadWeigher.ENTRY_WEIGHT;
+
+import java.util.List;
+import java.util.Map;
+
+import org.apache.olingo.commons.api.data.Entity;
+import org.apache.olingo.commons.api.data.Property;
+import org.apache.olingo.commons.api.data.ValueType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.neonbee.entity.EntityWrapper;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+class PayloadWeigherTest {
+    private final PayloadWeigher weigher = new PayloadWeigher();
+
+    @Test
+    @DisplayName("Check that the weight of common payloads is estimated")
+    void testWeigh() {
+        assertThat(weigher.weigh("key", null)).isEqualTo(ENTRY_WEIGHT);
+        assertThat(weigher.weigh("key", Buffer.buffer(new byte[100]))).isEqualTo(ENTRY_WEIGHT + 100);
+        assertThat(weigher.weigh("key", new byte[42])).isEqualTo(ENTRY_WEIGHT + 42);
+        assertThat(weigher.weigh("key", "abc")).isEqualTo(ENTRY_WEIGHT + 3);
+        assertThat(weigher.weigh("key", new JsonObject().put("abc", "defg"))).isEqualTo(ENTRY_WEIGHT + 7);
+        assertThat(weigher.weigh("key", new JsonArray().add("abc").add(1)))
+                .isEqualTo(ENTRY_WEIGHT + 3 + DEFAULT_WEIGHT);
+        assertThat(weigher.weigh("key", List.of("ab", "cd"))).isEqualTo(ENTRY_WEIGHT + 4);
+        assertThat(weigher.weigh("key", Map.of("ab", "cd"))).isEqualTo(ENTRY_WEIGHT + 4);
+        assertThat(weigher.weigh("key", new Object())).isEqualTo(ENTRY_WEIGHT + DEFAULT_WEIGHT);
+    }
+
+    @Test
+    @DisplayName("Check that the weight of entity wrappers is estimated")
+    void testWeighEntityWrapper() {
+        Entity entity = new Entity().addProperty(new Property(null, "name", ValueType.PRIMITIVE, "value"));
+        EntityWrapper wrapper = new EntityWrapper("namespace.Entity", List.of(entity, entity));
+        assertThat(weigher.weigh("key", wrapper)).isEqualTo(ENTRY_WEIGHT + 2 * ("name".length() + "value".length()));
+    }
+}
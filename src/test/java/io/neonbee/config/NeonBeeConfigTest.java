@@ -138,6 +138,15 @@ class NeonBeeConfigTest extends NeonBeeTestBase {
         assertThat(actual.getJsonObject("metrics")).isEqualTo(new JsonObject().put("enabled", true));
     }
 
+    @Test
+    @DisplayName("should read the binary entity wrapper encoding correctly")
+    void readBinaryEntityWrapperEncoding() {
+        assertThat(new NeonBeeConfig().isBinaryEntityWrapperEncoding()).isFalse();
+        NeonBeeConfig config = new NeonBeeConfig(new JsonObject().put("binaryEntityWrapperEncoding", true));
+        assertThat(config.isBinaryEntityWrapperEncoding()).isTrue();
+        assertThat(config.toJson().getBoolean("binaryEntityWrapperEncoding")).isTrue();
+    }
+
     @Test
     @DisplayName("should read the platform classes correctly")
     void testGetPlatformClasses() {
@@ -154,6 +163,23 @@ class NeonBeeConfigTest extends NeonBeeTestBase {
         assertThat(config.getPlatformClasses()).containsExactlyElementsIn(validListOfPlatformClasses);
     }
 
+    @Test
+    @DisplayName("should read the tracking config correctly")
+    void testReadTrackingConfig() {
+        NeonBeeConfig config = new NeonBeeConfig(new JsonObject().put("tracking",
+                new JsonObject().put("sampleRate", 0.1).put("addressSampleRates", new JsonObject().put("address", 1))
+                        .put("alwaysTrackFailures", false)));
+        assertThat(config.getTrackingConfig().getSampleRate()).isEqualTo(0.1);
+        assertThat(config.getTrackingConfig().getAddressSampleRates()).containsExactly("address", 1.0);
+        assertThat(config.getTrackingConfig().isAlwaysTrackFailures()).isFalse();
+        assertThat(config.toJson().getJsonObject("tracking").getDouble("sampleRate")).isEqualTo(0.1);
+
+        TrackingConfig defaultConfig = new NeonBeeConfig().getTrackingConfig();
+        assertThat(defaultConfig.getSampleRate()).isEqualTo(TrackingConfig.DEFAULT_SAMPLE_RATE);
+        assertThat(defaultConfig.getAddressSampleRates()).isEmpty();
+        assertThat(defaultConfig.isAlwaysTrackFailures()).isTrue();
+    }
+
     @Test
     @DisplayName("should read the health config correctly")
     void testReadHealthConfig() {
@@ -10,6 +10,7 @@ import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.when;
 
 import java.time.LocalTime;
@@ -27,15 +28,21 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.mockito.MockedStatic;
 
 import com.google.common.collect.Iterators;
 import com.google.common.collect.Streams;
 
+import io.neonbee.NeonBee;
+import io.neonbee.NeonBeeOptions;
+import io.neonbee.config.NeonBeeConfig;
 import io.neonbee.data.DataContext;
 import io.neonbee.data.DataContext.DataVerticleCoordinate;
 import io.neonbee.data.DataException;
 import io.neonbee.data.DataQuery;
 import io.neonbee.data.DataRequest;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpHeaders;
 import io.vertx.core.http.HttpServerRequest;
 import io.vertx.core.json.JsonArray;
@@ -59,9 +66,93 @@ class DataContextImplTest {
         context.amendTopVerticleCoordinate("deploymentId1");
         context.pushVerticleToPath("Data2Verticle");
         context.amendTopVerticleCoordinate("deploymentId2");
-        String json = DataContextImpl.encodeContextToString(context);
-        JsonObject jsonObject = new JsonObject(json);
-        assertThat(jsonObject.getJsonArray("path")).hasSize(2);
+        context.updateResponseTimestamp();
+        String encodedContext = DataContextImpl.encodeContextToString(context);
+        assertThat(encodedContext.charAt(0)).isNotEqualTo('{');
+
+        DataContext decodedContext = DataContextImpl.decodeContextFromString(encodedContext);
+        assertThat(contextPathSize(decodedContext)).isEqualTo(2);
+        List<DataVerticleCoordinate> expectedPath = Streams.stream(context.path()).toList();
+        List<DataVerticleCoordinate> decodedPath = Streams.stream(decodedContext.path()).toList();
+        for (int i = 0; i < expectedPath.size(); i++) {
+            assertThat(decodedPath.get(i).toString()).isEqualTo(expectedPath.get(i).toString());
+        }
+    }
+
+    @Test
+    @DisplayName("clustered instances must encode the context as JSON, until the binary encoding is enabled")
+    void testEncodeContextToStringInCluster() {
+        context.pushVerticleToPath("Data1Verticle");
+        context.amendTopVerticleCoordinate("deploymentId1");
+        Vertx vertxMock = mock(Vertx.class);
+        try (MockedStatic<NeonBee> staticNeonBeeMock = mockStatic(NeonBee.class)) {
+            NeonBee neonBeeMock = mock(NeonBee.class);
+            when(neonBeeMock.getOptions()).thenReturn(new NeonBeeOptions.Mutable().setClustered(true));
+            when(neonBeeMock.getConfig()).thenReturn(new NeonBeeConfig());
+            staticNeonBeeMock.when(() -> NeonBee.get(vertxMock)).thenReturn(neonBeeMock);
+
+            String encodedContext = DataContextImpl.encodeContextToString(vertxMock, context);
+            assertThat(new JsonObject(encodedContext).getString(CORRELATION_ID)).isEqualTo("correlationId");
+            DataContext decodedContext = DataContextImpl.decodeContextFromString(encodedContext);
+            assertThat(decodedContext.correlationId()).isEqualTo("correlationId");
+            assertThat(contextPathSize(decodedContext)).isEqualTo(1);
+
+            when(neonBeeMock.getConfig()).thenReturn(new NeonBeeConfig().setBinaryEntityWrapperEncoding(true));
+            assertThat(DataContextImpl.encodeContextToString(vertxMock, context).charAt(0)).isNotEqualTo('{');
+        }
+    }
+
+    @Test
+    @DisplayName("the correlation ID must be decoded w/o decoding the whole context")
+    void testDecodeCorrelationId() {
+        assertThat(DataContextImpl.decodeCorrelationIdFromString(DataContextImpl.encodeContextToString(context)))
+                .isEqualTo("correlationId");
+        assertThat(DataContextImpl.decodeCorrelationIdFromString(
+                DataContextImpl.encodeContextToString(new DataContextImpl(null, null, null)))).isNull();
+        assertThat(DataContextImpl.decodeCorrelationIdFromString("{\"correlationId\":\"legacy\"}"))
+                .isEqualTo("legacy");
+        assertThat(DataContextImpl.decodeCorrelationIdFromString(null)).isNull();
+    }
+
+    @Test
+    @DisplayName("repeated strings of the path must be interned in the encoded context")
+    void testEncodeContextInternsPath() {
+        context.pushVerticleToPath("Data1Verticle");
+        context.amendTopVerticleCoordinate("deploymentId");
+        String shortPath = DataContextImpl.encodeContextToString(context);
+        context.pushVerticleToPath("Data2Verticle");
+        context.amendTopVerticleCoordinate("deploymentId");
+
+        // only the new qualified name and request timestamp are added as literals (plus one tag byte per string), the
+        // deployment id and IP address are referenced. Base64 encodes 3 bytes to 4 characters.
+        String requestTimestamp = Iterators.getLast(context.path()).getRequestTimestamp();
+        int addedBytes = "Data2Verticle".length() + requestTimestamp.length() + 5;
+        assertThat(DataContextImpl.encodeContextToString(context).length() - shortPath.length())
+                .isAtMost(addedBytes * 4 / 3 + 2);
+    }
+
+    @Test
+    @DisplayName("data must only be decoded when accessed and otherwise be forwarded as is")
+    void testLazyDataDecoding() {
+        DataContextImpl original = new DataContextImpl("correlationId", "sessionId", "bearerToken", null,
+                Map.of("key", new JsonObject().put("nested", "value").getMap()), Map.of("response", 1), null);
+
+        DataContextImpl decoded = (DataContextImpl) DataContextImpl
+                .decodeContextFromString(DataContextImpl.encodeContextToString(original));
+        Buffer encodedData = decoded.encodedData();
+        assertThat(new JsonObject(encodedData)).isEqualTo(new JsonObject().put("key", new JsonObject().put("nested",
+                "value")));
+        // the data was not accessed, so the very same buffer must be forwarded to the next verticle
+        DataContextImpl forwarded = (DataContextImpl) DataContextImpl
+                .decodeContextFromString(DataContextImpl.encodeContextToString(decoded));
+        assertThat(forwarded.encodedData()).isEqualTo(encodedData);
+        assertThat(decoded.copy().encodedData()).isSameInstanceAs(encodedData);
+
+        assertThat(forwarded.<JsonObject>get("key")).isEqualTo(new JsonObject().put("nested", "value"));
+        assertThat(forwarded.responseData()).containsExactly("response", 1);
+        forwarded.put("added", true);
+        assertThat(DataContextImpl.decodeContextFromString(DataContextImpl.encodeContextToString(forwarded)).data())
+                .containsKey("added");
     }
 
     @Test
@@ -0,0 +1,100 @@
+package io.neonbee.data.internal;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.util.List;
+import java.util.Map;
+
+import org.apache.olingo.commons.api.edm.FullQualifiedName;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.neonbee.data.DataContext;
+import io.neonbee.data.DataQuery;
+import io.neonbee.data.DataRequest;
+import io.neonbee.data.DataRequest.ResolutionStrategy;
+import io.neonbee.data.DataSource;
+import io.neonbee.data.internal.DataRequestGraph.Node;
+import io.neonbee.data.internal.DataRequestGraph.Requirements;
+import io.vertx.core.Future;
+
+class DataRequestGraphTest {
+    @Test
+    @DisplayName("Check that equal data requests are deduplicated")
+    void testDeduplication() {
+        DataRequestGraph graph = new DataRequestGraph();
+        DataRequest request = new DataRequest("Verticle", new DataQuery("path").addParameter("key", "value"));
+        DataRequest equalRequest = new DataRequest("Verticle", new DataQuery("path").addParameter("key", "value"));
+        DataRequest otherRequest = new DataRequest("Verticle", new DataQuery("otherPath"));
+
+        Node node = graph.add(request);
+        assertThat(node).isNotNull();
+        assertThat(graph.add(equalRequest)).isNull();
+        assertThat(graph.get(equalRequest)).isSameInstanceAs(node);
+        assertThat(graph.add(otherRequest)).isNotNull();
+        assertThat(graph.nodes()).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("Check that data sources are not part of the graph")
+    void testNotAddressable() {
+        DataSource<String> dataSource = (DataQuery query, DataContext context) -> Future.succeededFuture("data");
+        DataRequestGraph graph = new DataRequestGraph();
+        assertThat(graph.add(new DataRequest(dataSource))).isNull();
+        assertThat(graph.nodes()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Check that circular dependencies are detected")
+    void testFindCycle() {
+        DataRequestGraph graph = new DataRequestGraph();
+        Node nodeA = graph.add(new DataRequest("A"));
+        Node nodeB = graph.add(new DataRequest("B"));
+        Node nodeC = graph.add(new DataRequest("C"));
+        nodeA.addDependency(nodeB);
+        nodeA.addDependency(nodeC);
+        nodeB.addDependency(nodeC);
+        assertThat(graph.findCycle()).isEmpty();
+
+        nodeC.addDependency(nodeA);
+        assertThat(graph.findCycle()).isPresent();
+    }
+
+    @Test
+    @DisplayName("Check that data requests can be encoded and decoded")
+    void testEncodeDecode() {
+        DataRequest request = new DataRequest("Verticle",
+                new DataQuery("path").addParameter("key", "value").setHeaders(Map.of("header", List.of("value"))))
+                .setResolutionStrategy(ResolutionStrategy.OPTIMIZED).setSendTimeout(42).setLocalOnly(true);
+        DataRequest entityRequest = new DataRequest(new FullQualifiedName("namespace", "Entity"), new DataQuery());
+
+        List<DataRequest> decoded = DataRequestGraph.decodeRequests(
+                DataRequestGraph.encodeRequests(List.of(request, entityRequest, new DataRequest(
+                        (DataQuery query, DataContext context) -> Future.succeededFuture("data")))));
+        assertThat(decoded).hasSize(2);
+
+        DataRequestGraph graph = new DataRequestGraph();
+        graph.add(request);
+        graph.add(entityRequest);
+        assertThat(graph.add(decoded.get(0))).isNull();
+        assertThat(graph.add(decoded.get(1))).isNull();
+        assertThat(decoded.get(0).getSendTimeout()).isEqualTo(42);
+        assertThat(decoded.get(0).isLocalOnly()).isTrue();
+        assertThat(decoded.get(1).getEntityTypeName()).isEqualTo(new FullQualifiedName("namespace", "Entity"));
+    }
+
+    @Test
+    @DisplayName("Check that the requirements of a verticle are only taken once")
+    void testRequirements() {
+        DataRequestGraph graph = new DataRequestGraph();
+        DataQuery query = new DataQuery("path").addParameter("key", "value");
+        Requirements requirements = new Requirements(List.of(new DataRequest("Leaf")), Map.of("key", "value"));
+        graph.putRequirements("Verticle", query, requirements);
+
+        assertThat(graph.takeRequirements("OtherVerticle", query)).isNull();
+        assertThat(graph.takeRequirements("Verticle", new DataQuery("otherPath"))).isNull();
+        assertThat(graph.takeRequirements("Verticle", new DataQuery("path").addParameter("key", "value")))
+                .isSameInstanceAs(requirements);
+        assertThat(graph.takeRequirements("Verticle", query)).isNull();
+    }
+}
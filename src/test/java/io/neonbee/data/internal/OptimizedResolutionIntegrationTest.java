@@ -0,0 +1,153 @@
+package io.neonbee.data.internal;
+
+import static com.google.common.truth.Truth.assertThat;
+import static io.vertx.core.Future.failedFuture;
+import static io.vertx.core.Future.succeededFuture;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.neonbee.NeonBeeDeployable;
+import io.neonbee.data.DataContext;
+import io.neonbee.data.DataMap;
+import io.neonbee.data.DataQuery;
+import io.neonbee.data.DataRequest;
+import io.neonbee.data.DataRequest.ResolutionStrategy;
+import io.neonbee.data.DataVerticle;
+import io.neonbee.test.base.DataVerticleTestBase;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.junit5.VertxTestContext;
+
+class OptimizedResolutionIntegrationTest extends DataVerticleTestBase {
+    @Test
+    @DisplayName("Check that the optimized strategy deduplicates requests to shared verticles")
+    void testOptimizedResolution(VertxTestContext testContext) {
+        AtomicInteger leafCalls = new AtomicInteger();
+        AtomicInteger intermediaryCalls = new AtomicInteger();
+        AtomicInteger intermediaryRequireCalls = new AtomicInteger();
+        DataRequest request = new DataRequest("Entry", new DataQuery())
+                .setResolutionStrategy(ResolutionStrategy.OPTIMIZED);
+
+        deployVerticle(new LeafVerticle(leafCalls))
+                .compose(de -> deployVerticle(
+                        new IntermediaryVerticle("IntermediaryA", intermediaryCalls, intermediaryRequireCalls)))
+                .compose(de -> deployVerticle(
+                        new IntermediaryVerticle("IntermediaryB", intermediaryCalls, intermediaryRequireCalls)))
+                .compose(de -> deployVerticle(new EntryVerticle()))
+                .compose(de -> requestData(request))
+                .onComplete(testContext.succeeding(result -> testContext.verify(() -> {
+                    assertThat(result).isEqualTo("Entry(IntermediaryA(Leaf),IntermediaryB(Leaf),Leaf)");
+                    assertThat(leafCalls.get()).isEqualTo(1);
+                    assertThat(intermediaryCalls.get()).isEqualTo(2);
+                    // the data required in the require phase is reused in the retrieve phase
+                    assertThat(intermediaryRequireCalls.get()).isEqualTo(2);
+                    testContext.completeNow();
+                })));
+    }
+
+    @Test
+    @DisplayName("Check that the optimized strategy propagates failures of required data")
+    void testOptimizedResolutionFailure(VertxTestContext testContext) {
+        DataRequest request = new DataRequest("Entry", new DataQuery())
+                .setResolutionStrategy(ResolutionStrategy.OPTIMIZED);
+
+        // the leaf verticle is not deployed, thus the intermediary verticles receive a failed result
+        deployVerticle(new IntermediaryVerticle("IntermediaryA", new AtomicInteger(), new AtomicInteger()))
+                .compose(de -> deployVerticle(
+                        new IntermediaryVerticle("IntermediaryB", new AtomicInteger(), new AtomicInteger())))
+                .compose(de -> deployVerticle(new EntryVerticle()))
+                .compose(de -> requestData(request))
+                .onComplete(testContext.succeeding(result -> testContext.verify(() -> {
+                    assertThat(result).isEqualTo("Entry(IntermediaryA(failed),IntermediaryB(failed),failed)");
+                    testContext.completeNow();
+                })));
+    }
+
+    @NeonBeeDeployable
+    private static class LeafVerticle extends DataVerticle<String> {
+        private final AtomicInteger calls;
+
+        LeafVerticle(AtomicInteger calls) {
+            super();
+            this.calls = calls;
+        }
+
+        @Override
+        public String getName() {
+            return "Leaf";
+        }
+
+        @Override
+        public Future<String> retrieveData(DataQuery query, DataMap require, DataContext context) {
+            calls.incrementAndGet();
+            return succeededFuture("Leaf");
+        }
+    }
+
+    @NeonBeeDeployable
+    private static class IntermediaryVerticle extends DataVerticle<String> {
+        private final String name;
+
+        private final AtomicInteger calls;
+
+        private final AtomicInteger requireCalls;
+
+        IntermediaryVerticle(String name, AtomicInteger calls, AtomicInteger requireCalls) {
+            super();
+            this.name = name;
+            this.calls = calls;
+            this.requireCalls = requireCalls;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public Future<Collection<DataRequest>> requireData(DataQuery query, DataContext context) {
+            requireCalls.incrementAndGet();
+            return succeededFuture(List.of(new DataRequest("Leaf")));
+        }
+
+        @Override
+        public Future<String> retrieveData(DataQuery query, DataMap require, DataContext context) {
+            calls.incrementAndGet();
+            // prefetched data must be handed over to the context of this verticle
+            if (!deploymentID().equals(Vertx.currentContext().deploymentID())) {
+                return failedFuture(new IllegalStateException("Data retrieved on the context of another verticle"));
+            }
+            return succeededFuture(name + "(" + resultOf(require, "Leaf") + ")");
+        }
+    }
+
+    @NeonBeeDeployable
+    private static class EntryVerticle extends DataVerticle<String> {
+        @Override
+        public String getName() {
+            return "Entry";
+        }
+
+        @Override
+        public Future<Collection<DataRequest>> requireData(DataQuery query, DataContext context) {
+            return succeededFuture(List.of(new DataRequest("IntermediaryA"), new DataRequest("IntermediaryB"),
+                    new DataRequest("Leaf")));
+        }
+
+        @Override
+        public Future<String> retrieveData(DataQuery query, DataMap require, DataContext context) {
+            return succeededFuture("Entry(" + resultOf(require, "IntermediaryA") + ","
+                    + resultOf(require, "IntermediaryB") + "," + resultOf(require, "Leaf") + ")");
+        }
+    }
+
+    private static String resultOf(DataMap require, String qualifiedName) {
+        return require.<String>findFirst(qualifiedName).map(result -> result.succeeded() ? result.result() : "failed")
+                .orElse("missing");
+    }
+}
@@ -199,6 +199,36 @@ class ConfiguredDataVerticleMetricsTest {
         verify(spyReportTimingMetric, never()).reportStatusCounter(eq("name"), eq("description"), eq(tags), any());
     }
 
+    @Test
+    @DisplayName("Test query tag policy configuration")
+    void queryTagPolicy() {
+        assertThat(ConfiguredDataVerticleMetrics.configureQueryTagPolicy(null)).isSameInstanceAs(QueryTagPolicy.NONE);
+
+        JsonObject config = new JsonObject().put(ConfiguredDataVerticleMetrics.ENABLED, true);
+        QueryTagPolicy policy = ConfiguredDataVerticleMetrics.configureQueryTagPolicy(config);
+        assertThat(policy.getMode()).isEqualTo(QueryTagPolicy.Mode.RAW);
+        assertThat(policy.getMaxValues()).isEqualTo(QueryTagPolicy.DEFAULT_MAX_VALUES);
+
+        config.put(ConfiguredDataVerticleMetrics.QUERY_TAG, "template")
+                .put(ConfiguredDataVerticleMetrics.MAX_QUERY_TAG_VALUES, 5);
+        policy = ConfiguredDataVerticleMetrics.configureQueryTagPolicy(config);
+        assertThat(policy.getMode()).isEqualTo(QueryTagPolicy.Mode.TEMPLATE);
+        assertThat(policy.getMaxValues()).isEqualTo(5);
+
+        config.put(ConfiguredDataVerticleMetrics.QUERY_TAG, "None");
+        assertThat(ConfiguredDataVerticleMetrics.configureQueryTagPolicy(config)).isSameInstanceAs(QueryTagPolicy.NONE);
+
+        // the limits do not select single metrics
+        config.put(ConfiguredDataVerticleMetrics.MAX_SERIES, 10);
+        MeterRegistry mockRegistry = mock(MeterRegistry.class);
+        try (MockedStatic<BackendRegistries> registry = mockStatic(BackendRegistries.class)) {
+            registry.when(() -> BackendRegistries.getNow(anyString())).thenReturn(mockRegistry);
+
+            DataVerticleMetrics instance = ConfiguredDataVerticleMetrics.configureMetricsReporting(neonBee, config);
+            assertThat(instance).isInstanceOf(DataVerticleMetricsImpl.class);
+        }
+    }
+
     private static void resetBackendRegistries() throws NoSuchFieldException, IllegalAccessException {
         ((Map) ReflectionHelper.getValueOfPrivateStaticField(BackendRegistries.class, "REGISTRIES")).clear();
     }
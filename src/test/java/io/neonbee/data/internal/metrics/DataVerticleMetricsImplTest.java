@@ -3,12 +3,23 @@ package io.neonbee.data.internal.metrics;
 import static com.google.common.truth.Truth.assertThat;
 import static io.vertx.core.http.HttpMethod.GET;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInfo;
 import org.junit.jupiter.api.parallel.Isolated;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.ImmutableTag;
+import io.micrometer.core.instrument.Tag;
 import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import io.neonbee.NeonBeeOptions;
 import io.neonbee.config.NeonBeeConfig;
 import io.neonbee.data.DataVerticle;
@@ -16,6 +27,7 @@ import io.neonbee.test.base.DataVerticleTestBase;
 import io.neonbee.test.helper.WorkingDirectoryBuilder;
 import io.vertx.core.DeploymentOptions;
 import io.vertx.core.Future;
+import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 import io.vertx.core.VertxOptions;
 import io.vertx.core.json.JsonObject;
@@ -107,4 +119,94 @@ class DataVerticleMetricsImplTest extends DataVerticleTestBase {
                     testContext.completeNow();
                 }));
     }
+
+    @Test
+    void testMetersAreRegisteredOnce() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        DataVerticleMetricsImpl metrics = new DataVerticleMetricsImpl(registry);
+        List<Tag> tags = new ArrayList<>(List.of(new ImmutableTag("name", "value")));
+
+        metrics.reportNumberOfRequests("counter", "description", tags);
+        Counter counter = registry.get("counter").counter();
+        tags.add(new ImmutableTag("other", "value"));
+        metrics.reportNumberOfRequests("counter", "description", List.of(new ImmutableTag("name", "value")));
+        assertThat(registry.get("counter").counters()).containsExactly(counter);
+        assertThat(counter.count()).isEqualTo(2.0);
+    }
+
+    @Test
+    void testActiveRequestsGauge() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        DataVerticleMetricsImpl metrics = new DataVerticleMetricsImpl(registry);
+
+        Promise<Void> first = Promise.promise();
+        Promise<Void> second = Promise.promise();
+        metrics.reportActiveRequestsGauge("gauge", "description", List.of(), first.future());
+        metrics.reportActiveRequestsGauge("gauge", "description", List.of(), second.future());
+        assertThat(registry.get("gauge").gauge().value()).isEqualTo(2.0);
+
+        first.complete();
+        assertThat(registry.get("gauge").gauge().value()).isEqualTo(1.0);
+        second.fail("failed");
+        assertThat(registry.get("gauge").gauge().value()).isEqualTo(0.0);
+    }
+
+    @Test
+    void testStatusCounter() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        DataVerticleMetricsImpl metrics = new DataVerticleMetricsImpl(registry);
+
+        metrics.reportStatusCounter("status", "description", List.of(), Future.succeededFuture());
+        metrics.reportStatusCounter("status", "description", List.of(), Future.succeededFuture());
+        metrics.reportStatusCounter("status", "description", List.of(), Future.failedFuture("failed"));
+        assertThat(registry.get("status").tag("succeeded", "true").counter().count()).isEqualTo(2.0);
+        assertThat(registry.get("status").tag("succeeded", "false").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void testMaxSeries() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        DataVerticleMetricsImpl metrics = new DataVerticleMetricsImpl(registry, 2);
+
+        for (int i = 0; i < 5; i++) {
+            metrics.reportNumberOfRequests("counter", "description", List.of(new ImmutableTag("query", "a=" + i)));
+        }
+        assertThat(registry.get("counter").counters()).hasSize(3);
+        assertThat(registry.get("counter").tag("query", "a=1").counter().count()).isEqualTo(1.0);
+        assertThat(registry.get("counter").tag("query", QueryTagPolicy.OVERFLOW_VALUE).counter().count())
+                .isEqualTo(3.0);
+    }
+
+    @Test
+    void testOverflowMeterIsFoundByOriginalTags() {
+        DataVerticleMetricsImpl metrics = new DataVerticleMetricsImpl(new SimpleMeterRegistry(), 1);
+        Map<String, Map<List<Tag>, String>> meters = new HashMap<>();
+        AtomicInteger registrations = new AtomicInteger();
+        BiFunction<String, List<Tag>, String> register = (name, tags) -> {
+            registrations.incrementAndGet();
+            return tags.get(0).getValue();
+        };
+
+        assertThat(metrics.register(meters, "meter", List.of(new ImmutableTag("query", "a")), 1, register))
+                .isEqualTo("a");
+        List<Tag> overflowingTags = List.of(new ImmutableTag("query", "b"));
+        assertThat(metrics.register(meters, "meter", overflowingTags, 1, register))
+                .isEqualTo(QueryTagPolicy.OVERFLOW_VALUE);
+        assertThat(DataVerticleMetricsImpl.find(meters, "meter", overflowingTags))
+                .isEqualTo(QueryTagPolicy.OVERFLOW_VALUE);
+        assertThat(registrations.get()).isEqualTo(2);
+    }
+
+    @Test
+    void testMaxSeriesCountsStatusCounters() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        DataVerticleMetricsImpl metrics = new DataVerticleMetricsImpl(registry, 3);
+
+        metrics.reportStatusCounter("status", "description", List.of(new ImmutableTag("query", "a")),
+                Future.succeededFuture());
+        metrics.reportStatusCounter("status", "description", List.of(new ImmutableTag("query", "b")),
+                Future.succeededFuture());
+        assertThat(registry.get("status").counters()).hasSize(4);
+        assertThat(registry.get("status").tag("query", QueryTagPolicy.OVERFLOW_VALUE).counters()).hasSize(2);
+    }
 }
@@ -0,0 +1,70 @@
+package io.neonbee.data.internal.metrics;
+
+import static com.google.common.truth.Truth.assertThat;
+import static io.neonbee.data.internal.metrics.QueryTagPolicy.OVERFLOW_VALUE;
+import static io.neonbee.data.internal.metrics.QueryTagPolicy.QUERY_TAG;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.ImmutableTag;
+import io.micrometer.core.instrument.Tag;
+import io.neonbee.data.DataQuery;
+
+class QueryTagPolicyTest {
+
+    @Test
+    @DisplayName("queries should not be tagged by the none policy")
+    void testNone() {
+        assertThat(QueryTagPolicy.NONE.tags(new DataQuery().setRawQuery("a=1"))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("empty or missing queries should not be tagged")
+    void testEmptyQuery() {
+        QueryTagPolicy policy = new QueryTagPolicy(QueryTagPolicy.Mode.RAW, 10);
+        assertThat(policy.tags(null)).isEmpty();
+        assertThat(policy.tags(new DataQuery())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("raw queries should be tagged as is")
+    void testRaw() {
+        QueryTagPolicy policy = new QueryTagPolicy(QueryTagPolicy.Mode.RAW, 10);
+        assertThat(policy.tags(new DataQuery().setRawQuery("a=1"))).containsExactly(tag("a=1"));
+    }
+
+    @Test
+    @DisplayName("templates should contain the sorted parameter names only")
+    void testTemplate() {
+        QueryTagPolicy policy = new QueryTagPolicy(QueryTagPolicy.Mode.TEMPLATE, 10);
+        List<Tag> tags = policy.tags(new DataQuery().setRawQuery("b=1&a=2&b=3"));
+        assertThat(tags).containsExactly(tag("a=?&b=?"));
+        assertThat(policy.tags(new DataQuery().setRawQuery("a=4&b=5"))).isSameInstanceAs(tags);
+    }
+
+    @Test
+    @DisplayName("values exceeding the maximum should be tagged as overflow")
+    void testOverflow() {
+        QueryTagPolicy policy = new QueryTagPolicy(QueryTagPolicy.Mode.RAW, 2);
+        assertThat(policy.tags(new DataQuery().setRawQuery("a=1"))).containsExactly(tag("a=1"));
+        assertThat(policy.tags(new DataQuery().setRawQuery("a=2"))).containsExactly(tag("a=2"));
+        assertThat(policy.tags(new DataQuery().setRawQuery("a=3"))).containsExactly(tag(OVERFLOW_VALUE));
+        assertThat(policy.tags(new DataQuery().setRawQuery("a=1"))).containsExactly(tag("a=1"));
+    }
+
+    @Test
+    @DisplayName("values should not be limited if no maximum is set")
+    void testUnlimited() {
+        QueryTagPolicy policy = new QueryTagPolicy(QueryTagPolicy.Mode.RAW, 0);
+        for (int i = 0; i < 200; i++) {
+            assertThat(policy.tags(new DataQuery().setRawQuery("a=" + i))).containsExactly(tag("a=" + i));
+        }
+    }
+
+    private static Tag tag(String value) {
+        return new ImmutableTag(QUERY_TAG, value);
+    }
+}
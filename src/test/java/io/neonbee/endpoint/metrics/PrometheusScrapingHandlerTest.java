@@ -4,8 +4,13 @@ import static com.google.common.truth.Truth.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.zip.GZIPInputStream;
+
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
@@ -18,10 +23,14 @@ import io.micrometer.prometheusmetrics.PrometheusConfig;
 import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
 import io.netty.handler.codec.http.HttpResponseStatus;
 import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpServerRequest;
 import io.vertx.core.http.HttpServerResponse;
 import io.vertx.ext.web.RoutingContext;
 import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
 import io.vertx.micrometer.backends.BackendRegistries;
 
 @ExtendWith({ VertxExtension.class, MockitoExtension.class })
@@ -71,4 +80,78 @@ class PrometheusScrapingHandlerTest {
                     .isEqualTo(PrometheusScrapingHandler.PROMETHEUS_TEXT_FORMAT_CONTENT_TYPE);
         }
     }
+
+    @Test
+    void testCompositeMeterRegistry(Vertx vertx, VertxTestContext testContext) {
+        PrometheusScrapingHandler nph = new PrometheusScrapingHandler();
+        NeonBeePrometheusMeterRegistry pmr = new NeonBeePrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+        pmr.counter("test_counter").increment();
+        CompositeMeterRegistry cmr = new CompositeMeterRegistry();
+        cmr.add(pmr);
+
+        RoutingContext rcMock = mock(RoutingContext.class);
+        HttpServerRequest requestMock = mock(HttpServerRequest.class);
+        HttpServerResponse responseMock = mock(HttpServerResponse.class);
+        when(rcMock.vertx()).thenReturn(vertx);
+        when(rcMock.request()).thenReturn(requestMock);
+        when(rcMock.response()).thenReturn(responseMock);
+        when(requestMock.getHeader(HttpHeaders.ACCEPT_ENCODING)).thenReturn(null);
+        when(responseMock.putHeader(any(CharSequence.class), any(CharSequence.class))).thenReturn(responseMock);
+        when(responseMock.end(any(Buffer.class))).thenAnswer(invocation -> {
+            testContext.verify(() -> {
+                assertThat(invocation.getArgument(0, Buffer.class).toString()).contains("test_counter_total 1.0");
+                verify(responseMock).putHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+            });
+            testContext.completeNow();
+            return Future.succeededFuture();
+        });
+
+        try (MockedStatic<BackendRegistries> br = mockStatic(BackendRegistries.class)) {
+            br.when(BackendRegistries::getDefaultNow).thenReturn(cmr);
+            nph.handle(rcMock);
+        }
+    }
+
+    @Test
+    void testScrapesAreCoalesced(Vertx vertx, VertxTestContext testContext) {
+        PrometheusScrapingHandler nph = new PrometheusScrapingHandler();
+        PrometheusMeterRegistry pmr = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+
+        // run on the event loop, so that the scrape cannot complete before all scrapes were requested
+        vertx.runOnContext(v -> testContext.verify(() -> {
+            Future<Buffer> scrape = nph.scrape(vertx, pmr, false);
+            assertThat(nph.scrape(vertx, pmr, false)).isSameInstanceAs(scrape);
+            assertThat(nph.scrape(vertx, pmr, true)).isNotSameInstanceAs(scrape);
+
+            scrape.onComplete(testContext.succeeding(buffer -> testContext.verify(() -> {
+                assertThat(buffer.toString()).isEqualTo(pmr.scrape());
+                assertThat(nph.scrape(vertx, pmr, false)).isNotSameInstanceAs(scrape);
+                testContext.completeNow();
+            })));
+        }));
+    }
+
+    @Test
+    void testCompressedScrape(Vertx vertx, VertxTestContext testContext) {
+        PrometheusScrapingHandler nph = new PrometheusScrapingHandler();
+        PrometheusMeterRegistry pmr = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+        pmr.counter("test_counter").increment();
+
+        nph.scrape(vertx, pmr, true).onComplete(testContext.succeeding(buffer -> testContext.verify(() -> {
+            try (InputStream input = new GZIPInputStream(new ByteArrayInputStream(buffer.getBytes()))) {
+                assertThat(Buffer.buffer(input.readAllBytes()).toString()).isEqualTo(pmr.scrape());
+            }
+            testContext.completeNow();
+        })));
+    }
+
+    @Test
+    void testAcceptsGzip() {
+        assertThat(PrometheusScrapingHandler.acceptsGzip(null)).isFalse();
+        assertThat(PrometheusScrapingHandler.acceptsGzip("identity")).isFalse();
+        assertThat(PrometheusScrapingHandler.acceptsGzip("gzip")).isTrue();
+        assertThat(PrometheusScrapingHandler.acceptsGzip("deflate, GZIP;q=0.5")).isTrue();
+        assertThat(PrometheusScrapingHandler.acceptsGzip("gzip;q=0")).isFalse();
+        assertThat(PrometheusScrapingHandler.acceptsGzip("gzip;q=0.0, deflate")).isFalse();
+    }
 }
@@ -0,0 +1,138 @@
+package io.neonbee.endpoint.odatav4.internal.olingo;
+
+import static com.google.common.truth.Truth.assertThat;
+import static io.neonbee.endpoint.odatav4.internal.olingo.MetadataDocumentCache.matchesETag;
+import static io.neonbee.endpoint.odatav4.internal.olingo.MetadataDocumentCache.negotiateFormat;
+import static io.neonbee.test.helper.ResourceHelper.TEST_RESOURCES;
+import static io.vertx.core.http.HttpHeaders.IF_NONE_MATCH;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.mockito.Mockito.RETURNS_SELF;
+import static org.mockito.Mockito.doCallRealMethod;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.olingo.commons.api.http.HttpHeader;
+import org.apache.olingo.server.api.OData;
+import org.apache.olingo.server.api.ServiceMetadata;
+import org.apache.olingo.server.core.MetadataParser;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import io.neonbee.endpoint.odatav4.internal.olingo.MetadataDocumentCache.Document;
+import io.neonbee.endpoint.odatav4.internal.olingo.MetadataDocumentCache.DocumentKey;
+import io.neonbee.endpoint.odatav4.internal.olingo.MetadataDocumentCache.DocumentType;
+import io.neonbee.endpoint.odatav4.internal.olingo.MetadataDocumentCache.Format;
+import io.neonbee.internal.helper.BufferHelper.BufferInputStream;
+import io.vertx.core.MultiMap;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.ext.web.RoutingContext;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+
+@ExtendWith(VertxExtension.class)
+class MetadataDocumentCacheTest {
+    @Test
+    @DisplayName("Only unambiguous formats must be negotiated")
+    void testNegotiateFormat() {
+        MultiMap headers = MultiMap.caseInsensitiveMultiMap();
+        assertThat(negotiateFormat("", headers, Format.XML)).isEqualTo(Format.XML);
+        assertThat(negotiateFormat("$format=json", headers, Format.XML)).isEqualTo(Format.JSON);
+        assertThat(negotiateFormat("$format=application/xml", headers, Format.JSON)).isEqualTo(Format.XML);
+        assertThat(negotiateFormat("$format=atom", headers, Format.XML)).isNull();
+        assertThat(negotiateFormat("$format=json&$top=1", headers, Format.XML)).isNull();
+
+        assertThat(negotiateFormat("", headers.set("Accept", "*/*"), Format.JSON)).isEqualTo(Format.JSON);
+        assertThat(negotiateFormat("", headers.set("Accept", "application/json"), Format.XML))
+                .isEqualTo(Format.JSON);
+        assertThat(negotiateFormat("", headers.set("Accept", "application/json;odata.metadata=full"), Format.XML))
+                .isNull();
+        assertThat(negotiateFormat("", headers.set("Accept", "application/json, application/xml"), Format.XML))
+                .isNull();
+
+        headers.set("Accept", "application/xml").set("Accept-Charset", "utf-8");
+        assertThat(negotiateFormat("", headers, Format.XML)).isNull();
+    }
+
+    @Test
+    @DisplayName("If-None-Match must be matched using the weak comparison function")
+    void testMatchesETag() {
+        assertThat(matchesETag(null, "\"abc\"")).isFalse();
+        assertThat(matchesETag("\"abc\"", "\"abc\"")).isTrue();
+        assertThat(matchesETag("W/\"abc\"", "\"abc\"")).isTrue();
+        assertThat(matchesETag("\"xyz\", \"abc\"", "\"abc\"")).isTrue();
+        assertThat(matchesETag("*", "\"abc\"")).isTrue();
+        assertThat(matchesETag("\"xyz\"", "\"abc\"")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Documents must be rendered by Olingo with a strong ETag per representation")
+    void testRenderDocument() throws Exception {
+        MetadataDocumentCache cache = new MetadataDocumentCache(createServiceMetadata());
+
+        Document metadata = cache.renderDocument(new DocumentKey(DocumentType.METADATA, Format.XML, null));
+        assertThat(metadata.content.toString()).contains("<edmx:Edmx");
+        assertThat(metadata.headers.get("Content-Type")).containsExactly("application/xml");
+        assertThat(metadata.etag).matches("\"[0-9a-f]+\"");
+
+        Document serviceDocument = cache
+                .renderDocument(new DocumentKey(DocumentType.SERVICE, Format.JSON, "http://localhost/odata/"));
+        assertThat(serviceDocument.content.toString()).contains("TestUsers");
+        assertThat(serviceDocument.etag).isNotEqualTo(metadata.etag);
+
+        // rendering the same document again must result in the same ETag
+        assertThat(cache.renderDocument(new DocumentKey(DocumentType.METADATA, Format.XML, null)).etag)
+                .isEqualTo(metadata.etag);
+    }
+
+    @Test
+    @DisplayName("Documents which failed to render must not be cached")
+    void testFailedRenderingNotCached(Vertx vertx, VertxTestContext testContext) throws Exception {
+        MetadataDocumentCache cache = spy(new MetadataDocumentCache(createServiceMetadata()));
+        DocumentKey key = new DocumentKey(DocumentType.METADATA, Format.XML, null);
+        doThrow(new IllegalStateException("Transient error")).doCallRealMethod().when(cache).renderDocument(key);
+
+        cache.getDocument(vertx, key).recover(throwable -> cache.getDocument(vertx, key))
+                .onComplete(testContext.succeeding(document -> testContext.verify(() -> {
+                    assertThat(document.content.toString()).contains("<edmx:Edmx");
+                    testContext.completeNow();
+                })));
+    }
+
+    @Test
+    @DisplayName("Not Modified responses must contain the OData-Version header")
+    void testNotModified() {
+        Document document = new Document(
+                Map.of("Content-Type", List.of("application/xml"), HttpHeader.ODATA_VERSION, List.of("4.0")),
+                Buffer.buffer("<edmx:Edmx/>"));
+
+        RoutingContext routingContext = mock(RoutingContext.class);
+        HttpServerRequest request = mock(HttpServerRequest.class);
+        HttpServerResponse response = mock(HttpServerResponse.class, RETURNS_SELF);
+        when(routingContext.request()).thenReturn(request);
+        when(routingContext.response()).thenReturn(response);
+        when(request.getHeader(IF_NONE_MATCH)).thenReturn(document.etag);
+
+        document.send(routingContext);
+        verify(response).setStatusCode(304);
+        verify(response).putHeader(HttpHeader.ODATA_VERSION, List.of("4.0"));
+    }
+
+    private static ServiceMetadata createServiceMetadata() throws Exception {
+        try (Reader reader = new InputStreamReader(
+                new BufferInputStream(TEST_RESOURCES.get("io/neonbee/endpoint/odatav4/Service.edmx")), UTF_8)) {
+            return OData.newInstance().createServiceMetadata(new MetadataParser().buildEdmProvider(reader), List.of());
+        }
+    }
+}
@@ -1,12 +1,15 @@
 package io.neonbee.endpoint.odatav4.internal.olingo;
 
 import static com.google.common.truth.Truth.assertThat;
+import static io.neonbee.endpoint.odatav4.internal.olingo.OlingoEndpointHandler.STREAMING_CHUNK_SIZE;
 import static io.neonbee.endpoint.odatav4.internal.olingo.OlingoEndpointHandler.mapODataResponse;
 import static io.neonbee.endpoint.odatav4.internal.olingo.OlingoEndpointHandler.mapToODataRequest;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atLeast;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -19,11 +22,14 @@ import org.apache.olingo.server.api.ODataRequest;
 import org.apache.olingo.server.api.ODataResponse;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.stubbing.Answer;
 
 import io.neonbee.internal.handler.CorrelationIdHandler;
+import io.vertx.core.Future;
 import io.vertx.core.MultiMap;
+import io.vertx.core.Vertx;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpMethod;
 import io.vertx.core.http.HttpServerRequest;
@@ -31,7 +37,10 @@ import io.vertx.core.http.HttpServerResponse;
 import io.vertx.core.net.HostAndPort;
 import io.vertx.ext.web.RequestBody;
 import io.vertx.ext.web.RoutingContext;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
 
+@ExtendWith(VertxExtension.class)
 class OlingoEndpointHandlerTest {
     @Test
     @DisplayName("map generic response")
@@ -73,6 +82,49 @@ class OlingoEndpointHandlerTest {
         assertThat(endBuffer.getValue().toString()).isEqualTo("expected data");
     }
 
+    @Test
+    @DisplayName("map streamed OData response")
+    void checkStreamedODataResponseMapping(Vertx vertx, VertxTestContext testContext) throws Exception {
+        byte[] data = "expected data".repeat(STREAMING_CHUNK_SIZE / 4).getBytes(StandardCharsets.UTF_8);
+        ODataResponse odataResponse = new ODataResponse();
+        odataResponse.setStatusCode(200);
+        odataResponse.setHeader("expected1", "value1");
+        ODataContent odataContentMock = mock(ODataContent.class);
+        doAnswer((Answer<ODataContent>) invocation -> {
+            OutputStream output = invocation.getArgument(0);
+            for (int offset = 0; offset < data.length; offset += 1024) {
+                output.write(data, offset, Math.min(1024, data.length - offset));
+            }
+            return null;
+        }).when(odataContentMock).write(any(OutputStream.class));
+        odataResponse.setODataContent(odataContentMock);
+
+        HttpServerResponse responseMock = mock(HttpServerResponse.class);
+        when(responseMock.end()).thenReturn(Future.succeededFuture());
+        RoutingContext routingContextMock = mock(RoutingContext.class);
+        when(routingContextMock.response()).thenReturn(responseMock);
+        mapODataResponse(vertx, odataResponse, routingContextMock)
+                .onComplete(testContext.succeeding(nothing -> testContext.verify(() -> {
+                    verify(responseMock).setStatusCode(200);
+                    verify(responseMock).putHeader("expected1", "value1");
+                    verify(responseMock).setChunked(true);
+
+                    // the content must be written in multiple chunks, before the response is ended
+                    ArgumentCaptor<Buffer> chunks = ArgumentCaptor.forClass(Buffer.class);
+                    verify(responseMock, atLeast(2)).write(chunks.capture());
+                    Buffer content = Buffer.buffer();
+                    chunks.getAllValues().forEach(content::appendBuffer);
+                    assertThat(content.getBytes()).isEqualTo(data);
+                    verify(responseMock).end();
+
+                    // a cancellation is observed via the end handlers, w/o replacing the handlers of the response
+                    verify(routingContextMock).addEndHandler(any());
+                    verify(responseMock, never()).closeHandler(any());
+                    verify(responseMock, never()).exceptionHandler(any());
+                    testContext.completeNow();
+                })));
+    }
+
     @Test
     @DisplayName("test mapToODataRequest")
     void testMapToODataRequest() throws Exception {
@@ -0,0 +1,149 @@
+package io.neonbee.endpoint.odatav4.internal.olingo.expression;
+
+import static com.google.common.truth.Truth.assertThat;
+import static io.neonbee.endpoint.odatav4.internal.olingo.edm.EdmConstants.PRIMITIVE_BOOLEAN;
+import static io.neonbee.endpoint.odatav4.internal.olingo.edm.EdmConstants.PRIMITIVE_INT32;
+import static io.neonbee.endpoint.odatav4.internal.olingo.edm.EdmConstants.PRIMITIVE_STRING;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.apache.olingo.commons.api.data.Entity;
+import org.apache.olingo.commons.api.data.Property;
+import org.apache.olingo.commons.api.data.ValueType;
+import org.apache.olingo.commons.api.edm.EdmPrimitiveType;
+import org.apache.olingo.commons.api.edm.EdmProperty;
+import org.apache.olingo.server.api.ODataApplicationException;
+import org.apache.olingo.server.api.uri.UriInfoResource;
+import org.apache.olingo.server.api.uri.UriResourcePrimitiveProperty;
+import org.apache.olingo.server.api.uri.queryoption.expression.BinaryOperatorKind;
+import org.apache.olingo.server.api.uri.queryoption.expression.Expression;
+import org.apache.olingo.server.api.uri.queryoption.expression.MethodKind;
+import org.apache.olingo.server.api.uri.queryoption.expression.UnaryOperatorKind;
+import org.apache.olingo.server.core.uri.queryoption.expression.BinaryImpl;
+import org.apache.olingo.server.core.uri.queryoption.expression.LiteralImpl;
+import org.apache.olingo.server.core.uri.queryoption.expression.MemberImpl;
+import org.apache.olingo.server.core.uri.queryoption.expression.MethodImpl;
+import org.apache.olingo.server.core.uri.queryoption.expression.UnaryImpl;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.vertx.ext.web.RoutingContext;
+
+class CompiledFilterExpressionTest {
+    private final RoutingContext routingContext = mock(RoutingContext.class);
+
+    private final List<Entity> entities = List.of(entity("Anna", 35), entity("Bert", 42), entity("Alice", 28));
+
+    @Test
+    @DisplayName("Compiled filter expression must match the same entities as the FilterExpressionVisitor")
+    void testCompiledFilterMatchesVisitor() throws Exception {
+        // $filter=Age gt 30 and startswith(Name,'A')
+        Expression expression = new BinaryImpl(
+                new BinaryImpl(member("Age", PRIMITIVE_INT32), BinaryOperatorKind.GT, new LiteralImpl("30",
+                        PRIMITIVE_INT32), PRIMITIVE_BOOLEAN),
+                BinaryOperatorKind.AND, new MethodImpl(MethodKind.STARTSWITH,
+                        List.of(member("Name", PRIMITIVE_STRING), new LiteralImpl("'A'", PRIMITIVE_STRING))),
+                PRIMITIVE_BOOLEAN);
+
+        CompiledFilterExpression compiled = CompiledFilterExpression.compile(routingContext, expression);
+        assertThat(compiled.isConstant()).isFalse();
+        for (Entity entity : entities) {
+            boolean expected = Boolean.TRUE
+                    .equals(expression.accept(new FilterExpressionVisitor(routingContext, entity)).getValue());
+            assertThat(compiled.test(entity)).isEqualTo(expected);
+        }
+        assertThat(entities.stream().filter(entity -> {
+            try {
+                return compiled.test(entity);
+            } catch (ODataApplicationException e) {
+                throw new IllegalStateException(e);
+            }
+        }).toList()).containsExactly(entities.get(0));
+    }
+
+    @Test
+    @DisplayName("Constant sub-expressions must be evaluated during compilation")
+    void testConstantFolding() throws Exception {
+        // $filter=1 eq 1
+        Expression expression = new BinaryImpl(new LiteralImpl("1", PRIMITIVE_INT32), BinaryOperatorKind.EQ,
+                new LiteralImpl("1", PRIMITIVE_INT32), PRIMITIVE_BOOLEAN);
+
+        CompiledFilterExpression compiled = CompiledFilterExpression.compile(routingContext, expression);
+        assertThat(compiled.isConstant()).isTrue();
+        assertThat(compiled.test(entities.get(0))).isTrue();
+    }
+
+    @Test
+    @DisplayName("Boolean operators must short-circuit")
+    void testShortCircuit() throws Exception {
+        // $filter=Age lt 30 or Unknown eq 1, the unknown property is only evaluated if Age is not less than 30
+        Expression expression = new BinaryImpl(
+                new BinaryImpl(member("Age", PRIMITIVE_INT32), BinaryOperatorKind.LT, new LiteralImpl("30",
+                        PRIMITIVE_INT32), PRIMITIVE_BOOLEAN),
+                BinaryOperatorKind.OR, new BinaryImpl(member("Unknown", PRIMITIVE_INT32), BinaryOperatorKind.EQ,
+                        new LiteralImpl("1", PRIMITIVE_INT32), PRIMITIVE_BOOLEAN),
+                PRIMITIVE_BOOLEAN);
+
+        CompiledFilterExpression compiled = CompiledFilterExpression.compile(routingContext, expression);
+        assertThat(compiled.test(entities.get(2))).isTrue();
+        assertThrows(RuntimeException.class, () -> compiled.test(entities.get(0)));
+    }
+
+    @Test
+    @DisplayName("Operators resolved during compilation must be reused for every entity")
+    void testReusedOperators() throws Exception {
+        // $filter=not(toupper(Name) eq 'ANNA') and length(Name) gt 4
+        Expression expression = new BinaryImpl(
+                new UnaryImpl(UnaryOperatorKind.NOT,
+                        new BinaryImpl(new MethodImpl(MethodKind.TOUPPER, List.of(member("Name", PRIMITIVE_STRING))),
+                                BinaryOperatorKind.EQ, new LiteralImpl("'ANNA'", PRIMITIVE_STRING), PRIMITIVE_BOOLEAN),
+                        PRIMITIVE_BOOLEAN),
+                BinaryOperatorKind.AND,
+                new BinaryImpl(new MethodImpl(MethodKind.LENGTH, List.of(member("Name", PRIMITIVE_STRING))),
+                        BinaryOperatorKind.GT, new LiteralImpl("4", PRIMITIVE_INT32), PRIMITIVE_BOOLEAN),
+                PRIMITIVE_BOOLEAN);
+
+        CompiledFilterExpression compiled = CompiledFilterExpression.compile(routingContext, expression);
+        for (int i = 0; i < 2; i++) {
+            for (Entity entity : entities) {
+                boolean expected = Boolean.TRUE
+                        .equals(expression.accept(new FilterExpressionVisitor(routingContext, entity)).getValue());
+                assertThat(compiled.test(entity)).isEqualTo(expected);
+            }
+        }
+        assertThat(compiled.test(entities.get(0))).isFalse();
+        assertThat(compiled.test(entities.get(2))).isTrue();
+    }
+
+    @Test
+    @DisplayName("Unsupported operators must fail during compilation")
+    void testNotImplemented() {
+        Expression expression = new BinaryImpl(member("Age", PRIMITIVE_INT32), BinaryOperatorKind.ADD,
+                new LiteralImpl("1", PRIMITIVE_INT32), PRIMITIVE_INT32);
+
+        assertThrows(ODataApplicationException.class,
+                () -> CompiledFilterExpression.compile(routingContext, expression));
+    }
+
+    private static Entity entity(String name, int age) {
+        return new Entity().addProperty(new Property(null, "Name", ValueType.PRIMITIVE, name))
+                .addProperty(new Property(null, "Age", ValueType.PRIMITIVE, age));
+    }
+
+    private static Expression member(String name, EdmPrimitiveType type) {
+        EdmProperty edmProperty = mock(EdmProperty.class);
+        when(edmProperty.getName()).thenReturn(name);
+        when(edmProperty.getType()).thenReturn(type);
+
+        UriResourcePrimitiveProperty uriResourcePrimitiveProperty = mock(UriResourcePrimitiveProperty.class);
+        when(uriResourcePrimitiveProperty.getProperty()).thenReturn(edmProperty);
+
+        UriInfoResource resourcePath = mock(UriInfoResource.class);
+        when(resourcePath.getUriResourceParts()).thenReturn(List.of(uriResourcePrimitiveProperty));
+
+        return new MemberImpl(resourcePath, null);
+    }
+}
@@ -557,6 +557,58 @@ class OrderExpressionExecutorTest {
                         "org.apache.olingo.server.api.ODataApplicationException: An error has occurred while comparing two values of property testGuidProperty. The types of the compared values are UUID and String but both must be one of: UUID");
     }
 
+    @Test
+    @DisplayName("Ordering with a limit must select the same first entities as a full sort")
+    void executeOrderOptionWithLimitTest() {
+        List<Entity> entityList = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            entityList.add(new Entity() //
+                    .addProperty(new Property(null, "testNumberProperty", ValueType.PRIMITIVE, (i * 37) % 10))
+                    .addProperty(new Property(null, "name", ValueType.PRIMITIVE, "entity" + i)));
+        }
+        entityList.add(new Entity() //
+                .addProperty(new Property(null, "testNumberProperty", ValueType.PRIMITIVE, null))
+                .addProperty(new Property(null, "name", ValueType.PRIMITIVE, "entityNull")));
+
+        EdmTypeImpl edmType = mock(EdmTypeImpl.class);
+        when(edmType.getKind()).thenReturn(EdmTypeKind.PRIMITIVE);
+        when(edmType.toString()).thenReturn(EdmPrimitiveTypeKind.Int32.toString());
+
+        EdmPropertyImpl edmProperty = mock(EdmPropertyImpl.class);
+        when(edmProperty.getType()).thenReturn(edmType);
+        when(edmProperty.getName()).thenReturn("testNumberProperty");
+
+        UriResourcePrimitiveProperty uriResourcePrimitiveProperty = mock(UriResourcePrimitiveProperty.class);
+        when(uriResourcePrimitiveProperty.getProperty()).thenReturn(edmProperty);
+
+        UriInfoResource resourcePath = mock(UriInfoResource.class);
+        when(resourcePath.getUriResourceParts()).thenReturn(List.of(uriResourcePrimitiveProperty));
+
+        MemberImpl member = mock(MemberImpl.class);
+        when(member.getResourcePath()).thenReturn(resourcePath);
+
+        OrderByItemImpl orderByItem = mock(OrderByItemImpl.class);
+        when(orderByItem.getExpression()).thenReturn(member);
+
+        OrderByOptionImpl orderByOption = mock(OrderByOptionImpl.class);
+        when(orderByOption.getOrders()).thenReturn(List.of(orderByItem));
+
+        for (boolean descending : List.of(false, true)) {
+            when(orderByItem.isDescending()).thenReturn(descending);
+            List<Entity> sortedList = OrderExpressionExecutor.executeOrderOption(routingContext, orderByOption,
+                    new ArrayList<>(entityList));
+            for (int limit : List.of(0, 1, 15, 100, 101, 200)) {
+                List<Entity> limitedList =
+                        OrderExpressionExecutor.executeOrderOption(routingContext, orderByOption, entityList, limit);
+                // the ordering must be stable, so the limited list has to be equal to the start of the sorted list
+                assertThat(limitedList).containsExactlyElementsIn(sortedList.subList(0, Math.min(limit, 101)))
+                        .inOrder();
+            }
+        }
+        // the passed list must not be changed when ordering with a limit
+        assertThat(entityList.get(0).getProperty("name").getValue()).isEqualTo("entity0");
+    }
+
     @SuppressWarnings("rawtypes")
     @Test
     void classDefinitionTest() throws Exception {
@@ -0,0 +1,178 @@
+package io.neonbee.endpoint.odatav4.internal.olingo.processor;
+
+import static com.google.common.truth.Truth.assertThat;
+import static io.neonbee.data.DataAction.CREATE;
+import static io.neonbee.data.DataAction.READ;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.olingo.commons.api.data.ComplexValue;
+import org.apache.olingo.commons.api.data.Entity;
+import org.apache.olingo.commons.api.data.Property;
+import org.apache.olingo.commons.api.data.ValueType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import io.neonbee.data.DataQuery;
+import io.neonbee.entity.EntityWrapper;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonObject;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+
+@ExtendWith(VertxExtension.class)
+class BatchRequestSchedulerTest {
+    private final List<String> sent = new ArrayList<>();
+
+    private final List<Promise<EntityWrapper>> pending = new ArrayList<>();
+
+    @Test
+    @DisplayName("should limit the number of concurrent requests per batch")
+    void testLimitPerBatch() {
+        BatchRequestScheduler scheduler = new BatchRequestScheduler(0, 2);
+        BatchRequestScheduler.Batch batch = scheduler.newBatch(false);
+        for (int i = 0; i < 5; i++) {
+            schedule(batch, "a" + i);
+        }
+        assertThat(sent).containsExactly("a0", "a1");
+
+        complete(0);
+        assertThat(sent).containsExactly("a0", "a1", "a2");
+        assertThat(scheduler.getActiveRequests()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("should limit the number of concurrent requests and serve all batches in turns")
+    void testGlobalLimitAndFairness() {
+        BatchRequestScheduler scheduler = new BatchRequestScheduler(1, 0);
+        BatchRequestScheduler.Batch heavyBatch = scheduler.newBatch(false);
+        BatchRequestScheduler.Batch otherBatch = scheduler.newBatch(false);
+        for (int i = 0; i < 3; i++) {
+            schedule(heavyBatch, "a" + i);
+        }
+        schedule(otherBatch, "b0");
+        schedule(otherBatch, "b1");
+        assertThat(sent).containsExactly("a0");
+
+        for (int i = 0; i < 4; i++) {
+            complete(i);
+        }
+        assertThat(sent).containsExactly("a0", "a1", "b0", "a2", "b1").inOrder();
+        assertThat(scheduler.getActiveRequests()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should send identical read requests only once")
+    void testDeduplication() {
+        BatchRequestScheduler scheduler = new BatchRequestScheduler();
+        BatchRequestScheduler.Batch batch = scheduler.newBatch(true);
+        Future<EntityWrapper> first = schedule(batch, new DataQuery(READ, "/Service/Entities"), "first");
+        Future<EntityWrapper> second = schedule(batch, new DataQuery(READ, "/Service/Entities"), "second");
+        schedule(batch, new DataQuery(READ, "/Service/Others"), "other");
+        schedule(batch, new DataQuery(CREATE, "/Service/Entities"), "create");
+        schedule(batch, new DataQuery(CREATE, "/Service/Entities"), "create");
+        assertThat(sent).containsExactly("first", "other", "create", "create");
+
+        complete(0);
+        assertThat(first.result().getEntity().getETag()).isEqualTo("first");
+        assertThat(second.result().getEntity().getETag()).isEqualTo("first");
+        assertThat(second.result().getEntity()).isNotSameInstanceAs(first.result().getEntity());
+    }
+
+    @Test
+    @DisplayName("should copy the properties of deduplicated results")
+    void testCopy() {
+        ComplexValue address = new ComplexValue();
+        address.getValue().add(new Property(null, "City", ValueType.PRIMITIVE, "Walldorf"));
+        Entity entity = new Entity().addProperty(new Property(null, "Name", ValueType.PRIMITIVE, "Duke"))
+                .addProperty(new Property(null, "Address", ValueType.COMPLEX, address))
+                .addProperty(new Property(null, "Tags", ValueType.COLLECTION_PRIMITIVE, new ArrayList<>(List.of("a"))));
+
+        Entity copy = BatchRequestScheduler.copy(new EntityWrapper("Service.Entity", entity)).getEntity();
+        assertThat(copy.getProperty("Name").getValue()).isEqualTo("Duke");
+        assertThat(copy.getProperty("Name")).isNotSameInstanceAs(entity.getProperty("Name"));
+        assertThat(copy.getProperty("Address").asComplex()).isNotSameInstanceAs(address);
+        assertThat(copy.getProperty("Address").asComplex().getValue().get(0).getValue()).isEqualTo("Walldorf");
+        assertThat(copy.getProperty("Address").asComplex().getValue().get(0))
+                .isNotSameInstanceAs(address.getValue().get(0));
+
+        copy.getProperty("Name").setValue(ValueType.PRIMITIVE, "Hodor");
+        copy.getProperty("Address").asComplex().getValue().clear();
+        copy.getProperty("Tags").asCollection().clear();
+        assertThat(entity.getProperty("Name").getValue()).isEqualTo("Duke");
+        assertThat(address.getValue()).hasSize(1);
+        assertThat(entity.getProperty("Tags").asCollection()).containsExactly("a");
+    }
+
+    @Test
+    @DisplayName("should not deduplicate read requests of batches with change sets")
+    void testNoDeduplication() {
+        BatchRequestScheduler.Batch batch = new BatchRequestScheduler().newBatch(false);
+        schedule(batch, new DataQuery(READ, "/Service/Entities"), "first");
+        schedule(batch, new DataQuery(READ, "/Service/Entities"), "second");
+        assertThat(sent).containsExactly("first", "second");
+    }
+
+    @Test
+    @DisplayName("should create a scheduler from the endpoint configuration")
+    void testFromConfig() {
+        BatchRequestScheduler scheduler = BatchRequestScheduler.fromConfig(
+                new JsonObject().put(BatchRequestScheduler.CONFIG_MAX_CONCURRENT_REQUESTS_PER_BATCH, 1));
+        BatchRequestScheduler.Batch batch = scheduler.newBatch(false);
+        schedule(batch, "a0");
+        schedule(batch, "a1");
+        assertThat(sent).containsExactly("a0");
+    }
+
+    @Test
+    @DisplayName("should share one scheduler per endpoint")
+    void testGetShared(Vertx vertx) {
+        BatchRequestScheduler scheduler = BatchRequestScheduler.getShared(vertx, "/odata/", null);
+        assertThat(BatchRequestScheduler.getShared(vertx, "/odata/", null)).isSameInstanceAs(scheduler);
+        assertThat(BatchRequestScheduler.getShared(vertx, "/other/", null)).isNotSameInstanceAs(scheduler);
+    }
+
+    @Test
+    @DisplayName("should send queued requests on the context of their batch")
+    void testSendOnBatchContext(Vertx vertx, VertxTestContext testContext) {
+        BatchRequestScheduler scheduler = new BatchRequestScheduler(1, 0);
+        Context batchContext = vertx.getOrCreateContext();
+        Promise<EntityWrapper> firstRequest = Promise.promise();
+        batchContext.runOnContext(nothing -> {
+            BatchRequestScheduler.Batch batch = scheduler.newBatch(false);
+            batch.schedule(new DataQuery(READ, "/Service/first"), firstRequest::future);
+            batch.schedule(new DataQuery(READ, "/Service/second"), () -> {
+                testContext.verify(() -> assertThat(Vertx.currentContext()).isSameInstanceAs(batchContext));
+                testContext.completeNow();
+                return Future.succeededFuture();
+            });
+
+            // complete the first request outside of any context, which dispatches the second request
+            new Thread(() -> firstRequest.complete()).start();
+        });
+    }
+
+    private Future<EntityWrapper> schedule(BatchRequestScheduler.Batch batch, String name) {
+        return schedule(batch, new DataQuery(READ, "/Service/" + name), name);
+    }
+
+    private Future<EntityWrapper> schedule(BatchRequestScheduler.Batch batch, DataQuery query, String name) {
+        return batch.schedule(query, () -> {
+            sent.add(name);
+            Promise<EntityWrapper> promise = Promise.promise();
+            pending.add(promise);
+            Entity entity = new Entity();
+            entity.setETag(name);
+            return promise.future().map(new EntityWrapper("Service.Entities", entity));
+        });
+    }
+
+    private void complete(int index) {
+        pending.get(index).complete();
+    }
+}
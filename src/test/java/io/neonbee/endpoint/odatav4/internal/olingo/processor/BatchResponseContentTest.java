@@ -0,0 +1,79 @@
+package io.neonbee.endpoint.odatav4.internal.olingo.processor;
+
+import static com.google.common.truth.Truth.assertThat;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.List;
+
+import org.apache.olingo.commons.api.http.HttpHeader;
+import org.apache.olingo.server.api.OData;
+import org.apache.olingo.server.api.ODataResponse;
+import org.apache.olingo.server.api.deserializer.batch.ODataResponsePart;
+import org.apache.olingo.server.api.serializer.FixedFormatSerializer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.streams.WriteStream;
+
+class BatchResponseContentTest {
+    private static final String BOUNDARY = "batch_test";
+
+    private final FixedFormatSerializer serializer = OData.newInstance().createFixedFormatSerializer();
+
+    @Test
+    @DisplayName("should write the parts in order, as soon as they are done")
+    @SuppressWarnings("unchecked")
+    void testWriteStream() throws Exception {
+        Promise<ODataResponsePart> firstPart = Promise.promise();
+        Promise<ODataResponsePart> secondPart = Promise.promise();
+        BatchResponseContent content =
+                new BatchResponseContent(serializer, BOUNDARY, List.of(firstPart.future(), secondPart.future()));
+
+        Buffer written = Buffer.buffer();
+        WriteStream<Buffer> writeStream = mock(WriteStream.class);
+        when(writeStream.write(any())).thenAnswer(invocation -> {
+            written.appendBuffer(invocation.getArgument(0));
+            return Future.succeededFuture();
+        });
+
+        Future<Void> result = content.write(writeStream);
+        secondPart.complete(responsePart("second"));
+        assertThat(written.length()).isEqualTo(0);
+
+        firstPart.complete(responsePart("first"));
+        assertThat(result.succeeded()).isTrue();
+        assertThat(written.toString()).isEqualTo(expectedContent());
+    }
+
+    @Test
+    @DisplayName("should write all parts to an output stream")
+    void testWriteOutputStream() throws Exception {
+        BatchResponseContent content = new BatchResponseContent(serializer, BOUNDARY,
+                List.of(Future.succeededFuture(responsePart("first")), Future.succeededFuture(responsePart("second"))));
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        content.write(output);
+        assertThat(output.toString(UTF_8)).isEqualTo(expectedContent());
+    }
+
+    private String expectedContent() throws Exception {
+        return new String(serializer.batchResponse(List.of(responsePart("first"), responsePart("second")), BOUNDARY)
+                .readAllBytes(), UTF_8);
+    }
+
+    private static ODataResponsePart responsePart(String body) {
+        ODataResponse response = new ODataResponse();
+        response.setStatusCode(200);
+        response.setHeader(HttpHeader.CONTENT_TYPE, "text/plain");
+        response.setContent(new ByteArrayInputStream(body.getBytes(UTF_8)));
+        return new ODataResponsePart(response, false);
+    }
+}
@@ -0,0 +1,99 @@
+package io.neonbee.endpoint.odatav4.internal.olingo.processor;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+
+import org.apache.olingo.commons.api.data.Entity;
+import org.apache.olingo.commons.api.data.Property;
+import org.apache.olingo.commons.api.data.ValueType;
+import org.apache.olingo.commons.api.edm.EdmNavigationProperty;
+import org.apache.olingo.commons.api.edm.EdmReferentialConstraint;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class NavigationPropertyHelperTest {
+    private static final List<Entity> PRODUCTS =
+            List.of(product(1, "Steak", 1), product(2, "Cheese", 1), product(21, "S 1000 RR", 2));
+
+    private static final List<Entity> CATEGORIES = List.of(category(1, "Food"), category(2, "Motorcycles"));
+
+    @Test
+    @DisplayName("Filter of referenced entities must contain the distinct referenced values")
+    void testBuildReferencedEntitiesFilter() {
+        assertThat(NavigationPropertyHelper.buildReferencedEntitiesFilter(categoryOfProduct(), PRODUCTS))
+                .isEqualTo("ID in (1,2)");
+        assertThat(NavigationPropertyHelper.buildReferencedEntitiesFilter(productsOfCategory(), CATEGORIES))
+                .isEqualTo("category_ID in (1,2)");
+    }
+
+    @Test
+    @DisplayName("Filter of referenced entities must contain escaped string literals")
+    void testBuildReferencedEntitiesFilterWithStrings() {
+        EdmNavigationProperty navigationProperty = mock(EdmNavigationProperty.class);
+        List<EdmReferentialConstraint> constraints = List.of(constraint("category_name", "name"));
+        when(navigationProperty.getReferentialConstraints()).thenReturn(constraints);
+
+        Entity entity = new Entity()
+                .addProperty(new Property(null, "category_name", ValueType.PRIMITIVE, "Food 'n' Drinks"));
+        assertThat(NavigationPropertyHelper.buildReferencedEntitiesFilter(navigationProperty, List.of(entity)))
+                .isEqualTo("name in ('Food ''n'' Drinks')");
+    }
+
+    @Test
+    @DisplayName("Related entities must be looked up from the index of the referenced entities")
+    void testGetRelatedEntitiesFromIndex() {
+        EdmNavigationProperty categoryOfProduct = categoryOfProduct();
+        Map<List<Object>, List<Entity>> categoryIndex =
+                NavigationPropertyHelper.indexReferencedEntities(categoryOfProduct, CATEGORIES);
+        for (Entity product : PRODUCTS) {
+            assertThat(NavigationPropertyHelper.getRelatedEntities(categoryOfProduct, product, categoryIndex))
+                    .containsExactlyElementsIn(
+                            NavigationPropertyHelper.getRelatedEntities(categoryOfProduct, product, CATEGORIES));
+        }
+
+        EdmNavigationProperty productsOfCategory = productsOfCategory();
+        Map<List<Object>, List<Entity>> productIndex =
+                NavigationPropertyHelper.indexReferencedEntities(productsOfCategory, PRODUCTS);
+        assertThat(NavigationPropertyHelper.getRelatedEntities(productsOfCategory, CATEGORIES.get(0), productIndex))
+                .containsExactly(PRODUCTS.get(0), PRODUCTS.get(1)).inOrder();
+        assertThat(NavigationPropertyHelper.getRelatedEntities(productsOfCategory, category(3, "Empty"), productIndex))
+                .isEmpty();
+    }
+
+    private static EdmNavigationProperty categoryOfProduct() {
+        EdmNavigationProperty navigationProperty = mock(EdmNavigationProperty.class);
+        List<EdmReferentialConstraint> constraints = List.of(constraint("category_ID", "ID"));
+        when(navigationProperty.getReferentialConstraints()).thenReturn(constraints);
+        return navigationProperty;
+    }
+
+    private static EdmNavigationProperty productsOfCategory() {
+        EdmNavigationProperty partner = categoryOfProduct();
+        EdmNavigationProperty navigationProperty = mock(EdmNavigationProperty.class);
+        when(navigationProperty.isCollection()).thenReturn(true);
+        when(navigationProperty.getPartner()).thenReturn(partner);
+        return navigationProperty;
+    }
+
+    private static EdmReferentialConstraint constraint(String propertyName, String referencedPropertyName) {
+        EdmReferentialConstraint constraint = mock(EdmReferentialConstraint.class);
+        when(constraint.getPropertyName()).thenReturn(propertyName);
+        when(constraint.getReferencedPropertyName()).thenReturn(referencedPropertyName);
+        return constraint;
+    }
+
+    private static Entity product(int id, String name, int categoryId) {
+        return new Entity().addProperty(new Property(null, "ID", ValueType.PRIMITIVE, id))
+                .addProperty(new Property(null, "name", ValueType.PRIMITIVE, name))
+                .addProperty(new Property(null, "category_ID", ValueType.PRIMITIVE, categoryId));
+    }
+
+    private static Entity category(int id, String name) {
+        return new Entity().addProperty(new Property(null, "ID", ValueType.PRIMITIVE, id))
+                .addProperty(new Property(null, "name", ValueType.PRIMITIVE, name));
+    }
+}
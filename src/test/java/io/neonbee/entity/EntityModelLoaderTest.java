@@ -5,6 +5,7 @@ import static io.neonbee.NeonBeeProfile.NO_WEB;
 import static io.neonbee.entity.EntityModelLoader.createServiceMetadata;
 import static io.neonbee.entity.EntityModelLoader.getSchemaNamespace;
 import static io.neonbee.test.helper.ResourceHelper.TEST_RESOURCES;
+import static java.nio.charset.StandardCharsets.UTF_8;
 
 import java.io.IOException;
 import java.nio.file.Path;
@@ -150,6 +151,90 @@ class EntityModelLoaderTest extends NeonBeeTestBase {
         assertThat(getSchemaNamespace(createServiceMetadata(withoutEntityContainer))).isEqualTo("Test.Service");
     }
 
+    @Test
+    @DisplayName("check if unchanged models are reused from the cache")
+    void reuseCachedModelsTest(Vertx vertx, VertxTestContext testContext) throws IOException {
+        Map.Entry<String, byte[]> referenceModel = buildModelEntry("ReferenceService.csn");
+        Map.Entry<String, byte[]> referenceExtModel = buildModelEntry("io.neonbee.reference.ReferenceService.edmx");
+        byte[] changedExtModel = (new String(referenceExtModel.getValue(), UTF_8) + "\n").getBytes(UTF_8);
+
+        EntityModelCache cache = new EntityModelCache();
+        EntityModelLoader loader = new EntityModelLoader(vertx, cache);
+        EntityModelLoader unchangedLoader = new EntityModelLoader(vertx, cache);
+        EntityModelLoader changedLoader = new EntityModelLoader(vertx, cache);
+        loader.parseModel(referenceModel.getKey(), referenceModel.getValue(), Map.ofEntries(referenceExtModel))
+                .onSuccess(v -> loader.updateCache())
+                .compose(v -> unchangedLoader.parseModel(referenceModel.getKey(), referenceModel.getValue(),
+                        Map.ofEntries(referenceExtModel)))
+                .compose(v -> changedLoader.parseModel(referenceModel.getKey(), referenceModel.getValue(),
+                        Map.of(referenceExtModel.getKey(), changedExtModel)))
+                .onComplete(testContext.succeeding(v -> testContext.verify(() -> {
+                    EntityModel model = loader.models.get("io.neonbee.reference");
+                    assertThat(unchangedLoader.models.get("io.neonbee.reference")).isSameInstanceAs(model);
+
+                    // only the EDMX model changed, so the CSN model is reused, but the EDMX model is parsed again
+                    EntityModel changedModel = changedLoader.models.get("io.neonbee.reference");
+                    assertThat(changedModel).isNotSameInstanceAs(model);
+                    assertThat(changedModel.getCsnModel()).isSameInstanceAs(model.getCsnModel());
+                    assertThat(changedModel.getEdmxMetadata().getServiceMetadataETagSupport().getMetadataETag())
+                            .isNotEqualTo(model.getEdmxMetadata().getServiceMetadataETagSupport().getMetadataETag());
+
+                    testContext.completeNow();
+                })));
+    }
+
+    @Test
+    @DisplayName("check if cached models are merged with EDMX files added to their schema namespace")
+    void mergeCachedModelsTest(Vertx vertx, VertxTestContext testContext) throws IOException {
+        Map.Entry<String, byte[]> referenceModel = buildModelEntry("ReferenceService.csn");
+        Map.Entry<String, byte[]> referenceExtModel = buildModelEntry("io.neonbee.reference.ReferenceService.edmx");
+        // a second model, with an EDMX file of the same schema namespace as the EDMX file of the reference model
+        byte[] extensionModel = "{\"definitions\":{\"io.neonbee.extension.ExtensionService\":{\"kind\":\"service\"}}}"
+                .getBytes(UTF_8);
+        Map.Entry<String, byte[]> extensionExtModel = Map.entry("models/io.neonbee.extension.ExtensionService.edmx",
+                ("<edmx:Edmx Version=\"4.0\" xmlns:edmx=\"http://docs.oasis-open.org/odata/ns/edmx\">"
+                        + "<edmx:DataServices><Schema Namespace=\"io.neonbee.reference.ReferenceService\" "
+                        + "xmlns=\"http://docs.oasis-open.org/odata/ns/edm\"><EntityType Name=\"TestCategories\">"
+                        + "<Key><PropertyRef Name=\"ID\"/></Key><Property Name=\"ID\" Type=\"Edm.String\"/>"
+                        + "</EntityType></Schema></edmx:DataServices></edmx:Edmx>").getBytes(UTF_8));
+
+        EntityModelCache cache = new EntityModelCache();
+        EntityModelLoader loader = new EntityModelLoader(vertx, cache);
+        EntityModelLoader cachedLoader = new EntityModelLoader(vertx, cache);
+        EntityModelLoader uncachedLoader = new EntityModelLoader(vertx);
+        loader.parseModel(referenceModel.getKey(), referenceModel.getValue(), Map.ofEntries(referenceExtModel))
+                .onSuccess(v -> loader.updateCache())
+                .compose(v -> Future.all(
+                        cachedLoader.parseModel(referenceModel.getKey(), referenceModel.getValue(),
+                                Map.ofEntries(referenceExtModel)),
+                        cachedLoader.parseModel("models/ExtensionService.csn", extensionModel,
+                                Map.ofEntries(extensionExtModel)),
+                        uncachedLoader.parseModel(referenceModel.getKey(), referenceModel.getValue(),
+                                Map.ofEntries(referenceExtModel)),
+                        uncachedLoader.parseModel("models/ExtensionService.csn", extensionModel,
+                                Map.ofEntries(extensionExtModel))))
+                .compose(v -> cachedLoader.reloadMergedModels())
+                .onComplete(testContext.succeeding(v -> testContext.verify(() -> {
+                    // the schema namespace of the cached model gained an EDMX file, so the model must not be reused
+                    EntityModel model = cachedLoader.models.get("io.neonbee.reference");
+                    assertThat(model).isNotSameInstanceAs(loader.models.get("io.neonbee.reference"));
+                    assertThat(cachedLoader.edmProviders.keySet())
+                            .containsExactlyElementsIn(uncachedLoader.edmProviders.keySet());
+                    assertThat(model.getEdmxMetadata().getEdm().getSchemas()).hasSize(uncachedLoader.models
+                            .get("io.neonbee.reference").getEdmxMetadata().getEdm().getSchemas().size());
+
+                    // models with merged schema namespaces depend on other model files, so they are not cached
+                    cachedLoader.updateCache();
+                    EntityModelLoader nextLoader = new EntityModelLoader(vertx, cache);
+                    nextLoader.parseModel(referenceModel.getKey(), referenceModel.getValue(),
+                            Map.ofEntries(referenceExtModel))
+                            .onComplete(testContext.succeeding(w -> testContext.verify(() -> {
+                                assertThat(nextLoader.models.get("io.neonbee.reference")).isNotSameInstanceAs(model);
+                                testContext.completeNow();
+                            })));
+                })));
+    }
+
     private Map.Entry<String, byte[]> buildModelEntry(String modelName) throws IOException {
         return Map.entry("models/" + modelName, TEST_RESOURCES.getRelated(modelName).getBytes());
     }
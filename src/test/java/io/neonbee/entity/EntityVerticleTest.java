@@ -9,6 +9,7 @@ import static io.neonbee.entity.EntityVerticle.ENTITY_PROPERTY_NAME_GROUP;
 import static io.neonbee.entity.EntityVerticle.ENTITY_SET_NAME_GROUP;
 import static io.neonbee.entity.EntityVerticle.SERVICE_NAMESPACE_GROUP;
 import static io.neonbee.entity.EntityVerticle.URI_PATH_PATTERN;
+import static io.neonbee.entity.EntityVerticle.resolveEntityVerticleAddress;
 import static io.neonbee.entity.EntityVerticle.sharedEntityMapName;
 import static io.neonbee.test.helper.ResourceHelper.TEST_RESOURCES;
 import static io.vertx.core.Future.succeededFuture;
@@ -40,6 +41,7 @@ import io.neonbee.internal.WriteSafeRegistry;
 import io.neonbee.test.base.EntityVerticleTestBase;
 import io.vertx.core.CompositeFuture;
 import io.vertx.core.Future;
+import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 import io.vertx.junit5.Checkpoint;
 import io.vertx.junit5.VertxTestContext;
@@ -182,6 +184,28 @@ class EntityVerticleTest extends EntityVerticleTestBase {
                 })));
     }
 
+    @Test
+    @DisplayName("Parsed URI info should be cached until new models are loaded")
+    void parseUriInfoCacheTest(Vertx vertx, VertxTestContext testContext) {
+        DataQuery query = new DataQuery(DataAction.READ, "/io.neonbee.test1.TestService1/AllPropertiesNullable")
+                .addParameter("$filter", "KeyPropertyString eq 'Test123'");
+
+        entityVerticleImpl1.parseUriInfo(vertx, query)
+                .compose(uriInfo -> entityVerticleImpl1.parseUriInfo(vertx, query.copy()).map(cachedUriInfo -> {
+                    testContext.verify(() -> {
+                        assertThat(cachedUriInfo).isSameInstanceAs(uriInfo);
+                        assertThat(entityVerticleImpl1.uriInfoCache.size()).isEqualTo(1);
+                    });
+                    return uriInfo;
+                })).compose(uriInfo -> getNeonBee().getModelManager().reloadModels()
+                        .compose(models -> entityVerticleImpl1.parseUriInfo(vertx, query))
+                        .onComplete(testContext.succeeding(reparsedUriInfo -> testContext.verify(() -> {
+                            // the reloaded model must never be served with a URI info parsed for the previous model
+                            assertThat(reparsedUriInfo).isNotSameInstanceAs(uriInfo);
+                            testContext.completeNow();
+                        }))));
+    }
+
     @Test
     @DisplayName("requestEntity routes directly to entity verticle via EntityVerticle[FQN] address")
     void requestEntityWithConsolidationVerticleTest(VertxTestContext testContext) {
@@ -194,6 +218,60 @@ class EntityVerticleTest extends EntityVerticleTestBase {
                 })));
     }
 
+    @Test
+    @DisplayName("requestEntity resolves the address of local entity verticles directly")
+    void resolveEntityVerticleAddressTest(Vertx vertx, VertxTestContext testContext) {
+        List<String> customerVerticles = getNeonBee().getLocalEntityVerticles("ERP.Customers");
+        assertThat(customerVerticles).hasSize(2);
+        assertThat(resolveEntityVerticleAddress(vertx, EntityVerticleImpl1.FQN_ERP_CUSTOMERS))
+                .isIn(customerVerticles);
+        assertThat(resolveEntityVerticleAddress(vertx, EntityVerticleImpl1.FQN_SALES_ORDERS))
+                .isEqualTo(getNeonBee().getLocalEntityVerticles("Sales.Orders").get(0));
+
+        // fall back to the forwarding consumers, if no entity verticle is deployed locally
+        FullQualifiedName unknownEntityTypeName = new FullQualifiedName("Unknown.Entities");
+        assertThat(resolveEntityVerticleAddress(vertx, unknownEntityTypeName))
+                .isEqualTo(sharedEntityMapName(unknownEntityTypeName));
+
+        vertx.undeploy(entityVerticleImpl1.deploymentID())
+                .onComplete(testContext.succeeding(v -> testContext.verify(() -> {
+                    assertThat(getNeonBee().getLocalEntityVerticles("ERP.Customers")).hasSize(1);
+                    assertThat(getNeonBee().getLocalEntityVerticles("Sales.Orders")).isEmpty();
+                    assertThat(resolveEntityVerticleAddress(vertx, EntityVerticleImpl1.FQN_SALES_ORDERS))
+                            .isEqualTo(sharedEntityMapName(EntityVerticleImpl1.FQN_SALES_ORDERS));
+                    testContext.completeNow();
+                })));
+    }
+
+    @Test
+    @DisplayName("local entity verticles are unregistered, even if stop is overridden without calling super")
+    void unregisterLocalEntityVerticleTest(Vertx vertx, VertxTestContext testContext) {
+        EntityVerticle entityVerticle = new EntityVerticleImpl4();
+        deployVerticle(entityVerticle).compose(deployment -> {
+            testContext.verify(() -> assertThat(getNeonBee().getLocalEntityVerticles("Sales.Invoices")).hasSize(1));
+            return vertx.undeploy(entityVerticle.deploymentID());
+        }).onComplete(testContext.succeeding(v -> testContext.verify(() -> {
+            assertThat(getNeonBee().getLocalEntityVerticles("Sales.Invoices")).isEmpty();
+            testContext.completeNow();
+        })));
+    }
+
+    @Test
+    @DisplayName("requestEntity falls back to the forwarding consumers, if a local entity verticle is not available")
+    void requestEntityFallbackTest(VertxTestContext testContext) {
+        String address = getNeonBee().getLocalEntityVerticles("Sales.Orders").get(0);
+        String staleAddress = "DataVerticle[test/Stale]";
+        getNeonBee().unregisterLocalEntityVerticle("Sales.Orders", address);
+        getNeonBee().registerLocalEntityVerticle("Sales.Orders", staleAddress);
+
+        requestEntity(EntityVerticleImpl1.FQN_SALES_ORDERS)
+                .onComplete(testContext.succeeding(ew -> testContext.verify(() -> {
+                    assertThat(ew.getTypeName()).isEqualTo(EntityVerticleImpl1.FQN_ERP_CUSTOMERS);
+                    assertThat(getNeonBee().getLocalEntityVerticles("Sales.Orders")).doesNotContain(staleAddress);
+                    testContext.completeNow();
+                })));
+    }
+
     @Test
     @DisplayName("requestEntity must call ConsolidationVerticle if more then one EntityVerticle is registered for Entity")
     void requestEntityTest(VertxTestContext testContext) {
@@ -267,6 +345,28 @@ class EntityVerticleImpl2 extends EntityVerticle {
     }
 }
 
+@NeonBeeDeployable(namespace = "test")
+@SuppressWarnings("PMD.TestClassWithoutTestCases")
+class EntityVerticleImpl4 extends EntityVerticle {
+    static final FullQualifiedName FQN_SALES_INVOICES = new FullQualifiedName("Sales.Invoices");
+
+    @Override
+    public Future<Set<FullQualifiedName>> entityTypeNames() {
+        return succeededFuture(Set.of(FQN_SALES_INVOICES));
+    }
+
+    @Override
+    public Future<EntityWrapper> retrieveData(DataQuery query, DataContext context) {
+        return succeededFuture(new EntityWrapper(FQN_SALES_INVOICES, (Entity) null));
+    }
+
+    @Override
+    public void stop(Promise<Void> stopPromise) {
+        // intentionally does not call the stop method of the super class
+        stopPromise.complete();
+    }
+}
+
 @NeonBeeDeployable(namespace = "test")
 @SuppressWarnings("PMD.TestClassWithoutTestCases")
 class EntityVerticleImpl3 extends EntityVerticle {
@@ -73,6 +73,8 @@ class EntityWrapperTest extends NeonBeeTestBase {
             testContext.verify(() -> {
                 Buffer buffer = TEST_USER_WRAPPER.toBuffer(getNeonBee().getVertx());
                 assertThat(buffer.toJsonObject()).isEqualTo(TEST_USER_WRAPPER_SERIALIZED.toJsonObject());
+                assertThat(EntityWrapper.fromBuffer(getNeonBee().getVertx(), buffer).getTypeName())
+                        .isEqualTo(TEST_USER_WRAPPER.getTypeName());
                 testContext.completeNow();
             });
         }));
@@ -19,4 +19,13 @@ class BufferDeserializerTest {
         BufferWrapper wrapper = mapper.readValue(json, BufferWrapper.class);
         assertThat(wrapper.getContent().toString()).isEqualTo("body");
     }
+
+    @Test
+    @DisplayName("deserialization of a Base64 encoded stream to buffer in binary mode.")
+    void testBinaryDeserialization() throws IOException {
+        String json = "{\"content\":\"/wD+\"}";
+        BufferSerializerTest.BinaryBufferWrapper wrapper =
+                new ObjectMapper().readValue(json, BufferSerializerTest.BinaryBufferWrapper.class);
+        assertThat(wrapper.content.getBytes()).isEqualTo(new byte[] { (byte) 0xFF, 0x00, (byte) 0xFE });
+    }
 }
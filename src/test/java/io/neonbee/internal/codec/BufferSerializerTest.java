@@ -1,5 +1,15 @@
 package io.neonbee.internal.codec;
 
+import static com.google.common.truth.Truth.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
 import java.io.IOException;
 
 import org.json.JSONException;
@@ -8,9 +18,13 @@ import org.junit.jupiter.api.Test;
 import org.skyscreamer.jsonassert.JSONAssert;
 import org.skyscreamer.jsonassert.JSONCompareMode;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 
 import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonObject;
 
 class BufferSerializerTest {
 
@@ -22,4 +36,38 @@ class BufferSerializerTest {
         String json = mapper.writeValueAsString(wrapper);
         JSONAssert.assertEquals(json, "{\"type\":\"file\",\"content\":\"body\"}", JSONCompareMode.LENIENT);
     }
+
+    @Test
+    @DisplayName("serialization of a buffer in binary mode should produce a Base64 encoded JSON representation.")
+    void testBinarySerialization() throws IOException, JSONException {
+        BinaryBufferWrapper wrapper = new BinaryBufferWrapper();
+        wrapper.content = Buffer.buffer(new byte[] { (byte) 0xFF, 0x00, (byte) 0xFE });
+        String json = new ObjectMapper().writeValueAsString(wrapper);
+        JSONAssert.assertEquals(json, "{\"content\":\"/wD+\"}", JSONCompareMode.LENIENT);
+    }
+
+    @Test
+    @DisplayName("serialization of a buffer should write binary values natively, if supported by the generator.")
+    void testNativeBinarySerialization() throws IOException {
+        byte[] bytes = { (byte) 0xFF, 0x00, (byte) 0xFE };
+        JsonGenerator generator = mock(JsonGenerator.class);
+        when(generator.canWriteBinaryNatively()).thenReturn(true);
+        new BufferSerializer().serialize(Buffer.buffer(bytes), generator, null);
+        verify(generator).writeBinary(any(byte[].class), anyInt(), eq(bytes.length));
+        verify(generator, never()).writeString(anyString());
+    }
+
+    @Test
+    @DisplayName("conversion of a buffer should keep the textual representation.")
+    void testConversion() {
+        BufferWrapper wrapper = new BufferWrapper("file", Buffer.buffer("body"));
+        assertThat(JsonObject.mapFrom(wrapper).getString("content")).isEqualTo("body");
+        assertThat(JsonObject.mapFrom(wrapper).mapTo(BufferWrapper.class).getContent().toString()).isEqualTo("body");
+    }
+
+    static class BinaryBufferWrapper {
+        @JsonSerialize(using = BufferSerializer.Binary.class)
+        @JsonDeserialize(using = BufferDeserializer.Binary.class)
+        public Buffer content;
+    }
 }
@@ -1,16 +1,25 @@
 package io.neonbee.internal.codec;
 
 import static com.google.common.truth.Truth.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.when;
 
 import java.util.List;
 import java.util.Map;
 
 import org.json.JSONException;
 import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
 
+import io.neonbee.NeonBee;
+import io.neonbee.NeonBeeOptions;
+import io.neonbee.config.NeonBeeConfig;
 import io.neonbee.data.DataAction;
 import io.neonbee.data.DataQuery;
+import io.vertx.core.Vertx;
 import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonObject;
 
 class DataQueryMessageCodecTest {
     private final DataQueryMessageCodec codec = new DataQueryMessageCodec();
@@ -26,6 +35,53 @@ class DataQueryMessageCodecTest {
         assertThat(decoded).isEqualTo(query);
     }
 
+    @Test
+    void testEncodeWithNullValues() {
+        DataQuery emptyQuery = new DataQuery();
+        Buffer buffer = Buffer.buffer();
+        codec.encodeToWire(buffer, emptyQuery);
+        assertThat(codec.decodeFromWire(0, buffer)).isEqualTo(emptyQuery);
+    }
+
+    @Test
+    void testEncodeBinaryBody() {
+        DataQuery binaryQuery = query.copy().setBody(Buffer.buffer(new byte[] { (byte) 0xFF, 0x00, (byte) 0xC3 }));
+        Buffer buffer = Buffer.buffer("prefix");
+        codec.encodeToWire(buffer, binaryQuery);
+        assertThat(codec.decodeFromWire(6, buffer)).isEqualTo(binaryQuery);
+    }
+
+    @Test
+    void testDecodeLegacyJsonFormat() {
+        Buffer buffer = Buffer.buffer();
+        JsonObject.mapFrom(query).writeToBuffer(buffer);
+        assertThat(codec.decodeFromWire(0, buffer)).isEqualTo(query);
+    }
+
+    @Test
+    void testEncodeLegacyJsonFormatInCluster() {
+        Vertx vertxMock = mock(Vertx.class);
+        try (MockedStatic<NeonBee> staticNeonBeeMock = mockStatic(NeonBee.class)) {
+            NeonBee neonBeeMock = mock(NeonBee.class);
+            when(neonBeeMock.getOptions()).thenReturn(new NeonBeeOptions.Mutable().setClustered(true));
+            when(neonBeeMock.getConfig()).thenReturn(new NeonBeeConfig());
+            staticNeonBeeMock.when(() -> NeonBee.get(vertxMock)).thenReturn(neonBeeMock);
+
+            DataQueryMessageCodec clusteredCodec = new DataQueryMessageCodec(vertxMock);
+            Buffer buffer = Buffer.buffer();
+            clusteredCodec.encodeToWire(buffer, query);
+            JsonObject legacyJson = new JsonObject();
+            legacyJson.readFromBuffer(0, buffer);
+            assertThat(legacyJson.mapTo(DataQuery.class)).isEqualTo(query);
+
+            when(neonBeeMock.getConfig()).thenReturn(new NeonBeeConfig().setBinaryEntityWrapperEncoding(true));
+            Buffer binaryBuffer = Buffer.buffer();
+            clusteredCodec.encodeToWire(binaryBuffer, query);
+            assertThat(binaryBuffer.getInt(0)).isEqualTo(DataQueryMessageCodec.MAGIC);
+            assertThat(clusteredCodec.decodeFromWire(0, binaryBuffer)).isEqualTo(query);
+        }
+    }
+
     @Test
     void testTransform() {
         assertThat(codec.transform(query)).isEqualTo(query);
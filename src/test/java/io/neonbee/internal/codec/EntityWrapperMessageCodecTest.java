@@ -3,6 +3,9 @@ package io.neonbee.internal.codec;
 import static com.google.common.truth.Truth.assertThat;
 import static io.neonbee.NeonBeeProfile.NO_WEB;
 import static io.neonbee.test.helper.ResourceHelper.TEST_RESOURCES;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
 
 import org.apache.olingo.commons.api.data.Entity;
 import org.apache.olingo.commons.api.data.Property;
@@ -18,6 +21,8 @@ import io.neonbee.test.base.NeonBeeTestBase;
 import io.neonbee.test.helper.WorkingDirectoryBuilder;
 import io.vertx.core.Future;
 import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
 import io.vertx.junit5.VertxTestContext;
 
 class EntityWrapperMessageCodecTest extends NeonBeeTestBase {
@@ -62,6 +67,80 @@ class EntityWrapperMessageCodecTest extends NeonBeeTestBase {
         }).onComplete(testContext.succeedingThenComplete());
     }
 
+    @Test
+    @DisplayName("Should serialize and deserialize multiple entities with null values correctly.")
+    void encodeDecodeMultiple(VertxTestContext testContext) {
+        Entity other = new Entity().addProperty(new Property(null, "name", ValueType.PRIMITIVE, "OTHER"))
+                .addProperty(new Property(null, "ID", ValueType.PRIMITIVE, "ID2"));
+        other.setETag("W/\"1\"");
+
+        getNeonBee().getModelManager().reloadModels().<Void>compose(map -> {
+            Buffer buffer = Buffer.buffer();
+            codec.encodeToWire(buffer, new EntityWrapper(wrapper.getTypeName(), List.of(entity, other)));
+            List<Entity> entities = codec.decodeFromWire(0, buffer).getEntities();
+            assertThat(entities).hasSize(2);
+            assertThat(entities.get(0).getProperty("name").getValue()).isEqualTo("NAME");
+            assertThat(entities.get(0).getETag()).isNull();
+            assertThat(entities.get(1).getType()).isEqualTo("io.neonbee.codec.CodecService.TestUsers");
+            assertThat(entities.get(1).getProperty("name").getValue()).isEqualTo("OTHER");
+            assertThat(entities.get(1).getProperty("description").isNull()).isTrue();
+            assertThat(entities.get(1).getProperty("ID").getValue()).isEqualTo("ID2");
+            assertThat(entities.get(1).getETag()).isEqualTo("W/\"1\"");
+
+            return Future.succeededFuture(null);
+        }).onComplete(testContext.succeedingThenComplete());
+    }
+
+    @Test
+    @DisplayName("Should fail to serialize an entity with a missing non-nullable property.")
+    void encodeMissingNonNullable(VertxTestContext testContext) {
+        Entity invalid = new Entity().addProperty(new Property(null, "ID", ValueType.PRIMITIVE, "ID"));
+
+        getNeonBee().getModelManager().reloadModels().<Void>compose(map -> {
+            assertThrows(RuntimeException.class,
+                    () -> codec.encodeToWire(Buffer.buffer(), new EntityWrapper(wrapper.getTypeName(), invalid)));
+            return Future.succeededFuture(null);
+        }).onComplete(testContext.succeedingThenComplete());
+    }
+
+    @Test
+    @DisplayName("Should deserialize an EntityWrapper serialized as JSON by previous versions.")
+    void decodeJson(VertxTestContext testContext) {
+        JsonObject json = new JsonObject()
+                .put("entityType", new JsonObject().put("namespace", "io.neonbee.codec.CodecService")
+                        .put("name", "TestUsers"))
+                .put("entity", new JsonObject().put("value", new JsonArray()
+                        .add(new JsonObject().put("ID", "ID").put("name", "NAME").put("description", "DESCRIPTION")))
+                        .encode());
+
+        getNeonBee().getModelManager().reloadModels().<Void>compose(map -> {
+            EntityWrapper decodeFromWire = codec.decodeFromWire(0, json.toBuffer());
+            assertThat(decodeFromWire.getTypeName().getName()).isEqualTo("TestUsers");
+            assertThat(decodeFromWire.getEntity().getProperty("name").getValue()).isEqualTo("NAME");
+            assertThat(decodeFromWire.getEntity().getProperty("ID").getValue()).isEqualTo("ID");
+
+            return Future.succeededFuture(null);
+        }).onComplete(testContext.succeedingThenComplete());
+    }
+
+    @Test
+    @DisplayName("Should serialize an EntityWrapper as JSON, which can be deserialized by previous versions.")
+    void encodeDecodeJson(VertxTestContext testContext) {
+        getNeonBee().getModelManager().reloadModels().<Void>compose(map -> {
+            Buffer buffer = Buffer.buffer();
+            EntityWrapperMessageCodec.encodeJson(buffer,
+                    EntityWrapperMessageCodec.getServiceMetadata(getNeonBee().getVertx(), wrapper.getTypeName()),
+                    wrapper);
+            assertThat(buffer.toJsonObject().getJsonObject("entityType").getString("name")).isEqualTo("TestUsers");
+
+            EntityWrapper decodeFromWire = codec.decodeFromWire(0, buffer);
+            assertThat(decodeFromWire.getEntity().getProperty("name").getValue()).isEqualTo("NAME");
+            assertThat(decodeFromWire.getEntity().getProperty("ID").getValue()).isEqualTo("ID");
+
+            return Future.succeededFuture(null);
+        }).onComplete(testContext.succeedingThenComplete());
+    }
+
     @Test
     @DisplayName("Transform should return the same object")
     void testTransform() {
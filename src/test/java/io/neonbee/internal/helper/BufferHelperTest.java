@@ -0,0 +1,106 @@
+package io.neonbee.internal.helper;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import io.neonbee.internal.helper.BufferHelper.WriteStreamOutputStream;
+import io.vertx.core.Handler;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.streams.WriteStream;
+
+class BufferHelperTest {
+    @Test
+    @DisplayName("WriteStreamOutputStream must write in chunks")
+    @SuppressWarnings("unchecked")
+    void testWriteStreamOutputStreamChunks() throws IOException {
+        WriteStream<Buffer> writeStream = mock(WriteStream.class);
+        try (WriteStreamOutputStream output = new WriteStreamOutputStream(writeStream, 4)) {
+            output.write(new byte[] { 1, 2, 3 });
+            verify(writeStream, never()).write(any(Buffer.class));
+            output.write(4);
+            output.write(new byte[] { 5, 6 });
+        }
+
+        ArgumentCaptor<Buffer> chunks = ArgumentCaptor.forClass(Buffer.class);
+        verify(writeStream, times(2)).write(chunks.capture());
+        assertThat(chunks.getAllValues().get(0).getBytes()).isEqualTo(new byte[] { 1, 2, 3, 4 });
+        assertThat(chunks.getAllValues().get(1).getBytes()).isEqualTo(new byte[] { 5, 6 });
+    }
+
+    @Test
+    @DisplayName("WriteStreamOutputStream must wait for the write stream to drain")
+    @SuppressWarnings("unchecked")
+    void testWriteStreamOutputStreamBackPressure() throws IOException {
+        WriteStream<Buffer> writeStream = mock(WriteStream.class);
+        AtomicBoolean writeQueueFull = new AtomicBoolean(true);
+        when(writeStream.writeQueueFull()).thenAnswer(invocation -> writeQueueFull.get());
+        when(writeStream.drainHandler(any())).thenAnswer(invocation -> {
+            writeQueueFull.set(false);
+            invocation.<Handler<Void>>getArgument(0).handle(null);
+            return writeStream;
+        });
+
+        WriteStreamOutputStream output = new WriteStreamOutputStream(writeStream, 1);
+        output.write(1);
+
+        verify(writeStream).drainHandler(any());
+        verify(writeStream).write(any(Buffer.class));
+    }
+
+    @Test
+    @DisplayName("WriteStreamOutputStream must release blocked writers when cancelled")
+    @SuppressWarnings("unchecked")
+    void testWriteStreamOutputStreamCancel() throws Exception {
+        WriteStream<Buffer> writeStream = mock(WriteStream.class);
+        when(writeStream.writeQueueFull()).thenReturn(true);
+
+        WriteStreamOutputStream output = new WriteStreamOutputStream(writeStream, 1);
+        CompletableFuture<Void> blockedWrite = CompletableFuture.runAsync(() -> {
+            try {
+                output.write(1);
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        verify(writeStream, timeout(TimeUnit.SECONDS.toMillis(5))).drainHandler(any());
+        output.cancel(new IOException("Connection closed"));
+
+        ExecutionException exception =
+                assertThrows(ExecutionException.class, () -> blockedWrite.get(5, TimeUnit.SECONDS));
+        assertThat(exception).hasCauseThat().hasCauseThat().isInstanceOf(IOException.class);
+        verify(writeStream, never()).write(any(Buffer.class));
+        assertThrows(IOException.class, () -> output.write(2));
+    }
+
+    @Test
+    @DisplayName("WriteStreamOutputStream must fail, if the write stream does not drain in time")
+    @SuppressWarnings("unchecked")
+    void testWriteStreamOutputStreamDrainTimeout() {
+        WriteStream<Buffer> writeStream = mock(WriteStream.class);
+        when(writeStream.writeQueueFull()).thenReturn(true);
+
+        WriteStreamOutputStream output = new WriteStreamOutputStream(writeStream, 1, 10);
+        IOException exception = assertThrows(IOException.class, () -> output.write(1));
+        assertThat(exception).hasCauseThat().hasMessageThat().contains("Timed out");
+        verify(writeStream, never()).write(any(Buffer.class));
+        verify(writeStream, never()).exceptionHandler(any());
+    }
+}
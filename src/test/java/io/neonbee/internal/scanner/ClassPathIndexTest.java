@@ -0,0 +1,79 @@
+package io.neonbee.internal.scanner;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.neonbee.internal.scanner.ClassPathIndex.AnnotatedClass;
+import io.neonbee.test.helper.FileSystemHelper;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+class ClassPathIndexTest {
+    private static final String DEPRECATED = "Ljava/lang/Deprecated;";
+
+    @Test
+    @DisplayName("Should index the annotations of types, fields and methods in one pass")
+    void testScan() throws IOException {
+        Path jarPath = new AnnotatedClassTemplate("Hodor", "index").setTypeAnnotation("@Deprecated")
+                .setMethodAnnotation("@Deprecated").asJar().writeToTempPath();
+
+        List<AnnotatedClass> classes = scan(new ClassPathIndex(), jarPath, null);
+        assertThat(classes).hasSize(1);
+        AnnotatedClass annotatedClass = classes.get(0);
+        assertThat(annotatedClass.className).isEqualTo("index.Hodor");
+        assertThat(annotatedClass.publicClass).isTrue();
+        assertThat(annotatedClass.typeAnnotations).containsExactly(DEPRECATED);
+        assertThat(annotatedClass.methodAnnotations).containsExactly(DEPRECATED);
+        assertThat(annotatedClass.fieldAnnotations).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should skip unchanged JAR files, using the persisted index")
+    void testPersistedIndex() throws IOException {
+        Path jarPath = new AnnotatedClassTemplate("Hodor", "index").setTypeAnnotation("@Deprecated").asJar()
+                .writeToTempPath();
+        Path indexFile = FileSystemHelper.createTempDirectory().resolve(ClassPathIndex.INDEX_FILE_NAME);
+
+        assertThat(scan(new ClassPathIndex(), jarPath, indexFile)).hasSize(1);
+        assertThat(Files.exists(indexFile)).isTrue();
+
+        // replace the class in the persisted index, to check that the unchanged JAR file is not read again
+        JsonObject index = new JsonObject(Files.readString(indexFile));
+        JsonObject element = index.getJsonObject("elements").getJsonObject(jarPath.toString());
+        element.getJsonArray("classes").getJsonObject(0).put("name", "index.Persisted");
+        Files.writeString(indexFile, index.encode());
+        assertThat(scan(new ClassPathIndex(), jarPath, indexFile).get(0).className).isEqualTo("index.Persisted");
+
+        // a modified JAR file must be indexed again
+        Files.setLastModifiedTime(jarPath, FileTime.fromMillis(element.getLong("lastModified") + 1000));
+        assertThat(scan(new ClassPathIndex(), jarPath, indexFile).get(0).className).isEqualTo("index.Hodor");
+    }
+
+    @Test
+    @DisplayName("Should ignore an invalid persisted index")
+    void testInvalidPersistedIndex() throws IOException {
+        Path jarPath = new AnnotatedClassTemplate("Hodor", "index").setTypeAnnotation("@Deprecated").asJar()
+                .writeToTempPath();
+        Path indexFile = FileSystemHelper.createTempDirectory().resolve(ClassPathIndex.INDEX_FILE_NAME);
+        Files.writeString(indexFile, new JsonObject().put("version", 1)
+                .put("elements", new JsonObject().put(jarPath.toString(), new JsonArray())).encode());
+
+        assertThat(scan(new ClassPathIndex(), jarPath, indexFile).get(0).className).isEqualTo("index.Hodor");
+    }
+
+    private static List<AnnotatedClass> scan(ClassPathIndex index, Path jarPath, Path indexFile) throws IOException {
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[] { jarPath.toUri().toURL() }, null)) {
+            return index.scan(classLoader, indexFile);
+        }
+    }
+}
@@ -9,7 +9,6 @@ import static java.lang.annotation.ElementType.TYPE;
 import java.beans.Transient;
 import java.io.File;
 import java.io.IOException;
-import java.io.InputStream;
 import java.lang.reflect.Field;
 import java.net.URISyntaxException;
 import java.net.URL;
@@ -20,8 +19,6 @@ import java.util.List;
 import java.util.Map;
 import java.util.stream.Stream;
 
-import javax.annotation.Nullable;
-
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -44,7 +41,7 @@ class ClassPathScannerTest {
     @DisplayName("Check latest ASM version")
     void checkASMVersion() throws NoSuchFieldException, IllegalAccessException {
         int setAsm = getValueOfPrivateField(ClassVisitor.class,
-                new AnnotationClassVisitor(Nullable.class, TYPE), "api");
+                new ClassPathIndex.IndexClassVisitor(), "api");
         int maxAsm = Opcodes.class.getField("ASM"
                 + Arrays.stream(Opcodes.class.getFields()).map(Field::getName).filter(name -> name.startsWith("ASM"))
                         .map(name -> name.substring("ASM".length())).filter(name -> name.matches("\\d+"))
@@ -180,33 +177,18 @@ class ClassPathScannerTest {
     }
 
     @Test
-    @DisplayName("Should handle null resource stream gracefully during annotation scan")
-    void scanForAnnotationWithNullResourceStream(Vertx vertx, VertxTestContext testContext) throws IOException {
+    @DisplayName("Should skip invalid class files gracefully during annotation scan")
+    void scanForAnnotationWithInvalidClassFile(Vertx vertx, VertxTestContext testContext) throws IOException {
         BasicJar jarWithAnnotatedClass =
                 new AnnotatedClassTemplate("Hodor", "type").setTypeAnnotation("@Deprecated").asJar();
-        URL[] urls = jarWithAnnotatedClass.writeToTempURL();
-
-        URLClassLoader delegateLoader = new URLClassLoader(urls, null);
-        ClassLoader nullStreamLoader = new ClassLoader(null) {
-            @Override
-            public URL getResource(String name) {
-                return delegateLoader.getResource(name);
-            }
-
-            @Override
-            public java.util.Enumeration<URL> getResources(String name) throws IOException {
-                return delegateLoader.getResources(name);
-            }
-
-            @Override
-            public InputStream getResourceAsStream(String name) {
-                return null;
-            }
-        };
-
-        new ClassPathScanner(nullStreamLoader).scanForAnnotation(vertx, Deprecated.class, TYPE)
+        BasicJar jarWithInvalidClass =
+                new BasicJar(Map.of("invalid/Hodor.class", "lol".getBytes(StandardCharsets.UTF_8)));
+        URL[] urls = Stream.of(jarWithAnnotatedClass.writeToTempURL(), jarWithInvalidClass.writeToTempURL())
+                .flatMap(Stream::of).toArray(URL[]::new);
+
+        new ClassPathScanner(new URLClassLoader(urls, null)).scanForAnnotation(vertx, Deprecated.class, TYPE)
                 .onComplete(testContext.succeeding(list -> testContext.verify(() -> {
-                    assertThat(list).isEmpty();
+                    assertThat(filterInjectedFilesForIdeCoverageRuns(list)).containsExactly("type.Hodor");
                     testContext.completeNow();
                 })));
     }
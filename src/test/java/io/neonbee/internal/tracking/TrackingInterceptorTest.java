@@ -1,17 +1,26 @@
 package io.neonbee.internal.tracking;
 
+import static com.google.common.truth.Truth.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import java.util.Map;
+import java.util.stream.IntStream;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import com.google.common.collect.Range;
+
+import io.neonbee.config.TrackingConfig;
 import io.neonbee.data.DataContext;
+import io.neonbee.data.DataException;
 import io.neonbee.data.DataQuery;
 import io.neonbee.data.internal.DataContextImpl;
 import io.vertx.core.MultiMap;
@@ -21,6 +30,8 @@ import io.vertx.core.json.JsonObject;
 class TrackingInterceptorTest {
     private TestMessage<Object> message;
 
+    private String dataContextHeader;
+
     @BeforeEach
     void setUp() {
         DataContextImpl context = new DataContextImpl("correlationId", "sessionId", "bearerToken",
@@ -29,10 +40,10 @@ class TrackingInterceptorTest {
         context.amendTopVerticleCoordinate("deplymentId1");
         context.pushVerticleToPath("Data2Verticle");
         context.amendTopVerticleCoordinate("deplymentId2");
-        String dataContextJson = DataContextImpl.encodeContextToString(context);
+        dataContextHeader = DataContextImpl.encodeContextToString(context);
 
         message = new TestMessage<>("address", "replyAddress",
-                MultiMap.caseInsensitiveMultiMap().add("Context", dataContextJson), new DataQuery());
+                MultiMap.caseInsensitiveMultiMap().add("Context", dataContextHeader), new DataQuery());
     }
 
     @Test
@@ -74,4 +85,48 @@ class TrackingInterceptorTest {
         verify(strategy, times(1)).handleInBoundReply(any(DataContext.class));
         reset(strategy);
     }
+
+    @Test
+    @DisplayName("test messages which are not sampled are not tracked")
+    void testSampling() {
+        TrackingDataHandlingStrategy strategy = mock(TrackingDataHandlingStrategy.class);
+        TrackingInterceptor interceptor = new TrackingInterceptor(MessageDirection.INBOUND, strategy,
+                new TrackingConfig().setSampleRate(0).setAddressSampleRates(Map.of("tracked", 1.0)));
+        interceptor.handle(new TestDeliveryContext<>(message));
+        verify(strategy, never()).handleInBoundRequest(any(DataContext.class));
+
+        interceptor.handle(new TestDeliveryContext<>(new TestMessage<>("tracked", "replyAddress",
+                MultiMap.caseInsensitiveMultiMap().add("Context", dataContextHeader), new DataQuery())));
+        verify(strategy, times(1)).handleInBoundRequest(any(DataContext.class));
+    }
+
+    @Test
+    @DisplayName("test failures are always tracked")
+    void testFailuresAlwaysTracked() {
+        TestMessage<Object> failure = new TestMessage<>("address", null,
+                MultiMap.caseInsensitiveMultiMap().add("Context", dataContextHeader), new DataException("failure"));
+
+        TrackingDataHandlingStrategy strategy = mock(TrackingDataHandlingStrategy.class);
+        new TrackingInterceptor(MessageDirection.INBOUND, strategy, new TrackingConfig().setSampleRate(0))
+                .handle(new TestDeliveryContext<>(failure));
+        verify(strategy, times(1)).handleInBoundReply(any(DataContext.class));
+        reset(strategy);
+
+        new TrackingInterceptor(MessageDirection.INBOUND, strategy,
+                new TrackingConfig().setSampleRate(0).setAlwaysTrackFailures(false))
+                .handle(new TestDeliveryContext<>(failure));
+        verify(strategy, never()).handleInBoundReply(any(DataContext.class));
+    }
+
+    @Test
+    @DisplayName("test sampling is based on the correlation ID")
+    void testSampleByCorrelationId() {
+        assertThat(TrackingInterceptor.sample("correlationId", 0.5))
+                .isEqualTo(TrackingInterceptor.sample("correlationId", 0.5));
+        assertThat(TrackingInterceptor.sample("correlationId", 0)).isFalse();
+
+        long sampled = IntStream.range(0, 10_000)
+                .filter(index -> TrackingInterceptor.sample("correlationId" + index, 0.25)).count();
+        assertThat(sampled).isIn(Range.closed(2_000L, 3_000L));
+    }
 }
@@ -0,0 +1,162 @@
+package io.neonbee.internal.verticle;
+
+import static com.google.common.truth.Truth.assertThat;
+import static io.neonbee.endpoint.odatav4.internal.olingo.processor.ProcessorHelper.ODATA_COUNT_SIZE_KEY;
+import static io.neonbee.endpoint.odatav4.internal.olingo.processor.ProcessorHelper.ODATA_FILTER_KEY;
+import static io.neonbee.endpoint.odatav4.internal.olingo.processor.ProcessorHelper.ODATA_ORDER_BY_KEY;
+import static io.neonbee.endpoint.odatav4.internal.olingo.processor.ProcessorHelper.ODATA_SKIP_KEY;
+import static io.neonbee.endpoint.odatav4.internal.olingo.processor.ProcessorHelper.ODATA_TOP_KEY;
+import static io.neonbee.internal.verticle.ConsolidationVerticle.ENTITY_TYPE_NAME_HEADER;
+import static java.lang.Boolean.TRUE;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.apache.olingo.commons.api.data.Entity;
+import org.apache.olingo.commons.api.data.Property;
+import org.apache.olingo.commons.api.data.ValueType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.neonbee.data.DataContext;
+import io.neonbee.data.DataMap;
+import io.neonbee.data.DataQuery;
+import io.neonbee.data.DataRequest;
+import io.neonbee.data.internal.DataContextImpl;
+import io.neonbee.entity.EntityWrapper;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+
+class ConsolidationVerticleTest {
+    private static final String ENTITY_TYPE_NAME = "Service.Entities";
+
+    private static final Map<String, Object> SORTED_HINTS =
+            Map.of(ODATA_FILTER_KEY, TRUE, ODATA_ORDER_BY_KEY, TRUE, ODATA_TOP_KEY, TRUE);
+
+    @Test
+    @DisplayName("should push down $top widened by $skip to the sources")
+    void testPushDown() {
+        DataQuery query = new DataQuery("/Service/Entities").setRawQuery("$filter=id%20gt%201&$skip=2&$top=3");
+        DataQuery sourceQuery = ConsolidationVerticle.pushDown(query);
+        assertThat(sourceQuery.getParameter("$filter")).isEqualTo("id gt 1");
+        assertThat(sourceQuery.getParameter("$skip")).isNull();
+        assertThat(sourceQuery.getParameter("$top")).isEqualTo("5");
+        assertThat(query.getParameter("$skip")).isEqualTo("2");
+
+        DataQuery countQuery = ConsolidationVerticle
+                .pushDown(new DataQuery("/Service/Entities").setRawQuery("$skip=2&$top=3&$count=true"));
+        assertThat(countQuery.getParameter("$skip")).isNull();
+        assertThat(countQuery.getParameter("$top")).isNull();
+
+        DataQuery unchanged = new DataQuery("/Service/Entities").setRawQuery("$orderby=id");
+        assertThat(ConsolidationVerticle.pushDown(unchanged)).isSameInstanceAs(unchanged);
+    }
+
+    @Test
+    @DisplayName("should merge sorted entities until the limit is reached")
+    void testMergeSorted() {
+        Comparator<Entity> comparator = ConsolidationVerticle.parseOrderBy("name desc,id");
+        List<Entity> merged = ConsolidationVerticle.mergeSorted(
+                List.of(entities("c1", "b3", "a5"), List.of(), entities("c0", "b2", "b4")), comparator, 4);
+        assertThat(ids(merged)).containsExactly(0, 1, 2, 3).inOrder();
+
+        assertThat(ids(ConsolidationVerticle.mergeSorted(List.of(entities("b0", "a1"), entities("c2")), null, 10)))
+                .containsExactly(0, 1, 2).inOrder();
+    }
+
+    @Test
+    @DisplayName("should only parse $orderby options sorting by properties")
+    void testParseOrderBy() {
+        assertThat(ConsolidationVerticle.parseOrderBy("name asc, id desc")).isNotNull();
+        assertThat(ConsolidationVerticle.parseOrderBy("tolower(name)")).isNull();
+        assertThat(ConsolidationVerticle.parseOrderBy("address/city")).isNull();
+        assertThat(ConsolidationVerticle.parseOrderBy("name up")).isNull();
+    }
+
+    @Test
+    @DisplayName("should merge the requested page, if all sources applied the query options")
+    void testRetrieveMerged() {
+        DataContext context = new DataContextImpl();
+        DataMap require = require(context, Map.of(entities("c0", "b2", "a4"), withCount(SORTED_HINTS, 3),
+                entities("b1", "a3"), withCount(SORTED_HINTS, 7)));
+        DataQuery query = query("$orderby=name%20desc,id&$skip=1&$top=2&$count=true");
+
+        EntityWrapper result = new ConsolidationVerticle().retrieveData(query, require, context).result();
+        assertThat(ids(result.getEntities())).containsExactly(1, 2).inOrder();
+        assertThat(context.responseData()).containsAtLeast(ODATA_FILTER_KEY, TRUE, ODATA_ORDER_BY_KEY, TRUE,
+                ODATA_SKIP_KEY, TRUE, ODATA_TOP_KEY, TRUE, ODATA_COUNT_SIZE_KEY, 10);
+    }
+
+    @Test
+    @DisplayName("should count all entities, if the sources do not report their count")
+    void testRetrieveMergedCount() {
+        Map<String, Object> sortedHints = Map.of(ODATA_FILTER_KEY, TRUE, ODATA_ORDER_BY_KEY, TRUE);
+        DataContext context = new DataContextImpl();
+        DataMap require =
+                require(context, Map.of(entities("c0", "b2", "a4"), sortedHints, entities("b1", "a3"), sortedHints));
+        DataQuery query = query("$orderby=name%20desc,id&$skip=1&$top=2&$count=true");
+
+        EntityWrapper result = new ConsolidationVerticle().retrieveData(query, require, context).result();
+        assertThat(ids(result.getEntities())).containsExactly(1, 2).inOrder();
+        assertThat(context.responseData()).containsEntry(ODATA_COUNT_SIZE_KEY, 5);
+    }
+
+    @Test
+    @DisplayName("should concatenate the entities, if any source did not apply the query options")
+    void testRetrieveConcatenated() {
+        DataContext context = new DataContextImpl();
+        DataMap require = require(context,
+                Map.of(entities("c0", "b2"), Map.of(ODATA_FILTER_KEY, TRUE), entities("b1"), SORTED_HINTS));
+        DataQuery query = query("$filter=id%20lt%203&$orderby=name&$skip=1&$top=2");
+
+        EntityWrapper result = new ConsolidationVerticle().retrieveData(query, require, context).result();
+        assertThat(ids(result.getEntities())).containsExactly(0, 1, 2);
+        assertThat(context.responseData()).containsEntry(ODATA_FILTER_KEY, TRUE);
+        assertThat(context.responseData()).doesNotContainKey(ODATA_ORDER_BY_KEY);
+        assertThat(context.responseData()).doesNotContainKey(ODATA_TOP_KEY);
+        assertThat(context.responseData()).doesNotContainKey(ODATA_COUNT_SIZE_KEY);
+    }
+
+    private static DataQuery query(String rawQuery) {
+        return new DataQuery("/Service/Entities").setRawQuery(rawQuery).setHeader(ENTITY_TYPE_NAME_HEADER,
+                ENTITY_TYPE_NAME);
+    }
+
+    private static DataMap require(DataContext context, Map<List<Entity>, Map<String, Object>> sources) {
+        Map<DataRequest, AsyncResult<?>> results = new HashMap<>();
+        Map<DataRequest, Map<String, Object>> receivedData = new HashMap<>();
+        sources.forEach((entities, hints) -> {
+            DataRequest request = new DataRequest("source" + results.size());
+            results.put(request, Future.succeededFuture(new EntityWrapper(ENTITY_TYPE_NAME, entities)));
+            receivedData.put(request, hints);
+        });
+        context.setReceivedData(receivedData);
+        return new DataMap(results);
+    }
+
+    private static Map<String, Object> withCount(Map<String, Object> hints, int count) {
+        Map<String, Object> hintsWithCount = new HashMap<>(hints);
+        hintsWithCount.put(ODATA_COUNT_SIZE_KEY, count);
+        return hintsWithCount;
+    }
+
+    /**
+     * Creates entities with a name and an id, each given as the first character and the remaining characters of one
+     * of the values.
+     */
+    private static List<Entity> entities(String... values) {
+        return Stream.of(values)
+                .map(value -> new Entity()
+                        .addProperty(new Property(null, "name", ValueType.PRIMITIVE, value.substring(0, 1)))
+                        .addProperty(new Property(null, "id", ValueType.PRIMITIVE,
+                                Integer.parseInt(value.substring(1)))))
+                .toList();
+    }
+
+    private static List<Integer> ids(List<Entity> entities) {
+        return entities.stream().map(entity -> (Integer) entity.getProperty("id").getValue()).toList();
+    }
+}
@@ -7,6 +7,7 @@ import static io.neonbee.NeonBeeProfile.NO_WEB;
 import static io.neonbee.internal.helper.FileSystemHelper.createDirs;
 import static io.neonbee.internal.helper.FileSystemHelper.deleteRecursive;
 import static io.neonbee.internal.helper.FileSystemHelper.writeFile;
+import static io.neonbee.internal.verticle.WatchVerticle.QUIET_PERIOD_KEY;
 import static io.neonbee.internal.verticle.WatchVerticle.WATCH_LOGIC_KEY;
 import static io.neonbee.internal.verticle.WatchVerticle.WATCH_LOGIC_OPTION_COPY;
 import static io.neonbee.test.helper.ConcurrentHelper.waitFor;
@@ -14,11 +15,14 @@ import static io.neonbee.test.helper.FileSystemHelper.createTempDirectory;
 import static io.vertx.core.Future.failedFuture;
 import static io.vertx.core.Future.succeededFuture;
 import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.atMost;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -26,6 +30,7 @@ import static org.mockito.Mockito.verify;
 import java.io.IOException;
 import java.nio.file.DirectoryNotEmptyException;
 import java.nio.file.Path;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 
@@ -81,8 +86,11 @@ class WatchVerticleTest extends NeonBeeTestBase {
     void testConstructor() {
         WatchVerticle watchVerticle = new WatchVerticle(watchDir);
         assertThat(watchVerticle.watchPeriodMillis).isEqualTo(500);
+        assertThat(watchVerticle.quietPeriodMillis).isEqualTo(0);
         watchVerticle = new WatchVerticle(watchDir, 2, TimeUnit.SECONDS, false, false);
         assertThat(watchVerticle.watchPeriodMillis).isEqualTo(2000);
+        watchVerticle = new WatchVerticle(watchDir, 2, 3, TimeUnit.SECONDS, false, false);
+        assertThat(watchVerticle.quietPeriodMillis).isEqualTo(3000);
     }
 
     @Test
@@ -284,6 +292,60 @@ class WatchVerticleTest extends NeonBeeTestBase {
                 }));
     }
 
+    @Test
+    @DisplayName("WatchVerticle should notify coalesced changes once after the quiet period")
+    @DisabledOnOs(value = { OS.MAC },
+            disabledReason = "Issues with File Watching Service on macOS. We need a cross-platform Java recursive directory watcher, that works well with macOS")
+    void testQuietPeriod(Vertx vertx, VertxTestContext testCtx) {
+        WatchVerticle watchVerticleSpy = spy(new WatchVerticle(watchDir, 10, 200, TimeUnit.MINUTES, false, false));
+        Path watchedFile = watchDir.resolve("watchedFile");
+        Path otherWatchedFile = watchDir.resolve("otherWatchedFile");
+
+        DeploymentHelper.deployVerticle(vertx, watchVerticleSpy, new JsonObject().put(QUIET_PERIOD_KEY, 200))
+                .compose(s -> writeFile(vertx, watchedFile, Buffer.buffer()))
+                .compose(v -> writeFile(vertx, watchedFile, Buffer.buffer(toByte("Lord Citrange"))))
+                .compose(v -> writeFile(vertx, otherWatchedFile, Buffer.buffer()))
+                .compose(v -> waitFor(vertx, 100)).compose(v -> watchVerticleSpy.checkForChanges()).compose(v -> {
+                    testCtx.verify(() -> {
+                        assertThat(watchVerticleSpy.quietPeriodMillis).isEqualTo(200);
+                        assertThat(watchVerticleSpy.pendingChanges.keySet()).containsExactly(watchedFile,
+                                otherWatchedFile);
+                        verify(watchVerticleSpy, never()).observedCreate(any());
+                        verify(watchVerticleSpy, never()).observedChanges(any(), any());
+                    });
+                    return waitFor(vertx, 500);
+                }).onComplete(testCtx.succeeding(v -> testCtx.verify(() -> {
+                    assertThat(watchVerticleSpy.pendingChanges).isEmpty();
+                    verify(watchVerticleSpy).observedCreate(eq(watchedFile));
+                    verify(watchVerticleSpy).observedCreate(eq(otherWatchedFile));
+                    verify(watchVerticleSpy, atMost(1)).observedModify(eq(watchedFile));
+                    verify(watchVerticleSpy).observedChanges(eq(Set.of(watchedFile, otherWatchedFile)), any());
+                    testCtx.completeNow();
+                })));
+    }
+
+    @Test
+    @DisplayName("WatchVerticle should discard previous events of a deleted path")
+    @DisabledOnOs(value = { OS.MAC },
+            disabledReason = "Issues with File Watching Service on macOS. We need a cross-platform Java recursive directory watcher, that works well with macOS")
+    void testQuietPeriodDelete(Vertx vertx, VertxTestContext testCtx) {
+        WatchVerticle watchVerticleSpy = spy(new WatchVerticle(watchDir, 10, 10, TimeUnit.MINUTES, false, false));
+        Path watchedFile = watchDir.resolve("watchedFile");
+
+        DeploymentHelper.deployVerticle(vertx, watchVerticleSpy)
+                .compose(s -> writeFile(vertx, watchedFile, Buffer.buffer()))
+                .compose(v -> waitFor(vertx, 100)).compose(v -> watchVerticleSpy.checkForChanges())
+                .compose(v -> deleteRecursive(vertx, watchedFile))
+                .compose(v -> waitFor(vertx, 100)).compose(v -> watchVerticleSpy.checkForChanges())
+                .compose(v -> watchVerticleSpy.flushChanges())
+                .onComplete(testCtx.succeeding(v -> testCtx.verify(() -> {
+                    verify(watchVerticleSpy, never()).observedCreate(any());
+                    verify(watchVerticleSpy).observedDelete(eq(watchedFile));
+                    verify(watchVerticleSpy).observedChanges(eq(Set.of(watchedFile)), any());
+                    testCtx.completeNow();
+                })));
+    }
+
     private static Future<Void> verifyFileEvent(Vertx vertx, VertxTestContext testCtx, WatchVerticle watchVerticleSpy,
             ExecutionBlock checks) {
         // on windows or some CI platforms, same as deletion handles, all modification handles can take a bit of time
@@ -9,6 +9,8 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -32,26 +34,59 @@ class LoggingFacadeImplTest {
     @BeforeEach
     void setUp() {
         reset(mockedLogger);
+        enableAllLevels();
         facade = new LoggingFacadeImpl(mockedLogger);
     }
 
+    private void enableAllLevels() {
+        when(mockedLogger.isTraceEnabled()).thenReturn(true);
+        when(mockedLogger.isDebugEnabled()).thenReturn(true);
+        when(mockedLogger.isInfoEnabled()).thenReturn(true);
+        when(mockedLogger.isWarnEnabled()).thenReturn(true);
+        when(mockedLogger.isErrorEnabled()).thenReturn(true);
+    }
+
     @Test
     void testCorrelateWith() {
         String correlId = "hodor";
         LoggingFacadeImpl facade = new LoggingFacadeImpl(null);
 
-        facade.correlateWith(correlId);
-        Marker hodorMarker = facade.currentMarker;
+        LoggingFacadeImpl correlatedFacade = (LoggingFacadeImpl) facade.correlateWith(correlId);
+        assertThat(correlatedFacade).isNotSameInstanceAs(facade);
+        assertThat(facade.marker()).isEqualTo(DEFAULT_MARKER);
+        Marker hodorMarker = correlatedFacade.marker();
         assertThat(hodorMarker.getName()).isEqualTo(correlId);
+        assertThat(correlatedFacade.marker()).isSameInstanceAs(hodorMarker);
+
+        assertThat(correlatedFacade.correlateWith(correlId)).isSameInstanceAs(correlatedFacade);
+        assertThat(correlatedFacade.correlateWith("")).isSameInstanceAs(facade);
+        assertThat(correlatedFacade.correlateWith((String) null)).isSameInstanceAs(facade);
+        assertThat(((LoggingFacadeImpl) correlatedFacade.correlateWith("other")).marker().getName())
+                .isEqualTo("other");
+    }
+
+    @Test
+    void testCorrelatedFacadeIsReused() {
+        LoggingFacadeImpl facade = new LoggingFacadeImpl(null);
 
-        facade.correlateWith(correlId);
-        assertThat(facade.currentMarker).isSameInstanceAs(hodorMarker);
+        LoggingFacadeImpl correlatedFacade = (LoggingFacadeImpl) facade.correlateWith("hodor");
+        Marker hodorMarker = correlatedFacade.marker();
+        assertThat(facade.correlateWith("hodor")).isSameInstanceAs(correlatedFacade);
+        assertThat(((LoggingFacadeImpl) facade.correlateWith("hodor")).marker()).isSameInstanceAs(hodorMarker);
 
-        facade.correlateWith("");
-        assertThat(facade.currentMarker).isEqualTo(DEFAULT_MARKER);
+        LoggingFacadeImpl otherFacade = (LoggingFacadeImpl) facade.correlateWith("other");
+        assertThat(otherFacade).isNotSameInstanceAs(correlatedFacade);
+        assertThat(correlatedFacade.correlateWith("other")).isSameInstanceAs(otherFacade);
+        assertThat(correlatedFacade.marker().getName()).isEqualTo("hodor");
+    }
 
-        facade.correlateWith((String) null);
-        assertThat(facade.currentMarker).isEqualTo(DEFAULT_MARKER);
+    @Test
+    void testLevelIsCheckedFirst() {
+        reset(mockedLogger);
+        LoggingFacadeImpl correlatedFacade = (LoggingFacadeImpl) facade.correlateWith("anyid");
+        correlatedFacade.info(DUMMY_LOG_MSG, DUMMY_ARGUMENT);
+        verify(mockedLogger, times(1)).isInfoEnabled();
+        verifyNoMoreInteractions(mockedLogger);
     }
 
     @Test
@@ -63,7 +98,7 @@ class LoggingFacadeImplTest {
     @Test
     void testTrace() {
         facade.isTraceEnabled();
-        verify(mockedLogger, times(1)).isTraceEnabled(DEFAULT_MARKER);
+        verify(mockedLogger, times(1)).isTraceEnabled();
 
         facade.trace(DUMMY_LOG_MSG, DUMMY_ARGUMENTS);
         verify(mockedLogger, times(1)).trace(DEFAULT_MARKER, DUMMY_LOG_MSG, DUMMY_ARGUMENTS);
@@ -78,6 +113,7 @@ class LoggingFacadeImplTest {
         verify(mockedLogger, times(1)).trace(DEFAULT_MARKER, DUMMY_LOG_MSG, DUMMY_THROWABLE);
 
         reset(mockedLogger);
+        enableAllLevels();
         facade.correlateWith("anyid").trace(DUMMY_LOG_MSG);
         verify(mockedLogger, times(1)).trace((Marker) argThat(marker -> "anyid".equals(marker.toString())),
                 eq(DUMMY_LOG_MSG));
@@ -86,7 +122,7 @@ class LoggingFacadeImplTest {
     @Test
     void testDebug() {
         facade.isDebugEnabled();
-        verify(mockedLogger, times(1)).isDebugEnabled(DEFAULT_MARKER);
+        verify(mockedLogger, times(1)).isDebugEnabled();
 
         facade.debug(DUMMY_LOG_MSG, DUMMY_ARGUMENTS);
         verify(mockedLogger, times(1)).debug(DEFAULT_MARKER, DUMMY_LOG_MSG, DUMMY_ARGUMENTS);
@@ -101,6 +137,7 @@ class LoggingFacadeImplTest {
         verify(mockedLogger, times(1)).debug(DEFAULT_MARKER, DUMMY_LOG_MSG, DUMMY_THROWABLE);
 
         reset(mockedLogger);
+        enableAllLevels();
         facade.correlateWith("anyid").debug(DUMMY_LOG_MSG);
         verify(mockedLogger, times(1)).debug((Marker) argThat(marker -> "anyid".equals(marker.toString())),
                 eq(DUMMY_LOG_MSG));
@@ -109,7 +146,7 @@ class LoggingFacadeImplTest {
     @Test
     void testInfo() {
         facade.isInfoEnabled();
-        verify(mockedLogger, times(1)).isInfoEnabled(DEFAULT_MARKER);
+        verify(mockedLogger, times(1)).isInfoEnabled();
 
         facade.info(DUMMY_LOG_MSG, DUMMY_ARGUMENTS);
         verify(mockedLogger, times(1)).info(DEFAULT_MARKER, DUMMY_LOG_MSG, DUMMY_ARGUMENTS);
@@ -124,6 +161,7 @@ class LoggingFacadeImplTest {
         verify(mockedLogger, times(1)).info(DEFAULT_MARKER, DUMMY_LOG_MSG, DUMMY_THROWABLE);
 
         reset(mockedLogger);
+        enableAllLevels();
         facade.correlateWith("anyid").info(DUMMY_LOG_MSG);
         verify(mockedLogger, times(1)).info((Marker) argThat(marker -> "anyid".equals(marker.toString())),
                 eq(DUMMY_LOG_MSG));
@@ -132,7 +170,7 @@ class LoggingFacadeImplTest {
     @Test
     void testWarn() {
         facade.isWarnEnabled();
-        verify(mockedLogger, times(1)).isWarnEnabled(DEFAULT_MARKER);
+        verify(mockedLogger, times(1)).isWarnEnabled();
 
         facade.warn(DUMMY_LOG_MSG, DUMMY_ARGUMENTS);
         verify(mockedLogger, times(1)).warn(DEFAULT_MARKER, DUMMY_LOG_MSG, DUMMY_ARGUMENTS);
@@ -147,6 +185,7 @@ class LoggingFacadeImplTest {
         verify(mockedLogger, times(1)).warn(DEFAULT_MARKER, DUMMY_LOG_MSG, DUMMY_THROWABLE);
 
         reset(mockedLogger);
+        enableAllLevels();
         facade.correlateWith("anyid").warn(DUMMY_LOG_MSG);
         verify(mockedLogger, times(1)).warn((Marker) argThat(marker -> "anyid".equals(marker.toString())),
                 eq(DUMMY_LOG_MSG));
@@ -155,7 +194,7 @@ class LoggingFacadeImplTest {
     @Test
     void testError() {
         facade.isErrorEnabled();
-        verify(mockedLogger, times(1)).isErrorEnabled(DEFAULT_MARKER);
+        verify(mockedLogger, times(1)).isErrorEnabled();
 
         facade.error(DUMMY_LOG_MSG, DUMMY_ARGUMENTS);
         verify(mockedLogger, times(1)).error(DEFAULT_MARKER, DUMMY_LOG_MSG, DUMMY_ARGUMENTS);
@@ -170,6 +209,7 @@ class LoggingFacadeImplTest {
         verify(mockedLogger, times(1)).error(DEFAULT_MARKER, DUMMY_LOG_MSG, DUMMY_THROWABLE);
 
         reset(mockedLogger);
+        enableAllLevels();
         facade.correlateWith("anyid").error(DUMMY_LOG_MSG);
         verify(mockedLogger, times(1)).error((Marker) argThat(marker -> "anyid".equals(marker.toString())),
                 eq(DUMMY_LOG_MSG));
@@ -1,6 +1,8 @@
 package io.neonbee.test.endpoint.odata;
 
 import static com.google.common.truth.Truth.assertThat;
+import static io.neonbee.test.endpoint.odata.verticle.TestService1EntityVerticle.TEST_ENTITY_SET_FQN;
+import static io.neonbee.test.helper.DummyVerticleHelper.createDummyEntityVerticle;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
 
 import java.nio.file.Path;
@@ -9,6 +11,7 @@ import java.util.Map;
 import java.util.function.Consumer;
 import java.util.stream.Stream;
 
+import org.apache.olingo.commons.api.edm.FullQualifiedName;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -121,4 +124,34 @@ class ODataBatchTest extends ODataEndpointTestBase {
             testContext.completeNow();
         }, testContext);
     }
+
+    @Test
+    @DisplayName("Test batch request containing a failing part")
+    void testFailingPart(VertxTestContext testContext) {
+        FullQualifiedName productsFqn = new FullQualifiedName(TEST_ENTITY_SET_FQN.getNamespace(), "TestProducts");
+        ODataBatchRequest batchRequest = new ODataBatchRequest(TEST_ENTITY_SET_FQN)
+                .addRequests(new ODataRequest(productsFqn), new ODataRequest(TEST_ENTITY_SET_FQN).setKey("id-1"));
+
+        deployVerticle(createDummyEntityVerticle(productsFqn)
+                .withDynamicException((query, context) -> new IllegalStateException("Products are unavailable")))
+                .onComplete(testContext.succeeding(deployment -> assertODataBatch(requestOData(batchRequest),
+                        multipartResponse -> {
+                            // the batch succeeds, while the failure is reported in the part of the failing request
+                            List<MultipartResponse.Part> parts = multipartResponse.getParts();
+                            assertThat(parts).hasSize(2);
+
+                            MultipartResponse.Part failedPart = parts.get(0);
+                            assertThat(failedPart.getStatusCode()).isEqualTo(500);
+                            assertThat(failedPart.getHeader("Content-Type")).startsWith("application/json");
+                            JsonObject error = failedPart.getBody().toJsonObject().getJsonObject("error");
+                            assertThat(error.getString("message")).contains("Products are unavailable");
+
+                            MultipartResponse.Part readPart = parts.get(1);
+                            assertThat(readPart.getStatusCode()).isEqualTo(200);
+                            assertThat(readPart.getBody().toJsonObject().getString("KeyPropertyString"))
+                                    .isEqualTo("id-1");
+
+                            testContext.completeNow();
+                        }, testContext)));
+    }
 }